@@ -1,23 +1,71 @@
 package com.github.wrdlbrnft.simpleorm;
 
 import android.content.Context;
+import android.database.Cursor;
+import android.database.DatabaseUtils;
+import android.database.sqlite.SQLiteDatabase;
+import android.os.Debug;
 import android.support.test.InstrumentationRegistry;
 import android.util.Log;
 
+import com.github.wrdlbrnft.simpleorm.annotations.Synchronous;
+import com.github.wrdlbrnft.simpleorm.annotations.TempStore;
 import com.github.wrdlbrnft.simpleorm.databases.ComplexEntity;
+import com.github.wrdlbrnft.simpleorm.databases.ComplexEntityBuilder;
+import com.github.wrdlbrnft.simpleorm.databases.BenchmarkEntity;
+import com.github.wrdlbrnft.simpleorm.databases.BenchmarkEntityBuilder;
 import com.github.wrdlbrnft.simpleorm.databases.F;
+import com.github.wrdlbrnft.simpleorm.databases.FloatTestDatabaseFactory;
+import com.github.wrdlbrnft.simpleorm.databases.FloatTestEntity;
+import com.github.wrdlbrnft.simpleorm.databases.FloatTestEntityBuilder;
+import com.github.wrdlbrnft.simpleorm.databases.GroupCommitTestDatabaseFactory;
+import com.github.wrdlbrnft.simpleorm.databases.GroupCommitTestEntity;
+import com.github.wrdlbrnft.simpleorm.databases.GroupCommitTestEntityBuilder;
+import com.github.wrdlbrnft.simpleorm.databases.HydrationTestDatabaseFactory;
+import com.github.wrdlbrnft.simpleorm.databases.HydrationTestEntity;
+import com.github.wrdlbrnft.simpleorm.databases.HydrationTestEntityBuilder;
+import com.github.wrdlbrnft.simpleorm.databases.IdentityMapRelationTestDatabase;
+import com.github.wrdlbrnft.simpleorm.databases.IdentityMapRelationTestDatabaseFactory;
+import com.github.wrdlbrnft.simpleorm.databases.IdentityMapTestDatabaseFactory;
+import com.github.wrdlbrnft.simpleorm.databases.IndexTestDatabaseFactory;
+import com.github.wrdlbrnft.simpleorm.databases.IndexTestEntity;
+import com.github.wrdlbrnft.simpleorm.databases.IndexTestEntityBuilder;
+import com.github.wrdlbrnft.simpleorm.databases.LazyParentEntity;
+import com.github.wrdlbrnft.simpleorm.databases.LazyParentEntityBuilder;
+import com.github.wrdlbrnft.simpleorm.databases.LazyTestDatabaseFactory;
+import com.github.wrdlbrnft.simpleorm.databases.MigrationTestDatabaseFactory;
 import com.github.wrdlbrnft.simpleorm.databases.ParentTestEntity;
+import com.github.wrdlbrnft.simpleorm.databases.QueryCacheTestDatabaseFactory;
+import com.github.wrdlbrnft.simpleorm.databases.QueryMethodTestDatabase;
+import com.github.wrdlbrnft.simpleorm.databases.QueryMethodTestDatabaseFactory;
 import com.github.wrdlbrnft.simpleorm.databases.SimpleTestEntity;
+import com.github.wrdlbrnft.simpleorm.databases.SimpleTestEntityBuilder;
 import com.github.wrdlbrnft.simpleorm.databases.TestDatabase;
 import com.github.wrdlbrnft.simpleorm.databases.TestDatabaseFactory;
+import com.github.wrdlbrnft.simpleorm.databases.WalTestDatabaseFactory;
+import com.github.wrdlbrnft.simpleorm.database.CursorWrapper;
+import com.github.wrdlbrnft.simpleorm.database.DatabaseConfiguration;
+import com.github.wrdlbrnft.simpleorm.database.ReadableSQLiteWrapper;
+import com.github.wrdlbrnft.simpleorm.database.SQLiteDatabaseManager;
+import com.github.wrdlbrnft.simpleorm.database.plain.BasePlainSQLiteProvider;
+import com.github.wrdlbrnft.simpleorm.entities.LazyChildList;
+import com.github.wrdlbrnft.simpleorm.entities.TrackedEntity;
+import com.github.wrdlbrnft.simpleorm.exceptions.SimpleOrmException;
 import com.github.wrdlbrnft.simpleorm.manager.DatabaseManager;
+import com.github.wrdlbrnft.simpleorm.utils.LongSparseArrayCompat;
 
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Created with Android Studio
@@ -101,6 +149,801 @@ public class GeneralTests {
         }
     }
 
+    @Test
+    public void testResaveUpdatesInPlace() {
+        final long id = TestData.ENTITY_WITH_CHILDREN_A.getId();
+        final long entityCount = countRows("Complex");
+        final long entitiesMappingCount = countRows("_Complex_entities_Mapping");
+        final long childrenMappingCount = countRows("_Parent_children_Mapping");
+
+        // An untracked copy has to go through the UPDATE statement. The insert statement of the
+        // UPDATE conflict policy is a plain INSERT which fails for an id that already exists.
+        final ComplexEntity copy = new ComplexEntityBuilder()
+                .setId(id)
+                .setText("Resaved")
+                .setValue(TestData.ENTITY_WITH_CHILDREN_A.getValue())
+                .setEntities(TestData.ENTITY_WITH_CHILDREN_A.getEntities())
+                .build();
+        mDatabase.complexEntities().save()
+                .entity(copy)
+                .commit().now();
+        Assert.assertEquals(id, (long) copy.getId());
+
+        Assert.assertEquals(entityCount, countRows("Complex"));
+        Assert.assertEquals(entitiesMappingCount, countRows("_Complex_entities_Mapping"));
+        Assert.assertEquals(childrenMappingCount, countRows("_Parent_children_Mapping"));
+
+        final ComplexEntity entity = mDatabase.complexEntities().find()
+                .where(F.complexentity.id).isEqualTo(id)
+                .getFirst().now();
+
+        Assert.assertNotNull(entity);
+        Assert.assertEquals("Resaved", entity.getText());
+        Assert.assertEquals(TestData.ENTITY_WITH_CHILDREN_A.getEntities().size(), entity.getEntities().size());
+        for (ParentTestEntity parent : entity.getEntities()) {
+            Assert.assertEquals(2, parent.getChildren().size());
+        }
+    }
+
+    @Test
+    public void testNullChildListKeepsMappings() {
+        final long id = TestData.ENTITY_WITH_CHILDREN_A.getId();
+        final long entitiesMappingCount = countRows("_Complex_entities_Mapping");
+
+        final ComplexEntity withoutList = new ComplexEntityBuilder()
+                .setId(id)
+                .setText(TestData.ENTITY_WITH_CHILDREN_A.getText())
+                .setValue(TestData.ENTITY_WITH_CHILDREN_A.getValue())
+                .build();
+        mDatabase.complexEntities().save()
+                .entity(withoutList)
+                .commit().now();
+
+        Assert.assertEquals(entitiesMappingCount, countRows("_Complex_entities_Mapping"));
+        final ComplexEntity entity = mDatabase.complexEntities().find()
+                .where(F.complexentity.id).isEqualTo(id)
+                .getFirst().now();
+        Assert.assertEquals(TestData.ENTITY_WITH_CHILDREN_A.getEntities().size(), entity.getEntities().size());
+    }
+
+    @Test
+    public void testChangedColumnsAreUpdated() {
+        final long id = TestData.ENTITY_NO_CHILDREN.getId();
+        final ComplexEntity entity = mDatabase.complexEntities().find()
+                .where(F.complexentity.id).isEqualTo(id)
+                .getFirst().now();
+
+        Assert.assertNotNull(entity);
+        Assert.assertFalse(((TrackedEntity) entity).hasChanges());
+
+        final ComplexEntity changed = new ComplexEntityBuilder(entity)
+                .setText("Changed")
+                .build();
+        Assert.assertTrue(((TrackedEntity) changed).isPersisted());
+        Assert.assertTrue(((TrackedEntity) changed).hasChanges());
+
+        try {
+            mDatabase.complexEntities().save().entity(changed).commit().now();
+            Assert.assertFalse(((TrackedEntity) changed).hasChanges());
+            Assert.assertEquals(id, (long) changed.getId());
+
+            final ComplexEntity reloaded = mDatabase.complexEntities().find()
+                    .where(F.complexentity.id).isEqualTo(id)
+                    .getFirst().now();
+            Assert.assertNotNull(reloaded);
+            Assert.assertEquals("Changed", reloaded.getText());
+            Assert.assertEquals(entity.getValue(), reloaded.getValue());
+        } finally {
+            final ComplexEntity restored = new ComplexEntityBuilder(entity)
+                    .setText(entity.getText())
+                    .build();
+            mDatabase.complexEntities().save().entity(restored).commit().now();
+        }
+    }
+
+    @Test
+    public void testResaveAfterRemove() {
+        final long id = TestData.ENTITY_NO_CHILDREN.getId();
+        final ComplexEntity entity = mDatabase.complexEntities().find()
+                .where(F.complexentity.id).isEqualTo(id)
+                .getFirst().now();
+        Assert.assertNotNull(entity);
+        Assert.assertFalse(((TrackedEntity) entity).hasChanges());
+
+        mDatabase.complexEntities().remove().entity(entity).commit().now();
+        Assert.assertNull(mDatabase.complexEntities().find()
+                .where(F.complexentity.id).isEqualTo(id)
+                .getFirst().now());
+
+        mDatabase.complexEntities().save().entity(entity).commit().now();
+        final ComplexEntity reloaded = mDatabase.complexEntities().find()
+                .where(F.complexentity.id).isEqualTo(id)
+                .getFirst().now();
+        Assert.assertNotNull(reloaded);
+        Assert.assertEquals(entity.getText(), reloaded.getText());
+        Assert.assertEquals(entity.getValue(), reloaded.getValue());
+    }
+
+    @Test
+    public void testRemoveMoreEntitiesThanVariableLimit() {
+        // SQLite limits a statement to 999 bound variables, so the ids have to be removed in chunks
+        final int entityCount = 2500;
+        final long existingCount = mDatabase.simpleEntities().find().count().now();
+
+        final List<SimpleTestEntity> entities = new ArrayList<>();
+        for (int i = 0; i < entityCount; i++) {
+            entities.add(new SimpleTestEntityBuilder()
+                    .setText("Removed " + i)
+                    .setEnabled(true)
+                    .build());
+        }
+        final SimpleTestEntity kept = new SimpleTestEntityBuilder()
+                .setText("Kept")
+                .setEnabled(true)
+                .build();
+        mDatabase.simpleEntities().save()
+                .entities(entities)
+                .entity(kept)
+                .commit().now();
+        Assert.assertEquals(existingCount + entityCount + 1, (long) mDatabase.simpleEntities().find().count().now());
+
+        mDatabase.simpleEntities().remove()
+                .entities(entities)
+                .commit().now();
+
+        Assert.assertEquals(0L, (long) mDatabase.simpleEntities().find()
+                .where(F.simpletestentity.text).startsWith("Removed ")
+                .count().now());
+        Assert.assertEquals(existingCount + 1, (long) mDatabase.simpleEntities().find().count().now());
+        Assert.assertNotNull(mDatabase.simpleEntities().find()
+                .where(F.simpletestentity.id).isEqualTo(kept.getId())
+                .getFirst().now());
+
+        mDatabase.simpleEntities().remove()
+                .entity(kept)
+                .commit().now();
+    }
+
+    @Test
+    public void testResaveAfterBulkUpdate() {
+        final long id = TestData.ENTITY_NO_CHILDREN.getId();
+        final ComplexEntity entity = mDatabase.complexEntities().find()
+                .where(F.complexentity.id).isEqualTo(id)
+                .getFirst().now();
+        Assert.assertNotNull(entity);
+
+        mDatabase.complexEntities().update()
+                .increment(F.complexentity.value, 1000)
+                .where(F.complexentity.id).isEqualTo(id)
+                .commit().now();
+
+        // A clean save does not overwrite the bulk update
+        mDatabase.complexEntities().save().entity(entity).commit().now();
+        final ComplexEntity reloaded = mDatabase.complexEntities().find()
+                .where(F.complexentity.id).isEqualTo(id)
+                .getFirst().now();
+        Assert.assertEquals(entity.getValue() + 1000, reloaded.getValue());
+
+        // A save with a changed column only writes that column
+        final ComplexEntity changed = new ComplexEntityBuilder(entity)
+                .setText("Changed")
+                .build();
+        mDatabase.complexEntities().save().entity(changed).commit().now();
+        final ComplexEntity reloadedAfterChange = mDatabase.complexEntities().find()
+                .where(F.complexentity.id).isEqualTo(id)
+                .getFirst().now();
+        Assert.assertEquals("Changed", reloadedAfterChange.getText());
+        Assert.assertEquals(entity.getValue() + 1000, reloadedAfterChange.getValue());
+    }
+
+    @Test
+    public void testEqualsDoesNotLoadLazyRelationships() {
+        final Repository<LazyParentEntity> repository = LazyTestDatabaseFactory.newInstance(InstrumentationRegistry.getContext()).parents();
+        repository.remove().all().commit().now();
+
+        final List<BenchmarkEntity> children = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            children.add(new BenchmarkEntityBuilder().setText("Child " + i).setValue(i).build());
+        }
+        repository.save().entity(new LazyParentEntityBuilder()
+                .setChildren(children)
+                .setFavorite(new BenchmarkEntityBuilder().setText("Favorite").setValue(3L).build())
+                .build()).commit().now();
+
+        final LazyParentEntity first = repository.find().getFirst().now();
+        final LazyParentEntity second = repository.find().getFirst().now();
+        Assert.assertEquals(first, second);
+        Assert.assertEquals(first.hashCode(), second.hashCode());
+        Assert.assertEquals(first.getChildren().hashCode(), second.getChildren().hashCode());
+
+        // Both the children and the favorite have to be unloaded still
+        Assert.assertEquals(2, countUnloadedColumns(first));
+        Assert.assertEquals(2, countUnloadedColumns(second));
+
+        repository.remove().all().commit().now();
+    }
+
+    @Test
+    public void testBuilderCopyKeepsLazyRelationshipsUnloaded() {
+        final Repository<LazyParentEntity> repository = LazyTestDatabaseFactory.newInstance(InstrumentationRegistry.getContext()).parents();
+        repository.remove().all().commit().now();
+
+        final List<BenchmarkEntity> children = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            children.add(new BenchmarkEntityBuilder().setText("Child " + i).setValue(i).build());
+        }
+        repository.save().entity(new LazyParentEntityBuilder()
+                .setChildren(children)
+                .setFavorite(new BenchmarkEntityBuilder().setText("Favorite").setValue(3L).build())
+                .build()).commit().now();
+
+        final LazyParentEntity loaded = repository.find().getFirst().now();
+        final LazyParentEntity copy = new LazyParentEntityBuilder(loaded).build();
+        Assert.assertFalse(((LazyChildList<BenchmarkEntity>) loaded.getChildren()).isLoaded());
+        Assert.assertFalse(((LazyChildList<BenchmarkEntity>) copy.getChildren()).isLoaded());
+
+        repository.save().entity(copy).commit().now();
+        Assert.assertFalse(((LazyChildList<BenchmarkEntity>) copy.getChildren()).isLoaded());
+
+        final LazyParentEntity reloaded = repository.find().getFirst().now();
+        Assert.assertEquals(children, reloaded.getChildren());
+        Assert.assertEquals("Favorite", reloaded.getFavorite().getText());
+
+        repository.remove().all().commit().now();
+    }
+
+    @Test
+    public void testBulkUpdate() {
+        final int expectedCount = mDatabase.complexEntities().find()
+                .where(F.complexentity.value).isEqualTo(27)
+                .getList().now().size();
+        Assert.assertTrue(expectedCount > 0);
+
+        final int updatedCount = mDatabase.complexEntities().update()
+                .increment(F.complexentity.value, 1000)
+                .where(F.complexentity.value).isEqualTo(27)
+                .commit().now();
+        Assert.assertEquals(expectedCount, updatedCount);
+
+        try {
+            final List<ComplexEntity> list = mDatabase.complexEntities().find()
+                    .where(F.complexentity.value).isEqualTo(1027)
+                    .getList().now();
+            Assert.assertEquals(expectedCount, list.size());
+        } finally {
+            final int restoredCount = mDatabase.complexEntities().update()
+                    .decrement(F.complexentity.value, 1000)
+                    .where(F.complexentity.value).isEqualTo(1027)
+                    .commit().now();
+            Assert.assertEquals(expectedCount, restoredCount);
+        }
+    }
+
+    @Test
+    public void testAggregates() {
+        final List<ComplexEntity> entities = mDatabase.complexEntities().find().getList().now();
+
+        long sum = 0L;
+        long max = Long.MIN_VALUE;
+        final LongSparseArrayCompat<Long> expectedCounts = new LongSparseArrayCompat<>();
+        for (ComplexEntity entity : entities) {
+            sum += entity.getValue();
+            max = Math.max(max, entity.getValue());
+            expectedCounts.put(entity.getValue(), expectedCounts.get(entity.getValue(), 0L) + 1L);
+        }
+
+        Assert.assertEquals(entities.size(), (long) mDatabase.complexEntities().find().count().now());
+        Assert.assertEquals(sum, (long) mDatabase.complexEntities().find().sum(F.complexentity.value).now());
+        Assert.assertEquals(max, (long) mDatabase.complexEntities().find().max(F.complexentity.value).now());
+        Assert.assertTrue(mDatabase.complexEntities().find().where(F.complexentity.value).isEqualTo(27).exists().now());
+        Assert.assertFalse(mDatabase.complexEntities().find().where(F.complexentity.value).isEqualTo(-1).exists().now());
+
+        final LongSparseArrayCompat<Long> counts = mDatabase.complexEntities().find()
+                .groupBy(F.complexentity.value)
+                .count().now();
+        Assert.assertEquals(expectedCounts.size(), counts.size());
+        for (int i = 0, size = counts.size(); i < size; i++) {
+            Assert.assertEquals(expectedCounts.get(counts.keyAt(i)), counts.valueAt(i));
+        }
+    }
+
+    @Test
+    public void testProjection() {
+        final List<ComplexEntity> entities = mDatabase.complexEntities().find()
+                .orderBy(F.complexentity.value)
+                .getList().now();
+        final List<Row<ComplexEntity>> rows = mDatabase.complexEntities().find()
+                .orderBy(F.complexentity.value)
+                .select(F.complexentity.text, F.complexentity.value)
+                .getList().now();
+
+        Assert.assertEquals(entities.size(), rows.size());
+        for (int i = 0, size = rows.size(); i < size; i++) {
+            final ComplexEntity entity = entities.get(i);
+            final Row<ComplexEntity> row = rows.get(i);
+            Assert.assertEquals(entity.getValue(), row.getLong(F.complexentity.value));
+            Assert.assertEquals(entity.getText(), row.getString(F.complexentity.text));
+        }
+    }
+
+    @Test
+    public void testPreparedQuery() {
+        final List<ComplexEntity> entities = mDatabase.complexEntities().find()
+                .orderBy(F.complexentity.value)
+                .getList().now();
+        Assert.assertTrue(entities.size() >= 2);
+
+        final PreparedQuery<ComplexEntity> query = mDatabase.complexEntities().find()
+                .where(F.complexentity.value).isEqualTo(entities.get(0).getValue())
+                .prepare();
+        Assert.assertEquals(1, query.getArgumentCount());
+
+        for (ComplexEntity entity : entities) {
+            final ComplexEntity result = query.getFirst(entity.getValue()).now();
+            Assert.assertEquals(entity.getValue(), result.getValue());
+        }
+
+        try {
+            query.getFirst();
+            Assert.fail("Running a prepared query without its arguments should fail.");
+        } catch (SimpleOrmException e) {
+            Assert.assertNotNull(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testPreparedContainsQuery() {
+        final PreparedQuery<ComplexEntity> query = mDatabase.complexEntities().find()
+                .where(F.complexentity.text).contains("sd")
+                .prepare();
+
+        for (String text : new String[]{"sd", "kl"}) {
+            final List<ComplexEntity> result = query.getList(text).now();
+            Assert.assertFalse(result.isEmpty());
+            for (ComplexEntity entity : result) {
+                Assert.assertTrue(entity.getText().toLowerCase().contains(text));
+            }
+        }
+    }
+
+    @Test
+    public void testQueryMethods() {
+        final QueryMethodTestDatabase database = QueryMethodTestDatabaseFactory.newInstance(InstrumentationRegistry.getContext());
+        final Repository<BenchmarkEntity> repository = database.entities();
+        repository.remove().all().commit().now();
+
+        final List<BenchmarkEntity> entities = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            entities.add(new BenchmarkEntityBuilder().setText("Entity " + i).setValue(i).build());
+        }
+        repository.save().entities(entities).commit().now();
+
+        final BenchmarkEntity first = entities.get(0);
+        Assert.assertEquals(first.getText(), database.findById(first.getId()).getText());
+
+        final List<BenchmarkEntity> byValue = database.findByValue(1L).now();
+        Assert.assertEquals(1, byValue.size());
+        Assert.assertEquals("Entity 1", byValue.get(0).getText());
+
+        final List<BenchmarkEntity> byTextOrValue = database.findByTextOrValue("Entity 0", 2L);
+        Assert.assertEquals(2, byTextOrValue.size());
+        Assert.assertEquals(2L, byTextOrValue.get(0).getValue());
+        Assert.assertEquals(0L, byTextOrValue.get(1).getValue());
+
+        repository.remove().all().commit().now();
+    }
+
+    @Test
+    public void testIdentityMap() {
+        final Repository<BenchmarkEntity> repository = IdentityMapTestDatabaseFactory.newInstance(InstrumentationRegistry.getContext()).entities();
+        repository.remove().all().commit().now();
+
+        final BenchmarkEntity entity = new BenchmarkEntityBuilder()
+                .setText("identity")
+                .setValue(1L)
+                .build();
+        repository.save().entity(entity).commit().now();
+
+        final long hitCount = repository.identityMap().getHitCount();
+        final BenchmarkEntity first = repository.find().where(F.benchmarkentity.id).isEqualTo(entity.getId()).getFirst().now();
+        final BenchmarkEntity second = repository.find().where(F.benchmarkentity.id).isEqualTo(entity.getId()).getFirst().now();
+        Assert.assertSame(entity, first);
+        Assert.assertSame(first, second);
+        Assert.assertEquals(hitCount + 2, repository.identityMap().getHitCount());
+
+        repository.update().set(F.benchmarkentity.value, 2L).all().commit().now();
+        final BenchmarkEntity updated = repository.find().where(F.benchmarkentity.id).isEqualTo(entity.getId()).getFirst().now();
+        Assert.assertNotSame(first, updated);
+        Assert.assertEquals(2L, updated.getValue());
+
+        repository.remove().all().commit().now();
+        Assert.assertEquals(0, repository.identityMap().size());
+    }
+
+    @Test
+    public void testIdentityMapIsInvalidatedByOtherRepositories() {
+        final IdentityMapRelationTestDatabase database = IdentityMapRelationTestDatabaseFactory.newInstance(InstrumentationRegistry.getContext());
+        database.parents().remove().all().commit().now();
+        database.children().remove().all().commit().now();
+
+        final BenchmarkEntity child = new BenchmarkEntityBuilder().setText("before").setValue(1L).build();
+        final List<BenchmarkEntity> children = new ArrayList<>();
+        children.add(child);
+        final LazyParentEntity parent = new LazyParentEntityBuilder().setChildren(children).build();
+        database.parents().save().entity(parent).commit().now();
+
+        final long hitCount = database.parents().identityMap().getHitCount();
+        Assert.assertSame(parent, database.parents().find().getFirst().now());
+        Assert.assertEquals(hitCount + 1, database.parents().identityMap().getHitCount());
+
+        // Changing a child through its own repository has to drop the cached parent
+        database.children().save().entity(new BenchmarkEntityBuilder(child).setText("after").build()).commit().now();
+        Assert.assertEquals(0, database.parents().identityMap().size());
+
+        final LazyParentEntity reloaded = database.parents().find().getFirst().now();
+        Assert.assertNotSame(parent, reloaded);
+        Assert.assertEquals("after", reloaded.getChildren().get(0).getText());
+
+        database.parents().remove().all().commit().now();
+        database.children().remove().all().commit().now();
+    }
+
+    @Test
+    public void testLazyRelationships() {
+        final Repository<LazyParentEntity> repository = LazyTestDatabaseFactory.newInstance(InstrumentationRegistry.getContext()).parents();
+        repository.remove().all().commit().now();
+
+        final List<BenchmarkEntity> children = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            children.add(new BenchmarkEntityBuilder().setText("Child " + i).setValue(i).build());
+        }
+        final LazyParentEntity parent = new LazyParentEntityBuilder()
+                .setChildren(children)
+                .setFavorite(new BenchmarkEntityBuilder().setText("Favorite").setValue(3L).build())
+                .build();
+        repository.save().entity(parent).commit().now();
+
+        final LazyParentEntity loaded = repository.find().getFirst().now();
+        final LazyChildList<BenchmarkEntity> lazyChildren = (LazyChildList<BenchmarkEntity>) loaded.getChildren();
+        Assert.assertFalse(lazyChildren.isLoaded());
+        Assert.assertEquals(children, lazyChildren);
+        Assert.assertTrue(lazyChildren.isLoaded());
+        Assert.assertEquals("Favorite", loaded.getFavorite().getText());
+
+        repository.remove().all().commit().now();
+    }
+
+    @Test
+    public void testNullReferenceClearsMapping() {
+        final Repository<LazyParentEntity> repository = LazyTestDatabaseFactory.newInstance(InstrumentationRegistry.getContext()).parents();
+        repository.remove().all().commit().now();
+
+        final LazyParentEntity parent = new LazyParentEntityBuilder()
+                .setChildren(new ArrayList<BenchmarkEntity>())
+                .setFavorite(new BenchmarkEntityBuilder().setText("Favorite").setValue(3L).build())
+                .build();
+        repository.save().entity(parent).commit().now();
+
+        final LazyParentEntity loaded = repository.find().getFirst().now();
+        final LazyParentEntity withoutFavorite = new LazyParentEntityBuilder()
+                .setId(loaded.getId())
+                .setChildren(new ArrayList<BenchmarkEntity>())
+                .build();
+        repository.save().entity(withoutFavorite).commit().now();
+
+        final LazyParentEntity reloaded = repository.find().getFirst().now();
+        Assert.assertNull(reloaded.getFavorite());
+
+        repository.remove().all().commit().now();
+    }
+
+    @Test
+    public void testLegacyMappingTablesAreMigratedOnUpgrade() {
+        final Context context = InstrumentationRegistry.getContext();
+        context.deleteDatabase("MigrationTestDb");
+
+        final SQLiteDatabase legacy = context.openOrCreateDatabase("MigrationTestDb", Context.MODE_PRIVATE, null);
+        try {
+            legacy.execSQL("CREATE TABLE benchmark (_id INTEGER PRIMARY KEY, text TEXT, value INTEGER)");
+            legacy.execSQL("CREATE TABLE lazy_parent (_id INTEGER PRIMARY KEY)");
+            legacy.execSQL("CREATE TABLE _lazy_parent_children_Mapping (ParentId INTEGER, ChildId INTEGER, Nonce TEXT UNIQUE)");
+            legacy.execSQL("CREATE TABLE _lazy_parent_favorite_Mapping (ParentId INTEGER, ChildId INTEGER, Nonce TEXT UNIQUE)");
+            legacy.execSQL("INSERT INTO benchmark (_id, text, value) VALUES (1, 'Child 1', 1)");
+            legacy.execSQL("INSERT INTO benchmark (_id, text, value) VALUES (2, 'Child 2', 2)");
+            legacy.execSQL("INSERT INTO benchmark (_id, text, value) VALUES (3, 'Favorite', 3)");
+            legacy.execSQL("INSERT INTO lazy_parent (_id) VALUES (1)");
+            legacy.execSQL("INSERT INTO _lazy_parent_children_Mapping (ParentId, ChildId, Nonce) VALUES (1, 1, '1|1')");
+            legacy.execSQL("INSERT INTO _lazy_parent_children_Mapping (ParentId, ChildId, Nonce) VALUES (1, 2, '1|2')");
+            // A duplicate without Nonce as written by builds that stopped binding it
+            legacy.execSQL("INSERT INTO _lazy_parent_children_Mapping (ParentId, ChildId, Nonce) VALUES (1, 2, NULL)");
+            legacy.execSQL("INSERT INTO _lazy_parent_favorite_Mapping (ParentId, ChildId, Nonce) VALUES (1, 3, '1|3')");
+            legacy.setVersion(1);
+        } finally {
+            legacy.close();
+        }
+
+        final Repository<LazyParentEntity> repository = MigrationTestDatabaseFactory.newInstance(context).parents();
+        final LazyParentEntity loaded = repository.find().getFirst().now();
+        Assert.assertNotNull(loaded);
+        Assert.assertEquals(2, loaded.getChildren().size());
+        Assert.assertEquals("Favorite", loaded.getFavorite().getText());
+
+        final LazyParentEntity resaved = new LazyParentEntityBuilder(loaded)
+                .setChildren(new ArrayList<>(loaded.getChildren()))
+                .setFavorite(loaded.getFavorite())
+                .build();
+        repository.save().entity(resaved).commit().now();
+
+        final SQLiteDatabase migrated = context.openOrCreateDatabase("MigrationTestDb", Context.MODE_PRIVATE, null);
+        try {
+            Assert.assertFalse(hasColumn(migrated, "_lazy_parent_children_Mapping", "Nonce"));
+            Assert.assertFalse(hasColumn(migrated, "_lazy_parent_favorite_Mapping", "Nonce"));
+            Assert.assertEquals(2L, DatabaseUtils.queryNumEntries(migrated, "_lazy_parent_children_Mapping"));
+            Assert.assertEquals(1L, DatabaseUtils.queryNumEntries(migrated, "_lazy_parent_favorite_Mapping"));
+        } finally {
+            migrated.close();
+        }
+
+        repository.remove().all().commit().now();
+    }
+
+    @Test
+    public void testIndicesAreCreated() {
+        final Context context = InstrumentationRegistry.getContext();
+        context.deleteDatabase("IndexTestDb");
+
+        final Repository<IndexTestEntity> repository = IndexTestDatabaseFactory.newInstance(context, TestData.PASSWORD.toCharArray()).entities();
+        repository.save()
+                .entity(new IndexTestEntityBuilder().setCode("a").setEnabled(false).build())
+                .entity(new IndexTestEntityBuilder().setCode("a").setEnabled(false).build())
+                .entity(new IndexTestEntityBuilder().setCode("a").setEnabled(true).build())
+                .commit().now();
+
+        // The unique partial index only covers enabled rows, so the disabled duplicates are allowed
+        Assert.assertEquals(3, repository.find().getList().now().size());
+
+        final net.sqlcipher.database.SQLiteDatabase database = net.sqlcipher.database.SQLiteDatabase.openDatabase(
+                context.getDatabasePath("IndexTestDb").getPath(), TestData.PASSWORD, null, net.sqlcipher.database.SQLiteDatabase.OPEN_READONLY
+        );
+        try {
+            final Cursor cursor = database.rawQuery("SELECT name, sql FROM sqlite_master WHERE type = 'index' AND tbl_name = 'index_test' ORDER BY name", null);
+            try {
+                Assert.assertTrue(cursor.moveToFirst());
+                Assert.assertEquals("index_test_code_enabled", cursor.getString(0));
+                Assert.assertTrue(cursor.moveToNext());
+                Assert.assertEquals("index_test_unique_enabled_code", cursor.getString(0));
+                Assert.assertTrue(cursor.getString(1).contains("UNIQUE"));
+                Assert.assertTrue(cursor.getString(1).contains("WHERE enabled = 1"));
+                Assert.assertFalse(cursor.moveToNext());
+            } finally {
+                cursor.close();
+            }
+        } finally {
+            database.close();
+        }
+
+        repository.remove().all().commit().now();
+    }
+
+    @Test
+    public void testWriteAheadLoggingPragmas() {
+        final Context context = InstrumentationRegistry.getContext();
+        context.deleteDatabase("WalTestDb");
+
+        final Repository<BenchmarkEntity> repository = WalTestDatabaseFactory.newInstance(context).entities();
+        repository.save().entity(new BenchmarkEntityBuilder().setText("wal").setValue(1L).build()).commit().now();
+
+        // journal_mode and page_size are stored in the file, so any connection reports them
+        final SQLiteDatabase database = SQLiteDatabase.openDatabase(context.getDatabasePath("WalTestDb").getPath(), null, SQLiteDatabase.OPEN_READONLY);
+        try {
+            Assert.assertEquals("wal", DatabaseUtils.stringForQuery(database, "PRAGMA journal_mode", null).toLowerCase());
+            Assert.assertEquals(8192L, DatabaseUtils.longForQuery(database, "PRAGMA page_size", null));
+        } finally {
+            database.close();
+        }
+
+        repository.remove().all().commit().now();
+    }
+
+    @Test
+    public void testConnectionPragmasAreApplied() {
+        final Context context = InstrumentationRegistry.getContext();
+        context.deleteDatabase("PragmaTestDb");
+
+        final DatabaseConfiguration configuration = new DatabaseConfiguration.Builder()
+                .setSynchronous(Synchronous.NORMAL)
+                .setCacheSize(-4000)
+                .setTempStore(TempStore.MEMORY)
+                .setBusyTimeout(5000)
+                .build();
+        final PragmaTestProvider provider = new PragmaTestProvider(context, configuration);
+        try {
+            final ReadableSQLiteWrapper wrapper = provider.getReadableWrapper();
+            Assert.assertEquals(1L, queryPragma(wrapper, "synchronous"));
+            Assert.assertEquals(-4000L, queryPragma(wrapper, "cache_size"));
+            Assert.assertEquals(2L, queryPragma(wrapper, "temp_store"));
+            Assert.assertEquals(5000L, queryPragma(wrapper, "busy_timeout"));
+        } finally {
+            provider.close();
+            context.deleteDatabase("PragmaTestDb");
+        }
+    }
+
+    @Test(expected = SimpleOrmException.class)
+    public void testWriteAheadLoggingRejectsConnectionPragmas() {
+        final DatabaseConfiguration configuration = new DatabaseConfiguration.Builder()
+                .setWriteAheadLoggingEnabled(true)
+                .setBusyTimeout(5000)
+                .build();
+        new PragmaTestProvider(InstrumentationRegistry.getContext(), configuration);
+    }
+
+    @Test
+    public void testQueryCacheIsInvalidated() {
+        final Repository<BenchmarkEntity> repository = QueryCacheTestDatabaseFactory.newInstance(InstrumentationRegistry.getContext()).entities();
+        repository.remove().all().commit().now();
+
+        repository.save().entity(new BenchmarkEntityBuilder().setText("first").setValue(1L).build()).commit().now();
+        final List<BenchmarkEntity> before = repository.find().getList().now();
+        Assert.assertEquals(1, before.size());
+        Assert.assertEquals(before, repository.find().getList().now());
+
+        repository.save().entity(new BenchmarkEntityBuilder().setText("second").setValue(2L).build()).commit().now();
+        Assert.assertEquals(2, repository.find().getList().now().size());
+
+        repository.remove().all().commit().now();
+        Assert.assertTrue(repository.find().getList().now().isEmpty());
+    }
+
+    @Test
+    public void testQueryCacheResultMutation() {
+        final Repository<BenchmarkEntity> repository = QueryCacheTestDatabaseFactory.newInstance(InstrumentationRegistry.getContext()).entities();
+        repository.remove().all().commit().now();
+
+        repository.save().entities(Arrays.asList(
+                new BenchmarkEntityBuilder().setText("first").setValue(1L).build(),
+                new BenchmarkEntityBuilder().setText("second").setValue(2L).build()
+        )).commit().now();
+
+        // Changing a returned list must not change what the next caller gets from the cache
+        final List<BenchmarkEntity> mutated = repository.find().getList().now();
+        Assert.assertEquals(2, mutated.size());
+        mutated.clear();
+
+        final List<BenchmarkEntity> cached = repository.find().getList().now();
+        Assert.assertEquals(2, cached.size());
+        cached.remove(0);
+        Assert.assertEquals(2, repository.find().getList().now().size());
+
+        // The entities themselves are shared between callers
+        final BenchmarkEntity first = repository.find().getFirst().now();
+        Assert.assertSame(first, repository.find().getFirst().now());
+
+        repository.remove().all().commit().now();
+    }
+
+    @Test
+    public void testObserveRerunsQueryAfterWrites() throws InterruptedException {
+        final Repository<BenchmarkEntity> repository = QueryCacheTestDatabaseFactory.newInstance(InstrumentationRegistry.getContext()).entities();
+        repository.remove().all().commit().now();
+
+        final List<Integer> sizes = new ArrayList<>();
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Subscription subscription = repository.find().observe(100L, new Loader.Callback<List<BenchmarkEntity>>() {
+            @Override
+            public void onResult(List<BenchmarkEntity> result) {
+                synchronized (sizes) {
+                    sizes.add(result.size());
+                }
+                if (result.size() == 10) {
+                    latch.countDown();
+                }
+            }
+        });
+
+        try {
+            Thread.sleep(200L);
+            for (int i = 0; i < 10; i++) {
+                repository.save().entity(new BenchmarkEntityBuilder().setText("observed").setValue(i).build()).commit().now();
+            }
+
+            Assert.assertTrue(latch.await(5L, TimeUnit.SECONDS));
+            synchronized (sizes) {
+                Assert.assertEquals(0, (int) sizes.get(0));
+                Assert.assertTrue(sizes.size() < 11);
+            }
+        } finally {
+            subscription.unsubscribe();
+            repository.remove().all().commit().now();
+        }
+    }
+
+    @Test
+    public void testObserveSkipsUnchangedResults() throws InterruptedException {
+        final Repository<BenchmarkEntity> repository = QueryCacheTestDatabaseFactory.newInstance(InstrumentationRegistry.getContext()).entities();
+        repository.remove().all().commit().now();
+
+        final List<Integer> sizes = new ArrayList<>();
+        final CountDownLatch latch = new CountDownLatch(2);
+        final Subscription subscription = repository.find().where(F.benchmarkentity.value).isGreaterThan(100L).observe(0L, new Loader.Callback<List<BenchmarkEntity>>() {
+            @Override
+            public void onResult(List<BenchmarkEntity> result) {
+                synchronized (sizes) {
+                    sizes.add(result.size());
+                }
+                latch.countDown();
+            }
+        });
+
+        try {
+            Thread.sleep(200L);
+            // Each save re-runs the query but none of them changes its result
+            for (int i = 0; i < 10; i++) {
+                repository.save().entity(new BenchmarkEntityBuilder().setText("filtered").setValue(i).build()).commit().now();
+            }
+            repository.save().entity(new BenchmarkEntityBuilder().setText("matching").setValue(101L).build()).commit().now();
+
+            Assert.assertTrue(latch.await(5L, TimeUnit.SECONDS));
+            Thread.sleep(200L);
+            synchronized (sizes) {
+                Assert.assertEquals(2, sizes.size());
+                Assert.assertEquals(0, (int) sizes.get(0));
+                Assert.assertEquals(1, (int) sizes.get(1));
+            }
+        } finally {
+            subscription.unsubscribe();
+            repository.remove().all().commit().now();
+        }
+    }
+
+    @Test
+    public void testGroupCommitCompletesEachSave() {
+        final Repository<GroupCommitTestEntity> repository = GroupCommitTestDatabaseFactory.newInstance(InstrumentationRegistry.getContext()).entities();
+        repository.remove().all().commit().now();
+
+        final List<GroupCommitTestEntity> entities = new ArrayList<>();
+        final List<Saver<GroupCommitTestEntity>> savers = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            final GroupCommitTestEntity entity = new GroupCommitTestEntityBuilder().setCode("code " + i).build();
+            entities.add(entity);
+            savers.add(repository.save().entity(entity).commit());
+        }
+
+        // Reads wait for grouped saves which are still inside the group commit window
+        Assert.assertEquals(20, repository.find().getList().now().size());
+
+        for (int i = 0; i < savers.size(); i++) {
+            savers.get(i).now();
+            Assert.assertNotNull(entities.get(i).getId());
+        }
+
+        repository.remove().all().commit().now();
+    }
+
+    @Test
+    public void testGroupCommitIsolatesFailedSave() {
+        final Repository<GroupCommitTestEntity> repository = GroupCommitTestDatabaseFactory.newInstance(InstrumentationRegistry.getContext()).entities();
+        repository.remove().all().commit().now();
+
+        final Saver<GroupCommitTestEntity> first = repository.save().entity(new GroupCommitTestEntityBuilder().setCode("a").build()).commit();
+        final Saver<GroupCommitTestEntity> duplicate = repository.save().entity(new GroupCommitTestEntityBuilder().setCode("a").build()).commit();
+        final Saver<GroupCommitTestEntity> last = repository.save().entity(new GroupCommitTestEntityBuilder().setCode("b").build()).commit();
+
+        first.now();
+        try {
+            duplicate.now();
+            Assert.fail("Saving a duplicate code should fail.");
+        } catch (SimpleOrmException e) {
+            Log.i(TAG, "Duplicate save failed as expected.", e);
+        }
+        last.now();
+
+        final List<GroupCommitTestEntity> entities = repository.find().getList().now();
+        Assert.assertEquals(2, entities.size());
+
+        repository.remove().all().commit().now();
+    }
+
     @Test
     public void testStartsWith() {
         final List<ComplexEntity> list = mDatabase.complexEntities().find()
@@ -206,6 +1049,25 @@ public class GeneralTests {
         Assert.assertEquals(TestData.SIMPLE_ENTITY_ID, (long) TestData.SIMPLE_ENTITY_WITH_ID.getId());
     }
 
+    @Test
+    public void testReadSeesEarlierWrite() {
+        final List<SimpleTestEntity> entities = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            entities.add(new SimpleTestEntityBuilder()
+                    .setText("Ordered " + i)
+                    .setEnabled(true)
+                    .build());
+        }
+        mDatabase.simpleEntities().save()
+                .entities(entities)
+                .commit();
+
+        final List<SimpleTestEntity> list = mDatabase.simpleEntities().find()
+                .where(F.simpletestentity.text).startsWith("Ordered")
+                .getList().now();
+        Assert.assertEquals(entities.size(), list.size());
+    }
+
     @Test
     public void testIsTrue() {
         final List<SimpleTestEntity> list = mDatabase.simpleEntities().find()
@@ -280,4 +1142,379 @@ public class GeneralTests {
 
         Assert.assertEquals(entity, afterUpdate);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testPageAfter() {
+        final List<ComplexEntity> all = mDatabase.complexEntities().find()
+                .orderBy(F.complexentity.value)
+                .getList().now();
+
+        final List<ComplexEntity> paged = new ArrayList<>();
+        Page<ComplexEntity> page = mDatabase.complexEntities().find()
+                .orderBy(F.complexentity.value)
+                .page(1).now();
+        paged.addAll(page.getItems());
+        while (page.hasNextPage()) {
+            page = mDatabase.complexEntities().find()
+                    .orderBy(F.complexentity.value)
+                    .pageAfter(page.getNextPageToken(), 1).now();
+            Assert.assertTrue(page.getItems().size() <= 1);
+            paged.addAll(page.getItems());
+        }
+
+        Assert.assertEquals(all, paged);
+    }
+
+    @Test
+    public void testPageAfterFloatColumn() {
+        final Repository<FloatTestEntity> repository = FloatTestDatabaseFactory.newInstance(InstrumentationRegistry.getContext()).entities();
+        repository.remove().all().commit().now();
+
+        // Scores like 0.1f have no exact decimal representation, so a textual boundary would repeat them on the next page
+        final List<FloatTestEntity> entities = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            entities.add(new FloatTestEntityBuilder()
+                    .setScore((i % 7) * 0.1f)
+                    .setWeight((i % 5) * 0.1)
+                    .build());
+        }
+        repository.save().entities(entities).commit().now();
+
+        final List<FloatTestEntity> all = repository.find()
+                .orderBy(F.floattestentity.score)
+                .getList().now();
+        Assert.assertEquals(entities.size(), all.size());
+
+        final List<FloatTestEntity> paged = new ArrayList<>();
+        Page<FloatTestEntity> page = repository.find()
+                .orderBy(F.floattestentity.score)
+                .page(3).now();
+        paged.addAll(page.getItems());
+        while (page.hasNextPage()) {
+            page = repository.find()
+                    .orderBy(F.floattestentity.score)
+                    .pageAfter(page.getNextPageToken(), 3).now();
+            paged.addAll(page.getItems());
+            Assert.assertTrue(paged.size() <= all.size());
+        }
+        Assert.assertEquals(all, paged);
+
+        final List<FloatTestEntity> pagedByWeight = new ArrayList<>();
+        page = repository.find()
+                .orderBy(F.floattestentity.weight, Ordering.DESCENDING)
+                .page(3).now();
+        pagedByWeight.addAll(page.getItems());
+        while (page.hasNextPage()) {
+            page = repository.find()
+                    .orderBy(F.floattestentity.weight, Ordering.DESCENDING)
+                    .pageAfter(page.getNextPageToken(), 3).now();
+            pagedByWeight.addAll(page.getItems());
+            Assert.assertTrue(pagedByWeight.size() <= all.size());
+        }
+        Assert.assertEquals(all.size(), pagedByWeight.size());
+
+        repository.remove().all().commit().now();
+    }
+
+    @Test
+    public void testGroupedFloatMinMax() {
+        final Repository<FloatTestEntity> repository = FloatTestDatabaseFactory.newInstance(InstrumentationRegistry.getContext()).entities();
+        repository.remove().all().commit().now();
+
+        final List<FloatTestEntity> entities = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            entities.add(new FloatTestEntityBuilder()
+                    .setScore(i * 0.1f)
+                    .setWeight(i)
+                    .build());
+        }
+        repository.save().entities(entities).commit().now();
+
+        // Grouped min and max return the same type as their ungrouped counterparts
+        final LongSparseArrayCompat<Float> minimums = repository.find()
+                .groupBy(F.floattestentity.id)
+                .min(F.floattestentity.score).now();
+        final LongSparseArrayCompat<Float> maximums = repository.find()
+                .groupBy(F.floattestentity.id)
+                .max(F.floattestentity.score).now();
+        Assert.assertEquals(entities.size(), minimums.size());
+        for (FloatTestEntity entity : entities) {
+            Assert.assertEquals(entity.getScore(), minimums.get(entity.getId()), 0.0f);
+            Assert.assertEquals(entity.getScore(), maximums.get(entity.getId()), 0.0f);
+        }
+
+        repository.remove().all().commit().now();
+    }
+
+    @Test
+    public void testFloatingPointEquality() {
+        final Repository<FloatTestEntity> repository = FloatTestDatabaseFactory.newInstance(InstrumentationRegistry.getContext()).entities();
+        repository.remove().all().commit().now();
+
+        final List<FloatTestEntity> entities = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            entities.add(new FloatTestEntityBuilder()
+                    .setScore(i * 0.1f)
+                    .setWeight(i * 0.1)
+                    .build());
+        }
+        repository.save().entities(entities).commit().now();
+
+        for (FloatTestEntity entity : entities) {
+            final List<FloatTestEntity> byScore = repository.find()
+                    .where(F.floattestentity.score).isEqualTo(entity.getScore())
+                    .getList().now();
+            Assert.assertEquals(1, byScore.size());
+            Assert.assertEquals(entity.getId(), byScore.get(0).getId());
+
+            final List<FloatTestEntity> byWeight = repository.find()
+                    .where(F.floattestentity.weight).isEqualTo(entity.getWeight())
+                    .getList().now();
+            Assert.assertEquals(1, byWeight.size());
+            Assert.assertEquals(entity.getId(), byWeight.get(0).getId());
+        }
+
+        final FloatTestEntity boundary = entities.get(3);
+        Assert.assertEquals(6, repository.find()
+                .where(F.floattestentity.score).isGreaterThan(boundary.getScore())
+                .getList().now().size());
+        Assert.assertEquals(4, repository.find()
+                .where(F.floattestentity.weight).isLessThanOrEqualTo(boundary.getWeight())
+                .getList().now().size());
+
+        repository.remove().all().commit().now();
+    }
+
+    @Test
+    public void testStream() {
+        final int entityCount = 5000;
+        final int chunkSize = 100;
+        final long existingCount = mDatabase.simpleEntities().find()
+                .where(F.simpletestentity.enabled).isTrue()
+                .count().now();
+
+        final List<SimpleTestEntity> entities = new ArrayList<>();
+        for (int i = 0; i < entityCount; i++) {
+            entities.add(new SimpleTestEntityBuilder()
+                    .setText("Entity " + i)
+                    .setEnabled(true)
+                    .build());
+        }
+        mDatabase.simpleEntities().save()
+                .entities(entities)
+                .commit().now();
+        entities.clear();
+
+        final Runtime runtime = Runtime.getRuntime();
+        runtime.gc();
+        final long baseline = runtime.totalMemory() - runtime.freeMemory();
+        long peak = baseline;
+
+        // Entities of the first chunk should become collectable once the stream moved past them,
+        // a forced collection is only a hint on ART so the result is logged instead of asserted
+        final List<WeakReference<SimpleTestEntity>> firstChunk = new ArrayList<>();
+        boolean firstChunkCollected = false;
+
+        int count = 0;
+        long lastId = Long.MIN_VALUE;
+        final EntityStream<SimpleTestEntity> stream = mDatabase.simpleEntities().find()
+                .where(F.simpletestentity.enabled).isTrue()
+                .stream(chunkSize);
+        try {
+            while (stream.hasNext()) {
+                final SimpleTestEntity entity = stream.next();
+                Assert.assertTrue(entity.getId() > lastId);
+                lastId = entity.getId();
+                if (count < chunkSize) {
+                    firstChunk.add(new WeakReference<>(entity));
+                }
+                if (++count % chunkSize == 0) {
+                    peak = Math.max(peak, runtime.totalMemory() - runtime.freeMemory());
+                }
+                if (count == chunkSize * 10) {
+                    firstChunkCollected = awaitCollected(firstChunk);
+                }
+            }
+        } finally {
+            stream.close();
+        }
+
+        Log.i(TAG, "Streamed " + count + " entities with a peak heap growth of " + (peak - baseline) / 1024 + " KB.");
+        Log.i(TAG, firstChunkCollected
+                ? "Entities of the first chunk were collected."
+                : "Entities of the first chunk were not collected, the stream may retain returned chunks.");
+        Assert.assertEquals(existingCount + entityCount, count);
+        Assert.assertFalse(stream.hasNext());
+    }
+
+    @Test
+    public void testLazyListClose() {
+        final LazyList<ComplexEntity> list = mDatabase.complexEntities().find()
+                .orderBy(F.complexentity.value)
+                .lazy();
+        try {
+            Assert.assertFalse(list.isEmpty());
+            Assert.assertNotNull(list.get(0));
+        } finally {
+            list.close();
+        }
+
+        Assert.assertTrue(list.isClosed());
+        try {
+            list.get(0);
+            Assert.fail("Accessing a closed LazyList should fail.");
+        } catch (IllegalStateException ignored) {
+        }
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testHydrationAllocations() {
+        final Repository<HydrationTestEntity> repository = HydrationTestDatabaseFactory.newInstance(InstrumentationRegistry.getContext()).entities();
+        repository.remove().all().commit().now();
+
+        final int entityCount = 100;
+        final List<HydrationTestEntity> entities = new ArrayList<>();
+        for (int i = 0; i < entityCount; i++) {
+            entities.add(new HydrationTestEntityBuilder()
+                    .setAmount(i * 1000)
+                    .setOptionalAmount(i % 2 == 0 ? i : null)
+                    .setRatio(i / 3.0)
+                    .setCreated(i % 3 == 0 ? null : new Date(1476792000000L + i))
+                    .build());
+        }
+        repository.save().entities(entities).commit().now();
+
+        final LazyList<HydrationTestEntity> list = repository.find().lazy();
+        try {
+            // The first read allocates the row cache of the LazyList
+            Assert.assertNotNull(list.get(0));
+
+            Debug.startAllocCounting();
+            Debug.resetThreadAllocCount();
+            for (int i = 1; i < entityCount; i++) {
+                list.get(i);
+            }
+            final int allocations = Debug.getThreadAllocCount();
+            Debug.stopAllocCounting();
+
+            // Besides the entity only boxes outside of the valueOf() caches and Dates may be allocated
+            int expected = 0;
+            for (int i = 1; i < entityCount; i++) {
+                final HydrationTestEntity entity = list.get(i);
+                expected++;
+                if (entity.getId() < -128 || entity.getId() > 127) {
+                    expected++;
+                }
+                final Integer optionalAmount = entity.getOptionalAmount();
+                if (optionalAmount != null && (optionalAmount < -128 || optionalAmount > 127)) {
+                    expected++;
+                }
+                if (entity.getCreated() != null) {
+                    expected++;
+                }
+            }
+
+            Log.i(TAG, "Hydrated " + (entityCount - 1) + " entities with " + allocations + " allocations.");
+            Assert.assertTrue("Expected at most " + expected + " allocations but counted " + allocations, allocations <= expected);
+        } finally {
+            list.close();
+        }
+
+        repository.remove().all().commit().now();
+    }
+
+    private static int countUnloadedColumns(Object entity) {
+        final TrackedEntity trackedEntity = (TrackedEntity) entity;
+        int count = 0;
+        for (int i = 0; i < 10; i++) {
+            if (!trackedEntity.isLoaded(i)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static long queryPragma(ReadableSQLiteWrapper wrapper, String pragma) {
+        final CursorWrapper cursor = wrapper.query("PRAGMA " + pragma, null);
+        try {
+            Assert.assertTrue(cursor.moveToFirst());
+            return cursor.getLong(0);
+        } finally {
+            cursor.close();
+        }
+    }
+
+    private static class PragmaTestProvider extends BasePlainSQLiteProvider {
+
+        PragmaTestProvider(Context context, DatabaseConfiguration configuration) {
+            super(context, "PragmaTestDb", 1, configuration);
+        }
+
+        @Override
+        protected void onCreate(SQLiteDatabaseManager manager) {
+            manager.execSql("CREATE TABLE pragma_test (_id INTEGER PRIMARY KEY)");
+        }
+
+        @Override
+        protected void onUpgrade(SQLiteDatabaseManager manager, int oldVersion, int newVersion) {
+
+        }
+    }
+
+    private static boolean awaitCollected(List<? extends WeakReference<?>> references) {
+        for (int attempt = 0; attempt < 50; attempt++) {
+            Runtime.getRuntime().gc();
+            System.runFinalization();
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            boolean collected = true;
+            for (WeakReference<?> reference : references) {
+                if (reference.get() != null) {
+                    collected = false;
+                    break;
+                }
+            }
+            if (collected) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasColumn(SQLiteDatabase database, String tableName, String columnName) {
+        final Cursor cursor = database.rawQuery("PRAGMA table_info(" + tableName + ")", null);
+        try {
+            final int nameIndex = cursor.getColumnIndex("name");
+            while (cursor.moveToNext()) {
+                if (columnName.equals(cursor.getString(nameIndex))) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            cursor.close();
+        }
+    }
+
+    private static long countRows(String tableName) {
+        final String path = InstrumentationRegistry.getContext().getDatabasePath("TestDb2").getPath();
+        final net.sqlcipher.database.SQLiteDatabase database = net.sqlcipher.database.SQLiteDatabase.openDatabase(
+                path, TestData.PASSWORD, null, net.sqlcipher.database.SQLiteDatabase.OPEN_READONLY
+        );
+        try {
+            final Cursor cursor = database.rawQuery("SELECT COUNT(*) FROM " + tableName, null);
+            try {
+                return cursor.moveToFirst() ? cursor.getLong(0) : 0L;
+            } finally {
+                cursor.close();
+            }
+        } finally {
+            database.close();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.wrdlbrnft.simpleorm;
+
+import android.content.Context;
+import android.os.SystemClock;
+import android.support.test.InstrumentationRegistry;
+import android.util.Log;
+
+import com.github.wrdlbrnft.simpleorm.databases.BenchmarkEntity;
+import com.github.wrdlbrnft.simpleorm.databases.BenchmarkEntityBuilder;
+import com.github.wrdlbrnft.simpleorm.databases.GroupCommitBenchmarkDatabaseFactory;
+import com.github.wrdlbrnft.simpleorm.databases.JournalBenchmarkDatabaseFactory;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class GroupCommitBenchmark {
+
+    private static final String TAG = "GroupCommitBenchmark";
+
+    private static final int SAVE_COUNT = 1000;
+
+    @Test
+    public void benchmarkSingleEntitySaves() {
+        final Context context = InstrumentationRegistry.getContext();
+
+        final long individualMillis = measureSaves(JournalBenchmarkDatabaseFactory.newInstance(context).entities());
+        final long groupedMillis = measureSaves(GroupCommitBenchmarkDatabaseFactory.newInstance(context).entities());
+
+        Log.i(TAG, SAVE_COUNT + " saves with individual transactions took " + individualMillis + "ms");
+        Log.i(TAG, SAVE_COUNT + " saves with group commit took " + groupedMillis + "ms");
+    }
+
+    private long measureSaves(Repository<BenchmarkEntity> repository) {
+        repository.remove().all().commit().now();
+
+        final List<Saver<BenchmarkEntity>> savers = new ArrayList<>();
+        final long start = SystemClock.elapsedRealtime();
+        for (int i = 0; i < SAVE_COUNT; i++) {
+            savers.add(repository.save().entity(createEntity(i)).commit());
+        }
+        for (Saver<BenchmarkEntity> saver : savers) {
+            saver.now();
+        }
+        final long duration = SystemClock.elapsedRealtime() - start;
+
+        Assert.assertEquals(SAVE_COUNT, repository.find().getList().now().size());
+        repository.remove().all().commit().now();
+        return duration;
+    }
+
+    private static BenchmarkEntity createEntity(long value) {
+        return new BenchmarkEntityBuilder()
+                .setText("Entity " + value)
+                .setValue(value)
+                .build();
+    }
+}
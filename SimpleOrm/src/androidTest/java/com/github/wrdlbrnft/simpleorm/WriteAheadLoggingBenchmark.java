@@ -0,0 +1,107 @@
+package com.github.wrdlbrnft.simpleorm;
+
+import android.content.Context;
+import android.os.SystemClock;
+import android.support.test.InstrumentationRegistry;
+import android.util.Log;
+
+import com.github.wrdlbrnft.simpleorm.databases.BenchmarkEntity;
+import com.github.wrdlbrnft.simpleorm.databases.BenchmarkEntityBuilder;
+import com.github.wrdlbrnft.simpleorm.databases.JournalBenchmarkDatabaseFactory;
+import com.github.wrdlbrnft.simpleorm.databases.WalBenchmarkDatabaseFactory;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class WriteAheadLoggingBenchmark {
+
+    private static final String TAG = "WalBenchmark";
+
+    private static final int READER_COUNT = 4;
+    private static final int INITIAL_ENTITY_COUNT = 1000;
+    private static final long DURATION_MILLIS = 3000L;
+
+    @Test
+    public void benchmarkConcurrentReadsUnderWriter() throws InterruptedException {
+        final Context context = InstrumentationRegistry.getContext();
+
+        final long journalReads = measureReads(JournalBenchmarkDatabaseFactory.newInstance(context).entities());
+        final long walReads = measureReads(WalBenchmarkDatabaseFactory.newInstance(context).entities());
+
+        Log.i(TAG, "Reads per second with rollback journal: " + journalReads * 1000L / DURATION_MILLIS);
+        Log.i(TAG, "Reads per second with write-ahead logging: " + walReads * 1000L / DURATION_MILLIS);
+
+        Assert.assertTrue(journalReads > 0);
+        Assert.assertTrue(walReads > 0);
+    }
+
+    private long measureReads(final Repository<BenchmarkEntity> repository) throws InterruptedException {
+        repository.remove().all().commit().now();
+        final List<BenchmarkEntity> entities = new ArrayList<>();
+        for (int i = 0; i < INITIAL_ENTITY_COUNT; i++) {
+            entities.add(createEntity(i));
+        }
+        repository.save().entities(entities).commit().now();
+
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final AtomicLong readCount = new AtomicLong();
+
+        final Thread writer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                long value = INITIAL_ENTITY_COUNT;
+                while (running.get()) {
+                    repository.save().entity(createEntity(value++)).commit().now();
+                }
+            }
+        });
+
+        final List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < READER_COUNT; i++) {
+            readers.add(new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    while (running.get()) {
+                        final LazyList<BenchmarkEntity> list = repository.find().limit(50).lazy();
+                        try {
+                            for (BenchmarkEntity entity : list) {
+                                Assert.assertNotNull(entity);
+                            }
+                        } finally {
+                            list.close();
+                        }
+                        readCount.incrementAndGet();
+                    }
+                }
+            }));
+        }
+
+        writer.start();
+        for (Thread reader : readers) {
+            reader.start();
+        }
+
+        SystemClock.sleep(DURATION_MILLIS);
+        running.set(false);
+
+        writer.join();
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        repository.remove().all().commit().now();
+        return readCount.get();
+    }
+
+    private static BenchmarkEntity createEntity(long value) {
+        return new BenchmarkEntityBuilder()
+                .setText("Entity " + value)
+                .setValue(value)
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.wrdlbrnft.simpleorm.databases;
+
+import com.github.wrdlbrnft.simpleorm.annotations.Column;
+import com.github.wrdlbrnft.simpleorm.annotations.Entity;
+import com.github.wrdlbrnft.simpleorm.annotations.Id;
+
+@Entity("float_test")
+public interface FloatTestEntity {
+
+    @Id
+    Long getId();
+    void setId(Long id);
+
+    @Column("score")
+    float getScore();
+
+    @Column("weight")
+    double getWeight();
+}
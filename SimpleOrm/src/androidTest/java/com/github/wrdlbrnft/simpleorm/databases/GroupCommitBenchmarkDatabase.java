@@ -0,0 +1,9 @@
+package com.github.wrdlbrnft.simpleorm.databases;
+
+import com.github.wrdlbrnft.simpleorm.Repository;
+import com.github.wrdlbrnft.simpleorm.annotations.Database;
+
+@Database(name = "GroupCommitBenchmarkDb", version = 1, groupCommit = true, groupCommitWindow = 5, groupCommitMaxSize = 64)
+public interface GroupCommitBenchmarkDatabase {
+    Repository<BenchmarkEntity> entities();
+}
@@ -0,0 +1,9 @@
+package com.github.wrdlbrnft.simpleorm.databases;
+
+import com.github.wrdlbrnft.simpleorm.Repository;
+import com.github.wrdlbrnft.simpleorm.annotations.Database;
+
+@Database(name = "GroupCommitTestDb", version = 1, groupCommit = true, groupCommitWindow = 50)
+public interface GroupCommitTestDatabase {
+    Repository<GroupCommitTestEntity> entities();
+}
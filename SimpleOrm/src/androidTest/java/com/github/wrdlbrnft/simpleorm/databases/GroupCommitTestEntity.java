@@ -0,0 +1,21 @@
+package com.github.wrdlbrnft.simpleorm.databases;
+
+import com.github.wrdlbrnft.simpleorm.annotations.Column;
+import com.github.wrdlbrnft.simpleorm.annotations.ConflictPolicy;
+import com.github.wrdlbrnft.simpleorm.annotations.Entity;
+import com.github.wrdlbrnft.simpleorm.annotations.Id;
+import com.github.wrdlbrnft.simpleorm.annotations.Index;
+import com.github.wrdlbrnft.simpleorm.annotations.OnConflict;
+
+@Entity("group_commit_test")
+@OnConflict(ConflictPolicy.ABORT)
+public interface GroupCommitTestEntity {
+
+    @Id
+    Long getId();
+    void setId(Long id);
+
+    @Column("code")
+    @Index(unique = true)
+    String getCode();
+}
@@ -0,0 +1,9 @@
+package com.github.wrdlbrnft.simpleorm.databases;
+
+import com.github.wrdlbrnft.simpleorm.Repository;
+import com.github.wrdlbrnft.simpleorm.annotations.Database;
+
+@Database(name = "HydrationTestDb", version = 1)
+public interface HydrationTestDatabase {
+    Repository<HydrationTestEntity> entities();
+}
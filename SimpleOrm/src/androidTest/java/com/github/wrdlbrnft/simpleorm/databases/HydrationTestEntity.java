@@ -0,0 +1,27 @@
+package com.github.wrdlbrnft.simpleorm.databases;
+
+import com.github.wrdlbrnft.simpleorm.annotations.Column;
+import com.github.wrdlbrnft.simpleorm.annotations.Entity;
+import com.github.wrdlbrnft.simpleorm.annotations.Id;
+
+import java.util.Date;
+
+@Entity("hydration")
+public interface HydrationTestEntity {
+
+    @Id
+    Long getId();
+    void setId(Long id);
+
+    @Column("amount")
+    int getAmount();
+
+    @Column("optional_amount")
+    Integer getOptionalAmount();
+
+    @Column("ratio")
+    double getRatio();
+
+    @Column("created")
+    Date getCreated();
+}
@@ -0,0 +1,10 @@
+package com.github.wrdlbrnft.simpleorm.databases;
+
+import com.github.wrdlbrnft.simpleorm.Repository;
+import com.github.wrdlbrnft.simpleorm.annotations.Database;
+
+@Database(name = "IdentityMapRelationTestDb", version = 1, identityMap = true)
+public interface IdentityMapRelationTestDatabase {
+    Repository<LazyParentEntity> parents();
+    Repository<BenchmarkEntity> children();
+}
@@ -0,0 +1,9 @@
+package com.github.wrdlbrnft.simpleorm.databases;
+
+import com.github.wrdlbrnft.simpleorm.Repository;
+import com.github.wrdlbrnft.simpleorm.annotations.Database;
+
+@Database(name = "IdentityMapTestDb", version = 1, identityMap = true)
+public interface IdentityMapTestDatabase {
+    Repository<BenchmarkEntity> entities();
+}
@@ -0,0 +1,9 @@
+package com.github.wrdlbrnft.simpleorm.databases;
+
+import com.github.wrdlbrnft.simpleorm.Repository;
+import com.github.wrdlbrnft.simpleorm.annotations.Database;
+
+@Database(name = "IndexTestDb", version = 1, encrypted = true)
+public interface IndexTestDatabase {
+    Repository<IndexTestEntity> entities();
+}
@@ -0,0 +1,23 @@
+package com.github.wrdlbrnft.simpleorm.databases;
+
+import com.github.wrdlbrnft.simpleorm.annotations.Column;
+import com.github.wrdlbrnft.simpleorm.annotations.CompositeIndex;
+import com.github.wrdlbrnft.simpleorm.annotations.Entity;
+import com.github.wrdlbrnft.simpleorm.annotations.Id;
+import com.github.wrdlbrnft.simpleorm.annotations.Index;
+
+@Entity("index_test")
+@CompositeIndex(value = {"code", "enabled"}, name = "index_test_code_enabled")
+public interface IndexTestEntity {
+
+    @Id
+    Long getId();
+    void setId(Long id);
+
+    @Column("code")
+    @Index(name = "index_test_unique_enabled_code", unique = true, where = "enabled = 1")
+    String getCode();
+
+    @Column("enabled")
+    boolean isEnabled();
+}
@@ -0,0 +1,24 @@
+package com.github.wrdlbrnft.simpleorm.databases;
+
+import com.github.wrdlbrnft.simpleorm.annotations.Column;
+import com.github.wrdlbrnft.simpleorm.annotations.Entity;
+import com.github.wrdlbrnft.simpleorm.annotations.Id;
+import com.github.wrdlbrnft.simpleorm.annotations.Lazy;
+
+import java.util.List;
+
+@Entity("lazy_parent")
+public interface LazyParentEntity {
+
+    @Id
+    Long getId();
+    void setId(Long id);
+
+    @Lazy
+    @Column("children")
+    List<BenchmarkEntity> getChildren();
+
+    @Lazy
+    @Column("favorite")
+    BenchmarkEntity getFavorite();
+}
@@ -0,0 +1,9 @@
+package com.github.wrdlbrnft.simpleorm.databases;
+
+import com.github.wrdlbrnft.simpleorm.Repository;
+import com.github.wrdlbrnft.simpleorm.annotations.Database;
+
+@Database(name = "MigrationTestDb", version = 2)
+public interface MigrationTestDatabase {
+    Repository<LazyParentEntity> parents();
+}
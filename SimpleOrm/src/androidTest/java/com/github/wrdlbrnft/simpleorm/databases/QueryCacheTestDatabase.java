@@ -0,0 +1,9 @@
+package com.github.wrdlbrnft.simpleorm.databases;
+
+import com.github.wrdlbrnft.simpleorm.Repository;
+import com.github.wrdlbrnft.simpleorm.annotations.Database;
+
+@Database(name = "QueryCacheTestDb", version = 1, queryCacheMaxEntries = 16, queryCacheMaxBytes = 64 * 1024)
+public interface QueryCacheTestDatabase {
+    Repository<BenchmarkEntity> entities();
+}
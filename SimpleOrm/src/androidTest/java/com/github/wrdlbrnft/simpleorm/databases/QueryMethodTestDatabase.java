@@ -0,0 +1,22 @@
+package com.github.wrdlbrnft.simpleorm.databases;
+
+import com.github.wrdlbrnft.simpleorm.Loader;
+import com.github.wrdlbrnft.simpleorm.Repository;
+import com.github.wrdlbrnft.simpleorm.annotations.Database;
+import com.github.wrdlbrnft.simpleorm.annotations.Query;
+
+import java.util.List;
+
+@Database(name = "QueryMethodTestDb", version = 1)
+public interface QueryMethodTestDatabase {
+    Repository<BenchmarkEntity> entities();
+
+    @Query
+    BenchmarkEntity findById(Long id);
+
+    @Query
+    Loader<List<BenchmarkEntity>> findByValue(long value);
+
+    @Query(orderBy = "value", descending = true)
+    List<BenchmarkEntity> findByTextOrValue(String text, long value);
+}
@@ -3,6 +3,7 @@ package com.github.wrdlbrnft.simpleorm.databases;
 import com.github.wrdlbrnft.simpleorm.annotations.Column;
 import com.github.wrdlbrnft.simpleorm.annotations.Entity;
 import com.github.wrdlbrnft.simpleorm.annotations.Id;
+import com.github.wrdlbrnft.simpleorm.annotations.Index;
 
 /**
  * Created with Android Studio
@@ -16,6 +17,7 @@ public interface SimpleTestEntity {
     void setId(Long id);
 
     @Column("text")
+    @Index(addedInVersion = 5)
     String getText();
 
     @Column("enabled")
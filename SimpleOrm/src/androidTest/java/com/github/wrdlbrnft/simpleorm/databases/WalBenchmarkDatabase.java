@@ -0,0 +1,10 @@
+package com.github.wrdlbrnft.simpleorm.databases;
+
+import com.github.wrdlbrnft.simpleorm.Repository;
+import com.github.wrdlbrnft.simpleorm.annotations.Database;
+import com.github.wrdlbrnft.simpleorm.annotations.Synchronous;
+
+@Database(name = "WalBenchmarkDb", version = 1, writeAheadLogging = true, synchronous = Synchronous.NORMAL)
+public interface WalBenchmarkDatabase {
+    Repository<BenchmarkEntity> entities();
+}
@@ -0,0 +1,10 @@
+package com.github.wrdlbrnft.simpleorm;
+
+import java.io.Closeable;
+import java.util.Iterator;
+
+public interface EntityStream<T> extends Iterator<T>, Closeable {
+
+    @Override
+    void close();
+}
@@ -0,0 +1,27 @@
+package com.github.wrdlbrnft.simpleorm;
+
+import com.github.wrdlbrnft.simpleorm.fields.DoubleField;
+import com.github.wrdlbrnft.simpleorm.fields.FloatField;
+import com.github.wrdlbrnft.simpleorm.fields.IntField;
+import com.github.wrdlbrnft.simpleorm.fields.LongField;
+import com.github.wrdlbrnft.simpleorm.utils.LongSparseArrayCompat;
+
+public interface GroupedQueryBuilder<T> {
+    Loader<LongSparseArrayCompat<Long>> count();
+    Loader<LongSparseArrayCompat<Integer>> min(IntField<T> field);
+    Loader<LongSparseArrayCompat<Long>> min(LongField<T> field);
+    Loader<LongSparseArrayCompat<Double>> min(DoubleField<T> field);
+    Loader<LongSparseArrayCompat<Float>> min(FloatField<T> field);
+    Loader<LongSparseArrayCompat<Integer>> max(IntField<T> field);
+    Loader<LongSparseArrayCompat<Long>> max(LongField<T> field);
+    Loader<LongSparseArrayCompat<Double>> max(DoubleField<T> field);
+    Loader<LongSparseArrayCompat<Float>> max(FloatField<T> field);
+    Loader<LongSparseArrayCompat<Long>> sum(IntField<T> field);
+    Loader<LongSparseArrayCompat<Long>> sum(LongField<T> field);
+    Loader<LongSparseArrayCompat<Double>> sum(DoubleField<T> field);
+    Loader<LongSparseArrayCompat<Double>> sum(FloatField<T> field);
+    Loader<LongSparseArrayCompat<Double>> avg(IntField<T> field);
+    Loader<LongSparseArrayCompat<Double>> avg(LongField<T> field);
+    Loader<LongSparseArrayCompat<Double>> avg(DoubleField<T> field);
+    Loader<LongSparseArrayCompat<Double>> avg(FloatField<T> field);
+}
@@ -0,0 +1,7 @@
+package com.github.wrdlbrnft.simpleorm;
+
+public interface IdentityMapStatistics {
+    long getHitCount();
+    long getMissCount();
+    int size();
+}
@@ -0,0 +1,12 @@
+package com.github.wrdlbrnft.simpleorm;
+
+import java.io.Closeable;
+import java.util.List;
+
+public interface LazyList<T> extends List<T>, Closeable {
+
+    @Override
+    void close();
+
+    boolean isClosed();
+}
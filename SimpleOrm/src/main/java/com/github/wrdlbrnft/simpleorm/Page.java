@@ -0,0 +1,13 @@
+package com.github.wrdlbrnft.simpleorm;
+
+import java.io.Closeable;
+import java.util.List;
+
+public interface Page<T> extends Closeable {
+    List<T> getItems();
+    boolean hasNextPage();
+    PageToken getNextPageToken();
+
+    @Override
+    void close();
+}
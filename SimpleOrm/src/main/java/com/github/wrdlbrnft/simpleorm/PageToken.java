@@ -0,0 +1,36 @@
+package com.github.wrdlbrnft.simpleorm;
+
+import java.io.Serializable;
+
+public final class PageToken implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String mOrderColumn;
+    private final Ordering mOrdering;
+    private final Serializable mOrderValue;
+    private final long mLastId;
+
+    public PageToken(String orderColumn, Ordering ordering, Serializable orderValue, long lastId) {
+        mOrderColumn = orderColumn;
+        mOrdering = ordering;
+        mOrderValue = orderValue;
+        mLastId = lastId;
+    }
+
+    public String getOrderColumn() {
+        return mOrderColumn;
+    }
+
+    public Ordering getOrdering() {
+        return mOrdering;
+    }
+
+    public Serializable getOrderValue() {
+        return mOrderValue;
+    }
+
+    public long getLastId() {
+        return mLastId;
+    }
+}
@@ -0,0 +1,10 @@
+package com.github.wrdlbrnft.simpleorm;
+
+import java.util.List;
+
+public interface PreparedQuery<T> {
+    int getArgumentCount();
+    Loader<T> getFirst(Object... arguments);
+    Loader<List<T>> getList(Object... arguments);
+    LazyList<T> lazy(Object... arguments);
+}
@@ -0,0 +1,8 @@
+package com.github.wrdlbrnft.simpleorm;
+
+import java.util.List;
+
+public interface ProjectionQuery<T> {
+    Loader<Row<T>> getFirst();
+    Loader<List<Row<T>>> getList();
+}
@@ -4,6 +4,7 @@ import com.github.wrdlbrnft.simpleorm.entities.EntityIterator;
 import com.github.wrdlbrnft.simpleorm.fields.BooleanField;
 import com.github.wrdlbrnft.simpleorm.fields.DateField;
 import com.github.wrdlbrnft.simpleorm.fields.DoubleField;
+import com.github.wrdlbrnft.simpleorm.fields.Field;
 import com.github.wrdlbrnft.simpleorm.fields.FloatField;
 import com.github.wrdlbrnft.simpleorm.fields.IntField;
 import com.github.wrdlbrnft.simpleorm.fields.LongField;
@@ -17,6 +18,7 @@ import com.github.wrdlbrnft.simpleorm.selection.query.IntQueryBuilder;
 import com.github.wrdlbrnft.simpleorm.selection.query.LongQueryBuilder;
 import com.github.wrdlbrnft.simpleorm.selection.query.StringQueryBuilder;
 
+import java.util.Date;
 import java.util.List;
 
 /**
@@ -40,5 +42,44 @@ public interface QueryBuilder<T> {
     <R> QueryBuilder<T> orderBy(OrderByField<T, R> field);
     Loader<T> getFirst();
     Loader<List<T>> getList();
-    List<T> lazy();
+    LazyList<T> lazy();
+    PreparedQuery<T> prepare();
+    Loader<Page<T>> page(int pageSize);
+    Loader<Page<T>> pageAfter(T lastEntity, int pageSize);
+    Loader<Page<T>> pageAfter(PageToken token, int pageSize);
+    Page<T> lazyPage(int pageSize);
+    Page<T> lazyPageAfter(T lastEntity, int pageSize);
+    Page<T> lazyPageAfter(PageToken token, int pageSize);
+    EntityStream<T> stream();
+    EntityStream<T> stream(int chunkSize);
+    Subscription observe(Loader.Callback<List<T>> callback);
+    Subscription observe(long debounceMillis, Loader.Callback<List<T>> callback);
+    ProjectionQuery<T> select(Field<T, ?> field);
+    ProjectionQuery<T> select(Field<T, ?> first, Field<T, ?> second);
+    ProjectionQuery<T> select(Field<T, ?> first, Field<T, ?> second, Field<T, ?> third);
+    ProjectionQuery<T> select(Field<T, ?> first, Field<T, ?> second, Field<T, ?> third, Field<T, ?> fourth);
+    ProjectionQuery<T> select(List<? extends Field<T, ?>> fields);
+    Loader<Long> count();
+    Loader<Boolean> exists();
+    Loader<Integer> min(IntField<T> field);
+    Loader<Long> min(LongField<T> field);
+    Loader<Double> min(DoubleField<T> field);
+    Loader<Float> min(FloatField<T> field);
+    Loader<Date> min(DateField<T> field);
+    Loader<Integer> max(IntField<T> field);
+    Loader<Long> max(LongField<T> field);
+    Loader<Double> max(DoubleField<T> field);
+    Loader<Float> max(FloatField<T> field);
+    Loader<Date> max(DateField<T> field);
+    Loader<Long> sum(IntField<T> field);
+    Loader<Long> sum(LongField<T> field);
+    Loader<Double> sum(DoubleField<T> field);
+    Loader<Double> sum(FloatField<T> field);
+    Loader<Double> avg(IntField<T> field);
+    Loader<Double> avg(LongField<T> field);
+    Loader<Double> avg(DoubleField<T> field);
+    Loader<Double> avg(FloatField<T> field);
+    GroupedQueryBuilder<T> groupBy(IntField<T> field);
+    GroupedQueryBuilder<T> groupBy(LongField<T> field);
+    GroupedQueryBuilder<T> groupBy(DateField<T> field);
 }
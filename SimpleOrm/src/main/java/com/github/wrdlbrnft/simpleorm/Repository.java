@@ -8,5 +8,7 @@ package com.github.wrdlbrnft.simpleorm;
 public interface Repository<T> {
     SaveTransaction<T> save();
     RemoveTransaction<T> remove();
+    UpdateTransaction<T> update();
     QueryBuilder<T> find();
+    IdentityMapStatistics identityMap();
 }
@@ -0,0 +1,23 @@
+package com.github.wrdlbrnft.simpleorm;
+
+import com.github.wrdlbrnft.simpleorm.fields.BooleanField;
+import com.github.wrdlbrnft.simpleorm.fields.DateField;
+import com.github.wrdlbrnft.simpleorm.fields.DoubleField;
+import com.github.wrdlbrnft.simpleorm.fields.Field;
+import com.github.wrdlbrnft.simpleorm.fields.FloatField;
+import com.github.wrdlbrnft.simpleorm.fields.IntField;
+import com.github.wrdlbrnft.simpleorm.fields.LongField;
+import com.github.wrdlbrnft.simpleorm.fields.StringField;
+
+import java.util.Date;
+
+public interface Row<T> {
+    boolean isNull(Field<T, ?> field);
+    boolean getBoolean(BooleanField<T> field);
+    int getInt(IntField<T> field);
+    long getLong(LongField<T> field);
+    float getFloat(FloatField<T> field);
+    double getDouble(DoubleField<T> field);
+    String getString(StringField<T> field);
+    Date getDate(DateField<T> field);
+}
@@ -0,0 +1,6 @@
+package com.github.wrdlbrnft.simpleorm;
+
+public interface Subscription {
+    void unsubscribe();
+    boolean isUnsubscribed();
+}
@@ -0,0 +1,47 @@
+package com.github.wrdlbrnft.simpleorm;
+
+import com.github.wrdlbrnft.simpleorm.fields.BooleanField;
+import com.github.wrdlbrnft.simpleorm.fields.DateField;
+import com.github.wrdlbrnft.simpleorm.fields.DoubleField;
+import com.github.wrdlbrnft.simpleorm.fields.FloatField;
+import com.github.wrdlbrnft.simpleorm.fields.IntField;
+import com.github.wrdlbrnft.simpleorm.fields.LongField;
+import com.github.wrdlbrnft.simpleorm.fields.StringField;
+import com.github.wrdlbrnft.simpleorm.selection.update.BooleanUpdateBuilder;
+import com.github.wrdlbrnft.simpleorm.selection.update.DateUpdateBuilder;
+import com.github.wrdlbrnft.simpleorm.selection.update.DoubleUpdateBuilder;
+import com.github.wrdlbrnft.simpleorm.selection.update.FloatUpdateBuilder;
+import com.github.wrdlbrnft.simpleorm.selection.update.IntUpdateBuilder;
+import com.github.wrdlbrnft.simpleorm.selection.update.LongUpdateBuilder;
+import com.github.wrdlbrnft.simpleorm.selection.update.StringUpdateBuilder;
+
+import java.util.Date;
+
+public interface UpdateTransaction<T> {
+    UpdateTransaction<T> set(BooleanField<T> field, Boolean value);
+    UpdateTransaction<T> set(DateField<T> field, Date value);
+    UpdateTransaction<T> set(DoubleField<T> field, Double value);
+    UpdateTransaction<T> set(FloatField<T> field, Float value);
+    UpdateTransaction<T> set(IntField<T> field, Integer value);
+    UpdateTransaction<T> set(LongField<T> field, Long value);
+    UpdateTransaction<T> set(StringField<T> field, String value);
+    UpdateTransaction<T> increment(DoubleField<T> field, double amount);
+    UpdateTransaction<T> increment(FloatField<T> field, float amount);
+    UpdateTransaction<T> increment(IntField<T> field, int amount);
+    UpdateTransaction<T> increment(LongField<T> field, long amount);
+    UpdateTransaction<T> decrement(DoubleField<T> field, double amount);
+    UpdateTransaction<T> decrement(FloatField<T> field, float amount);
+    UpdateTransaction<T> decrement(IntField<T> field, int amount);
+    UpdateTransaction<T> decrement(LongField<T> field, long amount);
+    DateUpdateBuilder<T> where(DateField<T> field);
+    StringUpdateBuilder<T> where(StringField<T> field);
+    BooleanUpdateBuilder<T> where(BooleanField<T> field);
+    DoubleUpdateBuilder<T> where(DoubleField<T> field);
+    FloatUpdateBuilder<T> where(FloatField<T> field);
+    IntUpdateBuilder<T> where(IntField<T> field);
+    LongUpdateBuilder<T> where(LongField<T> field);
+    UpdateTransaction<T> and();
+    UpdateTransaction<T> all();
+    UpdateTransaction<T> or();
+    Updater<T> commit();
+}
@@ -0,0 +1,11 @@
+package com.github.wrdlbrnft.simpleorm;
+
+public interface Updater<T> {
+
+    interface Callback<T> {
+        void onFinished(int affectedRows);
+    }
+
+    int now();
+    Updater<T> onFinished(Callback<T> callback);
+}
@@ -0,0 +1,91 @@
+package com.github.wrdlbrnft.simpleorm.database;
+
+import android.database.Cursor;
+import android.util.Log;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class CursorTracker {
+
+    private static final String TAG = "CursorTracker";
+
+    private static volatile boolean sOriginTrackingEnabled = false;
+
+    private final ReferenceQueue<Object> mReferenceQueue = new ReferenceQueue<>();
+    private final Set<Handle> mOpenHandles = Collections.synchronizedSet(new HashSet<Handle>());
+    private final AtomicInteger mOpenCursorCount = new AtomicInteger();
+    private final AtomicInteger mLeakedCursorCount = new AtomicInteger();
+
+    // Records where each cursor was opened for the leak warning, only meant for debug builds
+    public static void setOriginTrackingEnabled(boolean enabled) {
+        sOriginTrackingEnabled = enabled;
+    }
+
+    public Handle track(Object owner, Cursor cursor) {
+        closeLeakedCursors();
+        final Handle handle = new Handle(this, owner, cursor);
+        mOpenHandles.add(handle);
+        mOpenCursorCount.incrementAndGet();
+        return handle;
+    }
+
+    public int getOpenCursorCount() {
+        closeLeakedCursors();
+        return mOpenCursorCount.get();
+    }
+
+    public int getLeakedCursorCount() {
+        closeLeakedCursors();
+        return mLeakedCursorCount.get();
+    }
+
+    private void closeLeakedCursors() {
+        Reference<?> reference;
+        while ((reference = mReferenceQueue.poll()) != null) {
+            final Handle handle = (Handle) reference;
+            if (release(handle)) {
+                mLeakedCursorCount.incrementAndGet();
+                if (handle.mOrigin != null) {
+                    Log.w(TAG, "A cursor was garbage collected without being closed. Close lazy lists and streams when you are done with them.", handle.mOrigin);
+                } else {
+                    Log.w(TAG, "A cursor was garbage collected without being closed. Close lazy lists and streams when you are done with them. Call CursorTracker.setOriginTrackingEnabled(true) to log where it was opened.");
+                }
+                handle.mCursor.close();
+            }
+        }
+    }
+
+    private boolean release(Handle handle) {
+        if (mOpenHandles.remove(handle)) {
+            mOpenCursorCount.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    public static final class Handle extends PhantomReference<Object> {
+
+        private final CursorTracker mTracker;
+        private final Cursor mCursor;
+        private final Throwable mOrigin;
+
+        private Handle(CursorTracker tracker, Object owner, Cursor cursor) {
+            super(owner, tracker.mReferenceQueue);
+            mTracker = tracker;
+            mCursor = cursor;
+            mOrigin = sOriginTrackingEnabled ? new Throwable("Cursor opened here") : null;
+        }
+
+        public void close() {
+            mTracker.release(this);
+            clear();
+            mCursor.close();
+        }
+    }
+}
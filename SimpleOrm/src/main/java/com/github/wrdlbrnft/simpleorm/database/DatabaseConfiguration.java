@@ -0,0 +1,117 @@
+package com.github.wrdlbrnft.simpleorm.database;
+
+import com.github.wrdlbrnft.simpleorm.annotations.Synchronous;
+import com.github.wrdlbrnft.simpleorm.annotations.TempStore;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public final class DatabaseConfiguration {
+
+    public static final DatabaseConfiguration DEFAULT = new Builder().build();
+
+    private final boolean mWriteAheadLoggingEnabled;
+    private final List<String> mFilePragmaStatements;
+    private final List<String> mPragmaStatements;
+    private final boolean mConnectionPragmasConfigured;
+
+    private DatabaseConfiguration(boolean writeAheadLoggingEnabled, List<String> filePragmaStatements, List<String> pragmaStatements, boolean connectionPragmasConfigured) {
+        mWriteAheadLoggingEnabled = writeAheadLoggingEnabled;
+        mFilePragmaStatements = filePragmaStatements;
+        mPragmaStatements = pragmaStatements;
+        mConnectionPragmasConfigured = connectionPragmasConfigured;
+    }
+
+    public boolean isWriteAheadLoggingEnabled() {
+        return mWriteAheadLoggingEnabled;
+    }
+
+    // Only take effect on an empty file, so they have to run before write-ahead logging is switched on
+    public List<String> getFilePragmaStatements() {
+        return mFilePragmaStatements;
+    }
+
+    public List<String> getPragmaStatements() {
+        return mPragmaStatements;
+    }
+
+    public boolean isConnectionPragmasConfigured() {
+        return mConnectionPragmasConfigured;
+    }
+
+    public static class Builder {
+
+        private boolean mWriteAheadLoggingEnabled = false;
+        private Synchronous mSynchronous = Synchronous.DEFAULT;
+        private Integer mCacheSize = null;
+        private Long mMmapSize = null;
+        private TempStore mTempStore = TempStore.DEFAULT;
+        private Integer mPageSize = null;
+        private Integer mBusyTimeout = null;
+
+        public Builder setWriteAheadLoggingEnabled(boolean enabled) {
+            mWriteAheadLoggingEnabled = enabled;
+            return this;
+        }
+
+        public Builder setSynchronous(Synchronous synchronous) {
+            mSynchronous = synchronous;
+            return this;
+        }
+
+        public Builder setCacheSize(int cacheSize) {
+            mCacheSize = cacheSize;
+            return this;
+        }
+
+        public Builder setMmapSize(long mmapSize) {
+            mMmapSize = mmapSize;
+            return this;
+        }
+
+        public Builder setTempStore(TempStore tempStore) {
+            mTempStore = tempStore;
+            return this;
+        }
+
+        public Builder setPageSize(int pageSize) {
+            mPageSize = pageSize;
+            return this;
+        }
+
+        public Builder setBusyTimeout(int busyTimeout) {
+            mBusyTimeout = busyTimeout;
+            return this;
+        }
+
+        public DatabaseConfiguration build() {
+            final List<String> fileStatements = new ArrayList<>();
+            if (mPageSize != null) {
+                fileStatements.add("PRAGMA page_size = " + mPageSize);
+            }
+
+            final List<String> statements = new ArrayList<>();
+            if (mSynchronous != null && mSynchronous != Synchronous.DEFAULT) {
+                statements.add("PRAGMA synchronous = " + mSynchronous.name());
+            }
+            if (mCacheSize != null) {
+                statements.add("PRAGMA cache_size = " + mCacheSize);
+            }
+            if (mMmapSize != null) {
+                statements.add("PRAGMA mmap_size = " + mMmapSize);
+            }
+            if (mTempStore != null && mTempStore != TempStore.DEFAULT) {
+                statements.add("PRAGMA temp_store = " + mTempStore.name());
+            }
+            if (mBusyTimeout != null) {
+                statements.add("PRAGMA busy_timeout = " + mBusyTimeout);
+            }
+            final boolean connectionPragmasConfigured = mCacheSize != null
+                    || mMmapSize != null
+                    || (mTempStore != null && mTempStore != TempStore.DEFAULT)
+                    || mBusyTimeout != null;
+            return new DatabaseConfiguration(mWriteAheadLoggingEnabled, Collections.unmodifiableList(fileStatements), Collections.unmodifiableList(statements), connectionPragmasConfigured);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.github.wrdlbrnft.simpleorm.database;
 
+import com.github.wrdlbrnft.simpleorm.selection.SelectionArgs;
+
 /**
  * Created with Android Studio
  * User: Xaver
@@ -7,6 +9,6 @@ package com.github.wrdlbrnft.simpleorm.database;
  */
 
 public interface ReadableSQLiteWrapper {
-    CursorWrapper query(String table, String[] columns, String selection, String[] selectionArgs, String groupBy, String having, String orderBy, String limit);
-    CursorWrapper query(String sql, String[] selectionArgs);
+    CursorWrapper query(String table, String[] columns, String selection, SelectionArgs selectionArgs, String groupBy, String having, String orderBy, String limit);
+    CursorWrapper query(String sql, SelectionArgs selectionArgs);
 }
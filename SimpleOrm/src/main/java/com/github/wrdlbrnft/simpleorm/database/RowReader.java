@@ -19,6 +19,7 @@ public interface RowReader {
     Long getLongOrNull(int index);
     Short getShortOrNull(int index);
     Boolean getBooleanOrNull(int index);
+    boolean isNull(int index);
     byte[] getBlob(int index);
     String getString(int index);
 }
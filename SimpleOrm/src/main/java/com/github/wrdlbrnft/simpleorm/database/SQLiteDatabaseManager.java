@@ -8,4 +8,5 @@ package com.github.wrdlbrnft.simpleorm.database;
 
 public interface SQLiteDatabaseManager {
     void execSql(String sql);
+    boolean hasColumn(String tableName, String columnName);
 }
@@ -9,5 +9,7 @@ package com.github.wrdlbrnft.simpleorm.database;
 public interface SQLiteProvider {
     WritableSQLiteWrapper getWritableWrapper();
     ReadableSQLiteWrapper getReadableWrapper();
+    int getOpenCursorCount();
+    int getLeakedCursorCount();
     void close();
 }
@@ -0,0 +1,22 @@
+package com.github.wrdlbrnft.simpleorm.database;
+
+import com.github.wrdlbrnft.simpleorm.selection.SelectionArgs;
+
+public interface SQLiteStatementWrapper extends SelectionArgs.Binder {
+    void bindInt(int index, int value);
+    void bindIntOrNull(int index, Integer value);
+    void bindLong(int index, long value);
+    void bindLongOrNull(int index, Long value);
+    void bindBoolean(int index, boolean value);
+    void bindBooleanOrNull(int index, Boolean value);
+    void bindFloat(int index, float value);
+    void bindFloatOrNull(int index, Float value);
+    void bindDouble(int index, double value);
+    void bindDoubleOrNull(int index, Double value);
+    void bindString(int index, String value);
+    void bindNull(int index);
+    void clearBindings();
+    long executeInsert();
+    int executeUpdateDelete();
+    void close();
+}
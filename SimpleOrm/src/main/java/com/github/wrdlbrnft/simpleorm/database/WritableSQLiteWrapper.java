@@ -1,6 +1,6 @@
 package com.github.wrdlbrnft.simpleorm.database;
 
-import android.content.ContentValues;
+import com.github.wrdlbrnft.simpleorm.selection.SelectionArgs;
 
 /**
  * Created with Android Studio
@@ -10,9 +10,9 @@ import android.content.ContentValues;
 
 public interface WritableSQLiteWrapper {
     void beginTransaction();
-    long insert(String tableName, ContentValues contentValues);
-    void delete(String tableName, String selection, String[] selectionArgs);
+    SQLiteStatementWrapper compileStatement(String sql);
+    void delete(String tableName, String selection, SelectionArgs selectionArgs);
     void setTransactionSuccessFul();
     void endTransaction();
-    void execSql(String sql, String[] bindArgs);
+    void execSql(String sql, SelectionArgs bindArgs);
 }
@@ -1,7 +1,10 @@
 package com.github.wrdlbrnft.simpleorm.database.encrypted;
 
 import android.content.Context;
+import android.database.Cursor;
 
+import com.github.wrdlbrnft.simpleorm.database.CursorTracker;
+import com.github.wrdlbrnft.simpleorm.database.DatabaseConfiguration;
 import com.github.wrdlbrnft.simpleorm.database.EncryptedSQLiteProvider;
 import com.github.wrdlbrnft.simpleorm.database.ReadableSQLiteWrapper;
 import com.github.wrdlbrnft.simpleorm.database.SQLiteDatabaseManager;
@@ -9,6 +12,7 @@ import com.github.wrdlbrnft.simpleorm.database.WritableSQLiteWrapper;
 import com.github.wrdlbrnft.simpleorm.exceptions.SimpleOrmPasswordException;
 
 import net.sqlcipher.database.SQLiteDatabase;
+import net.sqlcipher.database.SQLiteDatabaseHook;
 import net.sqlcipher.database.SQLiteException;
 import net.sqlcipher.database.SQLiteOpenHelper;
 
@@ -19,15 +23,29 @@ import net.sqlcipher.database.SQLiteOpenHelper;
  */
 public abstract class BaseEncryptedSQLiteProvider extends SQLiteOpenHelper implements EncryptedSQLiteProvider {
 
+    private final CursorTracker mCursorTracker = new CursorTracker();
     private final char[] mPassword;
 
     public BaseEncryptedSQLiteProvider(Context context, String name, int version, char[] password) {
-        super(context, name, null, version);
+        this(context, name, version, password, DatabaseConfiguration.DEFAULT);
+    }
+
+    public BaseEncryptedSQLiteProvider(Context context, String name, int version, char[] password, DatabaseConfiguration configuration) {
+        super(context, name, null, version, new ConfigurationHook(configuration));
         SQLiteDatabase.loadLibs(context);
         mPassword = password;
         checkPassword(password);
     }
 
+    private static void executePragma(SQLiteDatabase sqLiteDatabase, String statement) {
+        final Cursor cursor = sqLiteDatabase.rawQuery(statement, null);
+        try {
+            cursor.moveToFirst();
+        } finally {
+            cursor.close();
+        }
+    }
+
     private void checkPassword(char[] password) {
         try {
             getReadableDatabase(password);
@@ -54,7 +72,7 @@ public abstract class BaseEncryptedSQLiteProvider extends SQLiteOpenHelper imple
     @Override
     public final ReadableSQLiteWrapper getReadableWrapper() {
         final SQLiteDatabase database = getReadableDatabase(mPassword);
-        return new ReadableSQLiteWrapperImpl(database);
+        return new ReadableSQLiteWrapperImpl(database, mCursorTracker);
     }
 
     @Override
@@ -63,6 +81,16 @@ public abstract class BaseEncryptedSQLiteProvider extends SQLiteOpenHelper imple
         return new WritableSQLiteWrapperImpl(database);
     }
 
+    @Override
+    public int getOpenCursorCount() {
+        return mCursorTracker.getOpenCursorCount();
+    }
+
+    @Override
+    public int getLeakedCursorCount() {
+        return mCursorTracker.getLeakedCursorCount();
+    }
+
     @Override
     public void changePassword(char[] newPassword) {
         final SQLiteDatabase database = getWritableDatabase(mPassword);
@@ -75,6 +103,34 @@ public abstract class BaseEncryptedSQLiteProvider extends SQLiteOpenHelper imple
         database.changePassword(newPassword);
     }
 
+    // postKey runs before onCreate, so page_size still applies to a new file
+    private static class ConfigurationHook implements SQLiteDatabaseHook {
+
+        private final DatabaseConfiguration mConfiguration;
+
+        private ConfigurationHook(DatabaseConfiguration configuration) {
+            mConfiguration = configuration;
+        }
+
+        @Override
+        public void preKey(SQLiteDatabase sqLiteDatabase) {
+
+        }
+
+        @Override
+        public void postKey(SQLiteDatabase sqLiteDatabase) {
+            for (String statement : mConfiguration.getFilePragmaStatements()) {
+                executePragma(sqLiteDatabase, statement);
+            }
+            if (mConfiguration.isWriteAheadLoggingEnabled()) {
+                executePragma(sqLiteDatabase, "PRAGMA journal_mode = WAL");
+            }
+            for (String statement : mConfiguration.getPragmaStatements()) {
+                executePragma(sqLiteDatabase, statement);
+            }
+        }
+    }
+
     private static class SQLiteDatabaseManagerImpl implements SQLiteDatabaseManager {
 
         private final SQLiteDatabase mDatabase;
@@ -87,5 +143,21 @@ public abstract class BaseEncryptedSQLiteProvider extends SQLiteOpenHelper imple
         public void execSql(String sql) {
             mDatabase.execSQL(sql);
         }
+
+        @Override
+        public boolean hasColumn(String tableName, String columnName) {
+            final Cursor cursor = mDatabase.rawQuery("PRAGMA table_info(" + tableName + ")", null);
+            try {
+                final int nameIndex = cursor.getColumnIndex("name");
+                while (cursor.moveToNext()) {
+                    if (columnName.equals(cursor.getString(nameIndex))) {
+                        return true;
+                    }
+                }
+                return false;
+            } finally {
+                cursor.close();
+            }
+        }
     }
 }
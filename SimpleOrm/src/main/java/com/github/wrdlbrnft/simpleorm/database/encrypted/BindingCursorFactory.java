@@ -0,0 +1,55 @@
+package com.github.wrdlbrnft.simpleorm.database.encrypted;
+
+import com.github.wrdlbrnft.simpleorm.selection.SelectionArgs;
+
+import net.sqlcipher.database.SQLiteCursor;
+import net.sqlcipher.database.SQLiteCursorDriver;
+import net.sqlcipher.database.SQLiteDatabase;
+import net.sqlcipher.database.SQLiteProgram;
+import net.sqlcipher.database.SQLiteQuery;
+
+class BindingCursorFactory implements SQLiteDatabase.CursorFactory {
+
+    private final SelectionArgs mSelectionArgs;
+
+    BindingCursorFactory(SelectionArgs selectionArgs) {
+        mSelectionArgs = selectionArgs;
+    }
+
+    @Override
+    public SQLiteCursor newCursor(SQLiteDatabase db, SQLiteCursorDriver masterQuery, String editTable, SQLiteQuery query) {
+        if (mSelectionArgs != null) {
+            mSelectionArgs.bind(new ProgramBinder(query), 1);
+        }
+        return new SQLiteCursor(db, masterQuery, editTable, query);
+    }
+
+    private static class ProgramBinder implements SelectionArgs.Binder {
+
+        private final SQLiteProgram mProgram;
+
+        private ProgramBinder(SQLiteProgram program) {
+            mProgram = program;
+        }
+
+        @Override
+        public void bindLong(int index, long value) {
+            mProgram.bindLong(index, value);
+        }
+
+        @Override
+        public void bindDouble(int index, double value) {
+            mProgram.bindDouble(index, value);
+        }
+
+        @Override
+        public void bindString(int index, String value) {
+            mProgram.bindString(index, value);
+        }
+
+        @Override
+        public void bindNull(int index) {
+            mProgram.bindNull(index);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.github.wrdlbrnft.simpleorm.database.encrypted;
 
+import com.github.wrdlbrnft.simpleorm.database.CursorTracker;
 import com.github.wrdlbrnft.simpleorm.database.CursorWrapper;
 import com.github.wrdlbrnft.simpleorm.database.ReadableSQLiteWrapper;
+import com.github.wrdlbrnft.simpleorm.selection.SelectionArgs;
 
 import net.sqlcipher.Cursor;
 import net.sqlcipher.database.SQLiteDatabase;
@@ -14,26 +16,32 @@ import net.sqlcipher.database.SQLiteDatabase;
 class ReadableSQLiteWrapperImpl implements ReadableSQLiteWrapper {
 
     private final SQLiteDatabase mDatabase;
+    private final CursorTracker mCursorTracker;
 
-    ReadableSQLiteWrapperImpl(SQLiteDatabase database) {
+    ReadableSQLiteWrapperImpl(SQLiteDatabase database, CursorTracker cursorTracker) {
         mDatabase = database;
+        mCursorTracker = cursorTracker;
     }
 
     @Override
-    public CursorWrapper query(String table, String[] columns, String selection, String[] selectionArgs, String groupBy, String having, String orderBy, String limit) {
-        final Cursor cursor = mDatabase.query(table, columns, selection, selectionArgs, groupBy, having, orderBy, limit);
+    public CursorWrapper query(String table, String[] columns, String selection, SelectionArgs selectionArgs, String groupBy, String having, String orderBy, String limit) {
+        final Cursor cursor = selectionArgs == null || selectionArgs.isEmpty()
+                ? mDatabase.query(table, columns, selection, null, groupBy, having, orderBy, limit)
+                : (Cursor) mDatabase.queryWithFactory(new BindingCursorFactory(selectionArgs), false, table, columns, selection, null, groupBy, having, orderBy, limit);
         if (cursor == null) {
             return null;
         }
-        return new CursorWrapperImpl(cursor);
+        return new CursorWrapperImpl(cursor, mCursorTracker);
     }
 
     @Override
-    public CursorWrapper query(String sql, String[] selectionArgs) {
-        final Cursor cursor = mDatabase.rawQuery(sql, selectionArgs);
+    public CursorWrapper query(String sql, SelectionArgs selectionArgs) {
+        final Cursor cursor = selectionArgs == null || selectionArgs.isEmpty()
+                ? mDatabase.rawQuery(sql, null)
+                : (Cursor) mDatabase.rawQueryWithFactory(new BindingCursorFactory(selectionArgs), sql, null, null);
         if (cursor == null) {
             return null;
         }
-        return new CursorWrapperImpl(cursor);
+        return new CursorWrapperImpl(cursor, mCursorTracker);
     }
 }
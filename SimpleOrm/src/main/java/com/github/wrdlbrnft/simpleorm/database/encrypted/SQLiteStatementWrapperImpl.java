@@ -0,0 +1,122 @@
+package com.github.wrdlbrnft.simpleorm.database.encrypted;
+
+import com.github.wrdlbrnft.simpleorm.database.SQLiteStatementWrapper;
+
+import net.sqlcipher.database.SQLiteStatement;
+
+class SQLiteStatementWrapperImpl implements SQLiteStatementWrapper {
+
+    private final SQLiteStatement mStatement;
+
+    SQLiteStatementWrapperImpl(SQLiteStatement statement) {
+        mStatement = statement;
+    }
+
+    @Override
+    public void bindInt(int index, int value) {
+        mStatement.bindLong(index, value);
+    }
+
+    @Override
+    public void bindIntOrNull(int index, Integer value) {
+        if (value == null) {
+            mStatement.bindNull(index);
+        } else {
+            mStatement.bindLong(index, value);
+        }
+    }
+
+    @Override
+    public void bindLong(int index, long value) {
+        mStatement.bindLong(index, value);
+    }
+
+    @Override
+    public void bindLongOrNull(int index, Long value) {
+        if (value == null) {
+            mStatement.bindNull(index);
+        } else {
+            mStatement.bindLong(index, value);
+        }
+    }
+
+    @Override
+    public void bindBoolean(int index, boolean value) {
+        mStatement.bindLong(index, value ? 1L : 0L);
+    }
+
+    @Override
+    public void bindBooleanOrNull(int index, Boolean value) {
+        if (value == null) {
+            mStatement.bindNull(index);
+        } else {
+            mStatement.bindLong(index, value ? 1L : 0L);
+        }
+    }
+
+    @Override
+    public void bindFloat(int index, float value) {
+        mStatement.bindDouble(index, value);
+    }
+
+    @Override
+    public void bindFloatOrNull(int index, Float value) {
+        if (value == null) {
+            mStatement.bindNull(index);
+        } else {
+            mStatement.bindDouble(index, value);
+        }
+    }
+
+    @Override
+    public void bindDouble(int index, double value) {
+        mStatement.bindDouble(index, value);
+    }
+
+    @Override
+    public void bindDoubleOrNull(int index, Double value) {
+        if (value == null) {
+            mStatement.bindNull(index);
+        } else {
+            mStatement.bindDouble(index, value);
+        }
+    }
+
+    @Override
+    public void bindString(int index, String value) {
+        if (value == null) {
+            mStatement.bindNull(index);
+        } else {
+            mStatement.bindString(index, value);
+        }
+    }
+
+    @Override
+    public void bindNull(int index) {
+        mStatement.bindNull(index);
+    }
+
+    @Override
+    public void clearBindings() {
+        mStatement.clearBindings();
+    }
+
+    @Override
+    public long executeInsert() {
+        return mStatement.executeInsert();
+    }
+
+    @Override
+    public int executeUpdateDelete() {
+        return mStatement.executeUpdateDelete();
+    }
+
+    void execute() {
+        mStatement.execute();
+    }
+
+    @Override
+    public void close() {
+        mStatement.close();
+    }
+}
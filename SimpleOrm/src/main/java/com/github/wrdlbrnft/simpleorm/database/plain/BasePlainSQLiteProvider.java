@@ -1,13 +1,18 @@
 package com.github.wrdlbrnft.simpleorm.database.plain;
 
 import android.content.Context;
+import android.database.Cursor;
+import android.os.Build;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteOpenHelper;
 
+import com.github.wrdlbrnft.simpleorm.database.CursorTracker;
+import com.github.wrdlbrnft.simpleorm.database.DatabaseConfiguration;
 import com.github.wrdlbrnft.simpleorm.database.ReadableSQLiteWrapper;
 import com.github.wrdlbrnft.simpleorm.database.SQLiteDatabaseManager;
 import com.github.wrdlbrnft.simpleorm.database.SQLiteProvider;
 import com.github.wrdlbrnft.simpleorm.database.WritableSQLiteWrapper;
+import com.github.wrdlbrnft.simpleorm.exceptions.SimpleOrmException;
 
 /**
  * Created with Android Studio
@@ -16,8 +21,53 @@ import com.github.wrdlbrnft.simpleorm.database.WritableSQLiteWrapper;
  */
 public abstract class BasePlainSQLiteProvider extends SQLiteOpenHelper implements SQLiteProvider {
 
+    private final CursorTracker mCursorTracker = new CursorTracker();
+    private final DatabaseConfiguration mConfiguration;
+
     public BasePlainSQLiteProvider(Context context, String name, int version) {
+        this(context, name, version, DatabaseConfiguration.DEFAULT);
+    }
+
+    public BasePlainSQLiteProvider(Context context, String name, int version, DatabaseConfiguration configuration) {
         super(context, name, null, version);
+        if (configuration.isWriteAheadLoggingEnabled() && configuration.isConnectionPragmasConfigured()) {
+            throw new SimpleOrmException("The database " + name + " enables write-ahead logging together with cache_size, mmap_size, temp_store or busy_timeout. Android reads through additional connections in that case which those pragmas cannot be applied to.");
+        }
+        mConfiguration = configuration;
+    }
+
+    @Override
+    public void onConfigure(SQLiteDatabase sqLiteDatabase) {
+        configure(sqLiteDatabase);
+    }
+
+    @Override
+    public void onOpen(SQLiteDatabase sqLiteDatabase) {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.JELLY_BEAN) {
+            configure(sqLiteDatabase);
+        }
+    }
+
+    // Enabling write-ahead logging resets synchronous, so the connection pragmas have to come after it
+    private void configure(SQLiteDatabase sqLiteDatabase) {
+        for (String statement : mConfiguration.getFilePragmaStatements()) {
+            executePragma(sqLiteDatabase, statement);
+        }
+        if (mConfiguration.isWriteAheadLoggingEnabled()) {
+            sqLiteDatabase.enableWriteAheadLogging();
+        }
+        for (String statement : mConfiguration.getPragmaStatements()) {
+            executePragma(sqLiteDatabase, statement);
+        }
+    }
+
+    private static void executePragma(SQLiteDatabase sqLiteDatabase, String statement) {
+        final Cursor cursor = sqLiteDatabase.rawQuery(statement, null);
+        try {
+            cursor.moveToFirst();
+        } finally {
+            cursor.close();
+        }
     }
 
     @Override
@@ -38,7 +88,7 @@ public abstract class BasePlainSQLiteProvider extends SQLiteOpenHelper implement
     @Override
     public final ReadableSQLiteWrapper getReadableWrapper() {
         final SQLiteDatabase database = getReadableDatabase();
-        return new ReadableSQLiteWrapperImpl(database);
+        return new ReadableSQLiteWrapperImpl(database, mCursorTracker);
     }
 
     @Override
@@ -47,6 +97,16 @@ public abstract class BasePlainSQLiteProvider extends SQLiteOpenHelper implement
         return new WritableSQLiteWrapperImpl(database);
     }
 
+    @Override
+    public int getOpenCursorCount() {
+        return mCursorTracker.getOpenCursorCount();
+    }
+
+    @Override
+    public int getLeakedCursorCount() {
+        return mCursorTracker.getLeakedCursorCount();
+    }
+
     private static class SQLiteDatabaseManagerImpl implements SQLiteDatabaseManager {
 
         private final SQLiteDatabase mDatabase;
@@ -59,5 +119,21 @@ public abstract class BasePlainSQLiteProvider extends SQLiteOpenHelper implement
         public void execSql(String sql) {
             mDatabase.execSQL(sql);
         }
+
+        @Override
+        public boolean hasColumn(String tableName, String columnName) {
+            final Cursor cursor = mDatabase.rawQuery("PRAGMA table_info(" + tableName + ")", null);
+            try {
+                final int nameIndex = cursor.getColumnIndex("name");
+                while (cursor.moveToNext()) {
+                    if (columnName.equals(cursor.getString(nameIndex))) {
+                        return true;
+                    }
+                }
+                return false;
+            } finally {
+                cursor.close();
+            }
+        }
     }
 }
@@ -0,0 +1,55 @@
+package com.github.wrdlbrnft.simpleorm.database.plain;
+
+import android.database.sqlite.SQLiteCursor;
+import android.database.sqlite.SQLiteCursorDriver;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteProgram;
+import android.database.sqlite.SQLiteQuery;
+
+import com.github.wrdlbrnft.simpleorm.selection.SelectionArgs;
+
+class BindingCursorFactory implements SQLiteDatabase.CursorFactory {
+
+    private final SelectionArgs mSelectionArgs;
+
+    BindingCursorFactory(SelectionArgs selectionArgs) {
+        mSelectionArgs = selectionArgs;
+    }
+
+    @Override
+    public SQLiteCursor newCursor(SQLiteDatabase db, SQLiteCursorDriver masterQuery, String editTable, SQLiteQuery query) {
+        if (mSelectionArgs != null) {
+            mSelectionArgs.bind(new ProgramBinder(query), 1);
+        }
+        return new SQLiteCursor(masterQuery, editTable, query);
+    }
+
+    private static class ProgramBinder implements SelectionArgs.Binder {
+
+        private final SQLiteProgram mProgram;
+
+        private ProgramBinder(SQLiteProgram program) {
+            mProgram = program;
+        }
+
+        @Override
+        public void bindLong(int index, long value) {
+            mProgram.bindLong(index, value);
+        }
+
+        @Override
+        public void bindDouble(int index, double value) {
+            mProgram.bindDouble(index, value);
+        }
+
+        @Override
+        public void bindString(int index, String value) {
+            mProgram.bindString(index, value);
+        }
+
+        @Override
+        public void bindNull(int index) {
+            mProgram.bindNull(index);
+        }
+    }
+}
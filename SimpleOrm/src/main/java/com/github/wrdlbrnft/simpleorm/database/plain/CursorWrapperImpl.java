@@ -2,6 +2,7 @@ package com.github.wrdlbrnft.simpleorm.database.plain;
 
 import android.database.Cursor;
 
+import com.github.wrdlbrnft.simpleorm.database.CursorTracker;
 import com.github.wrdlbrnft.simpleorm.database.CursorWrapper;
 
 /**
@@ -12,9 +13,11 @@ import com.github.wrdlbrnft.simpleorm.database.CursorWrapper;
 class CursorWrapperImpl implements CursorWrapper {
 
     private final Cursor mCursor;
+    private final CursorTracker.Handle mHandle;
 
-    CursorWrapperImpl(Cursor cursor) {
+    CursorWrapperImpl(Cursor cursor, CursorTracker tracker) {
         mCursor = cursor;
+        mHandle = tracker.track(this, cursor);
     }
 
     @Override
@@ -82,6 +85,11 @@ class CursorWrapperImpl implements CursorWrapper {
         return mCursor.isNull(index) ? null : mCursor.getInt(index) > 0;
     }
 
+    @Override
+    public boolean isNull(int index) {
+        return mCursor.isNull(index);
+    }
+
     @Override
     public byte[] getBlob(int index) {
         return mCursor.getBlob(index);
@@ -109,7 +117,7 @@ class CursorWrapperImpl implements CursorWrapper {
 
     @Override
     public void close() {
-        mCursor.close();
+        mHandle.close();
     }
 
     @Override
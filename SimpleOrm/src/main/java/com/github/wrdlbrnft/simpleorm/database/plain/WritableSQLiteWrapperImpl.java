@@ -1,9 +1,13 @@
 package com.github.wrdlbrnft.simpleorm.database.plain;
 
-import android.content.ContentValues;
 import android.database.sqlite.SQLiteDatabase;
 
+import com.github.wrdlbrnft.simpleorm.database.SQLiteStatementWrapper;
 import com.github.wrdlbrnft.simpleorm.database.WritableSQLiteWrapper;
+import com.github.wrdlbrnft.simpleorm.selection.SelectionArgs;
+
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Created with Android Studio
@@ -12,6 +16,7 @@ import com.github.wrdlbrnft.simpleorm.database.WritableSQLiteWrapper;
  */
 class WritableSQLiteWrapperImpl implements WritableSQLiteWrapper {
 
+    private final Map<String, SQLiteStatementWrapperImpl> mStatements = new HashMap<>();
     private final SQLiteDatabase mDatabase;
 
     WritableSQLiteWrapperImpl(SQLiteDatabase database) {
@@ -24,13 +29,22 @@ class WritableSQLiteWrapperImpl implements WritableSQLiteWrapper {
     }
 
     @Override
-    public long insert(String tableName, ContentValues values) {
-        return mDatabase.insertWithOnConflict(tableName, null, values, SQLiteDatabase.CONFLICT_REPLACE);
+    public SQLiteStatementWrapper compileStatement(String sql) {
+        return new SQLiteStatementWrapperImpl(mDatabase.compileStatement(sql));
     }
 
     @Override
-    public void delete(String tableName, String selection, String[] selectionArgs) {
-        mDatabase.delete(tableName, selection, selectionArgs);
+    public void delete(String tableName, String selection, SelectionArgs selectionArgs) {
+        final String sql = selection != null
+                ? "DELETE FROM " + tableName + " WHERE " + selection
+                : "DELETE FROM " + tableName;
+        final SQLiteStatementWrapperImpl statement = getStatement(sql);
+        try {
+            bind(statement, selectionArgs);
+            statement.executeUpdateDelete();
+        } finally {
+            statement.clearBindings();
+        }
     }
 
     @Override
@@ -40,11 +54,42 @@ class WritableSQLiteWrapperImpl implements WritableSQLiteWrapper {
 
     @Override
     public void endTransaction() {
-        mDatabase.endTransaction();
+        try {
+            mDatabase.endTransaction();
+        } finally {
+            for (SQLiteStatementWrapperImpl statement : mStatements.values()) {
+                statement.close();
+            }
+            mStatements.clear();
+        }
     }
 
     @Override
-    public void execSql(String sql, String[] bindArgs) {
-        mDatabase.execSQL(sql, bindArgs);
+    public void execSql(String sql, SelectionArgs bindArgs) {
+        final SQLiteStatementWrapperImpl statement = getStatement(sql);
+        try {
+            bind(statement, bindArgs);
+            statement.execute();
+        } finally {
+            statement.clearBindings();
+        }
+    }
+
+    // Statements of delete and execSql are reused for the rest of the transaction
+    private SQLiteStatementWrapperImpl getStatement(String sql) {
+        final SQLiteStatementWrapperImpl cached = mStatements.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+
+        final SQLiteStatementWrapperImpl statement = new SQLiteStatementWrapperImpl(mDatabase.compileStatement(sql));
+        mStatements.put(sql, statement);
+        return statement;
+    }
+
+    private static void bind(SQLiteStatementWrapperImpl statement, SelectionArgs selectionArgs) {
+        if (selectionArgs != null) {
+            selectionArgs.bind(statement, 1);
+        }
     }
 }
@@ -0,0 +1,6 @@
+package com.github.wrdlbrnft.simpleorm.entities;
+
+public interface AggregateQuery<R> extends CursorReader<R> {
+    String getProjection();
+    String getGroupBy();
+}
@@ -2,13 +2,24 @@ package com.github.wrdlbrnft.simpleorm.entities;
 
 import android.util.Log;
 
+import com.github.wrdlbrnft.simpleorm.EntityStream;
+import com.github.wrdlbrnft.simpleorm.IdentityMapStatistics;
+import com.github.wrdlbrnft.simpleorm.LazyList;
+import com.github.wrdlbrnft.simpleorm.Ordering;
+import com.github.wrdlbrnft.simpleorm.Page;
+import com.github.wrdlbrnft.simpleorm.PageToken;
+import com.github.wrdlbrnft.simpleorm.database.CursorWrapper;
 import com.github.wrdlbrnft.simpleorm.database.ReadableSQLiteWrapper;
 import com.github.wrdlbrnft.simpleorm.database.SQLiteProvider;
+import com.github.wrdlbrnft.simpleorm.database.SQLiteStatementWrapper;
 import com.github.wrdlbrnft.simpleorm.database.WritableSQLiteWrapper;
 import com.github.wrdlbrnft.simpleorm.exceptions.SimpleOrmException;
+import com.github.wrdlbrnft.simpleorm.selection.Selection;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 /**
  * Created with Android Studio
@@ -20,20 +31,64 @@ public abstract class BaseEntityManager<T> implements EntityManager<T> {
 
     private static final String TAG = "BaseEntityManager";
 
+    private static final IdentityMapStatistics DISABLED_IDENTITY_MAP = new IdentityMapStatistics() {
+        @Override
+        public long getHitCount() {
+            return 0L;
+        }
+
+        @Override
+        public long getMissCount() {
+            return 0L;
+        }
+
+        @Override
+        public int size() {
+            return 0;
+        }
+    };
+
+    // Writes of other entity managers can change the rows or children of mapped entities
+    private final TableChangeNotifier.Listener mIdentityMapInvalidator = new TableChangeNotifier.Listener() {
+        @Override
+        public void onTablesChanged(String[] tableNames) {
+            if (!Boolean.TRUE.equals(mNotifyingOwnChanges.get()) && TableChangeNotifier.containsAny(getTableNames(), tableNames)) {
+                mIdentityMap.clear();
+            }
+        }
+    };
+
+    private final ThreadLocal<Boolean> mNotifyingOwnChanges = new ThreadLocal<>();
+
     private final SQLiteProvider mWrapperProvider;
+    private final IdentityMap<T> mIdentityMap;
+    private final TableChangeNotifier mTableChangeNotifier;
 
     public BaseEntityManager(SQLiteProvider provider) {
+        this(provider, false, new TableChangeNotifier());
+    }
+
+    public BaseEntityManager(SQLiteProvider provider, boolean identityMapEnabled, TableChangeNotifier tableChangeNotifier) {
         mWrapperProvider = provider;
+        mIdentityMap = identityMapEnabled ? new IdentityMap<T>() : null;
+        mTableChangeNotifier = tableChangeNotifier;
+        if (mIdentityMap != null) {
+            mTableChangeNotifier.addListener(mIdentityMapInvalidator);
+        }
     }
 
     @Override
     public T queryFirst(QueryParameters parameters) {
         final ReadableSQLiteWrapper wrapper = mWrapperProvider.getReadableWrapper();
         final EntityIterator<T> iterator = performQuery(wrapper, parameters);
-        if (iterator.hasNext()) {
-            return iterator.next();
+        try {
+            if (iterator.hasNext()) {
+                return iterator.next();
+            }
+            return null;
+        } finally {
+            iterator.close();
         }
-        return null;
     }
 
     @Override
@@ -41,25 +96,267 @@ public abstract class BaseEntityManager<T> implements EntityManager<T> {
         final ReadableSQLiteWrapper wrapper = mWrapperProvider.getReadableWrapper();
         final EntityIterator<T> iterator = performQuery(wrapper, parameters);
 
-        final List<T> entities = new ArrayList<>();
-        while (iterator.hasNext()) {
-            entities.add(iterator.next());
+        try {
+            final List<T> entities = new ArrayList<>(iterator.size());
+            while (iterator.hasNext()) {
+                entities.add(iterator.next());
+            }
+            return entities;
+        } finally {
+            iterator.close();
         }
-        return entities;
     }
 
     @Override
-    public List<T> queryLazy(QueryParameters parameters) {
+    public LazyList<T> queryLazy(QueryParameters parameters) {
         final ReadableSQLiteWrapper wrapper = mWrapperProvider.getReadableWrapper();
         return performQuery(wrapper, parameters).asList();
     }
 
+    @Override
+    public Page<T> queryPage(QueryParameters parameters, PageParameters<T> pageParameters) {
+        final int pageSize = pageParameters.getPageSize();
+        final List<T> entities = queryList(createPageQueryParameters(parameters, pageParameters));
+        if (entities.size() <= pageSize) {
+            return new PageImpl<>(entities, null);
+        }
+
+        final List<T> items = new ArrayList<>(entities.subList(0, pageSize));
+        return new PageImpl<>(items, createPageToken(items.get(pageSize - 1), pageParameters.getOrderColumn(), pageParameters.getOrdering()));
+    }
+
+    @Override
+    public Page<T> queryLazyPage(QueryParameters parameters, PageParameters<T> pageParameters) {
+        final int pageSize = pageParameters.getPageSize();
+        final LazyList<T> entities = queryLazy(createPageQueryParameters(parameters, pageParameters));
+        if (entities.size() <= pageSize) {
+            return new PageImpl<>(entities, null, entities);
+        }
+
+        final List<T> items = entities.subList(0, pageSize);
+        return new PageImpl<>(items, createPageToken(items.get(pageSize - 1), pageParameters.getOrderColumn(), pageParameters.getOrdering()), entities);
+    }
+
+    @Override
+    public EntityStream<T> queryStream(QueryParameters parameters, PageParameters<T> pageParameters) {
+        verifyPageParameters(pageParameters);
+        return new EntityStreamImpl(parameters, pageParameters);
+    }
+
+    @Override
+    public <R> R queryAggregate(QueryParameters parameters, AggregateQuery<R> query) {
+        final String tableName = getTableName();
+        final Selection selection = parameters.getSelection();
+        final String where = selection.isEmpty() ? null : selection.getSelection(tableName);
+        final String limit = parameters.getLimit();
+
+        final StringBuilder builder = new StringBuilder("SELECT ").append(query.getProjection()).append(" FROM ");
+        if (limit != null) {
+            builder.append("(SELECT * FROM ").append(tableName);
+            appendClause(builder, " WHERE ", where);
+            appendClause(builder, " ORDER BY ", parameters.getOrderBy());
+            builder.append(" LIMIT ").append(limit).append(") AS ").append(tableName);
+        } else {
+            builder.append(tableName);
+            appendClause(builder, " WHERE ", where);
+        }
+        appendClause(builder, " GROUP BY ", query.getGroupBy());
+
+        final ReadableSQLiteWrapper wrapper = mWrapperProvider.getReadableWrapper();
+        final CursorWrapper cursor = wrapper.query(builder.toString(), selection.getSelectionArgs());
+        try {
+            return query.read(cursor);
+        } finally {
+            cursor.close();
+        }
+    }
+
+    @Override
+    public <R> R queryColumns(QueryParameters parameters, String[] columns, CursorReader<R> reader) {
+        final String tableName = getTableName();
+        final Selection selection = parameters.getSelection();
+        final String where = selection.isEmpty() ? null : selection.getSelection(tableName);
+
+        final ReadableSQLiteWrapper wrapper = mWrapperProvider.getReadableWrapper();
+        final CursorWrapper cursor = wrapper.query(tableName, columns, where, selection.getSelectionArgs(), null, null, parameters.getOrderBy(), parameters.getLimit());
+        try {
+            return reader.read(cursor);
+        } finally {
+            cursor.close();
+        }
+    }
+
+    private static void appendClause(StringBuilder builder, String keyword, String clause) {
+        if (clause != null && !clause.isEmpty()) {
+            builder.append(keyword).append(clause);
+        }
+    }
+
+    private QueryParameters createPageQueryParameters(QueryParameters parameters, PageParameters<T> pageParameters) {
+        verifyPageParameters(pageParameters);
+        final PageToken token = resolvePageToken(pageParameters);
+        return createSeekQueryParameters(parameters, pageParameters.getOrderColumn(), pageParameters.getOrdering(), token, pageParameters.getPageSize() + 1);
+    }
+
+    private void verifyPageParameters(PageParameters<T> pageParameters) {
+        if (getIdColumnName() == null) {
+            throw new SimpleOrmException("Pagination requires an entity with an @Id column.");
+        }
+
+        final int pageSize = pageParameters.getPageSize();
+        if (pageSize <= 0) {
+            throw new SimpleOrmException("The page size has to be greater than 0, but was " + pageSize + ".");
+        }
+    }
+
+    private QueryParameters createSeekQueryParameters(QueryParameters parameters, String orderColumn, Ordering ordering, PageToken token, int limit) {
+        final String idColumn = getIdColumnName();
+        final String sqlOrdering = ordering == Ordering.DESCENDING ? " DESC" : " ASC";
+        final String orderBy = orderColumn != null
+                ? orderColumn + sqlOrdering + ", " + idColumn + sqlOrdering
+                : idColumn + sqlOrdering;
+
+        if (token == null) {
+            return new PageQueryParameters(parameters.getSelection(), String.valueOf(limit), orderBy);
+        }
+
+        final Selection querySelection = parameters.getSelection();
+        final Selection.Builder builder = new Selection.Builder();
+        builder.group(querySelection);
+        if (!querySelection.isEmpty() && querySelection.getSelection(null) != null) {
+            builder.and();
+        }
+        builder.group(createSeekSelection(token, idColumn));
+        return new PageQueryParameters(builder.build(), String.valueOf(limit), orderBy);
+    }
+
+    private PageToken resolvePageToken(PageParameters<T> pageParameters) {
+        final String orderColumn = pageParameters.getOrderColumn();
+        final Ordering ordering = pageParameters.getOrdering();
+
+        final T lastEntity = pageParameters.getLastEntity();
+        if (lastEntity != null) {
+            return createPageToken(lastEntity, orderColumn, ordering);
+        }
+
+        final PageToken token = pageParameters.getPageToken();
+        if (token == null) {
+            return null;
+        }
+
+        final boolean sameColumn = orderColumn == null ? token.getOrderColumn() == null : orderColumn.equals(token.getOrderColumn());
+        if (!sameColumn || token.getOrdering() != ordering) {
+            throw new SimpleOrmException("The page token was created for a query with a different ordering.");
+        }
+        return token;
+    }
+
+    private PageToken createPageToken(T entity, String orderColumn, Ordering ordering) {
+        final Object id = getColumnValue(entity, getIdColumnName());
+        if (id == null) {
+            throw new SimpleOrmException("Cannot page after an entity which has not been saved: " + entity);
+        }
+
+        final Serializable orderValue = orderColumn != null
+                ? toOrderValue(getColumnValue(entity, orderColumn))
+                : null;
+        return new PageToken(orderColumn, ordering, orderValue, ((Number) id).longValue());
+    }
+
+    private static Selection createSeekSelection(PageToken token, String idColumn) {
+        final boolean ascending = token.getOrdering() != Ordering.DESCENDING;
+        final String operator = ascending ? ">" : "<";
+        final long lastId = token.getLastId();
+        final String orderColumn = token.getOrderColumn();
+        if (orderColumn == null) {
+            return new Selection.Builder()
+                    .statement(idColumn, operator, lastId)
+                    .build();
+        }
+
+        // SQLite sorts NULL before every other value, so they are at the start of an ascending and at the end of a descending order.
+        final Serializable orderValue = token.getOrderValue();
+        if (orderValue == null) {
+            final Selection.Builder builder = new Selection.Builder()
+                    .group(new Selection.Builder().isNull(orderColumn).and().statement(idColumn, operator, lastId).build());
+            if (ascending) {
+                builder.or().isNotNull(orderColumn);
+            }
+            return builder.build();
+        }
+
+        // The leading range on the order column lets SQLite seek on its index, the group only breaks ties by id
+        final String rangeOperator = ascending ? ">=" : "<=";
+        final Selection.Builder builder = appendOrderValueStatement(new Selection.Builder(), orderColumn, rangeOperator, orderValue)
+                .and()
+                .group(appendOrderValueStatement(new Selection.Builder(), orderColumn, operator, orderValue).or().statement(idColumn, operator, lastId).build());
+        if (!ascending) {
+            builder.or().isNull(orderColumn);
+        }
+        return builder.build();
+    }
+
+    private static Selection.Builder appendOrderValueStatement(Selection.Builder builder, String column, String operator, Serializable value) {
+        if (value instanceof Long) {
+            return builder.statement(column, operator, (long) (Long) value);
+        }
+
+        if (value instanceof Double) {
+            return builder.statement(column, operator, (double) (Double) value);
+        }
+
+        return builder.statement(column, operator, String.valueOf(value));
+    }
+
+    // Floats are widened the same way they are bound on save, so the boundary compares equal to the stored REAL
+    private static Serializable toOrderValue(Object value) {
+        if (value == null) {
+            return null;
+        }
+
+        if (value instanceof Boolean) {
+            return (Boolean) value ? 1L : 0L;
+        }
+
+        if (value instanceof Float || value instanceof Double) {
+            return ((Number) value).doubleValue();
+        }
+
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+
+        return String.valueOf(value);
+    }
+
     @Override
     public void commitSaveTransaction(SaveParameters<T> parameters) {
         final WritableSQLiteWrapper wrapper = mWrapperProvider.getWritableWrapper();
+        final List<TrackedEntity> trackedEntities = new ArrayList<>();
+        try {
+            wrapper.beginTransaction();
+            performSave(wrapper, parameters, trackedEntities);
+            wrapper.setTransactionSuccessFul();
+        } catch (Exception e) {
+            Log.e(TAG, "Exception while saving entities.", e);
+            throw new SimpleOrmException("Failed to save entities", e);
+        } finally {
+            wrapper.endTransaction();
+        }
+        ChangeTracking.markPersisted(trackedEntities);
+        registerSaved(parameters);
+        notifyTablesChanged();
+    }
+
+    @Override
+    public void commitSaveTransactions(List<SaveParameters<T>> parameters) {
+        final WritableSQLiteWrapper wrapper = mWrapperProvider.getWritableWrapper();
+        final List<TrackedEntity> trackedEntities = new ArrayList<>();
         try {
             wrapper.beginTransaction();
-            performSave(wrapper, parameters);
+            for (SaveParameters<T> saveParameters : parameters) {
+                performSave(wrapper, saveParameters, trackedEntities);
+            }
             wrapper.setTransactionSuccessFul();
         } catch (Exception e) {
             Log.e(TAG, "Exception while saving entities.", e);
@@ -67,6 +364,11 @@ public abstract class BaseEntityManager<T> implements EntityManager<T> {
         } finally {
             wrapper.endTransaction();
         }
+        ChangeTracking.markPersisted(trackedEntities);
+        for (SaveParameters<T> saveParameters : parameters) {
+            registerSaved(saveParameters);
+        }
+        notifyTablesChanged();
     }
 
     @Override
@@ -82,6 +384,126 @@ public abstract class BaseEntityManager<T> implements EntityManager<T> {
         } finally {
             wrapper.endTransaction();
         }
+        ChangeTracking.markRemoved(parameters.getEntitiesToRemove());
+        unregisterRemoved(parameters);
+        notifyTablesChanged();
+    }
+
+    @Override
+    public int commitUpdateTransaction(UpdateParameters<T> parameters) {
+        final ColumnAssignments assignments = parameters.getAssignments();
+        final Selection selection = parameters.getSelection();
+        if (assignments.isEmpty() || selection.isEmpty()) {
+            return 0;
+        }
+
+        final String tableName = getTableName();
+        final String where = selection.getSelection(tableName);
+        final String sql = where != null
+                ? "UPDATE " + tableName + " SET " + assignments.getAssignments() + " WHERE " + where
+                : "UPDATE " + tableName + " SET " + assignments.getAssignments();
+
+        final WritableSQLiteWrapper wrapper = mWrapperProvider.getWritableWrapper();
+        final int affectedRows;
+        try {
+            wrapper.beginTransaction();
+            final SQLiteStatementWrapper statement = wrapper.compileStatement(sql);
+            try {
+                final int index = assignments.bind(statement, 1);
+                selection.getSelectionArgs().bind(statement, index);
+                affectedRows = statement.executeUpdateDelete();
+                wrapper.setTransactionSuccessFul();
+            } finally {
+                statement.close();
+            }
+        } catch (Exception e) {
+            Log.e(TAG, "Exception while updating entities.", e);
+            throw new SimpleOrmException("Failed to update entities", e);
+        } finally {
+            wrapper.endTransaction();
+        }
+
+        if (affectedRows > 0) {
+            if (mIdentityMap != null) {
+                mIdentityMap.clear();
+            }
+            notifyTablesChanged();
+        }
+        return affectedRows;
+    }
+
+    @Override
+    public IdentityMapStatistics getIdentityMapStatistics() {
+        return mIdentityMap != null ? mIdentityMap : DISABLED_IDENTITY_MAP;
+    }
+
+    @Override
+    public TableChangeNotifier getTableChangeNotifier() {
+        return mTableChangeNotifier;
+    }
+
+    protected IdentityMap<T> getIdentityMap() {
+        return mIdentityMap;
+    }
+
+    private void notifyTablesChanged() {
+        mNotifyingOwnChanges.set(Boolean.TRUE);
+        try {
+            mTableChangeNotifier.notifyTablesChanged(getTableNames());
+        } finally {
+            mNotifyingOwnChanges.remove();
+        }
+    }
+
+    private void registerSaved(SaveParameters<T> parameters) {
+        if (mIdentityMap == null || getIdColumnName() == null) {
+            return;
+        }
+
+        for (T entity : parameters.getEntitiesToSave()) {
+            final Object id = getColumnValue(entity, getIdColumnName());
+            if (id != null) {
+                mIdentityMap.put(((Number) id).longValue(), entity);
+            }
+        }
+    }
+
+    private void unregisterRemoved(RemoveParameters<T> parameters) {
+        if (mIdentityMap == null || getIdColumnName() == null) {
+            return;
+        }
+
+        final Selection selection = parameters.getSelection();
+        if (selection != null && !selection.isEmpty()) {
+            mIdentityMap.clear();
+            return;
+        }
+
+        for (T entity : parameters.getEntitiesToRemove()) {
+            final Object id = getColumnValue(entity, getIdColumnName());
+            if (id != null) {
+                mIdentityMap.remove(((Number) id).longValue());
+            }
+        }
+    }
+
+    protected long executeUpsert(SQLiteStatementWrapper updateStatement, SQLiteStatementWrapper insertStatement, Long id) {
+        if (id != null && updateStatement.executeUpdateDelete() > 0) {
+            return id;
+        }
+        return insertStatement.executeInsert();
+    }
+
+    protected long executeInsertOrIgnore(SQLiteStatementWrapper insertStatement, Long id) {
+        final long rowId = insertStatement.executeInsert();
+        if (rowId < 0 && id != null) {
+            return id;
+        }
+        return rowId;
+    }
+
+    protected void trackSaved(List<TrackedEntity> trackedEntities, Object entity) {
+        ChangeTracking.collect(trackedEntities, entity);
     }
 
     protected <E> void verifyIdOrThrow(long id, E entity) throws SimpleOrmException {
@@ -90,7 +512,125 @@ public abstract class BaseEntityManager<T> implements EntityManager<T> {
         }
     }
 
-    protected abstract void performSave(WritableSQLiteWrapper wrapper, SaveParameters<T> parameters);
+    protected abstract void performSave(WritableSQLiteWrapper wrapper, SaveParameters<T> parameters, List<TrackedEntity> trackedEntities);
     protected abstract void performRemove(WritableSQLiteWrapper wrapper, RemoveParameters<T> parameters);
     protected abstract EntityIterator<T> performQuery(ReadableSQLiteWrapper wrapper, QueryParameters parameters);
+    protected abstract String getTableName();
+    protected abstract String getIdColumnName();
+    protected abstract Object getColumnValue(T entity, String columnName);
+
+    private class EntityStreamImpl implements EntityStream<T> {
+
+        private final QueryParameters mParameters;
+        private final String mOrderColumn;
+        private final Ordering mOrdering;
+        private final int mChunkSize;
+
+        private int mRemaining;
+        private EntityIterator<T> mChunk;
+        private int mChunkLimit;
+        private int mChunkReadCount;
+        private T mLastEntity;
+        private boolean mExhausted = false;
+
+        private EntityStreamImpl(QueryParameters parameters, PageParameters<T> pageParameters) {
+            mParameters = parameters;
+            mOrderColumn = pageParameters.getOrderColumn();
+            mOrdering = pageParameters.getOrdering();
+            mChunkSize = pageParameters.getPageSize();
+
+            final String limit = parameters.getLimit();
+            mRemaining = limit != null ? Integer.parseInt(limit) : -1;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!mExhausted) {
+                if (mChunk != null) {
+                    if (mChunk.hasNext()) {
+                        return true;
+                    }
+
+                    mChunk.close();
+                    mChunk = null;
+                    if (mChunkReadCount < mChunkLimit) {
+                        mExhausted = true;
+                        break;
+                    }
+                }
+
+                mChunkLimit = mRemaining >= 0 ? Math.min(mChunkSize, mRemaining) : mChunkSize;
+                mChunkReadCount = 0;
+                if (mChunkLimit == 0) {
+                    mExhausted = true;
+                    break;
+                }
+
+                final PageToken token = mLastEntity != null
+                        ? createPageToken(mLastEntity, mOrderColumn, mOrdering)
+                        : null;
+                final ReadableSQLiteWrapper wrapper = mWrapperProvider.getReadableWrapper();
+                mChunk = performQuery(wrapper, createSeekQueryParameters(mParameters, mOrderColumn, mOrdering, token, mChunkLimit));
+            }
+            return false;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final T entity = mChunk.next();
+            mChunkReadCount++;
+            if (mRemaining > 0) {
+                mRemaining--;
+            }
+            mLastEntity = entity;
+            return entity;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("Entities cannot be removed from an EntityStream.");
+        }
+
+        @Override
+        public void close() {
+            mExhausted = true;
+            mLastEntity = null;
+            if (mChunk != null) {
+                mChunk.close();
+                mChunk = null;
+            }
+        }
+    }
+
+    private static class PageQueryParameters implements QueryParameters {
+
+        private final Selection mSelection;
+        private final String mLimit;
+        private final String mOrderBy;
+
+        private PageQueryParameters(Selection selection, String limit, String orderBy) {
+            mSelection = selection;
+            mLimit = limit;
+            mOrderBy = orderBy;
+        }
+
+        @Override
+        public Selection getSelection() {
+            return mSelection;
+        }
+
+        @Override
+        public String getLimit() {
+            return mLimit;
+        }
+
+        @Override
+        public String getOrderBy() {
+            return mOrderBy;
+        }
+    }
 }
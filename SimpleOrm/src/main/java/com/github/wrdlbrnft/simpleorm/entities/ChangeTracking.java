@@ -0,0 +1,85 @@
+package com.github.wrdlbrnft.simpleorm.entities;
+
+import java.util.BitSet;
+import java.util.List;
+
+public final class ChangeTracking {
+
+    private ChangeTracking() {
+    }
+
+    public static BitSet markDirty(BitSet dirtyColumns, int columnIndex) {
+        final BitSet columns = dirtyColumns != null ? dirtyColumns : new BitSet();
+        columns.set(columnIndex);
+        return columns;
+    }
+
+    public static boolean isDirty(BitSet dirtyColumns, int columnIndex) {
+        return dirtyColumns != null && dirtyColumns.get(columnIndex);
+    }
+
+    public static boolean hasChanges(BitSet dirtyColumns) {
+        return dirtyColumns != null && !dirtyColumns.isEmpty();
+    }
+
+    public static BitSet copyOf(BitSet dirtyColumns) {
+        return dirtyColumns != null ? (BitSet) dirtyColumns.clone() : null;
+    }
+
+    public static boolean isLoaded(Object value) {
+        return !(value instanceof LazyChildList) || ((LazyChildList<?>) value).isLoaded();
+    }
+
+    public static boolean isLoaded(Object entity, int columnIndex) {
+        return !(entity instanceof TrackedEntity) || ((TrackedEntity) entity).isLoaded(columnIndex);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> getLazyReference(Object entity, int columnIndex) {
+        return entity instanceof TrackedEntity ? (List<T>) ((TrackedEntity) entity).getLazyReference(columnIndex) : null;
+    }
+
+    public static boolean hasUnloadedReference(Object entity, Object other, int columnIndex) {
+        final Object reference = getLazyReference(entity, columnIndex);
+        final Object otherReference = getLazyReference(other, columnIndex);
+        return reference instanceof LazyChildList
+                && otherReference instanceof LazyChildList
+                && (!isLoaded(reference) || !isLoaded(otherReference));
+    }
+
+    public static boolean referenceEquals(Object entity, Object other, int columnIndex) {
+        return getLazyReference(entity, columnIndex).equals(getLazyReference(other, columnIndex));
+    }
+
+    public static boolean isPersisted(Object entity) {
+        return entity instanceof TrackedEntity && ((TrackedEntity) entity).isPersisted();
+    }
+
+    public static BitSet copyDirtyColumns(Object entity) {
+        return entity instanceof TrackedEntity ? ((TrackedEntity) entity).copyDirtyColumns() : null;
+    }
+
+    public static TrackedEntity getPersisted(Object entity) {
+        return isPersisted(entity) ? (TrackedEntity) entity : null;
+    }
+
+    static void collect(List<TrackedEntity> trackedEntities, Object entity) {
+        if (entity instanceof TrackedEntity) {
+            trackedEntities.add((TrackedEntity) entity);
+        }
+    }
+
+    static void markPersisted(List<TrackedEntity> trackedEntities) {
+        for (TrackedEntity entity : trackedEntities) {
+            entity.onPersisted();
+        }
+    }
+
+    static void markRemoved(List<?> entities) {
+        for (Object entity : entities) {
+            if (entity instanceof TrackedEntity) {
+                ((TrackedEntity) entity).onRemoved();
+            }
+        }
+    }
+}
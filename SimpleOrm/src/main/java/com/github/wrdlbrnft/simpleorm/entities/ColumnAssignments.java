@@ -0,0 +1,72 @@
+package com.github.wrdlbrnft.simpleorm.entities;
+
+import com.github.wrdlbrnft.simpleorm.database.SQLiteStatementWrapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ColumnAssignments {
+
+    private final StringBuilder mAssignments = new StringBuilder();
+    private final List<Object> mValues = new ArrayList<>();
+
+    public ColumnAssignments set(String columnName, Object value) {
+        appendSeparator();
+        mAssignments.append(columnName).append(" = ?");
+        mValues.add(value);
+        return this;
+    }
+
+    public ColumnAssignments increment(String columnName, Number amount) {
+        return appendArithmetic(columnName, " + ?", amount);
+    }
+
+    public ColumnAssignments decrement(String columnName, Number amount) {
+        return appendArithmetic(columnName, " - ?", amount);
+    }
+
+    public boolean isEmpty() {
+        return mValues.isEmpty();
+    }
+
+    public String getAssignments() {
+        return mAssignments.toString();
+    }
+
+    public int bind(SQLiteStatementWrapper statement, int startIndex) {
+        int index = startIndex;
+        for (Object value : mValues) {
+            bind(statement, index++, value);
+        }
+        return index;
+    }
+
+    private ColumnAssignments appendArithmetic(String columnName, String operation, Number amount) {
+        appendSeparator();
+        mAssignments.append(columnName).append(" = ").append(columnName).append(operation);
+        mValues.add(amount);
+        return this;
+    }
+
+    private void appendSeparator() {
+        if (mAssignments.length() > 0) {
+            mAssignments.append(", ");
+        }
+    }
+
+    static void bind(SQLiteStatementWrapper statement, int index, Object value) {
+        if (value == null) {
+            statement.bindNull(index);
+        } else if (value instanceof String) {
+            statement.bindString(index, (String) value);
+        } else if (value instanceof Boolean) {
+            statement.bindBoolean(index, (Boolean) value);
+        } else if (value instanceof Float || value instanceof Double) {
+            statement.bindDouble(index, ((Number) value).doubleValue());
+        } else if (value instanceof Number) {
+            statement.bindLong(index, ((Number) value).longValue());
+        } else {
+            throw new IllegalArgumentException("Cannot bind value of type " + value.getClass() + " in column update.");
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.github.wrdlbrnft.simpleorm.entities;
+
+import com.github.wrdlbrnft.simpleorm.exceptions.SimpleOrmException;
+import com.github.wrdlbrnft.simpleorm.selection.Selection;
+import com.github.wrdlbrnft.simpleorm.selection.SelectionArgs;
+
+import java.util.Date;
+
+public class CompiledQuery implements QueryParameters, Selection {
+
+    private static final SelectionArgs NO_ARGUMENTS = new SelectionArgs(0);
+
+    private final String mSelection;
+    private final SelectionArgs mSelectionArgs;
+    private final String mOrderBy;
+    private final String mLimit;
+
+    public CompiledQuery(String selection, SelectionArgs selectionArgs, String orderBy, String limit) {
+        mSelection = selection;
+        mSelectionArgs = selectionArgs != null ? selectionArgs : NO_ARGUMENTS;
+        mOrderBy = orderBy;
+        mLimit = limit;
+    }
+
+    public static SelectionArgs argument(SelectionArgs args, long value) {
+        return args.addLong(value);
+    }
+
+    public static SelectionArgs argument(SelectionArgs args, double value) {
+        return args.addDouble(value);
+    }
+
+    public static SelectionArgs argument(SelectionArgs args, boolean value) {
+        return args.addLong(value ? 1L : 0L);
+    }
+
+    public static SelectionArgs argument(SelectionArgs args, String value) {
+        return args.addString(checkNotNull(value));
+    }
+
+    public static SelectionArgs argument(SelectionArgs args, Float value) {
+        return args.addDouble(checkNotNull(value));
+    }
+
+    public static SelectionArgs argument(SelectionArgs args, Double value) {
+        return args.addDouble(checkNotNull(value));
+    }
+
+    public static SelectionArgs argument(SelectionArgs args, Number value) {
+        return args.addLong(checkNotNull(value).longValue());
+    }
+
+    public static SelectionArgs argument(SelectionArgs args, Boolean value) {
+        return args.addLong(checkNotNull(value) ? 1L : 0L);
+    }
+
+    public static SelectionArgs argument(SelectionArgs args, Date value) {
+        return args.addLong(checkNotNull(value).getTime());
+    }
+
+    private static <T> T checkNotNull(T value) {
+        if (value == null) {
+            throw new SimpleOrmException("Query arguments cannot be null. Use find() with isNull() on the repository instead.");
+        }
+        return value;
+    }
+
+    @Override
+    public Selection getSelection() {
+        return this;
+    }
+
+    @Override
+    public String getLimit() {
+        return mLimit;
+    }
+
+    @Override
+    public String getOrderBy() {
+        return mOrderBy;
+    }
+
+    @Override
+    public String getSelection(String tableName) {
+        return mSelection;
+    }
+
+    @Override
+    public SelectionArgs getSelectionArgs() {
+        return mSelectionArgs;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return mSelection == null;
+    }
+}
@@ -0,0 +1,7 @@
+package com.github.wrdlbrnft.simpleorm.entities;
+
+import com.github.wrdlbrnft.simpleorm.database.CursorWrapper;
+
+public interface CursorReader<R> {
+    R read(CursorWrapper cursor);
+}
@@ -1,7 +1,8 @@
 package com.github.wrdlbrnft.simpleorm.entities;
 
+import com.github.wrdlbrnft.simpleorm.LazyList;
+
 import java.util.Iterator;
-import java.util.List;
 
 /**
  * Created with Android Studio
@@ -11,5 +12,6 @@ import java.util.List;
 
 public interface EntityIterator<T> extends Iterator<T> {
     int size();
-    List<T> asList();
+    LazyList<T> asList();
+    void close();
 }
@@ -1,5 +1,10 @@
 package com.github.wrdlbrnft.simpleorm.entities;
 
+import com.github.wrdlbrnft.simpleorm.EntityStream;
+import com.github.wrdlbrnft.simpleorm.IdentityMapStatistics;
+import com.github.wrdlbrnft.simpleorm.LazyList;
+import com.github.wrdlbrnft.simpleorm.Page;
+
 import java.util.List;
 
 /**
@@ -10,7 +15,17 @@ import java.util.List;
 public interface EntityManager<T> {
     T queryFirst(QueryParameters parameters);
     List<T> queryList(QueryParameters parameters);
-    List<T> queryLazy(QueryParameters parameters);
+    LazyList<T> queryLazy(QueryParameters parameters);
+    Page<T> queryPage(QueryParameters parameters, PageParameters<T> pageParameters);
+    Page<T> queryLazyPage(QueryParameters parameters, PageParameters<T> pageParameters);
+    EntityStream<T> queryStream(QueryParameters parameters, PageParameters<T> pageParameters);
+    <R> R queryAggregate(QueryParameters parameters, AggregateQuery<R> query);
+    <R> R queryColumns(QueryParameters parameters, String[] columns, CursorReader<R> reader);
     void commitSaveTransaction(SaveParameters<T> parameters);
+    void commitSaveTransactions(List<SaveParameters<T>> parameters);
     void commitRemoveTransaction(RemoveParameters<T> parameters);
+    int commitUpdateTransaction(UpdateParameters<T> parameters);
+    IdentityMapStatistics getIdentityMapStatistics();
+    String[] getTableNames();
+    TableChangeNotifier getTableChangeNotifier();
 }
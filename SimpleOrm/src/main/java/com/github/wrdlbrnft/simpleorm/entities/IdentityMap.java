@@ -0,0 +1,92 @@
+package com.github.wrdlbrnft.simpleorm.entities;
+
+import com.github.wrdlbrnft.simpleorm.IdentityMapStatistics;
+import com.github.wrdlbrnft.simpleorm.utils.LongSparseArrayCompat;
+
+import java.lang.ref.WeakReference;
+
+public class IdentityMap<T> implements IdentityMapStatistics {
+
+    private static final int MIN_PURGE_THRESHOLD = 64;
+
+    private final LongSparseArrayCompat<WeakReference<T>> mEntities = new LongSparseArrayCompat<>();
+
+    private int mPurgeThreshold = MIN_PURGE_THRESHOLD;
+    private long mHitCount = 0L;
+    private long mMissCount = 0L;
+    private long mGeneration = 0L;
+
+    public synchronized long getGeneration() {
+        return mGeneration;
+    }
+
+    public synchronized T lookup(long id) {
+        final WeakReference<T> reference = mEntities.get(id);
+        final T existing = reference != null ? reference.get() : null;
+        if (existing != null && !hasChanges(existing)) {
+            mHitCount++;
+            return existing;
+        }
+
+        mMissCount++;
+        return null;
+    }
+
+    // Entities read before a write changed the map might already be stale, so they are not registered
+    public synchronized void register(Long id, T entity, long generation) {
+        if (id != null && generation == mGeneration) {
+            store(id, entity);
+        }
+    }
+
+    synchronized void put(long id, T entity) {
+        mGeneration++;
+        store(id, entity);
+    }
+
+    synchronized void remove(long id) {
+        mGeneration++;
+        mEntities.remove(id);
+    }
+
+    synchronized void clear() {
+        mGeneration++;
+        mEntities.clear();
+    }
+
+    @Override
+    public synchronized long getHitCount() {
+        return mHitCount;
+    }
+
+    @Override
+    public synchronized long getMissCount() {
+        return mMissCount;
+    }
+
+    @Override
+    public synchronized int size() {
+        purge();
+        return mEntities.size();
+    }
+
+    private void store(long id, T entity) {
+        mEntities.put(id, new WeakReference<>(entity));
+        if (mEntities.size() >= mPurgeThreshold) {
+            purge();
+            mPurgeThreshold = Math.max(MIN_PURGE_THRESHOLD, mEntities.size() * 2);
+        }
+    }
+
+    private void purge() {
+        for (int i = mEntities.size() - 1; i >= 0; i--) {
+            if (mEntities.valueAt(i).get() == null) {
+                mEntities.removeAt(i);
+            }
+        }
+    }
+
+    private static boolean hasChanges(Object entity) {
+        return entity instanceof TrackedEntity && ((TrackedEntity) entity).hasChanges();
+    }
+}
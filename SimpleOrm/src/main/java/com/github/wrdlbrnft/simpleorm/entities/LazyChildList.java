@@ -0,0 +1,155 @@
+package com.github.wrdlbrnft.simpleorm.entities;
+
+import com.github.wrdlbrnft.simpleorm.database.ReadableSQLiteWrapper;
+import com.github.wrdlbrnft.simpleorm.selection.Selection;
+import com.github.wrdlbrnft.simpleorm.selection.SelectionArgs;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+public class LazyChildList<T> extends AbstractList<T> {
+
+    public interface Factory<T> {
+        EntityIterator<T> create(ReadableSQLiteWrapper wrapper, QueryParameters parameters);
+    }
+
+    private final ReadableSQLiteWrapper mWrapper;
+    private final Factory<T> mFactory;
+    private final String mSelection;
+    private final long mParentId;
+
+    private volatile List<T> mChildren;
+
+    public LazyChildList(ReadableSQLiteWrapper wrapper, Factory<T> factory, String selection, long parentId) {
+        mWrapper = wrapper;
+        mFactory = factory;
+        mSelection = selection;
+        mParentId = parentId;
+    }
+
+    public boolean isLoaded() {
+        return mChildren != null;
+    }
+
+    @Override
+    public T get(int index) {
+        return getChildren().get(index);
+    }
+
+    @Override
+    public int size() {
+        return getChildren().size();
+    }
+
+    @Override
+    public T set(int index, T element) {
+        return getChildren().set(index, element);
+    }
+
+    @Override
+    public void add(int index, T element) {
+        getChildren().add(index, element);
+        modCount++;
+    }
+
+    @Override
+    public T remove(int index) {
+        final T element = getChildren().remove(index);
+        modCount++;
+        return element;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        // As long as one side is unloaded the relation itself is compared, so equals never loads children
+        if (o instanceof LazyChildList) {
+            final LazyChildList<?> other = (LazyChildList<?>) o;
+            if (!isLoaded() || !other.isLoaded()) {
+                return mParentId == other.mParentId && mSelection.equals(other.mSelection);
+            }
+        }
+
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        if (!isLoaded()) {
+            return 31 * (int) (mParentId ^ (mParentId >>> 32)) + mSelection.hashCode();
+        }
+        return super.hashCode();
+    }
+
+    private List<T> getChildren() {
+        List<T> children = mChildren;
+        if (children == null) {
+            synchronized (this) {
+                children = mChildren;
+                if (children == null) {
+                    children = load();
+                    mChildren = children;
+                }
+            }
+        }
+        return children;
+    }
+
+    private List<T> load() {
+        final EntityIterator<T> iterator = mFactory.create(mWrapper, new ChildQuery(mSelection, mParentId));
+        try {
+            final List<T> children = new ArrayList<>(iterator.size());
+            while (iterator.hasNext()) {
+                children.add(iterator.next());
+            }
+            return children;
+        } finally {
+            iterator.close();
+        }
+    }
+
+    private static class ChildQuery implements QueryParameters, Selection {
+
+        private final String mSelection;
+        private final SelectionArgs mSelectionArgs;
+
+        private ChildQuery(String selection, long parentId) {
+            mSelection = selection;
+            mSelectionArgs = new SelectionArgs(1).addLong(parentId);
+        }
+
+        @Override
+        public Selection getSelection() {
+            return this;
+        }
+
+        @Override
+        public String getLimit() {
+            return null;
+        }
+
+        @Override
+        public String getOrderBy() {
+            return null;
+        }
+
+        @Override
+        public String getSelection(String tableName) {
+            return mSelection;
+        }
+
+        @Override
+        public SelectionArgs getSelectionArgs() {
+            return mSelectionArgs;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return false;
+        }
+    }
+}
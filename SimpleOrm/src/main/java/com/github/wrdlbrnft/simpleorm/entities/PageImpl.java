@@ -0,0 +1,46 @@
+package com.github.wrdlbrnft.simpleorm.entities;
+
+import com.github.wrdlbrnft.simpleorm.LazyList;
+import com.github.wrdlbrnft.simpleorm.Page;
+import com.github.wrdlbrnft.simpleorm.PageToken;
+
+import java.util.List;
+
+class PageImpl<T> implements Page<T> {
+
+    private final List<T> mItems;
+    private final PageToken mNextPageToken;
+    private final LazyList<T> mSource;
+
+    PageImpl(List<T> items, PageToken nextPageToken) {
+        this(items, nextPageToken, null);
+    }
+
+    PageImpl(List<T> items, PageToken nextPageToken, LazyList<T> source) {
+        mItems = items;
+        mNextPageToken = nextPageToken;
+        mSource = source;
+    }
+
+    @Override
+    public List<T> getItems() {
+        return mItems;
+    }
+
+    @Override
+    public boolean hasNextPage() {
+        return mNextPageToken != null;
+    }
+
+    @Override
+    public PageToken getNextPageToken() {
+        return mNextPageToken;
+    }
+
+    @Override
+    public void close() {
+        if (mSource != null) {
+            mSource.close();
+        }
+    }
+}
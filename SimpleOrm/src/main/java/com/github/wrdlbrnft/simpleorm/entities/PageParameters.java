@@ -0,0 +1,12 @@
+package com.github.wrdlbrnft.simpleorm.entities;
+
+import com.github.wrdlbrnft.simpleorm.Ordering;
+import com.github.wrdlbrnft.simpleorm.PageToken;
+
+public interface PageParameters<T> {
+    String getOrderColumn();
+    Ordering getOrdering();
+    int getPageSize();
+    T getLastEntity();
+    PageToken getPageToken();
+}
@@ -0,0 +1,76 @@
+package com.github.wrdlbrnft.simpleorm.entities;
+
+import com.github.wrdlbrnft.simpleorm.database.SQLiteStatementWrapper;
+import com.github.wrdlbrnft.simpleorm.database.WritableSQLiteWrapper;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+public class PartialUpdate {
+
+    private final Map<BitSet, SQLiteStatementWrapper> mStatements = new HashMap<>();
+    private final BitSet mColumns = new BitSet();
+
+    private final WritableSQLiteWrapper mWrapper;
+    private final String mTableName;
+    private final String mIdColumnName;
+    private final String[] mColumnNames;
+    private final Object[] mValues;
+
+    public PartialUpdate(WritableSQLiteWrapper wrapper, String tableName, String idColumnName, String... columnNames) {
+        mWrapper = wrapper;
+        mTableName = tableName;
+        mIdColumnName = idColumnName;
+        mColumnNames = columnNames;
+        mValues = new Object[columnNames.length];
+    }
+
+    public PartialUpdate set(int columnIndex, Object value) {
+        mColumns.set(columnIndex);
+        mValues[columnIndex] = value;
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return mColumns.isEmpty();
+    }
+
+    public int execute(long id) {
+        try {
+            final SQLiteStatementWrapper statement = getStatement();
+            int index = 1;
+            for (int i = mColumns.nextSetBit(0); i >= 0; i = mColumns.nextSetBit(i + 1)) {
+                ColumnAssignments.bind(statement, index++, mValues[i]);
+                mValues[i] = null;
+            }
+            statement.bindLong(index, id);
+            return statement.executeUpdateDelete();
+        } finally {
+            mColumns.clear();
+        }
+    }
+
+    public void close() {
+        for (SQLiteStatementWrapper statement : mStatements.values()) {
+            statement.close();
+        }
+        mStatements.clear();
+    }
+
+    // Statements are compiled once per combination of dirty columns
+    private SQLiteStatementWrapper getStatement() {
+        final SQLiteStatementWrapper cached = mStatements.get(mColumns);
+        if (cached != null) {
+            return cached;
+        }
+
+        final ColumnAssignments assignments = new ColumnAssignments();
+        for (int i = mColumns.nextSetBit(0); i >= 0; i = mColumns.nextSetBit(i + 1)) {
+            assignments.set(mColumnNames[i], null);
+        }
+        final SQLiteStatementWrapper statement = mWrapper.compileStatement("UPDATE " + mTableName + " SET " + assignments.getAssignments() + " WHERE " + mIdColumnName + " = ?");
+        mStatements.put((BitSet) mColumns.clone(), statement);
+        return statement;
+    }
+}
@@ -0,0 +1,38 @@
+package com.github.wrdlbrnft.simpleorm.entities;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class TableChangeNotifier {
+
+    public interface Listener {
+        void onTablesChanged(String[] tableNames);
+    }
+
+    private final List<Listener> mListeners = new CopyOnWriteArrayList<>();
+
+    public void addListener(Listener listener) {
+        mListeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        mListeners.remove(listener);
+    }
+
+    public void notifyTablesChanged(String[] tableNames) {
+        for (Listener listener : mListeners) {
+            listener.onTablesChanged(tableNames);
+        }
+    }
+
+    public static boolean containsAny(String[] tableNames, String[] changedTableNames) {
+        for (String changedTableName : changedTableNames) {
+            for (String tableName : tableNames) {
+                if (tableName.equals(changedTableName)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
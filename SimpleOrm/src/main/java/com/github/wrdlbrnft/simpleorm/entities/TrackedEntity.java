@@ -0,0 +1,14 @@
+package com.github.wrdlbrnft.simpleorm.entities;
+
+import java.util.BitSet;
+
+public interface TrackedEntity {
+    boolean isPersisted();
+    boolean hasChanges();
+    boolean isDirty(int columnIndex);
+    boolean isLoaded(int columnIndex);
+    Object getLazyReference(int columnIndex);
+    BitSet copyDirtyColumns();
+    void onPersisted();
+    void onRemoved();
+}
@@ -0,0 +1,8 @@
+package com.github.wrdlbrnft.simpleorm.entities;
+
+import com.github.wrdlbrnft.simpleorm.selection.Selection;
+
+public interface UpdateParameters<T> {
+    ColumnAssignments getAssignments();
+    Selection getSelection();
+}
@@ -0,0 +1,30 @@
+package com.github.wrdlbrnft.simpleorm.executor;
+
+import android.os.Process;
+import android.support.annotation.NonNull;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class DatabaseThreadFactory implements ThreadFactory {
+
+    private final AtomicInteger mThreadCount = new AtomicInteger();
+    private final String mNamePrefix;
+
+    DatabaseThreadFactory(String namePrefix) {
+        mNamePrefix = namePrefix;
+    }
+
+    @Override
+    public Thread newThread(@NonNull final Runnable runnable) {
+        final Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                runnable.run();
+            }
+        }, mNamePrefix + "-" + mThreadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+}
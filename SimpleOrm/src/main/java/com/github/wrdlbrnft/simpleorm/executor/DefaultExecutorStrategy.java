@@ -0,0 +1,121 @@
+package com.github.wrdlbrnft.simpleorm.executor;
+
+import android.support.annotation.NonNull;
+
+import com.github.wrdlbrnft.simpleorm.utils.ConcurrentSupplier;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+public class DefaultExecutorStrategy implements ExecutorStrategy {
+
+    private static final int MAX_READER_THREAD_COUNT = 4;
+    private static final long READER_KEEP_ALIVE_SECONDS = 30L;
+
+    private final ConcurrentSupplier<Executor> mWriteExecutorSupplier = new ConcurrentSupplier<Executor>() {
+        @NonNull
+        @Override
+        protected Executor create() {
+            return Executors.newSingleThreadExecutor(new DatabaseThreadFactory("SimpleOrm-Writer"));
+        }
+    };
+
+    private final ConcurrentSupplier<Executor> mReadExecutorSupplier = new ConcurrentSupplier<Executor>() {
+        @NonNull
+        @Override
+        protected Executor create() {
+            final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                    mReaderThreadCount,
+                    mReaderThreadCount,
+                    READER_KEEP_ALIVE_SECONDS,
+                    TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<Runnable>(),
+                    new DatabaseThreadFactory("SimpleOrm-Reader")
+            );
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    };
+
+    private final Executor mWriteExecutor = new Executor() {
+        @Override
+        public void execute(@NonNull Runnable command) {
+            final FutureTask<Void> task = new FutureTask<>(command, null);
+            synchronized (mWriteLock) {
+                mLastWrite = task;
+                mWriteExecutorSupplier.get().execute(task);
+            }
+        }
+    };
+
+    // Reads run on their own threads, so each of them waits for the writes submitted before it
+    private final Executor mReadExecutor = new Executor() {
+        @Override
+        public void execute(@NonNull Runnable command) {
+            final Future<Void> pendingWrite;
+            synchronized (mWriteLock) {
+                pendingWrite = mLastWrite;
+            }
+
+            if (pendingWrite == null || pendingWrite.isDone()) {
+                mReadExecutorSupplier.get().execute(command);
+                return;
+            }
+            mReadExecutorSupplier.get().execute(new AwaitWriteRunnable(pendingWrite, command));
+        }
+    };
+
+    private final Object mWriteLock = new Object();
+    private final int mReaderThreadCount;
+    private Future<Void> mLastWrite;
+
+    public DefaultExecutorStrategy() {
+        this(Math.max(2, Math.min(MAX_READER_THREAD_COUNT, Runtime.getRuntime().availableProcessors())));
+    }
+
+    public DefaultExecutorStrategy(int readerThreadCount) {
+        if (readerThreadCount <= 0) {
+            throw new IllegalArgumentException("The reader thread count has to be greater than 0, but was " + readerThreadCount + ".");
+        }
+        mReaderThreadCount = readerThreadCount;
+    }
+
+    @Override
+    public Executor getReadExecutor() {
+        return mReadExecutor;
+    }
+
+    @Override
+    public Executor getWriteExecutor() {
+        return mWriteExecutor;
+    }
+
+    private static class AwaitWriteRunnable implements Runnable {
+
+        private final Future<Void> mPendingWrite;
+        private final Runnable mCommand;
+
+        private AwaitWriteRunnable(Future<Void> pendingWrite, Runnable command) {
+            mPendingWrite = pendingWrite;
+            mCommand = command;
+        }
+
+        @Override
+        public void run() {
+            try {
+                mPendingWrite.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                // Failed writes report their error through their own task
+            }
+            mCommand.run();
+        }
+    }
+}
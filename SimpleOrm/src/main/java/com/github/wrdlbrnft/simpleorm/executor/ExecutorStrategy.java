@@ -0,0 +1,8 @@
+package com.github.wrdlbrnft.simpleorm.executor;
+
+import java.util.concurrent.Executor;
+
+public interface ExecutorStrategy {
+    Executor getReadExecutor();
+    Executor getWriteExecutor();
+}
@@ -0,0 +1,27 @@
+package com.github.wrdlbrnft.simpleorm.executor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+public class SerialExecutorStrategy implements ExecutorStrategy {
+
+    private final Executor mExecutor;
+
+    public SerialExecutorStrategy() {
+        this(Executors.newSingleThreadExecutor(new DatabaseThreadFactory("SimpleOrm-Serial")));
+    }
+
+    public SerialExecutorStrategy(Executor executor) {
+        mExecutor = executor;
+    }
+
+    @Override
+    public Executor getReadExecutor() {
+        return mExecutor;
+    }
+
+    @Override
+    public Executor getWriteExecutor() {
+        return mExecutor;
+    }
+}
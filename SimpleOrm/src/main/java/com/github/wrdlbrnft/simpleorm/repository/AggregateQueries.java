@@ -0,0 +1,138 @@
+package com.github.wrdlbrnft.simpleorm.repository;
+
+import com.github.wrdlbrnft.simpleorm.database.CursorWrapper;
+import com.github.wrdlbrnft.simpleorm.database.RowReader;
+import com.github.wrdlbrnft.simpleorm.entities.AggregateQuery;
+import com.github.wrdlbrnft.simpleorm.utils.LongSparseArrayCompat;
+
+import java.util.Date;
+
+class AggregateQueries {
+
+    interface ValueReader<R> {
+        R read(RowReader reader, int index);
+    }
+
+    static final ValueReader<Integer> INT_READER = new ValueReader<Integer>() {
+        @Override
+        public Integer read(RowReader reader, int index) {
+            return reader.getIntOrNull(index);
+        }
+    };
+
+    static final ValueReader<Long> LONG_READER = new ValueReader<Long>() {
+        @Override
+        public Long read(RowReader reader, int index) {
+            return reader.getLongOrNull(index);
+        }
+    };
+
+    static final ValueReader<Float> FLOAT_READER = new ValueReader<Float>() {
+        @Override
+        public Float read(RowReader reader, int index) {
+            return reader.getFloatOrNull(index);
+        }
+    };
+
+    static final ValueReader<Double> DOUBLE_READER = new ValueReader<Double>() {
+        @Override
+        public Double read(RowReader reader, int index) {
+            return reader.getDoubleOrNull(index);
+        }
+    };
+
+    static final ValueReader<Date> DATE_READER = new ValueReader<Date>() {
+        @Override
+        public Date read(RowReader reader, int index) {
+            final Long time = reader.getLongOrNull(index);
+            return time != null ? new Date(time) : null;
+        }
+    };
+
+    static final ValueReader<Boolean> EXISTS_READER = new ValueReader<Boolean>() {
+        @Override
+        public Boolean read(RowReader reader, int index) {
+            return reader.getLong(index) > 0L;
+        }
+    };
+
+    private AggregateQueries() {
+    }
+
+    static <R> AggregateQuery<R> single(String expression, ValueReader<R> reader, R defaultValue) {
+        return new SingleValueQuery<>(expression, reader, defaultValue);
+    }
+
+    static <R> AggregateQuery<LongSparseArrayCompat<R>> grouped(String keyColumn, String expression, ValueReader<R> reader) {
+        return new GroupedValueQuery<>(keyColumn, expression, reader);
+    }
+
+    private static class SingleValueQuery<R> implements AggregateQuery<R> {
+
+        private final String mExpression;
+        private final ValueReader<R> mReader;
+        private final R mDefaultValue;
+
+        private SingleValueQuery(String expression, ValueReader<R> reader, R defaultValue) {
+            mExpression = expression;
+            mReader = reader;
+            mDefaultValue = defaultValue;
+        }
+
+        @Override
+        public String getProjection() {
+            return mExpression;
+        }
+
+        @Override
+        public String getGroupBy() {
+            return null;
+        }
+
+        @Override
+        public R read(CursorWrapper cursor) {
+            if (!cursor.moveToFirst()) {
+                return mDefaultValue;
+            }
+
+            final R value = mReader.read(cursor, 0);
+            return value != null ? value : mDefaultValue;
+        }
+    }
+
+    private static class GroupedValueQuery<R> implements AggregateQuery<LongSparseArrayCompat<R>> {
+
+        private final String mKeyColumn;
+        private final String mExpression;
+        private final ValueReader<R> mReader;
+
+        private GroupedValueQuery(String keyColumn, String expression, ValueReader<R> reader) {
+            mKeyColumn = keyColumn;
+            mExpression = expression;
+            mReader = reader;
+        }
+
+        @Override
+        public String getProjection() {
+            return mKeyColumn + ", " + mExpression;
+        }
+
+        @Override
+        public String getGroupBy() {
+            return mKeyColumn;
+        }
+
+        @Override
+        public LongSparseArrayCompat<R> read(CursorWrapper cursor) {
+            final LongSparseArrayCompat<R> result = new LongSparseArrayCompat<>(cursor.getCount());
+            while (cursor.moveToNext()) {
+                final Long key = cursor.getLongOrNull(0);
+                if (key == null) {
+                    continue;
+                }
+                result.append(key, mReader.read(cursor, 1));
+            }
+            return result;
+        }
+    }
+}
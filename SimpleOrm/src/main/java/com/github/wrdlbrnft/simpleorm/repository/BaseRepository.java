@@ -3,9 +3,16 @@ package com.github.wrdlbrnft.simpleorm.repository;
 import android.os.Handler;
 import android.os.Looper;
 
+import com.github.wrdlbrnft.simpleorm.EntityStream;
+import com.github.wrdlbrnft.simpleorm.IdentityMapStatistics;
+import com.github.wrdlbrnft.simpleorm.LazyList;
+import com.github.wrdlbrnft.simpleorm.entities.AggregateQuery;
+import com.github.wrdlbrnft.simpleorm.entities.CursorReader;
 import com.github.wrdlbrnft.simpleorm.entities.EntityManager;
 import com.github.wrdlbrnft.simpleorm.Loader;
+import com.github.wrdlbrnft.simpleorm.Page;
 import com.github.wrdlbrnft.simpleorm.QueryBuilder;
+import com.github.wrdlbrnft.simpleorm.entities.PageParameters;
 import com.github.wrdlbrnft.simpleorm.entities.QueryParameters;
 import com.github.wrdlbrnft.simpleorm.entities.RemoveParameters;
 import com.github.wrdlbrnft.simpleorm.RemoveTransaction;
@@ -14,11 +21,18 @@ import com.github.wrdlbrnft.simpleorm.Repository;
 import com.github.wrdlbrnft.simpleorm.entities.SaveParameters;
 import com.github.wrdlbrnft.simpleorm.SaveTransaction;
 import com.github.wrdlbrnft.simpleorm.Saver;
+import com.github.wrdlbrnft.simpleorm.Subscription;
+import com.github.wrdlbrnft.simpleorm.UpdateTransaction;
+import com.github.wrdlbrnft.simpleorm.Updater;
+import com.github.wrdlbrnft.simpleorm.entities.UpdateParameters;
+import com.github.wrdlbrnft.simpleorm.exceptions.SimpleOrmException;
 
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Created with Android Studio
@@ -33,17 +47,37 @@ public class BaseRepository<T> implements Repository<T> {
 
         @Override
         public Saver<T> commit(SaveParameters<T> parameters) {
+            if (mGroupCommitter != null) {
+                return mGroupCommitter.submit(parameters);
+            }
+
             final Callable<Void> callable = new SaveTransactionCallable<>(mEntityManager, parameters);
             final SaverTask<T> task = new SaverTask<>(callable);
-            mExecutor.execute(task);
+            mWriteExecutor.execute(task);
             return task;
         }
 
         @Override
         public Remover<T> commit(RemoveParameters<T> parameters) {
+            if (mGroupCommitter != null) {
+                mGroupCommitter.flushPending();
+            }
+
             final Callable<Void> callable = new RemoveTransactionCallable<>(mEntityManager, parameters);
             final RemoverTask<T> task = new RemoverTask<>(callable);
-            mExecutor.execute(task);
+            mWriteExecutor.execute(task);
+            return task;
+        }
+
+        @Override
+        public Updater<T> commit(UpdateParameters<T> parameters) {
+            if (mGroupCommitter != null) {
+                mGroupCommitter.flushPending();
+            }
+
+            final Callable<Integer> callable = new UpdateTransactionCallable<>(mEntityManager, parameters);
+            final UpdaterTask<T> task = new UpdaterTask<>(callable);
+            mWriteExecutor.execute(task);
             return task;
         }
     };
@@ -52,32 +86,91 @@ public class BaseRepository<T> implements Repository<T> {
 
         @Override
         public Loader<T> queryFirst(QueryParameters parameters) {
-            final Callable<T> callable = new QueryFirstCallable<>(mEntityManager, parameters);
+            final Callable<T> callable = awaitPendingSaves(new QueryFirstCallable<>(mEntityManager, parameters));
             final LoaderTask<T> task = new LoaderTask<>(callable);
-            mExecutor.execute(task);
+            mReadExecutor.execute(task);
             return task;
         }
 
         @Override
         public Loader<List<T>> queryList(QueryParameters parameters) {
-            final Callable<List<T>> callable = new QueryListCallable<>(mEntityManager, parameters);
+            final Callable<List<T>> callable = awaitPendingSaves(new QueryListCallable<>(mEntityManager, parameters));
             final LoaderTask<List<T>> task = new LoaderTask<>(callable);
-            mExecutor.execute(task);
+            mReadExecutor.execute(task);
             return task;
         }
 
         @Override
-        public List<T> queryLazy(QueryParameters parameters) {
+        public LazyList<T> queryLazy(QueryParameters parameters) {
+            waitForPendingSaves();
             return mEntityManager.queryLazy(parameters);
         }
+
+        @Override
+        public Loader<Page<T>> queryPage(QueryParameters parameters, PageParameters<T> pageParameters) {
+            final Callable<Page<T>> callable = awaitPendingSaves(new QueryPageCallable<>(mEntityManager, parameters, pageParameters));
+            final LoaderTask<Page<T>> task = new LoaderTask<>(callable);
+            mReadExecutor.execute(task);
+            return task;
+        }
+
+        @Override
+        public Page<T> queryLazyPage(QueryParameters parameters, PageParameters<T> pageParameters) {
+            waitForPendingSaves();
+            return mEntityManager.queryLazyPage(parameters, pageParameters);
+        }
+
+        @Override
+        public EntityStream<T> queryStream(QueryParameters parameters, PageParameters<T> pageParameters) {
+            waitForPendingSaves();
+            return mEntityManager.queryStream(parameters, pageParameters);
+        }
+
+        @Override
+        public <R> Loader<R> queryAggregate(QueryParameters parameters, AggregateQuery<R> query) {
+            final Callable<R> callable = awaitPendingSaves(new QueryAggregateCallable<>(mEntityManager, parameters, query));
+            final LoaderTask<R> task = new LoaderTask<>(callable);
+            mReadExecutor.execute(task);
+            return task;
+        }
+
+        @Override
+        public Subscription observeList(QueryParameters parameters, long debounceMillis, Loader.Callback<List<T>> callback) {
+            final QueryObserver<T> observer = new QueryObserver<>(mEntityManager, mReadExecutor, parameters, debounceMillis, callback);
+            observer.start();
+            return observer;
+        }
+
+        @Override
+        public <R> Loader<R> queryColumns(QueryParameters parameters, String[] columns, CursorReader<R> reader) {
+            final Callable<R> callable = awaitPendingSaves(new QueryColumnsCallable<>(mEntityManager, parameters, columns, reader));
+            final LoaderTask<R> task = new LoaderTask<>(callable);
+            mReadExecutor.execute(task);
+            return task;
+        }
     };
 
     private final EntityManager<T> mEntityManager;
-    private final Executor mExecutor;
+    private final Executor mReadExecutor;
+    private final Executor mWriteExecutor;
+    private final GroupCommitter<T> mGroupCommitter;
 
     public BaseRepository(Executor executor, EntityManager<T> entityManager) {
+        this(executor, executor, entityManager);
+    }
+
+    public BaseRepository(Executor readExecutor, Executor writeExecutor, EntityManager<T> entityManager) {
+        mEntityManager = entityManager;
+        mReadExecutor = readExecutor;
+        mWriteExecutor = writeExecutor;
+        mGroupCommitter = null;
+    }
+
+    public BaseRepository(Executor readExecutor, Executor writeExecutor, EntityManager<T> entityManager, long groupCommitWindowMillis, int groupCommitMaxSize) {
         mEntityManager = entityManager;
-        mExecutor = executor;
+        mReadExecutor = readExecutor;
+        mWriteExecutor = writeExecutor;
+        mGroupCommitter = new GroupCommitter<>(entityManager, writeExecutor, groupCommitWindowMillis, groupCommitMaxSize);
     }
 
     @Override
@@ -90,11 +183,60 @@ public class BaseRepository<T> implements Repository<T> {
         return new RemoveTransactionImpl<>(mTransactionResolver);
     }
 
+    @Override
+    public UpdateTransaction<T> update() {
+        return new UpdateTransactionImpl<>(mTransactionResolver);
+    }
+
     @Override
     public QueryBuilder<T> find() {
         return new QueryBuilderImpl<>(mQueryResolver);
     }
 
+    @Override
+    public IdentityMapStatistics identityMap() {
+        return mEntityManager.getIdentityMapStatistics();
+    }
+
+    // Reads have to see grouped saves which were submitted before them. A shared executor runs the
+    // flush before the read anyway, separate read threads wait for the pending saves to complete.
+    private <R> Callable<R> awaitPendingSaves(Callable<R> callable) {
+        if (mGroupCommitter == null) {
+            return callable;
+        }
+
+        final List<Future<Void>> pendingSaves = mGroupCommitter.flushPending();
+        if (pendingSaves.isEmpty() || mReadExecutor == mWriteExecutor) {
+            return callable;
+        }
+        return new AwaitSavesCallable<>(pendingSaves, callable);
+    }
+
+    private void waitForPendingSaves() {
+        if (mGroupCommitter == null) {
+            return;
+        }
+
+        try {
+            AwaitSavesCallable.await(mGroupCommitter.flushPending());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SimpleOrmException("Interrupted while waiting for pending saves", e);
+        }
+    }
+
+    public Loader<T> queryFirst(QueryParameters parameters) {
+        return mQueryResolver.queryFirst(parameters);
+    }
+
+    public Loader<List<T>> queryList(QueryParameters parameters) {
+        return mQueryResolver.queryList(parameters);
+    }
+
+    public LazyList<T> queryLazy(QueryParameters parameters) {
+        return mQueryResolver.queryLazy(parameters);
+    }
+
     private static class QueryFirstCallable<T> implements Callable<T> {
 
         private final EntityManager<T> mEntityManager;
@@ -127,6 +269,89 @@ public class BaseRepository<T> implements Repository<T> {
         }
     }
 
+    private static class QueryPageCallable<T> implements Callable<Page<T>> {
+
+        private final EntityManager<T> mEntityManager;
+        private final QueryParameters mParameters;
+        private final PageParameters<T> mPageParameters;
+
+        private QueryPageCallable(EntityManager<T> entityManager, QueryParameters parameters, PageParameters<T> pageParameters) {
+            mEntityManager = entityManager;
+            mParameters = parameters;
+            mPageParameters = pageParameters;
+        }
+
+        @Override
+        public Page<T> call() throws Exception {
+            return mEntityManager.queryPage(mParameters, mPageParameters);
+        }
+    }
+
+    private static class QueryAggregateCallable<T, R> implements Callable<R> {
+
+        private final EntityManager<T> mEntityManager;
+        private final QueryParameters mParameters;
+        private final AggregateQuery<R> mQuery;
+
+        private QueryAggregateCallable(EntityManager<T> entityManager, QueryParameters parameters, AggregateQuery<R> query) {
+            mEntityManager = entityManager;
+            mParameters = parameters;
+            mQuery = query;
+        }
+
+        @Override
+        public R call() throws Exception {
+            return mEntityManager.queryAggregate(mParameters, mQuery);
+        }
+    }
+
+    private static class QueryColumnsCallable<T, R> implements Callable<R> {
+
+        private final EntityManager<T> mEntityManager;
+        private final QueryParameters mParameters;
+        private final String[] mColumns;
+        private final CursorReader<R> mReader;
+
+        private QueryColumnsCallable(EntityManager<T> entityManager, QueryParameters parameters, String[] columns, CursorReader<R> reader) {
+            mEntityManager = entityManager;
+            mParameters = parameters;
+            mColumns = columns;
+            mReader = reader;
+        }
+
+        @Override
+        public R call() throws Exception {
+            return mEntityManager.queryColumns(mParameters, mColumns, mReader);
+        }
+    }
+
+    private static class AwaitSavesCallable<R> implements Callable<R> {
+
+        private final List<Future<Void>> mPendingSaves;
+        private final Callable<R> mCallable;
+
+        private AwaitSavesCallable(List<Future<Void>> pendingSaves, Callable<R> callable) {
+            mPendingSaves = pendingSaves;
+            mCallable = callable;
+        }
+
+        @Override
+        public R call() throws Exception {
+            await(mPendingSaves);
+            return mCallable.call();
+        }
+
+        private static void await(List<Future<Void>> pendingSaves) throws InterruptedException {
+            for (Future<Void> save : pendingSaves) {
+                try {
+                    save.get();
+                } catch (ExecutionException e) {
+                    // Failed saves report their error through their own Saver
+                }
+            }
+        }
+    }
+
     private static class SaveTransactionCallable<T> implements Callable<Void> {
 
         private final EntityManager<T> mEntityManager;
@@ -160,4 +385,20 @@ public class BaseRepository<T> implements Repository<T> {
             return null;
         }
     }
+
+    private static class UpdateTransactionCallable<T> implements Callable<Integer> {
+
+        private final EntityManager<T> mEntityManager;
+        private final UpdateParameters<T> mParameters;
+
+        private UpdateTransactionCallable(EntityManager<T> entityManager, UpdateParameters<T> parameters) {
+            mEntityManager = entityManager;
+            mParameters = parameters;
+        }
+
+        @Override
+        public Integer call() throws Exception {
+            return mEntityManager.commitUpdateTransaction(mParameters);
+        }
+    }
 }
@@ -0,0 +1,136 @@
+package com.github.wrdlbrnft.simpleorm.repository;
+
+import com.github.wrdlbrnft.simpleorm.EntityStream;
+import com.github.wrdlbrnft.simpleorm.IdentityMapStatistics;
+import com.github.wrdlbrnft.simpleorm.LazyList;
+import com.github.wrdlbrnft.simpleorm.Page;
+import com.github.wrdlbrnft.simpleorm.entities.AggregateQuery;
+import com.github.wrdlbrnft.simpleorm.entities.CursorReader;
+import com.github.wrdlbrnft.simpleorm.entities.EntityManager;
+import com.github.wrdlbrnft.simpleorm.entities.PageParameters;
+import com.github.wrdlbrnft.simpleorm.entities.QueryParameters;
+import com.github.wrdlbrnft.simpleorm.entities.RemoveParameters;
+import com.github.wrdlbrnft.simpleorm.entities.SaveParameters;
+import com.github.wrdlbrnft.simpleorm.entities.TableChangeNotifier;
+import com.github.wrdlbrnft.simpleorm.entities.UpdateParameters;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// Cached entities are handed to every caller like instances of the identity map, only the returned lists are copies
+public class CachingEntityManager<T> implements EntityManager<T> {
+
+    private final TableChangeNotifier.Listener mTableChangeListener = new TableChangeNotifier.Listener() {
+        @Override
+        public void onTablesChanged(String[] tableNames) {
+            if (TableChangeNotifier.containsAny(mTableNames, tableNames)) {
+                mCache.clear();
+            }
+        }
+    };
+
+    private final EntityManager<T> mEntityManager;
+    private final String[] mTableNames;
+    private final QueryResultCache<T> mCache;
+
+    public CachingEntityManager(EntityManager<T> entityManager, int maxEntries, long maxBytes) {
+        mEntityManager = entityManager;
+        mTableNames = entityManager.getTableNames();
+        mCache = new QueryResultCache<>(maxEntries, maxBytes);
+        entityManager.getTableChangeNotifier().addListener(mTableChangeListener);
+    }
+
+    @Override
+    public T queryFirst(QueryParameters parameters) {
+        final QueryResultCache.Key key = QueryResultCache.createKey(mTableNames[0], true, parameters);
+        final List<T> cached = mCache.get(key);
+        if (cached != null) {
+            return cached.isEmpty() ? null : cached.get(0);
+        }
+
+        final long generation = mCache.getGeneration();
+        final T entity = mEntityManager.queryFirst(parameters);
+        mCache.put(key, entity != null ? Collections.singletonList(entity) : Collections.<T>emptyList(), generation);
+        return entity;
+    }
+
+    @Override
+    public List<T> queryList(QueryParameters parameters) {
+        final QueryResultCache.Key key = QueryResultCache.createKey(mTableNames[0], false, parameters);
+        final List<T> cached = mCache.get(key);
+        if (cached != null) {
+            return new ArrayList<>(cached);
+        }
+
+        final long generation = mCache.getGeneration();
+        final List<T> entities = mEntityManager.queryList(parameters);
+        mCache.put(key, new ArrayList<>(entities), generation);
+        return entities;
+    }
+
+    @Override
+    public LazyList<T> queryLazy(QueryParameters parameters) {
+        return mEntityManager.queryLazy(parameters);
+    }
+
+    @Override
+    public Page<T> queryPage(QueryParameters parameters, PageParameters<T> pageParameters) {
+        return mEntityManager.queryPage(parameters, pageParameters);
+    }
+
+    @Override
+    public Page<T> queryLazyPage(QueryParameters parameters, PageParameters<T> pageParameters) {
+        return mEntityManager.queryLazyPage(parameters, pageParameters);
+    }
+
+    @Override
+    public EntityStream<T> queryStream(QueryParameters parameters, PageParameters<T> pageParameters) {
+        return mEntityManager.queryStream(parameters, pageParameters);
+    }
+
+    @Override
+    public <R> R queryAggregate(QueryParameters parameters, AggregateQuery<R> query) {
+        return mEntityManager.queryAggregate(parameters, query);
+    }
+
+    @Override
+    public <R> R queryColumns(QueryParameters parameters, String[] columns, CursorReader<R> reader) {
+        return mEntityManager.queryColumns(parameters, columns, reader);
+    }
+
+    @Override
+    public void commitSaveTransaction(SaveParameters<T> parameters) {
+        mEntityManager.commitSaveTransaction(parameters);
+    }
+
+    @Override
+    public void commitSaveTransactions(List<SaveParameters<T>> parameters) {
+        mEntityManager.commitSaveTransactions(parameters);
+    }
+
+    @Override
+    public void commitRemoveTransaction(RemoveParameters<T> parameters) {
+        mEntityManager.commitRemoveTransaction(parameters);
+    }
+
+    @Override
+    public int commitUpdateTransaction(UpdateParameters<T> parameters) {
+        return mEntityManager.commitUpdateTransaction(parameters);
+    }
+
+    @Override
+    public IdentityMapStatistics getIdentityMapStatistics() {
+        return mEntityManager.getIdentityMapStatistics();
+    }
+
+    @Override
+    public String[] getTableNames() {
+        return mTableNames;
+    }
+
+    @Override
+    public TableChangeNotifier getTableChangeNotifier() {
+        return mEntityManager.getTableChangeNotifier();
+    }
+}
@@ -0,0 +1,181 @@
+package com.github.wrdlbrnft.simpleorm.repository;
+
+import android.support.annotation.NonNull;
+import android.util.Log;
+
+import com.github.wrdlbrnft.simpleorm.Saver;
+import com.github.wrdlbrnft.simpleorm.entities.EntityManager;
+import com.github.wrdlbrnft.simpleorm.entities.SaveParameters;
+import com.github.wrdlbrnft.simpleorm.utils.ConcurrentSupplier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+class GroupCommitter<T> {
+
+    private static final String TAG = "GroupCommitter";
+
+    private static final ConcurrentSupplier<ScheduledExecutorService> SCHEDULER_SUPPLIER = new ConcurrentSupplier<ScheduledExecutorService>() {
+        @NonNull
+        @Override
+        protected ScheduledExecutorService create() {
+            return Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(@NonNull Runnable runnable) {
+                    final Thread thread = new Thread(runnable, "SimpleOrm-GroupCommit");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+    };
+
+    private final Runnable mFlushRunnable = new Runnable() {
+        @Override
+        public void run() {
+            flush();
+        }
+    };
+
+    private final Runnable mScheduleFlushRunnable = new Runnable() {
+        @Override
+        public void run() {
+            mWriteExecutor.execute(mFlushRunnable);
+        }
+    };
+
+    private final List<Submission<T>> mPendingSubmissions = new ArrayList<>();
+    private final List<SaverTask<T>> mFlushingTasks = new ArrayList<>();
+
+    private final EntityManager<T> mEntityManager;
+    private final Executor mWriteExecutor;
+    private final long mWindowMillis;
+    private final int mMaxSize;
+
+    private boolean mFlushScheduled = false;
+
+    GroupCommitter(EntityManager<T> entityManager, Executor writeExecutor, long windowMillis, int maxSize) {
+        mEntityManager = entityManager;
+        mWriteExecutor = writeExecutor;
+        mWindowMillis = windowMillis;
+        mMaxSize = maxSize;
+    }
+
+    public Saver<T> submit(SaveParameters<T> parameters) {
+        final GroupedSaveCallable<T> callable = new GroupedSaveCallable<>(mEntityManager, parameters);
+        final SaverTask<T> task = new SaverTask<>(callable);
+
+        synchronized (mPendingSubmissions) {
+            mPendingSubmissions.add(new Submission<>(callable, task));
+
+            if (mMaxSize > 0 && mPendingSubmissions.size() >= mMaxSize) {
+                mFlushScheduled = true;
+                mWriteExecutor.execute(mFlushRunnable);
+            } else if (!mFlushScheduled) {
+                mFlushScheduled = true;
+                if (mWindowMillis > 0L) {
+                    SCHEDULER_SUPPLIER.get().schedule(mScheduleFlushRunnable, mWindowMillis, TimeUnit.MILLISECONDS);
+                } else {
+                    mWriteExecutor.execute(mFlushRunnable);
+                }
+            }
+        }
+
+        return task;
+    }
+
+    public List<Future<Void>> flushPending() {
+        synchronized (mPendingSubmissions) {
+            final List<Future<Void>> unfinishedSaves = new ArrayList<Future<Void>>(mFlushingTasks);
+            if (mPendingSubmissions.isEmpty()) {
+                return unfinishedSaves;
+            }
+            for (Submission<T> submission : mPendingSubmissions) {
+                unfinishedSaves.add(submission.mTask);
+            }
+            mFlushScheduled = true;
+            mWriteExecutor.execute(mFlushRunnable);
+            return unfinishedSaves;
+        }
+    }
+
+    private void flush() {
+        final List<Submission<T>> submissions;
+        synchronized (mPendingSubmissions) {
+            mFlushScheduled = false;
+            if (mPendingSubmissions.isEmpty()) {
+                return;
+            }
+            submissions = new ArrayList<>(mPendingSubmissions);
+            mPendingSubmissions.clear();
+            for (Submission<T> submission : submissions) {
+                mFlushingTasks.add(submission.mTask);
+            }
+        }
+
+        boolean committed = false;
+        if (submissions.size() > 1) {
+            final List<SaveParameters<T>> parameters = new ArrayList<>(submissions.size());
+            for (Submission<T> submission : submissions) {
+                parameters.add(submission.mCallable.mParameters);
+            }
+
+            try {
+                mEntityManager.commitSaveTransactions(parameters);
+                committed = true;
+            } catch (Exception e) {
+                Log.w(TAG, "Failed to commit " + submissions.size() + " grouped saves in one transaction. Committing them one by one.", e);
+            }
+        }
+
+        for (Submission<T> submission : submissions) {
+            submission.mCallable.mCommitted = committed;
+            submission.mTask.run();
+        }
+
+        synchronized (mPendingSubmissions) {
+            for (Submission<T> submission : submissions) {
+                mFlushingTasks.remove(submission.mTask);
+            }
+        }
+    }
+
+    private static class Submission<T> {
+
+        private final GroupedSaveCallable<T> mCallable;
+        private final SaverTask<T> mTask;
+
+        private Submission(GroupedSaveCallable<T> callable, SaverTask<T> task) {
+            mCallable = callable;
+            mTask = task;
+        }
+    }
+
+    private static class GroupedSaveCallable<T> implements Callable<Void> {
+
+        private final EntityManager<T> mEntityManager;
+        private final SaveParameters<T> mParameters;
+
+        private boolean mCommitted = false;
+
+        private GroupedSaveCallable(EntityManager<T> entityManager, SaveParameters<T> parameters) {
+            mEntityManager = entityManager;
+            mParameters = parameters;
+        }
+
+        @Override
+        public Void call() throws Exception {
+            if (!mCommitted) {
+                mEntityManager.commitSaveTransaction(mParameters);
+            }
+            return null;
+        }
+    }
+}
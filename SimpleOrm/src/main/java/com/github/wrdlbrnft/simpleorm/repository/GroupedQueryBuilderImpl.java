@@ -0,0 +1,105 @@
+package com.github.wrdlbrnft.simpleorm.repository;
+
+import com.github.wrdlbrnft.simpleorm.GroupedQueryBuilder;
+import com.github.wrdlbrnft.simpleorm.Loader;
+import com.github.wrdlbrnft.simpleorm.fields.DoubleField;
+import com.github.wrdlbrnft.simpleorm.fields.FloatField;
+import com.github.wrdlbrnft.simpleorm.fields.IntField;
+import com.github.wrdlbrnft.simpleorm.fields.LongField;
+import com.github.wrdlbrnft.simpleorm.utils.LongSparseArrayCompat;
+
+class GroupedQueryBuilderImpl<T> implements GroupedQueryBuilder<T> {
+
+    private final QueryBuilderImpl<T> mQueryBuilder;
+    private final String mKeyColumn;
+
+    GroupedQueryBuilderImpl(QueryBuilderImpl<T> queryBuilder, String keyColumn) {
+        mQueryBuilder = queryBuilder;
+        mKeyColumn = keyColumn;
+    }
+
+    @Override
+    public Loader<LongSparseArrayCompat<Long>> count() {
+        return mQueryBuilder.aggregate(AggregateQueries.grouped(mKeyColumn, "COUNT(*)", AggregateQueries.LONG_READER));
+    }
+
+    @Override
+    public Loader<LongSparseArrayCompat<Integer>> min(IntField<T> field) {
+        return mQueryBuilder.aggregate(AggregateQueries.grouped(mKeyColumn, "MIN(" + field.getName() + ")", AggregateQueries.INT_READER));
+    }
+
+    @Override
+    public Loader<LongSparseArrayCompat<Long>> min(LongField<T> field) {
+        return mQueryBuilder.aggregate(AggregateQueries.grouped(mKeyColumn, "MIN(" + field.getName() + ")", AggregateQueries.LONG_READER));
+    }
+
+    @Override
+    public Loader<LongSparseArrayCompat<Double>> min(DoubleField<T> field) {
+        return mQueryBuilder.aggregate(AggregateQueries.grouped(mKeyColumn, "MIN(" + field.getName() + ")", AggregateQueries.DOUBLE_READER));
+    }
+
+    @Override
+    public Loader<LongSparseArrayCompat<Float>> min(FloatField<T> field) {
+        return mQueryBuilder.aggregate(AggregateQueries.grouped(mKeyColumn, "MIN(" + field.getName() + ")", AggregateQueries.FLOAT_READER));
+    }
+
+    @Override
+    public Loader<LongSparseArrayCompat<Integer>> max(IntField<T> field) {
+        return mQueryBuilder.aggregate(AggregateQueries.grouped(mKeyColumn, "MAX(" + field.getName() + ")", AggregateQueries.INT_READER));
+    }
+
+    @Override
+    public Loader<LongSparseArrayCompat<Long>> max(LongField<T> field) {
+        return mQueryBuilder.aggregate(AggregateQueries.grouped(mKeyColumn, "MAX(" + field.getName() + ")", AggregateQueries.LONG_READER));
+    }
+
+    @Override
+    public Loader<LongSparseArrayCompat<Double>> max(DoubleField<T> field) {
+        return mQueryBuilder.aggregate(AggregateQueries.grouped(mKeyColumn, "MAX(" + field.getName() + ")", AggregateQueries.DOUBLE_READER));
+    }
+
+    @Override
+    public Loader<LongSparseArrayCompat<Float>> max(FloatField<T> field) {
+        return mQueryBuilder.aggregate(AggregateQueries.grouped(mKeyColumn, "MAX(" + field.getName() + ")", AggregateQueries.FLOAT_READER));
+    }
+
+    @Override
+    public Loader<LongSparseArrayCompat<Long>> sum(IntField<T> field) {
+        return mQueryBuilder.aggregate(AggregateQueries.grouped(mKeyColumn, "SUM(" + field.getName() + ")", AggregateQueries.LONG_READER));
+    }
+
+    @Override
+    public Loader<LongSparseArrayCompat<Long>> sum(LongField<T> field) {
+        return mQueryBuilder.aggregate(AggregateQueries.grouped(mKeyColumn, "SUM(" + field.getName() + ")", AggregateQueries.LONG_READER));
+    }
+
+    @Override
+    public Loader<LongSparseArrayCompat<Double>> sum(DoubleField<T> field) {
+        return mQueryBuilder.aggregate(AggregateQueries.grouped(mKeyColumn, "SUM(" + field.getName() + ")", AggregateQueries.DOUBLE_READER));
+    }
+
+    @Override
+    public Loader<LongSparseArrayCompat<Double>> sum(FloatField<T> field) {
+        return mQueryBuilder.aggregate(AggregateQueries.grouped(mKeyColumn, "SUM(" + field.getName() + ")", AggregateQueries.DOUBLE_READER));
+    }
+
+    @Override
+    public Loader<LongSparseArrayCompat<Double>> avg(IntField<T> field) {
+        return mQueryBuilder.aggregate(AggregateQueries.grouped(mKeyColumn, "AVG(" + field.getName() + ")", AggregateQueries.DOUBLE_READER));
+    }
+
+    @Override
+    public Loader<LongSparseArrayCompat<Double>> avg(LongField<T> field) {
+        return mQueryBuilder.aggregate(AggregateQueries.grouped(mKeyColumn, "AVG(" + field.getName() + ")", AggregateQueries.DOUBLE_READER));
+    }
+
+    @Override
+    public Loader<LongSparseArrayCompat<Double>> avg(DoubleField<T> field) {
+        return mQueryBuilder.aggregate(AggregateQueries.grouped(mKeyColumn, "AVG(" + field.getName() + ")", AggregateQueries.DOUBLE_READER));
+    }
+
+    @Override
+    public Loader<LongSparseArrayCompat<Double>> avg(FloatField<T> field) {
+        return mQueryBuilder.aggregate(AggregateQueries.grouped(mKeyColumn, "AVG(" + field.getName() + ")", AggregateQueries.DOUBLE_READER));
+    }
+}
@@ -0,0 +1,47 @@
+package com.github.wrdlbrnft.simpleorm.repository;
+
+import com.github.wrdlbrnft.simpleorm.Ordering;
+import com.github.wrdlbrnft.simpleorm.PageToken;
+import com.github.wrdlbrnft.simpleorm.entities.PageParameters;
+
+class PageParametersImpl<T> implements PageParameters<T> {
+
+    private final String mOrderColumn;
+    private final Ordering mOrdering;
+    private final int mPageSize;
+    private final T mLastEntity;
+    private final PageToken mPageToken;
+
+    PageParametersImpl(String orderColumn, Ordering ordering, int pageSize, T lastEntity, PageToken pageToken) {
+        mOrderColumn = orderColumn;
+        mOrdering = ordering;
+        mPageSize = pageSize;
+        mLastEntity = lastEntity;
+        mPageToken = pageToken;
+    }
+
+    @Override
+    public String getOrderColumn() {
+        return mOrderColumn;
+    }
+
+    @Override
+    public Ordering getOrdering() {
+        return mOrdering;
+    }
+
+    @Override
+    public int getPageSize() {
+        return mPageSize;
+    }
+
+    @Override
+    public T getLastEntity() {
+        return mLastEntity;
+    }
+
+    @Override
+    public PageToken getPageToken() {
+        return mPageToken;
+    }
+}
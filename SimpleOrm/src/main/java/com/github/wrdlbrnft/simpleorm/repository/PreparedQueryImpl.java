@@ -0,0 +1,113 @@
+package com.github.wrdlbrnft.simpleorm.repository;
+
+import com.github.wrdlbrnft.simpleorm.LazyList;
+import com.github.wrdlbrnft.simpleorm.Loader;
+import com.github.wrdlbrnft.simpleorm.PreparedQuery;
+import com.github.wrdlbrnft.simpleorm.exceptions.SimpleOrmException;
+import com.github.wrdlbrnft.simpleorm.selection.Selection;
+import com.github.wrdlbrnft.simpleorm.selection.SelectionArgs;
+
+import java.util.Date;
+import java.util.List;
+
+class PreparedQueryImpl<T> implements PreparedQuery<T> {
+
+    private final QueryResolver<T> mResolver;
+    private final Selection mSelection;
+    private final String mLimit;
+    private final String mOrderBy;
+    private final int mArgumentCount;
+
+    PreparedQueryImpl(QueryResolver<T> resolver, Selection selection, String limit, String orderBy) {
+        mResolver = resolver;
+        mSelection = selection;
+        mLimit = limit;
+        mOrderBy = orderBy;
+        mArgumentCount = selection.getSelectionArgs().size();
+    }
+
+    @Override
+    public int getArgumentCount() {
+        return mArgumentCount;
+    }
+
+    @Override
+    public Loader<T> getFirst(Object... arguments) {
+        return mResolver.queryFirst(new QueryParametersImpl(bind(arguments), "1", mOrderBy));
+    }
+
+    @Override
+    public Loader<List<T>> getList(Object... arguments) {
+        return mResolver.queryList(new QueryParametersImpl(bind(arguments), mLimit, mOrderBy));
+    }
+
+    @Override
+    public LazyList<T> lazy(Object... arguments) {
+        return mResolver.queryLazy(new QueryParametersImpl(bind(arguments), mLimit, mOrderBy));
+    }
+
+    private Selection bind(Object[] arguments) {
+        if (arguments.length != mArgumentCount) {
+            throw new SimpleOrmException("This query expects " + mArgumentCount + " arguments, but " + arguments.length + " were supplied.");
+        }
+
+        if (mArgumentCount == 0) {
+            return mSelection;
+        }
+
+        final SelectionArgs preparedArgs = mSelection.getSelectionArgs();
+        final SelectionArgs selectionArgs = new SelectionArgs(arguments.length);
+        for (int i = 0; i < arguments.length; i++) {
+            addArgument(selectionArgs, preparedArgs, i, arguments[i]);
+        }
+        return new BoundSelection(mSelection, selectionArgs);
+    }
+
+    private static void addArgument(SelectionArgs selectionArgs, SelectionArgs preparedArgs, int index, Object value) {
+        if (value == null) {
+            throw new SimpleOrmException("Query arguments cannot be null. Use isNull() when preparing the query instead.");
+        }
+
+        if (preparedArgs.isPattern(index)) {
+            selectionArgs.addString(preparedArgs.applyPattern(index, String.valueOf(value)));
+        } else if (value instanceof String) {
+            selectionArgs.addString((String) value);
+        } else if (value instanceof Boolean) {
+            selectionArgs.addLong((Boolean) value ? 1L : 0L);
+        } else if (value instanceof Date) {
+            selectionArgs.addLong(((Date) value).getTime());
+        } else if (value instanceof Float || value instanceof Double) {
+            selectionArgs.addDouble(((Number) value).doubleValue());
+        } else if (value instanceof Number) {
+            selectionArgs.addLong(((Number) value).longValue());
+        } else {
+            selectionArgs.addString(String.valueOf(value));
+        }
+    }
+
+    private static class BoundSelection implements Selection {
+
+        private final Selection mSelection;
+        private final SelectionArgs mSelectionArgs;
+
+        private BoundSelection(Selection selection, SelectionArgs selectionArgs) {
+            mSelection = selection;
+            mSelectionArgs = selectionArgs;
+        }
+
+        @Override
+        public String getSelection(String tableName) {
+            return mSelection.getSelection(tableName);
+        }
+
+        @Override
+        public SelectionArgs getSelectionArgs() {
+            return mSelectionArgs;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return mSelection.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.github.wrdlbrnft.simpleorm.repository;
+
+import com.github.wrdlbrnft.simpleorm.Row;
+import com.github.wrdlbrnft.simpleorm.database.CursorWrapper;
+import com.github.wrdlbrnft.simpleorm.entities.CursorReader;
+import com.github.wrdlbrnft.simpleorm.exceptions.SimpleOrmException;
+import com.github.wrdlbrnft.simpleorm.fields.BooleanField;
+import com.github.wrdlbrnft.simpleorm.fields.DateField;
+import com.github.wrdlbrnft.simpleorm.fields.DoubleField;
+import com.github.wrdlbrnft.simpleorm.fields.Field;
+import com.github.wrdlbrnft.simpleorm.fields.FloatField;
+import com.github.wrdlbrnft.simpleorm.fields.IntField;
+import com.github.wrdlbrnft.simpleorm.fields.LongField;
+import com.github.wrdlbrnft.simpleorm.fields.StringField;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+class ProjectedRows<T> extends AbstractList<Row<T>> {
+
+    private static final int KIND_LONG = 0;
+    private static final int KIND_DOUBLE = 1;
+    private static final int KIND_STRING = 2;
+
+    static <T> CursorReader<List<Row<T>>> reader(List<? extends Field<T, ?>> fields) {
+        final String[] columns = getColumns(fields);
+        final int[] kinds = getKinds(fields);
+        return new CursorReader<List<Row<T>>>() {
+            @Override
+            public List<Row<T>> read(CursorWrapper cursor) {
+                final int count = cursor.getCount();
+                if (count == 0) {
+                    return Collections.emptyList();
+                }
+
+                final ProjectedRows<T> rows = new ProjectedRows<>(columns, kinds, count);
+                int position = 0;
+                while (cursor.moveToNext()) {
+                    rows.readRow(cursor, position++);
+                }
+                return rows;
+            }
+        };
+    }
+
+    static <T> String[] getColumns(List<? extends Field<T, ?>> fields) {
+        final String[] columns = new String[fields.size()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = fields.get(i).getName();
+        }
+        return columns;
+    }
+
+    private static <T> int[] getKinds(List<? extends Field<T, ?>> fields) {
+        final int[] kinds = new int[fields.size()];
+        for (int i = 0; i < kinds.length; i++) {
+            final Field<T, ?> field = fields.get(i);
+            if (field instanceof IntField || field instanceof LongField || field instanceof BooleanField || field instanceof DateField) {
+                kinds[i] = KIND_LONG;
+            } else if (field instanceof FloatField || field instanceof DoubleField) {
+                kinds[i] = KIND_DOUBLE;
+            } else if (field instanceof StringField) {
+                kinds[i] = KIND_STRING;
+            } else {
+                throw new SimpleOrmException("Only value columns can be projected, " + field.getName() + " is not one of them.");
+            }
+        }
+        return kinds;
+    }
+
+    private final String[] mColumns;
+    private final int[] mKinds;
+    private final int mSize;
+    private final Object[] mValues;
+    private final BitSet mNulls;
+    private final List<Row<T>> mRows;
+
+    private ProjectedRows(String[] columns, int[] kinds, int size) {
+        mColumns = columns;
+        mKinds = kinds;
+        mSize = size;
+        mValues = new Object[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            switch (kinds[i]) {
+
+                case KIND_LONG:
+                    mValues[i] = new long[size];
+                    break;
+
+                case KIND_DOUBLE:
+                    mValues[i] = new double[size];
+                    break;
+
+                default:
+                    mValues[i] = new String[size];
+                    break;
+            }
+        }
+        mNulls = new BitSet(columns.length * size);
+        mRows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            mRows.add(new RowImpl(i));
+        }
+    }
+
+    private void readRow(CursorWrapper cursor, int position) {
+        for (int column = 0; column < mColumns.length; column++) {
+            switch (mKinds[column]) {
+
+                case KIND_LONG:
+                    final Long longValue = cursor.getLongOrNull(column);
+                    if (longValue == null) {
+                        mNulls.set(position * mColumns.length + column);
+                    } else {
+                        ((long[]) mValues[column])[position] = longValue;
+                    }
+                    break;
+
+                case KIND_DOUBLE:
+                    final Double doubleValue = cursor.getDoubleOrNull(column);
+                    if (doubleValue == null) {
+                        mNulls.set(position * mColumns.length + column);
+                    } else {
+                        ((double[]) mValues[column])[position] = doubleValue;
+                    }
+                    break;
+
+                default:
+                    final String stringValue = cursor.getString(column);
+                    if (stringValue == null) {
+                        mNulls.set(position * mColumns.length + column);
+                    }
+                    ((String[]) mValues[column])[position] = stringValue;
+                    break;
+            }
+        }
+    }
+
+    @Override
+    public Row<T> get(int index) {
+        return mRows.get(index);
+    }
+
+    @Override
+    public int size() {
+        return mSize;
+    }
+
+    private int indexOf(Field<T, ?> field) {
+        final String name = field.getName();
+        for (int i = 0; i < mColumns.length; i++) {
+            if (mColumns[i].equals(name)) {
+                return i;
+            }
+        }
+        throw new SimpleOrmException("The column " + name + " is not part of this projection.");
+    }
+
+    private class RowImpl implements Row<T> {
+
+        private final int mPosition;
+
+        private RowImpl(int position) {
+            mPosition = position;
+        }
+
+        @Override
+        public boolean isNull(Field<T, ?> field) {
+            return mNulls.get(mPosition * mColumns.length + indexOf(field));
+        }
+
+        @Override
+        public boolean getBoolean(BooleanField<T> field) {
+            return getLongValue(field) != 0L;
+        }
+
+        @Override
+        public int getInt(IntField<T> field) {
+            return (int) getLongValue(field);
+        }
+
+        @Override
+        public long getLong(LongField<T> field) {
+            return getLongValue(field);
+        }
+
+        @Override
+        public float getFloat(FloatField<T> field) {
+            return (float) getDoubleValue(field);
+        }
+
+        @Override
+        public double getDouble(DoubleField<T> field) {
+            return getDoubleValue(field);
+        }
+
+        @Override
+        public String getString(StringField<T> field) {
+            return ((String[]) mValues[indexOf(field)])[mPosition];
+        }
+
+        @Override
+        public Date getDate(DateField<T> field) {
+            return isNull(field) ? null : new Date(getLongValue(field));
+        }
+
+        private long getLongValue(Field<T, ?> field) {
+            return ((long[]) mValues[indexOf(field)])[mPosition];
+        }
+
+        private double getDoubleValue(Field<T, ?> field) {
+            return ((double[]) mValues[indexOf(field)])[mPosition];
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.github.wrdlbrnft.simpleorm.repository;
+
+import com.github.wrdlbrnft.simpleorm.Loader;
+import com.github.wrdlbrnft.simpleorm.ProjectionQuery;
+import com.github.wrdlbrnft.simpleorm.Row;
+import com.github.wrdlbrnft.simpleorm.database.CursorWrapper;
+import com.github.wrdlbrnft.simpleorm.entities.CursorReader;
+import com.github.wrdlbrnft.simpleorm.selection.Selection;
+
+import java.util.List;
+
+class ProjectionQueryImpl<T> implements ProjectionQuery<T> {
+
+    private final QueryResolver<T> mResolver;
+    private final Selection mSelection;
+    private final String mLimit;
+    private final String mOrderBy;
+    private final String[] mColumns;
+    private final CursorReader<List<Row<T>>> mReader;
+
+    ProjectionQueryImpl(QueryResolver<T> resolver, Selection selection, String limit, String orderBy, String[] columns, CursorReader<List<Row<T>>> reader) {
+        mResolver = resolver;
+        mSelection = selection;
+        mLimit = limit;
+        mOrderBy = orderBy;
+        mColumns = columns;
+        mReader = reader;
+    }
+
+    @Override
+    public Loader<Row<T>> getFirst() {
+        final QueryParametersImpl parameters = new QueryParametersImpl(mSelection, "1", mOrderBy);
+        return mResolver.queryColumns(parameters, mColumns, new CursorReader<Row<T>>() {
+            @Override
+            public Row<T> read(CursorWrapper cursor) {
+                final List<Row<T>> rows = mReader.read(cursor);
+                return rows.isEmpty() ? null : rows.get(0);
+            }
+        });
+    }
+
+    @Override
+    public Loader<List<Row<T>>> getList() {
+        final QueryParametersImpl parameters = new QueryParametersImpl(mSelection, mLimit, mOrderBy);
+        return mResolver.queryColumns(parameters, mColumns, mReader);
+    }
+}
@@ -1,8 +1,18 @@
 package com.github.wrdlbrnft.simpleorm.repository;
 
+import com.github.wrdlbrnft.simpleorm.EntityStream;
+import com.github.wrdlbrnft.simpleorm.GroupedQueryBuilder;
+import com.github.wrdlbrnft.simpleorm.LazyList;
 import com.github.wrdlbrnft.simpleorm.Loader;
 import com.github.wrdlbrnft.simpleorm.Ordering;
+import com.github.wrdlbrnft.simpleorm.Page;
+import com.github.wrdlbrnft.simpleorm.PageToken;
+import com.github.wrdlbrnft.simpleorm.PreparedQuery;
+import com.github.wrdlbrnft.simpleorm.ProjectionQuery;
 import com.github.wrdlbrnft.simpleorm.QueryBuilder;
+import com.github.wrdlbrnft.simpleorm.Subscription;
+import com.github.wrdlbrnft.simpleorm.entities.AggregateQuery;
+import com.github.wrdlbrnft.simpleorm.exceptions.SimpleOrmException;
 import com.github.wrdlbrnft.simpleorm.fields.BooleanField;
 import com.github.wrdlbrnft.simpleorm.fields.DateField;
 import com.github.wrdlbrnft.simpleorm.fields.DoubleField;
@@ -28,6 +38,8 @@ import com.github.wrdlbrnft.simpleorm.selection.query.IntQueryBuilder;
 import com.github.wrdlbrnft.simpleorm.selection.query.LongQueryBuilder;
 import com.github.wrdlbrnft.simpleorm.selection.query.StringQueryBuilder;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 
@@ -38,11 +50,16 @@ import java.util.List;
  */
 class QueryBuilderImpl<T> implements QueryBuilder<T> {
 
+    private static final int DEFAULT_STREAM_CHUNK_SIZE = 100;
+    private static final long DEFAULT_OBSERVE_DEBOUNCE_MILLIS = 50L;
+
     private final Selection.Builder mSelectionBuilder = new Selection.Builder();
     private final QueryResolver<T> mResolver;
 
     private String mLimit = null;
     private String mOrderBy = null;
+    private String mOrderByColumn = null;
+    private Ordering mOrdering = Ordering.ASCENDING;
 
     QueryBuilderImpl(QueryResolver<T> resolver) {
         mResolver = resolver;
@@ -104,6 +121,8 @@ class QueryBuilderImpl<T> implements QueryBuilder<T> {
     @Override
     public <R> QueryBuilder<T> orderBy(OrderByField<T, R> field, Ordering ordering) {
         mOrderBy = field.getName() + " " + createSqlOrdering(ordering);
+        mOrderByColumn = field.getName();
+        mOrdering = ordering;
         return this;
     }
 
@@ -133,11 +152,236 @@ class QueryBuilderImpl<T> implements QueryBuilder<T> {
     }
 
     @Override
-    public List<T> lazy() {
+    public LazyList<T> lazy() {
         final QueryParametersImpl parameters = new QueryParametersImpl(mSelectionBuilder.build(), mLimit, mOrderBy);
         return mResolver.queryLazy(parameters);
     }
 
+    @Override
+    public PreparedQuery<T> prepare() {
+        return new PreparedQueryImpl<>(mResolver, mSelectionBuilder.build(), mLimit, mOrderBy);
+    }
+
+    @Override
+    public Loader<Page<T>> page(int pageSize) {
+        return pageAfter((PageToken) null, pageSize);
+    }
+
+    @Override
+    public Loader<Page<T>> pageAfter(T lastEntity, int pageSize) {
+        final QueryParametersImpl parameters = new QueryParametersImpl(mSelectionBuilder.build(), null, mOrderBy);
+        return mResolver.queryPage(parameters, new PageParametersImpl<>(mOrderByColumn, mOrdering, pageSize, lastEntity, null));
+    }
+
+    @Override
+    public Loader<Page<T>> pageAfter(PageToken token, int pageSize) {
+        final QueryParametersImpl parameters = new QueryParametersImpl(mSelectionBuilder.build(), null, mOrderBy);
+        return mResolver.queryPage(parameters, new PageParametersImpl<T>(mOrderByColumn, mOrdering, pageSize, null, token));
+    }
+
+    @Override
+    public Page<T> lazyPage(int pageSize) {
+        return lazyPageAfter((PageToken) null, pageSize);
+    }
+
+    @Override
+    public Page<T> lazyPageAfter(T lastEntity, int pageSize) {
+        final QueryParametersImpl parameters = new QueryParametersImpl(mSelectionBuilder.build(), null, mOrderBy);
+        return mResolver.queryLazyPage(parameters, new PageParametersImpl<>(mOrderByColumn, mOrdering, pageSize, lastEntity, null));
+    }
+
+    @Override
+    public Page<T> lazyPageAfter(PageToken token, int pageSize) {
+        final QueryParametersImpl parameters = new QueryParametersImpl(mSelectionBuilder.build(), null, mOrderBy);
+        return mResolver.queryLazyPage(parameters, new PageParametersImpl<T>(mOrderByColumn, mOrdering, pageSize, null, token));
+    }
+
+    @Override
+    public EntityStream<T> stream() {
+        return stream(DEFAULT_STREAM_CHUNK_SIZE);
+    }
+
+    @Override
+    public EntityStream<T> stream(int chunkSize) {
+        final QueryParametersImpl parameters = new QueryParametersImpl(mSelectionBuilder.build(), mLimit, mOrderBy);
+        return mResolver.queryStream(parameters, new PageParametersImpl<T>(mOrderByColumn, mOrdering, chunkSize, null, null));
+    }
+
+    @Override
+    public Subscription observe(Loader.Callback<List<T>> callback) {
+        return observe(DEFAULT_OBSERVE_DEBOUNCE_MILLIS, callback);
+    }
+
+    @Override
+    public Subscription observe(long debounceMillis, Loader.Callback<List<T>> callback) {
+        if (debounceMillis < 0L) {
+            throw new SimpleOrmException("The debounce window cannot be negative, but was " + debounceMillis + "ms.");
+        }
+        final QueryParametersImpl parameters = new QueryParametersImpl(mSelectionBuilder.build(), mLimit, mOrderBy);
+        return mResolver.observeList(parameters, debounceMillis, callback);
+    }
+
+    @Override
+    public ProjectionQuery<T> select(Field<T, ?> field) {
+        return select(Collections.singletonList(field));
+    }
+
+    @Override
+    public ProjectionQuery<T> select(Field<T, ?> first, Field<T, ?> second) {
+        final List<Field<T, ?>> fields = new ArrayList<>(2);
+        fields.add(first);
+        fields.add(second);
+        return select(fields);
+    }
+
+    @Override
+    public ProjectionQuery<T> select(Field<T, ?> first, Field<T, ?> second, Field<T, ?> third) {
+        final List<Field<T, ?>> fields = new ArrayList<>(3);
+        fields.add(first);
+        fields.add(second);
+        fields.add(third);
+        return select(fields);
+    }
+
+    @Override
+    public ProjectionQuery<T> select(Field<T, ?> first, Field<T, ?> second, Field<T, ?> third, Field<T, ?> fourth) {
+        final List<Field<T, ?>> fields = new ArrayList<>(4);
+        fields.add(first);
+        fields.add(second);
+        fields.add(third);
+        fields.add(fourth);
+        return select(fields);
+    }
+
+    @Override
+    public ProjectionQuery<T> select(List<? extends Field<T, ?>> fields) {
+        if (fields.isEmpty()) {
+            throw new SimpleOrmException("At least one column has to be selected.");
+        }
+        return new ProjectionQueryImpl<>(mResolver, mSelectionBuilder.build(), mLimit, mOrderBy, ProjectedRows.getColumns(fields), ProjectedRows.reader(fields));
+    }
+
+    @Override
+    public Loader<Long> count() {
+        return aggregate(AggregateQueries.single("COUNT(*)", AggregateQueries.LONG_READER, 0L));
+    }
+
+    @Override
+    public Loader<Boolean> exists() {
+        final QueryParametersImpl parameters = new QueryParametersImpl(mSelectionBuilder.build(), "1", mOrderBy);
+        return mResolver.queryAggregate(parameters, AggregateQueries.single("COUNT(*)", AggregateQueries.EXISTS_READER, false));
+    }
+
+    @Override
+    public Loader<Integer> min(IntField<T> field) {
+        return aggregate(AggregateQueries.single("MIN(" + field.getName() + ")", AggregateQueries.INT_READER, null));
+    }
+
+    @Override
+    public Loader<Long> min(LongField<T> field) {
+        return aggregate(AggregateQueries.single("MIN(" + field.getName() + ")", AggregateQueries.LONG_READER, null));
+    }
+
+    @Override
+    public Loader<Double> min(DoubleField<T> field) {
+        return aggregate(AggregateQueries.single("MIN(" + field.getName() + ")", AggregateQueries.DOUBLE_READER, null));
+    }
+
+    @Override
+    public Loader<Float> min(FloatField<T> field) {
+        return aggregate(AggregateQueries.single("MIN(" + field.getName() + ")", AggregateQueries.FLOAT_READER, null));
+    }
+
+    @Override
+    public Loader<Date> min(DateField<T> field) {
+        return aggregate(AggregateQueries.single("MIN(" + field.getName() + ")", AggregateQueries.DATE_READER, null));
+    }
+
+    @Override
+    public Loader<Integer> max(IntField<T> field) {
+        return aggregate(AggregateQueries.single("MAX(" + field.getName() + ")", AggregateQueries.INT_READER, null));
+    }
+
+    @Override
+    public Loader<Long> max(LongField<T> field) {
+        return aggregate(AggregateQueries.single("MAX(" + field.getName() + ")", AggregateQueries.LONG_READER, null));
+    }
+
+    @Override
+    public Loader<Double> max(DoubleField<T> field) {
+        return aggregate(AggregateQueries.single("MAX(" + field.getName() + ")", AggregateQueries.DOUBLE_READER, null));
+    }
+
+    @Override
+    public Loader<Float> max(FloatField<T> field) {
+        return aggregate(AggregateQueries.single("MAX(" + field.getName() + ")", AggregateQueries.FLOAT_READER, null));
+    }
+
+    @Override
+    public Loader<Date> max(DateField<T> field) {
+        return aggregate(AggregateQueries.single("MAX(" + field.getName() + ")", AggregateQueries.DATE_READER, null));
+    }
+
+    @Override
+    public Loader<Long> sum(IntField<T> field) {
+        return aggregate(AggregateQueries.single("SUM(" + field.getName() + ")", AggregateQueries.LONG_READER, 0L));
+    }
+
+    @Override
+    public Loader<Long> sum(LongField<T> field) {
+        return aggregate(AggregateQueries.single("SUM(" + field.getName() + ")", AggregateQueries.LONG_READER, 0L));
+    }
+
+    @Override
+    public Loader<Double> sum(DoubleField<T> field) {
+        return aggregate(AggregateQueries.single("SUM(" + field.getName() + ")", AggregateQueries.DOUBLE_READER, 0.0));
+    }
+
+    @Override
+    public Loader<Double> sum(FloatField<T> field) {
+        return aggregate(AggregateQueries.single("SUM(" + field.getName() + ")", AggregateQueries.DOUBLE_READER, 0.0));
+    }
+
+    @Override
+    public Loader<Double> avg(IntField<T> field) {
+        return aggregate(AggregateQueries.single("AVG(" + field.getName() + ")", AggregateQueries.DOUBLE_READER, null));
+    }
+
+    @Override
+    public Loader<Double> avg(LongField<T> field) {
+        return aggregate(AggregateQueries.single("AVG(" + field.getName() + ")", AggregateQueries.DOUBLE_READER, null));
+    }
+
+    @Override
+    public Loader<Double> avg(DoubleField<T> field) {
+        return aggregate(AggregateQueries.single("AVG(" + field.getName() + ")", AggregateQueries.DOUBLE_READER, null));
+    }
+
+    @Override
+    public Loader<Double> avg(FloatField<T> field) {
+        return aggregate(AggregateQueries.single("AVG(" + field.getName() + ")", AggregateQueries.DOUBLE_READER, null));
+    }
+
+    @Override
+    public GroupedQueryBuilder<T> groupBy(IntField<T> field) {
+        return new GroupedQueryBuilderImpl<>(this, field.getName());
+    }
+
+    @Override
+    public GroupedQueryBuilder<T> groupBy(LongField<T> field) {
+        return new GroupedQueryBuilderImpl<>(this, field.getName());
+    }
+
+    @Override
+    public GroupedQueryBuilder<T> groupBy(DateField<T> field) {
+        return new GroupedQueryBuilderImpl<>(this, field.getName());
+    }
+
+    <R> Loader<R> aggregate(AggregateQuery<R> query) {
+        final QueryParametersImpl parameters = new QueryParametersImpl(mSelectionBuilder.build(), mLimit, mOrderBy);
+        return mResolver.queryAggregate(parameters, query);
+    }
+
     private static class BooleanQueryBuilderImpl<T> extends BaseBooleanPredicate<T, QueryBuilder<T>> implements BooleanQueryBuilder<T> {
 
         BooleanQueryBuilderImpl(QueryBuilder<T> queryBuilder, Selection.Builder selectionBuilder, Field<T, Boolean> field) {
@@ -0,0 +1,157 @@
+package com.github.wrdlbrnft.simpleorm.repository;
+
+import android.support.annotation.NonNull;
+import android.util.Log;
+
+import com.github.wrdlbrnft.simpleorm.Loader;
+import com.github.wrdlbrnft.simpleorm.Subscription;
+import com.github.wrdlbrnft.simpleorm.entities.EntityManager;
+import com.github.wrdlbrnft.simpleorm.entities.QueryParameters;
+import com.github.wrdlbrnft.simpleorm.entities.TableChangeNotifier;
+import com.github.wrdlbrnft.simpleorm.utils.ConcurrentSupplier;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+class QueryObserver<T> implements Subscription, TableChangeNotifier.Listener {
+
+    private static final String TAG = "QueryObserver";
+
+    private static final ConcurrentSupplier<ScheduledExecutorService> SCHEDULER_SUPPLIER = new ConcurrentSupplier<ScheduledExecutorService>() {
+        @NonNull
+        @Override
+        protected ScheduledExecutorService create() {
+            return Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(@NonNull Runnable runnable) {
+                    final Thread thread = new Thread(runnable, "SimpleOrm-Observer");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+    };
+
+    private final Runnable mQueryRunnable = new Runnable() {
+        @Override
+        public void run() {
+            query();
+        }
+    };
+
+    private final Runnable mDispatchRunnable = new Runnable() {
+        @Override
+        public void run() {
+            mRequeryScheduled.set(false);
+            mReadExecutor.execute(mQueryRunnable);
+        }
+    };
+
+    private final AtomicBoolean mRequeryScheduled = new AtomicBoolean(false);
+    private final AtomicLong mSequence = new AtomicLong();
+
+    private final EntityManager<T> mEntityManager;
+    private final Executor mReadExecutor;
+    private final QueryParameters mParameters;
+    private final long mDebounceMillis;
+    private final Loader.Callback<List<T>> mCallback;
+    private final String[] mTableNames;
+
+    private volatile boolean mUnsubscribed = false;
+
+    private final Object mResultLock = new Object();
+    private long mComparedSequence = 0L;
+    private List<T> mLastResult;
+
+    private long mDeliveredSequence = 0L;
+
+    QueryObserver(EntityManager<T> entityManager, Executor readExecutor, QueryParameters parameters, long debounceMillis, Loader.Callback<List<T>> callback) {
+        mEntityManager = entityManager;
+        mReadExecutor = readExecutor;
+        mParameters = parameters;
+        mDebounceMillis = debounceMillis;
+        mCallback = callback;
+        mTableNames = entityManager.getTableNames();
+    }
+
+    void start() {
+        mEntityManager.getTableChangeNotifier().addListener(this);
+        mReadExecutor.execute(mQueryRunnable);
+    }
+
+    @Override
+    public void onTablesChanged(String[] tableNames) {
+        if (mUnsubscribed || !TableChangeNotifier.containsAny(mTableNames, tableNames)) {
+            return;
+        }
+
+        if (!mRequeryScheduled.compareAndSet(false, true)) {
+            return;
+        }
+
+        if (mDebounceMillis > 0L) {
+            SCHEDULER_SUPPLIER.get().schedule(mDispatchRunnable, mDebounceMillis, TimeUnit.MILLISECONDS);
+        } else {
+            mDispatchRunnable.run();
+        }
+    }
+
+    private void query() {
+        if (mUnsubscribed) {
+            return;
+        }
+
+        final long sequence = mSequence.incrementAndGet();
+        final List<T> result;
+        try {
+            result = mEntityManager.queryList(mParameters);
+        } catch (Exception e) {
+            Log.e(TAG, "Failed to re-run observed query.", e);
+            return;
+        }
+
+        synchronized (mResultLock) {
+            if (sequence <= mComparedSequence) {
+                return;
+            }
+            mComparedSequence = sequence;
+
+            if (mLastResult != null && mLastResult.equals(result)) {
+                return;
+            }
+            mLastResult = result;
+
+            BaseRepository.MAIN_THREAD_HANDLER.post(new Runnable() {
+                @Override
+                public void run() {
+                    deliver(sequence, result);
+                }
+            });
+        }
+    }
+
+    private void deliver(long sequence, List<T> result) {
+        if (mUnsubscribed || sequence <= mDeliveredSequence) {
+            return;
+        }
+        mDeliveredSequence = sequence;
+        mCallback.onResult(result);
+    }
+
+    @Override
+    public void unsubscribe() {
+        mUnsubscribed = true;
+        mEntityManager.getTableChangeNotifier().removeListener(this);
+    }
+
+    @Override
+    public boolean isUnsubscribed() {
+        return mUnsubscribed;
+    }
+}
@@ -1,6 +1,13 @@
 package com.github.wrdlbrnft.simpleorm.repository;
 
+import com.github.wrdlbrnft.simpleorm.EntityStream;
+import com.github.wrdlbrnft.simpleorm.LazyList;
 import com.github.wrdlbrnft.simpleorm.Loader;
+import com.github.wrdlbrnft.simpleorm.Page;
+import com.github.wrdlbrnft.simpleorm.Subscription;
+import com.github.wrdlbrnft.simpleorm.entities.AggregateQuery;
+import com.github.wrdlbrnft.simpleorm.entities.CursorReader;
+import com.github.wrdlbrnft.simpleorm.entities.PageParameters;
 import com.github.wrdlbrnft.simpleorm.entities.QueryParameters;
 
 import java.util.List;
@@ -13,5 +20,11 @@ import java.util.List;
 interface QueryResolver<T> {
     Loader<T> queryFirst(QueryParameters parameters);
     Loader<List<T>> queryList(QueryParameters parameters);
-    List<T> queryLazy(QueryParameters parameters);
+    LazyList<T> queryLazy(QueryParameters parameters);
+    Loader<Page<T>> queryPage(QueryParameters parameters, PageParameters<T> pageParameters);
+    Page<T> queryLazyPage(QueryParameters parameters, PageParameters<T> pageParameters);
+    EntityStream<T> queryStream(QueryParameters parameters, PageParameters<T> pageParameters);
+    <R> Loader<R> queryAggregate(QueryParameters parameters, AggregateQuery<R> query);
+    Subscription observeList(QueryParameters parameters, long debounceMillis, Loader.Callback<List<T>> callback);
+    <R> Loader<R> queryColumns(QueryParameters parameters, String[] columns, CursorReader<R> reader);
 }
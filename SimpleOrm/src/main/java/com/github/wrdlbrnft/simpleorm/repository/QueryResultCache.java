@@ -0,0 +1,145 @@
+package com.github.wrdlbrnft.simpleorm.repository;
+
+import com.github.wrdlbrnft.simpleorm.entities.QueryParameters;
+import com.github.wrdlbrnft.simpleorm.selection.Selection;
+import com.github.wrdlbrnft.simpleorm.selection.SelectionArgs;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+class QueryResultCache<T> {
+
+    private static final long ESTIMATED_ENTRY_OVERHEAD = 96L;
+    private static final long ESTIMATED_ENTITY_SIZE = 256L;
+
+    private final LinkedHashMap<Key, Entry<T>> mEntries = new LinkedHashMap<>(16, 0.75f, true);
+    private final int mMaxEntries;
+    private final long mMaxBytes;
+
+    private long mEstimatedBytes = 0L;
+    private long mGeneration = 0L;
+
+    QueryResultCache(int maxEntries, long maxBytes) {
+        mMaxEntries = maxEntries;
+        mMaxBytes = maxBytes;
+    }
+
+    static Key createKey(String tableName, boolean first, QueryParameters parameters) {
+        final Selection selection = parameters.getSelection();
+        return new Key(
+                first,
+                selection.isEmpty() ? null : selection.getSelection(tableName),
+                selection.getSelectionArgs(),
+                parameters.getOrderBy(),
+                parameters.getLimit()
+        );
+    }
+
+    synchronized long getGeneration() {
+        return mGeneration;
+    }
+
+    synchronized List<T> get(Key key) {
+        final Entry<T> entry = mEntries.get(key);
+        return entry != null ? entry.mEntities : null;
+    }
+
+    synchronized void put(Key key, List<T> entities, long generation) {
+        if (generation != mGeneration) {
+            return;
+        }
+
+        final Entry<T> entry = new Entry<>(entities, key.estimateSize() + ESTIMATED_ENTRY_OVERHEAD + entities.size() * ESTIMATED_ENTITY_SIZE);
+        if (mMaxBytes > 0L && entry.mEstimatedBytes > mMaxBytes) {
+            return;
+        }
+
+        final Entry<T> previous = mEntries.put(key, entry);
+        if (previous != null) {
+            mEstimatedBytes -= previous.mEstimatedBytes;
+        }
+        mEstimatedBytes += entry.mEstimatedBytes;
+
+        final Iterator<Map.Entry<Key, Entry<T>>> iterator = mEntries.entrySet().iterator();
+        while (iterator.hasNext() && (mEntries.size() > mMaxEntries || (mMaxBytes > 0L && mEstimatedBytes > mMaxBytes))) {
+            final Entry<T> eldest = iterator.next().getValue();
+            mEstimatedBytes -= eldest.mEstimatedBytes;
+            iterator.remove();
+        }
+    }
+
+    synchronized void clear() {
+        mGeneration++;
+        mEntries.clear();
+        mEstimatedBytes = 0L;
+    }
+
+    private static class Entry<T> {
+
+        private final List<T> mEntities;
+        private final long mEstimatedBytes;
+
+        private Entry(List<T> entities, long estimatedBytes) {
+            mEntities = entities;
+            mEstimatedBytes = estimatedBytes;
+        }
+    }
+
+    static class Key {
+
+        private final boolean mFirst;
+        private final String mSelection;
+        private final SelectionArgs mSelectionArgs;
+        private final String mOrderBy;
+        private final String mLimit;
+        private final int mHashCode;
+
+        private Key(boolean first, String selection, SelectionArgs selectionArgs, String orderBy, String limit) {
+            mFirst = first;
+            mSelection = selection;
+            mSelectionArgs = selectionArgs;
+            mOrderBy = orderBy;
+            mLimit = limit;
+
+            int result = mFirst ? 1 : 0;
+            result = 31 * result + (mSelection != null ? mSelection.hashCode() : 0);
+            result = 31 * result + (mSelectionArgs != null ? mSelectionArgs.hashCode() : 0);
+            result = 31 * result + (mOrderBy != null ? mOrderBy.hashCode() : 0);
+            result = 31 * result + (mLimit != null ? mLimit.hashCode() : 0);
+            mHashCode = result;
+        }
+
+        private long estimateSize() {
+            long size = 2L * (length(mSelection) + length(mOrderBy) + length(mLimit));
+            if (mSelectionArgs != null) {
+                size += mSelectionArgs.estimateSize();
+            }
+            return size;
+        }
+
+        private static int length(String value) {
+            return value != null ? value.length() : 0;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            final Key key = (Key) o;
+
+            if (mFirst != key.mFirst) return false;
+            if (mSelection != null ? !mSelection.equals(key.mSelection) : key.mSelection != null) return false;
+            if (mSelectionArgs != null ? !mSelectionArgs.equals(key.mSelectionArgs) : key.mSelectionArgs != null) return false;
+            if (mOrderBy != null ? !mOrderBy.equals(key.mOrderBy) : key.mOrderBy != null) return false;
+            return mLimit != null ? mLimit.equals(key.mLimit) : key.mLimit == null;
+        }
+
+        @Override
+        public int hashCode() {
+            return mHashCode;
+        }
+    }
+}
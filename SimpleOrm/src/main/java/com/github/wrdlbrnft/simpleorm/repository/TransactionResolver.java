@@ -4,6 +4,8 @@ import com.github.wrdlbrnft.simpleorm.entities.RemoveParameters;
 import com.github.wrdlbrnft.simpleorm.Remover;
 import com.github.wrdlbrnft.simpleorm.entities.SaveParameters;
 import com.github.wrdlbrnft.simpleorm.Saver;
+import com.github.wrdlbrnft.simpleorm.Updater;
+import com.github.wrdlbrnft.simpleorm.entities.UpdateParameters;
 
 /**
  * Created with Android Studio
@@ -13,4 +15,5 @@ import com.github.wrdlbrnft.simpleorm.Saver;
 interface TransactionResolver<T> {
     Saver<T> commit(SaveParameters<T> parameters);
     Remover<T> commit(RemoveParameters<T> parameters);
+    Updater<T> commit(UpdateParameters<T> parameters);
 }
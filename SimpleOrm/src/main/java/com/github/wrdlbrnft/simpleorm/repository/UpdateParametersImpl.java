@@ -0,0 +1,26 @@
+package com.github.wrdlbrnft.simpleorm.repository;
+
+import com.github.wrdlbrnft.simpleorm.entities.ColumnAssignments;
+import com.github.wrdlbrnft.simpleorm.entities.UpdateParameters;
+import com.github.wrdlbrnft.simpleorm.selection.Selection;
+
+class UpdateParametersImpl<T> implements UpdateParameters<T> {
+
+    private final ColumnAssignments mAssignments;
+    private final Selection mSelection;
+
+    UpdateParametersImpl(ColumnAssignments assignments, Selection selection) {
+        mAssignments = assignments;
+        mSelection = selection;
+    }
+
+    @Override
+    public ColumnAssignments getAssignments() {
+        return mAssignments;
+    }
+
+    @Override
+    public Selection getSelection() {
+        return mSelection;
+    }
+}
@@ -0,0 +1,247 @@
+package com.github.wrdlbrnft.simpleorm.repository;
+
+import com.github.wrdlbrnft.simpleorm.UpdateTransaction;
+import com.github.wrdlbrnft.simpleorm.Updater;
+import com.github.wrdlbrnft.simpleorm.adapter.base.DateTypeAdapter;
+import com.github.wrdlbrnft.simpleorm.entities.ColumnAssignments;
+import com.github.wrdlbrnft.simpleorm.entities.UpdateParameters;
+import com.github.wrdlbrnft.simpleorm.fields.BooleanField;
+import com.github.wrdlbrnft.simpleorm.fields.DateField;
+import com.github.wrdlbrnft.simpleorm.fields.DoubleField;
+import com.github.wrdlbrnft.simpleorm.fields.Field;
+import com.github.wrdlbrnft.simpleorm.fields.FloatField;
+import com.github.wrdlbrnft.simpleorm.fields.IntField;
+import com.github.wrdlbrnft.simpleorm.fields.LongField;
+import com.github.wrdlbrnft.simpleorm.fields.StringField;
+import com.github.wrdlbrnft.simpleorm.selection.BaseBooleanPredicate;
+import com.github.wrdlbrnft.simpleorm.selection.BaseDatePredicate;
+import com.github.wrdlbrnft.simpleorm.selection.BaseDoublePredicate;
+import com.github.wrdlbrnft.simpleorm.selection.BaseFloatPredicate;
+import com.github.wrdlbrnft.simpleorm.selection.BaseIntPredicate;
+import com.github.wrdlbrnft.simpleorm.selection.BaseLongPredicate;
+import com.github.wrdlbrnft.simpleorm.selection.BaseStringPredicate;
+import com.github.wrdlbrnft.simpleorm.selection.Selection;
+import com.github.wrdlbrnft.simpleorm.selection.update.BooleanUpdateBuilder;
+import com.github.wrdlbrnft.simpleorm.selection.update.DateUpdateBuilder;
+import com.github.wrdlbrnft.simpleorm.selection.update.DoubleUpdateBuilder;
+import com.github.wrdlbrnft.simpleorm.selection.update.FloatUpdateBuilder;
+import com.github.wrdlbrnft.simpleorm.selection.update.IntUpdateBuilder;
+import com.github.wrdlbrnft.simpleorm.selection.update.LongUpdateBuilder;
+import com.github.wrdlbrnft.simpleorm.selection.update.StringUpdateBuilder;
+
+import java.util.Date;
+
+class UpdateTransactionImpl<T> implements UpdateTransaction<T> {
+
+    private static final DateTypeAdapter DATE_TYPE_ADAPTER = new DateTypeAdapter();
+
+    private final ColumnAssignments mAssignments = new ColumnAssignments();
+    private final Selection.Builder mSelectionBuilder = new Selection.Builder();
+    private final TransactionResolver<T> mResolver;
+    private boolean mUpdateAll = false;
+
+    UpdateTransactionImpl(TransactionResolver<T> resolver) {
+        mResolver = resolver;
+    }
+
+    @Override
+    public UpdateTransaction<T> set(BooleanField<T> field, Boolean value) {
+        mAssignments.set(field.getName(), value);
+        return this;
+    }
+
+    @Override
+    public UpdateTransaction<T> set(DateField<T> field, Date value) {
+        mAssignments.set(field.getName(), DATE_TYPE_ADAPTER.convertFrom(value));
+        return this;
+    }
+
+    @Override
+    public UpdateTransaction<T> set(DoubleField<T> field, Double value) {
+        mAssignments.set(field.getName(), value);
+        return this;
+    }
+
+    @Override
+    public UpdateTransaction<T> set(FloatField<T> field, Float value) {
+        mAssignments.set(field.getName(), value);
+        return this;
+    }
+
+    @Override
+    public UpdateTransaction<T> set(IntField<T> field, Integer value) {
+        mAssignments.set(field.getName(), value);
+        return this;
+    }
+
+    @Override
+    public UpdateTransaction<T> set(LongField<T> field, Long value) {
+        mAssignments.set(field.getName(), value);
+        return this;
+    }
+
+    @Override
+    public UpdateTransaction<T> set(StringField<T> field, String value) {
+        mAssignments.set(field.getName(), value);
+        return this;
+    }
+
+    @Override
+    public UpdateTransaction<T> increment(DoubleField<T> field, double amount) {
+        mAssignments.increment(field.getName(), amount);
+        return this;
+    }
+
+    @Override
+    public UpdateTransaction<T> increment(FloatField<T> field, float amount) {
+        mAssignments.increment(field.getName(), amount);
+        return this;
+    }
+
+    @Override
+    public UpdateTransaction<T> increment(IntField<T> field, int amount) {
+        mAssignments.increment(field.getName(), amount);
+        return this;
+    }
+
+    @Override
+    public UpdateTransaction<T> increment(LongField<T> field, long amount) {
+        mAssignments.increment(field.getName(), amount);
+        return this;
+    }
+
+    @Override
+    public UpdateTransaction<T> decrement(DoubleField<T> field, double amount) {
+        mAssignments.decrement(field.getName(), amount);
+        return this;
+    }
+
+    @Override
+    public UpdateTransaction<T> decrement(FloatField<T> field, float amount) {
+        mAssignments.decrement(field.getName(), amount);
+        return this;
+    }
+
+    @Override
+    public UpdateTransaction<T> decrement(IntField<T> field, int amount) {
+        mAssignments.decrement(field.getName(), amount);
+        return this;
+    }
+
+    @Override
+    public UpdateTransaction<T> decrement(LongField<T> field, long amount) {
+        mAssignments.decrement(field.getName(), amount);
+        return this;
+    }
+
+    @Override
+    public DateUpdateBuilder<T> where(DateField<T> field) {
+        return new DateUpdateBuilderImpl<>(this, mSelectionBuilder, field);
+    }
+
+    @Override
+    public StringUpdateBuilder<T> where(StringField<T> field) {
+        return new StringUpdateBuilderImpl<>(this, mSelectionBuilder, field);
+    }
+
+    @Override
+    public BooleanUpdateBuilder<T> where(BooleanField<T> field) {
+        return new BooleanUpdateBuilderImpl<>(this, mSelectionBuilder, field);
+    }
+
+    @Override
+    public DoubleUpdateBuilder<T> where(DoubleField<T> field) {
+        return new DoubleUpdateBuilderImpl<>(this, mSelectionBuilder, field);
+    }
+
+    @Override
+    public FloatUpdateBuilder<T> where(FloatField<T> field) {
+        return new FloatUpdateBuilderImpl<>(this, mSelectionBuilder, field);
+    }
+
+    @Override
+    public IntUpdateBuilder<T> where(IntField<T> field) {
+        return new IntUpdateBuilderImpl<>(this, mSelectionBuilder, field);
+    }
+
+    @Override
+    public LongUpdateBuilder<T> where(LongField<T> field) {
+        return new LongUpdateBuilderImpl<>(this, mSelectionBuilder, field);
+    }
+
+    @Override
+    public UpdateTransaction<T> and() {
+        mSelectionBuilder.and();
+        return this;
+    }
+
+    @Override
+    public UpdateTransaction<T> all() {
+        mUpdateAll = true;
+        return this;
+    }
+
+    @Override
+    public UpdateTransaction<T> or() {
+        mSelectionBuilder.or();
+        return this;
+    }
+
+    @Override
+    public Updater<T> commit() {
+        final UpdateParameters<T> parameters = new UpdateParametersImpl<>(
+                mAssignments,
+                mUpdateAll ? Selection.Builder.all() : mSelectionBuilder.build()
+        );
+        return mResolver.commit(parameters);
+    }
+
+    private static class BooleanUpdateBuilderImpl<T> extends BaseBooleanPredicate<T, UpdateTransaction<T>> implements BooleanUpdateBuilder<T> {
+
+        BooleanUpdateBuilderImpl(UpdateTransaction<T> builder, Selection.Builder selectionBuilder, Field<T, Boolean> field) {
+            super(builder, selectionBuilder, field);
+        }
+    }
+
+    private static class DateUpdateBuilderImpl<T> extends BaseDatePredicate<T, UpdateTransaction<T>> implements DateUpdateBuilder<T> {
+
+        DateUpdateBuilderImpl(UpdateTransaction<T> builder, Selection.Builder selectionBuilder, Field<T, Date> field) {
+            super(builder, selectionBuilder, field);
+        }
+    }
+
+    private static class DoubleUpdateBuilderImpl<T> extends BaseDoublePredicate<T, UpdateTransaction<T>> implements DoubleUpdateBuilder<T> {
+
+        DoubleUpdateBuilderImpl(UpdateTransaction<T> builder, Selection.Builder selectionBuilder, Field<T, Double> field) {
+            super(builder, selectionBuilder, field);
+        }
+    }
+
+    private static class FloatUpdateBuilderImpl<T> extends BaseFloatPredicate<T, UpdateTransaction<T>> implements FloatUpdateBuilder<T> {
+
+        FloatUpdateBuilderImpl(UpdateTransaction<T> builder, Selection.Builder selectionBuilder, Field<T, Float> field) {
+            super(builder, selectionBuilder, field);
+        }
+    }
+
+    private static class IntUpdateBuilderImpl<T> extends BaseIntPredicate<T, UpdateTransaction<T>> implements IntUpdateBuilder<T> {
+
+        IntUpdateBuilderImpl(UpdateTransaction<T> builder, Selection.Builder selectionBuilder, Field<T, Integer> field) {
+            super(builder, selectionBuilder, field);
+        }
+    }
+
+    private static class LongUpdateBuilderImpl<T> extends BaseLongPredicate<T, UpdateTransaction<T>> implements LongUpdateBuilder<T> {
+
+        LongUpdateBuilderImpl(UpdateTransaction<T> builder, Selection.Builder selectionBuilder, Field<T, Long> field) {
+            super(builder, selectionBuilder, field);
+        }
+    }
+
+    private static class StringUpdateBuilderImpl<T> extends BaseStringPredicate<T, UpdateTransaction<T>> implements StringUpdateBuilder<T> {
+
+        StringUpdateBuilderImpl(UpdateTransaction<T> builder, Selection.Builder selectionBuilder, Field<T, String> field) {
+            super(builder, selectionBuilder, field);
+        }
+    }
+}
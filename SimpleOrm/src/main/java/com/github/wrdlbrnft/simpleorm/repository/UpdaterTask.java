@@ -0,0 +1,47 @@
+package com.github.wrdlbrnft.simpleorm.repository;
+
+import com.github.wrdlbrnft.simpleorm.Updater;
+import com.github.wrdlbrnft.simpleorm.exceptions.SimpleOrmException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+class UpdaterTask<T> extends FutureTask<Integer> implements Updater<T> {
+
+    private final List<Callback<T>> mCallbacks = new ArrayList<>();
+
+    UpdaterTask(Callable<Integer> callable) {
+        super(callable);
+    }
+
+    @Override
+    protected void done() {
+        BaseRepository.MAIN_THREAD_HANDLER.post(new Runnable() {
+            @Override
+            public void run() {
+                final int affectedRows = now();
+                for (Callback<T> callback : mCallbacks) {
+                    callback.onFinished(affectedRows);
+                }
+            }
+        });
+    }
+
+    @Override
+    public int now() {
+        try {
+            return get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new SimpleOrmException("Failed to get result", e);
+        }
+    }
+
+    @Override
+    public Updater<T> onFinished(Callback<T> callback) {
+        mCallbacks.add(callback);
+        return this;
+    }
+}
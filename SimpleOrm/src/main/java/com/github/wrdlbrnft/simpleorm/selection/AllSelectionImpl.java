@@ -7,7 +7,7 @@ package com.github.wrdlbrnft.simpleorm.selection;
  */
 class AllSelectionImpl implements Selection {
 
-    private static final String[] EMPTY_ARGS = new String[0];
+    private static final SelectionArgs EMPTY_ARGS = new SelectionArgs(0);
 
     @Override
     public String getSelection(String tableName) {
@@ -15,7 +15,7 @@ class AllSelectionImpl implements Selection {
     }
 
     @Override
-    public String[] getSelectionArgs() {
+    public SelectionArgs getSelectionArgs() {
         return EMPTY_ARGS;
     }
 
@@ -16,7 +16,7 @@ public class BaseBooleanPredicate<T, P> extends BasePredicate<T, P, Boolean> imp
 
     @Override
     public P isEqualTo(boolean value) {
-        return appendStatement("=", value ? "1" : "0");
+        return appendStatement("=", value ? 1L : 0L);
     }
 
     @Override
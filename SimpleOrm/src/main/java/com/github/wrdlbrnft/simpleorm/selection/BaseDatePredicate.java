@@ -20,26 +20,26 @@ public class BaseDatePredicate<T, P> extends BasePredicate<T, P, Date> implement
 
     @Override
     public P isBefore(@NonNull Date date) {
-        return appendStatement("<", String.valueOf(date.getTime()));
+        return appendStatement("<", date.getTime());
     }
 
     @Override
     public P isAfter(@NonNull Date date) {
-        return appendStatement(">", String.valueOf(date.getTime()));
+        return appendStatement(">", date.getTime());
     }
 
     @Override
     public P isAfterOrEqualTo(@NonNull Date date) {
-        return appendStatement(">=", String.valueOf(date.getTime()));
+        return appendStatement(">=", date.getTime());
     }
 
     @Override
     public P isBeforeOrEqualTo(@NonNull Date date) {
-        return appendStatement("<=", String.valueOf(date.getTime()));
+        return appendStatement("<=", date.getTime());
     }
 
     @Override
     public P isEqualTo(@NonNull Date date) {
-        return appendStatement("=", String.valueOf(date.getTime()));
+        return appendStatement("=", date.getTime());
     }
 }
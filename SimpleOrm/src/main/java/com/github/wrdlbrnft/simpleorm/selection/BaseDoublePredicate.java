@@ -16,26 +16,26 @@ public class BaseDoublePredicate<T, P> extends BasePredicate<T, P, Double> imple
 
     @Override
     public P isEqualTo(double value) {
-        return appendStatement("=", String.valueOf(value));
+        return appendStatement("=", value);
     }
 
     @Override
     public P isGreaterThan(double value) {
-        return appendStatement(">", String.valueOf(value));
+        return appendStatement(">", value);
     }
 
     @Override
     public P isLessThan(double value) {
-        return appendStatement("<", String.valueOf(value));
+        return appendStatement("<", value);
     }
 
     @Override
     public P isGreaterThanOrEqualTo(double value) {
-        return appendStatement(">=", String.valueOf(value));
+        return appendStatement(">=", value);
     }
 
     @Override
     public P isLessThanOrEqualTo(double value) {
-        return appendStatement("<=", String.valueOf(value));
+        return appendStatement("<=", value);
     }
 }
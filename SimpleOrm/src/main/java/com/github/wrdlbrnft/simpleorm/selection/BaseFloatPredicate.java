@@ -16,26 +16,26 @@ public class BaseFloatPredicate<T, P> extends BasePredicate<T, P, Float> impleme
 
     @Override
     public P isEqualTo(float value) {
-        return appendStatement("=", String.valueOf(value));
+        return appendStatement("=", value);
     }
 
     @Override
     public P isGreaterThan(float value) {
-        return appendStatement(">", String.valueOf(value));
+        return appendStatement(">", value);
     }
 
     @Override
     public P isLessThan(float value) {
-        return appendStatement("<", String.valueOf(value));
+        return appendStatement("<", value);
     }
 
     @Override
     public P isGreaterThanOrEqualTo(float value) {
-        return appendStatement(">=", String.valueOf(value));
+        return appendStatement(">=", value);
     }
 
     @Override
     public P isLessThanOrEqualTo(float value) {
-        return appendStatement("<=", String.valueOf(value));
+        return appendStatement("<=", value);
     }
 }
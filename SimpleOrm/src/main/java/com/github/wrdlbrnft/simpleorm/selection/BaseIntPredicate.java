@@ -16,26 +16,26 @@ public class BaseIntPredicate<T, P> extends BasePredicate<T, P, Integer> impleme
 
     @Override
     public P isEqualTo(int value) {
-        return appendStatement("=", String.valueOf(value));
+        return appendStatement("=", value);
     }
 
     @Override
     public P isGreaterThan(int value) {
-        return appendStatement(">", String.valueOf(value));
+        return appendStatement(">", value);
     }
 
     @Override
     public P isLessThan(int value) {
-        return appendStatement("<", String.valueOf(value));
+        return appendStatement("<", value);
     }
 
     @Override
     public P isGreaterThanOrEqualTo(int value) {
-        return appendStatement(">=", String.valueOf(value));
+        return appendStatement(">=", value);
     }
 
     @Override
     public P isLessThanOrEqualTo(int value) {
-        return appendStatement("<=", String.valueOf(value));
+        return appendStatement("<=", value);
     }
 }
@@ -16,26 +16,26 @@ public class BaseLongPredicate<T, P> extends BasePredicate<T, P, Long> implement
 
     @Override
     public P isEqualTo(long value) {
-        return appendStatement("=", String.valueOf(value));
+        return appendStatement("=", value);
     }
 
     @Override
     public P isGreaterThan(long value) {
-        return appendStatement(">", String.valueOf(value));
+        return appendStatement(">", value);
     }
 
     @Override
     public P isLessThan(long value) {
-        return appendStatement("<", String.valueOf(value));
+        return appendStatement("<", value);
     }
 
     @Override
     public P isGreaterThanOrEqualTo(long value) {
-        return appendStatement(">=", String.valueOf(value));
+        return appendStatement(">=", value);
     }
 
     @Override
     public P isLessThanOrEqualTo(long value) {
-        return appendStatement("<=", String.valueOf(value));
+        return appendStatement("<=", value);
     }
 }
@@ -25,4 +25,19 @@ public abstract class BasePredicate<T, P, R> implements Predicate<T, P, R> {
         mSelectionBuilder.statement(mField.getName(), operator, argument);
         return mBuilder;
     }
+
+    protected P appendPattern(String operator, String prefix, String argument, String suffix) {
+        mSelectionBuilder.pattern(mField.getName(), operator, prefix, argument, suffix);
+        return mBuilder;
+    }
+
+    protected P appendStatement(String operator, long argument) {
+        mSelectionBuilder.statement(mField.getName(), operator, argument);
+        return mBuilder;
+    }
+
+    protected P appendStatement(String operator, double argument) {
+        mSelectionBuilder.statement(mField.getName(), operator, argument);
+        return mBuilder;
+    }
 }
\ No newline at end of file
@@ -18,16 +18,16 @@ public class BaseStringPredicate<T, P> extends BasePredicate<T, P, String> imple
 
     @Override
     public P contains(@NonNull String text) {
-        return appendStatement("LIKE", "%" + text + "%");
+        return appendPattern("LIKE", "%", text, "%");
     }
 
     @Override
     public P startsWith(@NonNull String text) {
-        return appendStatement("LIKE", text + "%");
+        return appendPattern("LIKE", "", text, "%");
     }
 
     @Override
     public P endsWith(@NonNull String text) {
-        return appendStatement("LIKE", "%" + text);
+        return appendPattern("LIKE", "%", text, "");
     }
 }
@@ -15,7 +15,7 @@ import static com.github.wrdlbrnft.simpleorm.selection.OperatorElement.OPERATOR_
 public interface Selection {
 
     String getSelection(String tableName);
-    String[] getSelectionArgs();
+    SelectionArgs getSelectionArgs();
 
     boolean isEmpty();
 
@@ -28,15 +28,32 @@ public interface Selection {
         private int mOperator = OPERATOR_NONE;
 
         private final List<SelectionElement> mStatements = new ArrayList<>();
-        private final List<String> mArguments = new ArrayList<>();
+        private final SelectionArgs mArguments = new SelectionArgs();
 
         public Builder() {
         }
 
         public Builder statement(String column, String operator, String argument) {
-            appendOperator();
-            mStatements.add(new SelectionStatement(column, operator + " ?"));
-            mArguments.add(argument);
+            appendStatement(column, operator);
+            mArguments.addString(argument);
+            return this;
+        }
+
+        public Builder pattern(String column, String operator, String prefix, String argument, String suffix) {
+            appendStatement(column, operator);
+            mArguments.addPattern(prefix, argument, suffix);
+            return this;
+        }
+
+        public Builder statement(String column, String operator, long argument) {
+            appendStatement(column, operator);
+            mArguments.addLong(argument);
+            return this;
+        }
+
+        public Builder statement(String column, String operator, double argument) {
+            appendStatement(column, operator);
+            mArguments.addDouble(argument);
             return this;
         }
 
@@ -46,6 +63,23 @@ public interface Selection {
             return this;
         }
 
+        public Builder isNotNull(String column) {
+            appendOperator();
+            mStatements.add(new SelectionStatement(column, "IS NOT NULL"));
+            return this;
+        }
+
+        public Builder group(Selection selection) {
+            if (selection.isEmpty() || selection.getSelection(null) == null) {
+                return this;
+            }
+
+            appendOperator();
+            mStatements.add(new SelectionGroup(selection));
+            mArguments.addAll(selection.getSelectionArgs());
+            return this;
+        }
+
         public Builder and() {
             mOperator = OPERATOR_AND;
             return this;
@@ -58,11 +92,16 @@ public interface Selection {
 
         public Selection build() {
             return new SelectionImpl(
-                    mStatements,
-                    mArguments.toArray(new String[mArguments.size()])
+                    new ArrayList<>(mStatements),
+                    mArguments.copy()
             );
         }
 
+        private void appendStatement(String column, String operator) {
+            appendOperator();
+            mStatements.add(new SelectionStatement(column, operator + " ?"));
+        }
+
         private void appendOperator() {
             if (mOperator == OPERATOR_NONE) {
                 mOperator = OPERATOR_AND;
@@ -0,0 +1,265 @@
+package com.github.wrdlbrnft.simpleorm.selection;
+
+import java.util.Arrays;
+
+public final class SelectionArgs {
+
+    public interface Binder {
+        void bindLong(int index, long value);
+        void bindDouble(int index, double value);
+        void bindString(int index, String value);
+        void bindNull(int index);
+    }
+
+    public static final int TYPE_NULL = 0;
+    public static final int TYPE_LONG = 1;
+    public static final int TYPE_DOUBLE = 2;
+    public static final int TYPE_STRING = 3;
+
+    private static final int DEFAULT_CAPACITY = 4;
+
+    private byte[] mTypes;
+    private long[] mNumbers;
+    private String[] mStrings;
+    private String[] mPrefixes;
+    private String[] mSuffixes;
+    private int mSize;
+
+    public SelectionArgs() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public SelectionArgs(int capacity) {
+        mTypes = new byte[capacity];
+        mNumbers = new long[capacity];
+        mStrings = new String[capacity];
+    }
+
+    public SelectionArgs addLong(long value) {
+        final int index = append(TYPE_LONG);
+        mNumbers[index] = value;
+        return this;
+    }
+
+    public SelectionArgs addDouble(double value) {
+        final int index = append(TYPE_DOUBLE);
+        mNumbers[index] = Double.doubleToRawLongBits(value);
+        return this;
+    }
+
+    public SelectionArgs addString(String value) {
+        if (value == null) {
+            return addNull();
+        }
+
+        final int index = append(TYPE_STRING);
+        mStrings[index] = value;
+        return this;
+    }
+
+    // Keeps the affixes so a prepared LIKE query can wrap rebound arguments the same way
+    public SelectionArgs addPattern(String prefix, String value, String suffix) {
+        final int index = append(TYPE_STRING);
+        mStrings[index] = prefix + value + suffix;
+        ensurePatterns();
+        mPrefixes[index] = prefix;
+        mSuffixes[index] = suffix;
+        return this;
+    }
+
+    public SelectionArgs addNull() {
+        append(TYPE_NULL);
+        return this;
+    }
+
+    public SelectionArgs addAll(SelectionArgs args) {
+        if (args == null || args.mSize == 0) {
+            return this;
+        }
+
+        ensureCapacity(mSize + args.mSize);
+        System.arraycopy(args.mTypes, 0, mTypes, mSize, args.mSize);
+        System.arraycopy(args.mNumbers, 0, mNumbers, mSize, args.mSize);
+        System.arraycopy(args.mStrings, 0, mStrings, mSize, args.mSize);
+        if (args.mPrefixes != null) {
+            ensurePatterns();
+            System.arraycopy(args.mPrefixes, 0, mPrefixes, mSize, args.mSize);
+            System.arraycopy(args.mSuffixes, 0, mSuffixes, mSize, args.mSize);
+        }
+        mSize += args.mSize;
+        return this;
+    }
+
+    public SelectionArgs copy() {
+        return new SelectionArgs(mSize).addAll(this);
+    }
+
+    public int size() {
+        return mSize;
+    }
+
+    public boolean isEmpty() {
+        return mSize == 0;
+    }
+
+    public int getType(int index) {
+        checkIndex(index);
+        return mTypes[index];
+    }
+
+    public long getLong(int index) {
+        checkIndex(index);
+        return mNumbers[index];
+    }
+
+    public double getDouble(int index) {
+        checkIndex(index);
+        return Double.longBitsToDouble(mNumbers[index]);
+    }
+
+    public String getString(int index) {
+        checkIndex(index);
+        return mStrings[index];
+    }
+
+    public boolean isPattern(int index) {
+        checkIndex(index);
+        return mPrefixes != null && mPrefixes[index] != null;
+    }
+
+    public String applyPattern(int index, String value) {
+        if (!isPattern(index)) {
+            return value;
+        }
+        return mPrefixes[index] + value + mSuffixes[index];
+    }
+
+    public int bind(Binder binder, int startIndex) {
+        int index = startIndex;
+        for (int i = 0; i < mSize; i++) {
+            switch (mTypes[i]) {
+                case TYPE_LONG:
+                    binder.bindLong(index++, mNumbers[i]);
+                    break;
+
+                case TYPE_DOUBLE:
+                    binder.bindDouble(index++, Double.longBitsToDouble(mNumbers[i]));
+                    break;
+
+                case TYPE_STRING:
+                    binder.bindString(index++, mStrings[i]);
+                    break;
+
+                default:
+                    binder.bindNull(index++);
+                    break;
+            }
+        }
+        return index;
+    }
+
+    public long estimateSize() {
+        long size = 9L * mSize;
+        for (int i = 0; i < mSize; i++) {
+            if (mTypes[i] == TYPE_STRING) {
+                size += 2L * mStrings[i].length();
+            }
+        }
+        return size;
+    }
+
+    private int append(int type) {
+        ensureCapacity(mSize + 1);
+        mTypes[mSize] = (byte) type;
+        mNumbers[mSize] = 0L;
+        mStrings[mSize] = null;
+        if (mPrefixes != null) {
+            mPrefixes[mSize] = null;
+            mSuffixes[mSize] = null;
+        }
+        return mSize++;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= mTypes.length) {
+            return;
+        }
+
+        final int newCapacity = Math.max(capacity, mTypes.length * 2);
+        mTypes = Arrays.copyOf(mTypes, newCapacity);
+        mNumbers = Arrays.copyOf(mNumbers, newCapacity);
+        mStrings = Arrays.copyOf(mStrings, newCapacity);
+        if (mPrefixes != null) {
+            mPrefixes = Arrays.copyOf(mPrefixes, newCapacity);
+            mSuffixes = Arrays.copyOf(mSuffixes, newCapacity);
+        }
+    }
+
+    private void ensurePatterns() {
+        if (mPrefixes == null) {
+            mPrefixes = new String[mTypes.length];
+            mSuffixes = new String[mTypes.length];
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= mSize) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mSize);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final SelectionArgs other = (SelectionArgs) o;
+        if (mSize != other.mSize) return false;
+
+        for (int i = 0; i < mSize; i++) {
+            if (mTypes[i] != other.mTypes[i] || mNumbers[i] != other.mNumbers[i]) return false;
+            if (mStrings[i] != null ? !mStrings[i].equals(other.mStrings[i]) : other.mStrings[i] != null) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = mSize;
+        for (int i = 0; i < mSize; i++) {
+            result = 31 * result + mTypes[i];
+            result = 31 * result + (int) (mNumbers[i] ^ (mNumbers[i] >>> 32));
+            result = 31 * result + (mStrings[i] != null ? mStrings[i].hashCode() : 0);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < mSize; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+
+            switch (mTypes[i]) {
+                case TYPE_LONG:
+                    builder.append(mNumbers[i]);
+                    break;
+
+                case TYPE_DOUBLE:
+                    builder.append(Double.longBitsToDouble(mNumbers[i]));
+                    break;
+
+                case TYPE_STRING:
+                    builder.append(mStrings[i]);
+                    break;
+
+                default:
+                    builder.append("null");
+                    break;
+            }
+        }
+        return builder.append("]").toString();
+    }
+}
@@ -0,0 +1,15 @@
+package com.github.wrdlbrnft.simpleorm.selection;
+
+class SelectionGroup implements SelectionElement {
+
+    private final Selection mSelection;
+
+    SelectionGroup(Selection selection) {
+        mSelection = selection;
+    }
+
+    @Override
+    public String resolve(String tableName) {
+        return "(" + mSelection.getSelection(tableName) + ")";
+    }
+}
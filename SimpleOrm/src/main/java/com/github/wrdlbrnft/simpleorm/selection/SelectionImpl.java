@@ -10,15 +10,28 @@ import java.util.List;
 class SelectionImpl implements Selection {
 
     private final List<SelectionElement> mStatements;
-    private final String[] mSelectionArgs;
+    private final SelectionArgs mSelectionArgs;
 
-    SelectionImpl(List<SelectionElement> statements, String[] selectionArgs) {
+    private volatile ResolvedSelection mResolvedSelection;
+
+    SelectionImpl(List<SelectionElement> statements, SelectionArgs selectionArgs) {
         mStatements = statements;
         mSelectionArgs = selectionArgs;
     }
 
     @Override
     public String getSelection(String tableName) {
+        final ResolvedSelection resolvedSelection = mResolvedSelection;
+        if (resolvedSelection != null && equals(resolvedSelection.mTableName, tableName)) {
+            return resolvedSelection.mSelection;
+        }
+
+        final String selection = resolveSelection(tableName);
+        mResolvedSelection = new ResolvedSelection(tableName, selection);
+        return selection;
+    }
+
+    private String resolveSelection(String tableName) {
         final StringBuilder builder = new StringBuilder();
         boolean appendSeparator = false;
         for (SelectionElement element : mStatements) {
@@ -35,7 +48,7 @@ class SelectionImpl implements Selection {
     }
 
     @Override
-    public String[] getSelectionArgs() {
+    public SelectionArgs getSelectionArgs() {
         return mSelectionArgs;
     }
 
@@ -43,4 +56,19 @@ class SelectionImpl implements Selection {
     public boolean isEmpty() {
         return mStatements.isEmpty();
     }
+
+    private static boolean equals(Object a, Object b) {
+        return (a == b) || (a != null && a.equals(b));
+    }
+
+    private static class ResolvedSelection {
+
+        private final String mTableName;
+        private final String mSelection;
+
+        private ResolvedSelection(String tableName, String selection) {
+            mTableName = tableName;
+            mSelection = selection;
+        }
+    }
 }
@@ -0,0 +1,7 @@
+package com.github.wrdlbrnft.simpleorm.selection.update;
+
+import com.github.wrdlbrnft.simpleorm.UpdateTransaction;
+import com.github.wrdlbrnft.simpleorm.selection.predicates.BooleanPredicate;
+
+public interface BooleanUpdateBuilder<T> extends BooleanPredicate<T, UpdateTransaction<T>> {
+}
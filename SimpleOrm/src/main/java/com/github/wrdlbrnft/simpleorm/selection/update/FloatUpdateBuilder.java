@@ -0,0 +1,7 @@
+package com.github.wrdlbrnft.simpleorm.selection.update;
+
+import com.github.wrdlbrnft.simpleorm.UpdateTransaction;
+import com.github.wrdlbrnft.simpleorm.selection.predicates.FloatPredicate;
+
+public interface FloatUpdateBuilder<T> extends FloatPredicate<T, UpdateTransaction<T>> {
+}
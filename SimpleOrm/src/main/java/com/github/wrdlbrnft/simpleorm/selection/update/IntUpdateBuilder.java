@@ -0,0 +1,7 @@
+package com.github.wrdlbrnft.simpleorm.selection.update;
+
+import com.github.wrdlbrnft.simpleorm.UpdateTransaction;
+import com.github.wrdlbrnft.simpleorm.selection.predicates.IntPredicate;
+
+public interface IntUpdateBuilder<T> extends IntPredicate<T, UpdateTransaction<T>> {
+}
@@ -0,0 +1,12 @@
+package com.github.wrdlbrnft.simpleorm.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.SOURCE)
+@Target({ElementType.TYPE})
+public @interface CompositeIndexes {
+    CompositeIndex[] value();
+}
@@ -0,0 +1,8 @@
+package com.github.wrdlbrnft.simpleorm.annotations;
+
+public enum ConflictPolicy {
+    REPLACE,
+    IGNORE,
+    UPDATE,
+    ABORT
+}
@@ -16,4 +16,17 @@ public @interface Database {
     String name();
     int version();
     boolean encrypted() default false;
+    boolean writeAheadLogging() default false;
+    Synchronous synchronous() default Synchronous.DEFAULT;
+    int cacheSize() default 0;
+    long mmapSize() default -1L;
+    TempStore tempStore() default TempStore.DEFAULT;
+    int pageSize() default 0;
+    int busyTimeout() default 0;
+    boolean groupCommit() default false;
+    int groupCommitWindow() default 0;
+    int groupCommitMaxSize() default 0;
+    boolean identityMap() default false;
+    int queryCacheMaxEntries() default 0;
+    long queryCacheMaxBytes() default 0L;
 }
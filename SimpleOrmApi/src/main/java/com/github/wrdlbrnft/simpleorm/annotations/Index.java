@@ -0,0 +1,16 @@
+package com.github.wrdlbrnft.simpleorm.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.SOURCE)
+@Target({ElementType.METHOD})
+public @interface Index {
+    String name() default "";
+    boolean unique() default false;
+    String where() default "";
+    int addedInVersion() default 0;
+    int removedInVersion() default 0;
+}
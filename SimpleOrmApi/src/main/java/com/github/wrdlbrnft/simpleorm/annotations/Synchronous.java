@@ -0,0 +1,9 @@
+package com.github.wrdlbrnft.simpleorm.annotations;
+
+public enum Synchronous {
+    DEFAULT,
+    OFF,
+    NORMAL,
+    FULL,
+    EXTRA
+}
@@ -0,0 +1,7 @@
+package com.github.wrdlbrnft.simpleorm.annotations;
+
+public enum TempStore {
+    DEFAULT,
+    FILE,
+    MEMORY
+}
@@ -0,0 +1,73 @@
+package com.github.wrdlbrnft.simpleorm.benchmark;
+
+import com.github.wrdlbrnft.simpleorm.benchmark.jdbc.JdbcSQLiteProvider;
+import com.github.wrdlbrnft.simpleorm.executor.SerialExecutorStrategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+final class BenchmarkDatabase {
+
+    private static final Executor DIRECT_EXECUTOR = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    };
+
+    private final JdbcSQLiteProvider mProvider;
+    private final TestDatabase mDatabase;
+
+    BenchmarkDatabase() {
+        mProvider = new JdbcSQLiteProvider();
+        TestDatabaseFactory.createSchema(mProvider.getDatabaseManager());
+        mDatabase = TestDatabaseFactory.newInstance(mProvider, new SerialExecutorStrategy(DIRECT_EXECUTOR));
+    }
+
+    TestDatabase getDatabase() {
+        return mDatabase;
+    }
+
+    void close() {
+        mProvider.close();
+    }
+
+    static List<SimpleTestEntity> createSimpleEntities(int count) {
+        final List<SimpleTestEntity> entities = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            entities.add(new SimpleTestEntityBuilder()
+                    .setText("Entity " + i)
+                    .setEnabled(i % 2 == 0)
+                    .build());
+        }
+        return entities;
+    }
+
+    static List<ComplexEntity> createComplexEntities(int count) {
+        final List<ComplexEntity> entities = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            entities.add(new ComplexEntityBuilder()
+                    .setText("Complex " + i)
+                    .setValue(i)
+                    .setEntities(Arrays.asList(createParent(i), createParent(i + 1)))
+                    .setChild(createChild(i))
+                    .build());
+        }
+        return entities;
+    }
+
+    private static ParentTestEntity createParent(int value) {
+        return new ParentTestEntityBuilder()
+                .setChildren(Arrays.asList(createChild(value), createChild(-value)))
+                .build();
+    }
+
+    private static ChildTestEntity createChild(int value) {
+        return new ChildTestEntityBuilder()
+                .setText("Child " + value)
+                .setValue(value / 10.0)
+                .build();
+    }
+}
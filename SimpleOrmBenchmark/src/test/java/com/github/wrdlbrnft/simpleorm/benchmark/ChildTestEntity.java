@@ -0,0 +1,19 @@
+package com.github.wrdlbrnft.simpleorm.benchmark;
+
+import com.github.wrdlbrnft.simpleorm.annotations.Column;
+import com.github.wrdlbrnft.simpleorm.annotations.Entity;
+import com.github.wrdlbrnft.simpleorm.annotations.Id;
+
+@Entity("child")
+public interface ChildTestEntity {
+
+    @Id
+    Long getId();
+    void setId(Long id);
+
+    @Column("text")
+    String getText();
+
+    @Column("value")
+    double getValue();
+}
@@ -0,0 +1,27 @@
+package com.github.wrdlbrnft.simpleorm.benchmark;
+
+import com.github.wrdlbrnft.simpleorm.annotations.Column;
+import com.github.wrdlbrnft.simpleorm.annotations.Entity;
+import com.github.wrdlbrnft.simpleorm.annotations.Id;
+
+import java.util.List;
+
+@Entity("Complex")
+public interface ComplexEntity {
+
+    @Id
+    Long getId();
+    void setId(Long id);
+
+    @Column("text")
+    String getText();
+
+    @Column("value")
+    long getValue();
+
+    @Column("entities")
+    List<ParentTestEntity> getEntities();
+
+    @Column("child")
+    ChildTestEntity getChild();
+}
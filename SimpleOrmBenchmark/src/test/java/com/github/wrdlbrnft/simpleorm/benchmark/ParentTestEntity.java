@@ -0,0 +1,18 @@
+package com.github.wrdlbrnft.simpleorm.benchmark;
+
+import com.github.wrdlbrnft.simpleorm.annotations.Column;
+import com.github.wrdlbrnft.simpleorm.annotations.Entity;
+import com.github.wrdlbrnft.simpleorm.annotations.Id;
+
+import java.util.List;
+
+@Entity("Parent")
+public interface ParentTestEntity {
+
+    @Id
+    Long getId();
+    void setId(Long id);
+
+    @Column("children")
+    List<ChildTestEntity> getChildren();
+}
@@ -0,0 +1,109 @@
+package com.github.wrdlbrnft.simpleorm.benchmark;
+
+import com.github.wrdlbrnft.simpleorm.LazyList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class QueryBenchmark {
+
+    private static final int RANDOM_ACCESS_COUNT = 100;
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private BenchmarkDatabase mBenchmarkDatabase;
+    private TestDatabase mDatabase;
+    private int[] mRandomPositions;
+
+    @Setup(Level.Trial)
+    public void fillDatabase() {
+        mBenchmarkDatabase = new BenchmarkDatabase();
+        mDatabase = mBenchmarkDatabase.getDatabase();
+        mDatabase.simpleEntities().save().entities(BenchmarkDatabase.createSimpleEntities(size)).commit().now();
+        mDatabase.complexEntities().save().entities(BenchmarkDatabase.createComplexEntities(size / 10)).commit().now();
+
+        final Random random = new Random(size);
+        mRandomPositions = new int[RANDOM_ACCESS_COUNT];
+        for (int i = 0; i < RANDOM_ACCESS_COUNT; i++) {
+            mRandomPositions[i] = random.nextInt(size);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void closeDatabase() {
+        mBenchmarkDatabase.close();
+    }
+
+    @Benchmark
+    public List<SimpleTestEntity> getList() {
+        return mDatabase.simpleEntities().find().getList().now();
+    }
+
+    @Benchmark
+    public List<SimpleTestEntity> getListWithSelection() {
+        return mDatabase.simpleEntities().find()
+                .where(F.simpletestentity.enabled).isTrue()
+                .getList().now();
+    }
+
+    @Benchmark
+    public void lazyRandomAccess(Blackhole blackhole) {
+        final LazyList<SimpleTestEntity> list = mDatabase.simpleEntities().find().lazy();
+        try {
+            for (int position : mRandomPositions) {
+                blackhole.consume(list.get(position));
+            }
+        } finally {
+            list.close();
+        }
+    }
+
+    @Benchmark
+    public int countByLoadingList() {
+        return mDatabase.simpleEntities().find()
+                .where(F.simpletestentity.enabled).isTrue()
+                .getList().now().size();
+    }
+
+    @Benchmark
+    public long count() {
+        return mDatabase.simpleEntities().find()
+                .where(F.simpletestentity.enabled).isTrue()
+                .count().now();
+    }
+
+    @Benchmark
+    public List<ComplexEntity> getListWithRelationships() {
+        return mDatabase.complexEntities().find().getList().now();
+    }
+
+    @Benchmark
+    public List<ComplexEntity> getLimitedListWithRelationships() {
+        return mDatabase.complexEntities().find()
+                .limit(10)
+                .getList().now();
+    }
+}
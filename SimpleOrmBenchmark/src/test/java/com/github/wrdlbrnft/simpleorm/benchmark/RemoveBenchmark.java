@@ -0,0 +1,65 @@
+package com.github.wrdlbrnft.simpleorm.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class RemoveBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private BenchmarkDatabase mBenchmarkDatabase;
+    private TestDatabase mDatabase;
+
+    @Setup(Level.Trial)
+    public void openDatabase() {
+        mBenchmarkDatabase = new BenchmarkDatabase();
+        mDatabase = mBenchmarkDatabase.getDatabase();
+    }
+
+    @Setup(Level.Invocation)
+    public void fillDatabase() {
+        mDatabase.simpleEntities().remove().all().commit().now();
+        mDatabase.complexEntities().remove().all().commit().now();
+        mDatabase.simpleEntities().save().entities(BenchmarkDatabase.createSimpleEntities(size)).commit().now();
+        mDatabase.complexEntities().save().entities(BenchmarkDatabase.createComplexEntities(size / 10)).commit().now();
+    }
+
+    @TearDown(Level.Trial)
+    public void closeDatabase() {
+        mBenchmarkDatabase.close();
+    }
+
+    @Benchmark
+    public void removeWithSelection() {
+        mDatabase.simpleEntities().remove()
+                .where(F.simpletestentity.enabled).isFalse()
+                .commit().now();
+    }
+
+    @Benchmark
+    public void removeWithRelationships() {
+        mDatabase.complexEntities().remove()
+                .where(F.complexentity.value).isLessThan(size / 20)
+                .commit().now();
+    }
+}
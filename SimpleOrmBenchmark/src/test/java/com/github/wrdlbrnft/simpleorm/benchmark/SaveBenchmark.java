@@ -0,0 +1,70 @@
+package com.github.wrdlbrnft.simpleorm.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class SaveBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private BenchmarkDatabase mBenchmarkDatabase;
+    private TestDatabase mDatabase;
+    private List<SimpleTestEntity> mSimpleEntities;
+    private List<ComplexEntity> mComplexEntities;
+
+    @Setup(Level.Trial)
+    public void openDatabase() {
+        mBenchmarkDatabase = new BenchmarkDatabase();
+        mDatabase = mBenchmarkDatabase.getDatabase();
+    }
+
+    @Setup(Level.Invocation)
+    public void createEntities() {
+        mSimpleEntities = BenchmarkDatabase.createSimpleEntities(size);
+        mComplexEntities = BenchmarkDatabase.createComplexEntities(size / 10);
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearDatabase() {
+        mDatabase.simpleEntities().remove().all().commit().now();
+        mDatabase.complexEntities().remove().all().commit().now();
+        mDatabase.parentEntities().remove().all().commit().now();
+        mDatabase.childEntities().remove().all().commit().now();
+    }
+
+    @TearDown(Level.Trial)
+    public void closeDatabase() {
+        mBenchmarkDatabase.close();
+    }
+
+    @Benchmark
+    public void saveSimpleEntities() {
+        mDatabase.simpleEntities().save().entities(mSimpleEntities).commit().now();
+    }
+
+    @Benchmark
+    public void saveEntitiesWithRelationships() {
+        mDatabase.complexEntities().save().entities(mComplexEntities).commit().now();
+    }
+}
@@ -0,0 +1,21 @@
+package com.github.wrdlbrnft.simpleorm.benchmark;
+
+import com.github.wrdlbrnft.simpleorm.annotations.Column;
+import com.github.wrdlbrnft.simpleorm.annotations.Entity;
+import com.github.wrdlbrnft.simpleorm.annotations.Id;
+import com.github.wrdlbrnft.simpleorm.annotations.Index;
+
+@Entity("Test")
+public interface SimpleTestEntity {
+    @Id
+    Long getId();
+    void setId(Long id);
+
+    @Column("text")
+    @Index
+    String getText();
+
+    @Column("enabled")
+    boolean isEnabled();
+    void setEnabled(boolean value);
+}
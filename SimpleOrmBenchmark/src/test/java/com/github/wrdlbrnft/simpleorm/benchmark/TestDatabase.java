@@ -0,0 +1,12 @@
+package com.github.wrdlbrnft.simpleorm.benchmark;
+
+import com.github.wrdlbrnft.simpleorm.Repository;
+import com.github.wrdlbrnft.simpleorm.annotations.Database;
+
+@Database(name = "BenchmarkDb", version = 1, encrypted = false)
+public interface TestDatabase {
+    Repository<ComplexEntity> complexEntities();
+    Repository<SimpleTestEntity> simpleEntities();
+    Repository<ParentTestEntity> parentEntities();
+    Repository<ChildTestEntity> childEntities();
+}
@@ -0,0 +1,239 @@
+package com.github.wrdlbrnft.simpleorm.benchmark.jdbc;
+
+import com.github.wrdlbrnft.simpleorm.database.CursorWrapper;
+import com.github.wrdlbrnft.simpleorm.exceptions.SimpleOrmException;
+import com.github.wrdlbrnft.simpleorm.selection.SelectionArgs;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class JdbcCursorWrapper implements CursorWrapper {
+
+    private final Connection mConnection;
+    private final String mSql;
+    private final SelectionArgs mSelectionArgs;
+    private final PreparedStatement mStatement;
+    private final String[] mColumnNames;
+    private final AtomicInteger mOpenCursorCount;
+
+    private ResultSet mResultSet;
+    private int mPosition = -1;
+    private int mCount = -1;
+    private boolean mClosed = false;
+
+    JdbcCursorWrapper(Connection connection, String sql, SelectionArgs selectionArgs, AtomicInteger openCursorCount) throws SQLException {
+        mConnection = connection;
+        mSql = sql;
+        mSelectionArgs = selectionArgs;
+        mStatement = connection.prepareStatement(sql);
+        try {
+            JdbcReadableSQLiteWrapper.bind(mStatement, selectionArgs);
+            mResultSet = mStatement.executeQuery();
+            final ResultSetMetaData metaData = mResultSet.getMetaData();
+            mColumnNames = new String[metaData.getColumnCount()];
+            for (int i = 0; i < mColumnNames.length; i++) {
+                mColumnNames[i] = metaData.getColumnLabel(i + 1);
+            }
+        } catch (SQLException e) {
+            mStatement.close();
+            throw e;
+        }
+        mOpenCursorCount = openCursorCount;
+        mOpenCursorCount.incrementAndGet();
+    }
+
+    @Override
+    public int getColumnIndex(String columnName) {
+        for (int i = 0; i < mColumnNames.length; i++) {
+            if (mColumnNames[i].equalsIgnoreCase(columnName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public float getFloat(int index) {
+        final Number number = getNumber(index);
+        return number != null ? number.floatValue() : 0.0f;
+    }
+
+    @Override
+    public double getDouble(int index) {
+        final Number number = getNumber(index);
+        return number != null ? number.doubleValue() : 0.0;
+    }
+
+    @Override
+    public int getInt(int index) {
+        final Number number = getNumber(index);
+        return number != null ? number.intValue() : 0;
+    }
+
+    @Override
+    public long getLong(int index) {
+        final Number number = getNumber(index);
+        return number != null ? number.longValue() : 0L;
+    }
+
+    @Override
+    public short getShort(int index) {
+        final Number number = getNumber(index);
+        return number != null ? number.shortValue() : 0;
+    }
+
+    @Override
+    public boolean getBoolean(int index) {
+        return getInt(index) > 0;
+    }
+
+    @Override
+    public Float getFloatOrNull(int index) {
+        final Number number = getNumber(index);
+        return number != null ? number.floatValue() : null;
+    }
+
+    @Override
+    public Double getDoubleOrNull(int index) {
+        final Number number = getNumber(index);
+        return number != null ? number.doubleValue() : null;
+    }
+
+    @Override
+    public Integer getIntOrNull(int index) {
+        final Number number = getNumber(index);
+        return number != null ? number.intValue() : null;
+    }
+
+    @Override
+    public Long getLongOrNull(int index) {
+        final Number number = getNumber(index);
+        return number != null ? number.longValue() : null;
+    }
+
+    @Override
+    public Short getShortOrNull(int index) {
+        final Number number = getNumber(index);
+        return number != null ? number.shortValue() : null;
+    }
+
+    @Override
+    public Boolean getBooleanOrNull(int index) {
+        final Number number = getNumber(index);
+        return number != null ? number.intValue() > 0 : null;
+    }
+
+    @Override
+    public boolean isNull(int index) {
+        return getValue(index) == null;
+    }
+
+    @Override
+    public byte[] getBlob(int index) {
+        return (byte[]) getValue(index);
+    }
+
+    @Override
+    public String getString(int index) {
+        final Object value = getValue(index);
+        return value != null ? String.valueOf(value) : null;
+    }
+
+    @Override
+    public boolean moveToFirst() {
+        return moveToPosition(0);
+    }
+
+    @Override
+    public boolean moveToNext() {
+        return moveToPosition(mPosition + 1);
+    }
+
+    // The result set only steps forward, moving back runs the query again like a refilled cursor window
+    @Override
+    public boolean moveToPosition(int position) {
+        try {
+            if (position < 0) {
+                if (mPosition >= 0) {
+                    restart();
+                }
+                return false;
+            }
+            if (position < mPosition) {
+                restart();
+            }
+            while (mPosition < position) {
+                if (!mResultSet.next()) {
+                    mCount = mPosition + 1;
+                    return false;
+                }
+                mPosition++;
+            }
+            return true;
+        } catch (SQLException e) {
+            throw new SimpleOrmException("Failed to move cursor to position " + position, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (mClosed) {
+            return;
+        }
+
+        mClosed = true;
+        mOpenCursorCount.decrementAndGet();
+        try {
+            mStatement.close();
+        } catch (SQLException e) {
+            throw new SimpleOrmException("Failed to close cursor", e);
+        }
+    }
+
+    @Override
+    public int getCount() {
+        if (mCount >= 0) {
+            return mCount;
+        }
+
+        try (PreparedStatement statement = mConnection.prepareStatement("SELECT COUNT(*) FROM (" + mSql + ")")) {
+            JdbcReadableSQLiteWrapper.bind(statement, mSelectionArgs);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                mCount = resultSet.getInt(1);
+                return mCount;
+            }
+        } catch (SQLException e) {
+            throw new SimpleOrmException("Failed to count rows of " + mSql, e);
+        }
+    }
+
+    private void restart() throws SQLException {
+        mResultSet.close();
+        mResultSet = mStatement.executeQuery();
+        mPosition = -1;
+    }
+
+    private Object getValue(int index) {
+        try {
+            return mResultSet.getObject(index + 1);
+        } catch (SQLException e) {
+            throw new SimpleOrmException("Failed to read column " + index, e);
+        }
+    }
+
+    private Number getNumber(int index) {
+        final Object value = getValue(index);
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Number) {
+            return (Number) value;
+        }
+        return Double.valueOf(String.valueOf(value));
+    }
+}
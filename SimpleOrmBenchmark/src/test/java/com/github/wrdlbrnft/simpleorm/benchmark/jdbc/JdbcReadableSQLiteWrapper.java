@@ -0,0 +1,87 @@
+package com.github.wrdlbrnft.simpleorm.benchmark.jdbc;
+
+import com.github.wrdlbrnft.simpleorm.database.CursorWrapper;
+import com.github.wrdlbrnft.simpleorm.database.ReadableSQLiteWrapper;
+import com.github.wrdlbrnft.simpleorm.exceptions.SimpleOrmException;
+import com.github.wrdlbrnft.simpleorm.selection.SelectionArgs;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class JdbcReadableSQLiteWrapper implements ReadableSQLiteWrapper {
+
+    private final Connection mConnection;
+    private final AtomicInteger mOpenCursorCount;
+
+    JdbcReadableSQLiteWrapper(Connection connection, AtomicInteger openCursorCount) {
+        mConnection = connection;
+        mOpenCursorCount = openCursorCount;
+    }
+
+    @Override
+    public CursorWrapper query(String table, String[] columns, String selection, SelectionArgs selectionArgs, String groupBy, String having, String orderBy, String limit) {
+        final StringBuilder builder = new StringBuilder("SELECT ");
+        if (columns == null || columns.length == 0) {
+            builder.append("*");
+        } else {
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                builder.append(columns[i]);
+            }
+        }
+        builder.append(" FROM ").append(table);
+        appendClause(builder, " WHERE ", selection);
+        appendClause(builder, " GROUP BY ", groupBy);
+        appendClause(builder, " HAVING ", having);
+        appendClause(builder, " ORDER BY ", orderBy);
+        appendClause(builder, " LIMIT ", limit);
+        return query(builder.toString(), selectionArgs);
+    }
+
+    @Override
+    public CursorWrapper query(String sql, SelectionArgs selectionArgs) {
+        try {
+            return new JdbcCursorWrapper(mConnection, sql, selectionArgs, mOpenCursorCount);
+        } catch (SQLException e) {
+            throw new SimpleOrmException("Failed to query " + sql, e);
+        }
+    }
+
+    static void bind(PreparedStatement statement, SelectionArgs selectionArgs) throws SQLException {
+        if (selectionArgs == null) {
+            return;
+        }
+
+        for (int i = 0, count = selectionArgs.size(); i < count; i++) {
+            final int index = i + 1;
+            switch (selectionArgs.getType(i)) {
+                case SelectionArgs.TYPE_LONG:
+                    statement.setLong(index, selectionArgs.getLong(i));
+                    break;
+
+                case SelectionArgs.TYPE_DOUBLE:
+                    statement.setDouble(index, selectionArgs.getDouble(i));
+                    break;
+
+                case SelectionArgs.TYPE_STRING:
+                    statement.setString(index, selectionArgs.getString(i));
+                    break;
+
+                default:
+                    statement.setNull(index, Types.NULL);
+                    break;
+            }
+        }
+    }
+
+    private static void appendClause(StringBuilder builder, String name, String clause) {
+        if (clause != null && !clause.isEmpty()) {
+            builder.append(name).append(clause);
+        }
+    }
+}
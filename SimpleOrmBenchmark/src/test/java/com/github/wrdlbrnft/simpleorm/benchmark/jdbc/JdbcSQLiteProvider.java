@@ -0,0 +1,104 @@
+package com.github.wrdlbrnft.simpleorm.benchmark.jdbc;
+
+import com.github.wrdlbrnft.simpleorm.database.ReadableSQLiteWrapper;
+import com.github.wrdlbrnft.simpleorm.database.SQLiteDatabaseManager;
+import com.github.wrdlbrnft.simpleorm.database.SQLiteProvider;
+import com.github.wrdlbrnft.simpleorm.database.WritableSQLiteWrapper;
+import com.github.wrdlbrnft.simpleorm.exceptions.SimpleOrmException;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class JdbcSQLiteProvider implements SQLiteProvider {
+
+    private final AtomicInteger mOpenCursorCount = new AtomicInteger();
+    private final Connection mConnection;
+    private final WritableSQLiteWrapper mWritableWrapper;
+    private final ReadableSQLiteWrapper mReadableWrapper;
+    private final SQLiteDatabaseManager mDatabaseManager;
+
+    public JdbcSQLiteProvider() {
+        this("jdbc:sqlite::memory:");
+    }
+
+    public JdbcSQLiteProvider(String url) {
+        try {
+            mConnection = DriverManager.getConnection(url);
+        } catch (SQLException e) {
+            throw new SimpleOrmException("Failed to open " + url, e);
+        }
+        mWritableWrapper = new JdbcWritableSQLiteWrapper(mConnection);
+        mReadableWrapper = new JdbcReadableSQLiteWrapper(mConnection, mOpenCursorCount);
+        mDatabaseManager = new SQLiteDatabaseManagerImpl(mConnection);
+    }
+
+    public SQLiteDatabaseManager getDatabaseManager() {
+        return mDatabaseManager;
+    }
+
+    @Override
+    public WritableSQLiteWrapper getWritableWrapper() {
+        return mWritableWrapper;
+    }
+
+    @Override
+    public ReadableSQLiteWrapper getReadableWrapper() {
+        return mReadableWrapper;
+    }
+
+    @Override
+    public int getOpenCursorCount() {
+        return mOpenCursorCount.get();
+    }
+
+    @Override
+    public int getLeakedCursorCount() {
+        return 0;
+    }
+
+    @Override
+    public void close() {
+        try {
+            mConnection.close();
+        } catch (SQLException e) {
+            throw new SimpleOrmException("Failed to close database", e);
+        }
+    }
+
+    private static class SQLiteDatabaseManagerImpl implements SQLiteDatabaseManager {
+
+        private final Connection mConnection;
+
+        private SQLiteDatabaseManagerImpl(Connection connection) {
+            mConnection = connection;
+        }
+
+        @Override
+        public void execSql(String sql) {
+            try (Statement statement = mConnection.createStatement()) {
+                statement.execute(sql);
+            } catch (SQLException e) {
+                throw new SimpleOrmException("Failed to execute " + sql, e);
+            }
+        }
+
+        @Override
+        public boolean hasColumn(String tableName, String columnName) {
+            try (Statement statement = mConnection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("PRAGMA table_info(" + tableName + ")")) {
+                while (resultSet.next()) {
+                    if (columnName.equals(resultSet.getString("name"))) {
+                        return true;
+                    }
+                }
+                return false;
+            } catch (SQLException e) {
+                throw new SimpleOrmException("Failed to read columns of " + tableName, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.github.wrdlbrnft.simpleorm.benchmark.jdbc;
+
+import com.github.wrdlbrnft.simpleorm.database.SQLiteStatementWrapper;
+import com.github.wrdlbrnft.simpleorm.exceptions.SimpleOrmException;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+class JdbcStatementWrapper implements SQLiteStatementWrapper {
+
+    private final PreparedStatement mStatement;
+
+    JdbcStatementWrapper(PreparedStatement statement) {
+        mStatement = statement;
+    }
+
+    @Override
+    public void bindInt(int index, int value) {
+        bindLong(index, value);
+    }
+
+    @Override
+    public void bindIntOrNull(int index, Integer value) {
+        if (value == null) {
+            bindNull(index);
+        } else {
+            bindLong(index, value);
+        }
+    }
+
+    @Override
+    public void bindLong(int index, long value) {
+        try {
+            mStatement.setLong(index, value);
+        } catch (SQLException e) {
+            throw new SimpleOrmException("Failed to bind value", e);
+        }
+    }
+
+    @Override
+    public void bindLongOrNull(int index, Long value) {
+        if (value == null) {
+            bindNull(index);
+        } else {
+            bindLong(index, value);
+        }
+    }
+
+    @Override
+    public void bindBoolean(int index, boolean value) {
+        bindLong(index, value ? 1L : 0L);
+    }
+
+    @Override
+    public void bindBooleanOrNull(int index, Boolean value) {
+        if (value == null) {
+            bindNull(index);
+        } else {
+            bindLong(index, value ? 1L : 0L);
+        }
+    }
+
+    @Override
+    public void bindFloat(int index, float value) {
+        bindDouble(index, value);
+    }
+
+    @Override
+    public void bindFloatOrNull(int index, Float value) {
+        if (value == null) {
+            bindNull(index);
+        } else {
+            bindDouble(index, value);
+        }
+    }
+
+    @Override
+    public void bindDouble(int index, double value) {
+        try {
+            mStatement.setDouble(index, value);
+        } catch (SQLException e) {
+            throw new SimpleOrmException("Failed to bind value", e);
+        }
+    }
+
+    @Override
+    public void bindDoubleOrNull(int index, Double value) {
+        if (value == null) {
+            bindNull(index);
+        } else {
+            bindDouble(index, value);
+        }
+    }
+
+    @Override
+    public void bindString(int index, String value) {
+        if (value == null) {
+            bindNull(index);
+            return;
+        }
+        try {
+            mStatement.setString(index, value);
+        } catch (SQLException e) {
+            throw new SimpleOrmException("Failed to bind value", e);
+        }
+    }
+
+    @Override
+    public void bindNull(int index) {
+        try {
+            mStatement.setNull(index, Types.NULL);
+        } catch (SQLException e) {
+            throw new SimpleOrmException("Failed to bind value", e);
+        }
+    }
+
+    @Override
+    public void clearBindings() {
+        try {
+            mStatement.clearParameters();
+        } catch (SQLException e) {
+            throw new SimpleOrmException("Failed to clear bindings", e);
+        }
+    }
+
+    @Override
+    public long executeInsert() {
+        try {
+            mStatement.executeUpdate();
+            try (ResultSet keys = mStatement.getGeneratedKeys()) {
+                return keys.next() ? keys.getLong(1) : -1L;
+            }
+        } catch (SQLException e) {
+            throw new SimpleOrmException("Failed to execute insert", e);
+        }
+    }
+
+    @Override
+    public int executeUpdateDelete() {
+        try {
+            return mStatement.executeUpdate();
+        } catch (SQLException e) {
+            throw new SimpleOrmException("Failed to execute update", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            mStatement.close();
+        } catch (SQLException e) {
+            throw new SimpleOrmException("Failed to close statement", e);
+        }
+    }
+}
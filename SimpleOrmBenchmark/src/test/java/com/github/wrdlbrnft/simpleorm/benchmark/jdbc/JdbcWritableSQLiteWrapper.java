@@ -0,0 +1,92 @@
+package com.github.wrdlbrnft.simpleorm.benchmark.jdbc;
+
+import com.github.wrdlbrnft.simpleorm.database.SQLiteStatementWrapper;
+import com.github.wrdlbrnft.simpleorm.database.WritableSQLiteWrapper;
+import com.github.wrdlbrnft.simpleorm.exceptions.SimpleOrmException;
+import com.github.wrdlbrnft.simpleorm.selection.SelectionArgs;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+class JdbcWritableSQLiteWrapper implements WritableSQLiteWrapper {
+
+    private final Connection mConnection;
+
+    private int mTransactionDepth = 0;
+    private boolean mTransactionSuccessful = true;
+    private boolean mInnerTransactionSuccessful = false;
+
+    JdbcWritableSQLiteWrapper(Connection connection) {
+        mConnection = connection;
+    }
+
+    @Override
+    public void beginTransaction() {
+        try {
+            if (mTransactionDepth == 0) {
+                mConnection.setAutoCommit(false);
+                mTransactionSuccessful = true;
+            }
+            mTransactionDepth++;
+            mInnerTransactionSuccessful = false;
+        } catch (SQLException e) {
+            throw new SimpleOrmException("Failed to begin transaction", e);
+        }
+    }
+
+    @Override
+    public SQLiteStatementWrapper compileStatement(String sql) {
+        try {
+            return new JdbcStatementWrapper(mConnection.prepareStatement(sql, PreparedStatement.RETURN_GENERATED_KEYS));
+        } catch (SQLException e) {
+            throw new SimpleOrmException("Failed to compile " + sql, e);
+        }
+    }
+
+    @Override
+    public void delete(String tableName, String selection, SelectionArgs selectionArgs) {
+        final String sql = selection != null
+                ? "DELETE FROM " + tableName + " WHERE " + selection
+                : "DELETE FROM " + tableName;
+        execSql(sql, selectionArgs);
+    }
+
+    @Override
+    public void setTransactionSuccessFul() {
+        mInnerTransactionSuccessful = true;
+    }
+
+    @Override
+    public void endTransaction() {
+        if (!mInnerTransactionSuccessful) {
+            mTransactionSuccessful = false;
+        }
+        mInnerTransactionSuccessful = false;
+        mTransactionDepth--;
+        if (mTransactionDepth > 0) {
+            return;
+        }
+
+        try {
+            if (mTransactionSuccessful) {
+                mConnection.commit();
+            } else {
+                mConnection.rollback();
+            }
+            mConnection.setAutoCommit(true);
+        } catch (SQLException e) {
+            throw new SimpleOrmException("Failed to end transaction", e);
+        }
+    }
+
+    @Override
+    public void execSql(String sql, SelectionArgs bindArgs) {
+        try (PreparedStatement statement = mConnection.prepareStatement(sql)) {
+            JdbcReadableSQLiteWrapper.bind(statement, bindArgs);
+            statement.execute();
+        } catch (SQLException e) {
+            throw new SimpleOrmException("Failed to execute " + sql, e);
+        }
+    }
+}
@@ -14,6 +14,7 @@ public class SimpleOrmTypes {
     public static final DefinedType BASE_REPOSITORY = Types.of("com.github.wrdlbrnft.simpleorm.repository", "BaseRepository");
     public static final DefinedType SELECTION = Types.of("com.github.wrdlbrnft.simpleorm.selection", "Selection");
     public static final DefinedType SELECTION_BUILDER = Types.of("com.github.wrdlbrnft.simpleorm.selection", "Selection.Builder");
+    public static final DefinedType SELECTION_ARGS = Types.of("com.github.wrdlbrnft.simpleorm.selection", "SelectionArgs");
 
     public static final DefinedType STRING_BUILDER = Types.of(StringBuilder.class);
     public static final DefinedType COLLECTIONS = Types.of("java.util", "Collections");
@@ -21,17 +22,22 @@ public class SimpleOrmTypes {
     public static final DefinedType CONCURRENT_SUPPLIER = Types.of("com.github.wrdlbrnft.simpleorm.utils", "ConcurrentSupplier");
     public static final DefinedType LONG_SPARSE_ARRAY_COMPAT = Types.of("com.github.wrdlbrnft.simpleorm.utils", "LongSparseArrayCompat");
 
-    public static final DefinedType EXECUTOR = Types.of("java.util.concurrent", "Executor");
-    public static final DefinedType EXECUTORS = Types.of("java.util.concurrent", "Executors");
+    public static final DefinedType EXECUTOR_STRATEGY = Types.of("com.github.wrdlbrnft.simpleorm.executor", "ExecutorStrategy");
+    public static final DefinedType DEFAULT_EXECUTOR_STRATEGY = Types.of("com.github.wrdlbrnft.simpleorm.executor", "DefaultExecutorStrategy");
 
     public static final DefinedType SQLITE_PROVIDER = Types.of("com.github.wrdlbrnft.simpleorm.database", "SQLiteProvider");
     public static final DefinedType ENCRYPTED_SQLITE_PROVIDER = Types.of("com.github.wrdlbrnft.simpleorm.database", "EncryptedSQLiteProvider");
     public static final DefinedType BASE_ENCRYPTED_SQLITE_PROVIDER = Types.of("com.github.wrdlbrnft.simpleorm.database.encrypted", "BaseEncryptedSQLiteProvider");
     public static final DefinedType BASE_PLAIN_SQLITE_PROVIDER = Types.of("com.github.wrdlbrnft.simpleorm.database.plain", "BasePlainSQLiteProvider");
 
+    public static final DefinedType DATABASE_CONFIGURATION_BUILDER = Types.of("com.github.wrdlbrnft.simpleorm.database", "DatabaseConfiguration.Builder");
+    public static final DefinedType SYNCHRONOUS = Types.of("com.github.wrdlbrnft.simpleorm.annotations", "Synchronous");
+    public static final DefinedType TEMP_STORE = Types.of("com.github.wrdlbrnft.simpleorm.annotations", "TempStore");
+
     public static final DefinedType SQLITE_DATABASE_MANAGER = Types.of("com.github.wrdlbrnft.simpleorm.database", "SQLiteDatabaseManager");
 
     public static final DefinedType WRITABLE_SQLITE_WRAPPER = Types.of("com.github.wrdlbrnft.simpleorm.database", "WritableSQLiteWrapper");
+    public static final DefinedType SQLITE_STATEMENT_WRAPPER = Types.of("com.github.wrdlbrnft.simpleorm.database", "SQLiteStatementWrapper");
     public static final DefinedType READABLE_SQLITE_WRAPPER = Types.of("com.github.wrdlbrnft.simpleorm.database", "ReadableSQLiteWrapper");
     public static final DefinedType CURSOR_WRAPPER = Types.of("com.github.wrdlbrnft.simpleorm.database", "CursorWrapper");
     public static final DefinedType SAVE_PARAMETERS = Types.of("com.github.wrdlbrnft.simpleorm.entities", "SaveParameters");
@@ -39,9 +45,22 @@ public class SimpleOrmTypes {
     public static final DefinedType QUERY_PARAMETERS = Types.of("com.github.wrdlbrnft.simpleorm.entities", "QueryParameters");
 
     public static final DefinedType ABSTRACT_LIST = Types.of("java.util", "AbstractList");
+    public static final DefinedType LAZY_LIST = Types.of("com.github.wrdlbrnft.simpleorm", "LazyList");
+    public static final DefinedType LOADER = Types.of("com.github.wrdlbrnft.simpleorm", "Loader");
+    public static final DefinedType COMPILED_QUERY = Types.of("com.github.wrdlbrnft.simpleorm.entities", "CompiledQuery");
 
     public static final DefinedType BASE_ENTITY_MANAGER = Types.of("com.github.wrdlbrnft.simpleorm.entities", "BaseEntityManager");
     public static final DefinedType ENTITY_ITERATOR = Types.of("com.github.wrdlbrnft.simpleorm.entities", "EntityIterator");
+    public static final DefinedType TRACKED_ENTITY = Types.of("com.github.wrdlbrnft.simpleorm.entities", "TrackedEntity");
+    public static final DefinedType TABLE_CHANGE_NOTIFIER = Types.of("com.github.wrdlbrnft.simpleorm.entities", "TableChangeNotifier");
+    public static final DefinedType CACHING_ENTITY_MANAGER = Types.of("com.github.wrdlbrnft.simpleorm.repository", "CachingEntityManager");
+    public static final DefinedType IDENTITY_MAP = Types.of("com.github.wrdlbrnft.simpleorm.entities", "IdentityMap");
+    public static final DefinedType LAZY_CHILD_LIST = Types.of("com.github.wrdlbrnft.simpleorm.entities", "LazyChildList");
+    public static final DefinedType LAZY_CHILD_LIST_FACTORY = Types.of("com.github.wrdlbrnft.simpleorm.entities", "LazyChildList.Factory");
+    public static final DefinedType CHANGE_TRACKING = Types.of("com.github.wrdlbrnft.simpleorm.entities", "ChangeTracking");
+    public static final DefinedType PARTIAL_UPDATE = Types.of("com.github.wrdlbrnft.simpleorm.entities", "PartialUpdate");
+    public static final DefinedType BIT_SET = Types.of("java.util", "BitSet");
+    public static final DefinedType DATE = Types.of("java.util", "Date");
     public static final DefinedType CONTENT_VALUES = Types.of("android.content", "ContentValues");
 
     public static final DefinedType VALUE_CONVERTER = Types.of("com.github.wrdlbrnft.simpleorm.adapter", "ValueConverter");
@@ -73,4 +92,7 @@ public class SimpleOrmTypes {
     public static final DefinedType STRING_FIELD_IMPL = Types.of("com.github.wrdlbrnft.simpleorm.fields.impl", "StringFieldImpl");
 
     public static final DefinedType THROWABLE = Types.of(Throwable.class);
+    public static final DefinedType ILLEGAL_ARGUMENT_EXCEPTION = Types.of(IllegalArgumentException.class);
+    public static final DefinedType ILLEGAL_STATE_EXCEPTION = Types.of(IllegalStateException.class);
+    public static final DefinedType CLOSEABLE = Types.of("java.io", "Closeable");
 }
@@ -0,0 +1,20 @@
+package com.github.wrdlbrnft.simpleorm.processor.analyzer.databases;
+
+import com.github.wrdlbrnft.simpleorm.annotations.Synchronous;
+import com.github.wrdlbrnft.simpleorm.annotations.TempStore;
+
+public interface ConfigurationInfo {
+    boolean isWriteAheadLoggingEnabled();
+    Synchronous getSynchronous();
+    int getCacheSize();
+    long getMmapSize();
+    TempStore getTempStore();
+    int getPageSize();
+    int getBusyTimeout();
+    boolean isGroupCommitEnabled();
+    int getGroupCommitWindow();
+    int getGroupCommitMaxSize();
+    boolean isIdentityMapEnabled();
+    int getQueryCacheMaxEntries();
+    long getQueryCacheMaxBytes();
+}
@@ -0,0 +1,102 @@
+package com.github.wrdlbrnft.simpleorm.processor.analyzer.databases;
+
+import com.github.wrdlbrnft.simpleorm.annotations.Synchronous;
+import com.github.wrdlbrnft.simpleorm.annotations.TempStore;
+
+class ConfigurationInfoImpl implements ConfigurationInfo {
+
+    private final boolean mWriteAheadLoggingEnabled;
+    private final Synchronous mSynchronous;
+    private final int mCacheSize;
+    private final long mMmapSize;
+    private final TempStore mTempStore;
+    private final int mPageSize;
+    private final int mBusyTimeout;
+    private final boolean mGroupCommitEnabled;
+    private final int mGroupCommitWindow;
+    private final int mGroupCommitMaxSize;
+    private final boolean mIdentityMapEnabled;
+    private final int mQueryCacheMaxEntries;
+    private final long mQueryCacheMaxBytes;
+
+    ConfigurationInfoImpl(boolean writeAheadLoggingEnabled, Synchronous synchronous, int cacheSize, long mmapSize, TempStore tempStore, int pageSize, int busyTimeout, boolean groupCommitEnabled, int groupCommitWindow, int groupCommitMaxSize, boolean identityMapEnabled, int queryCacheMaxEntries, long queryCacheMaxBytes) {
+        mWriteAheadLoggingEnabled = writeAheadLoggingEnabled;
+        mSynchronous = synchronous;
+        mCacheSize = cacheSize;
+        mMmapSize = mmapSize;
+        mTempStore = tempStore;
+        mPageSize = pageSize;
+        mBusyTimeout = busyTimeout;
+        mGroupCommitEnabled = groupCommitEnabled;
+        mGroupCommitWindow = groupCommitWindow;
+        mGroupCommitMaxSize = groupCommitMaxSize;
+        mIdentityMapEnabled = identityMapEnabled;
+        mQueryCacheMaxEntries = queryCacheMaxEntries;
+        mQueryCacheMaxBytes = queryCacheMaxBytes;
+    }
+
+    @Override
+    public boolean isWriteAheadLoggingEnabled() {
+        return mWriteAheadLoggingEnabled;
+    }
+
+    @Override
+    public Synchronous getSynchronous() {
+        return mSynchronous;
+    }
+
+    @Override
+    public int getCacheSize() {
+        return mCacheSize;
+    }
+
+    @Override
+    public long getMmapSize() {
+        return mMmapSize;
+    }
+
+    @Override
+    public TempStore getTempStore() {
+        return mTempStore;
+    }
+
+    @Override
+    public int getPageSize() {
+        return mPageSize;
+    }
+
+    @Override
+    public int getBusyTimeout() {
+        return mBusyTimeout;
+    }
+
+    @Override
+    public boolean isGroupCommitEnabled() {
+        return mGroupCommitEnabled;
+    }
+
+    @Override
+    public int getGroupCommitWindow() {
+        return mGroupCommitWindow;
+    }
+
+    @Override
+    public int getGroupCommitMaxSize() {
+        return mGroupCommitMaxSize;
+    }
+
+    @Override
+    public boolean isIdentityMapEnabled() {
+        return mIdentityMapEnabled;
+    }
+
+    @Override
+    public int getQueryCacheMaxEntries() {
+        return mQueryCacheMaxEntries;
+    }
+
+    @Override
+    public long getQueryCacheMaxBytes() {
+        return mQueryCacheMaxBytes;
+    }
+}
@@ -5,9 +5,12 @@ import com.github.wrdlbrnft.codebuilder.util.Utils;
 import com.github.wrdlbrnft.simpleorm.annotations.ChangePassword;
 import com.github.wrdlbrnft.simpleorm.annotations.Database;
 import com.github.wrdlbrnft.simpleorm.annotations.Entity;
+import com.github.wrdlbrnft.simpleorm.annotations.Query;
+import com.github.wrdlbrnft.simpleorm.annotations.TempStore;
 import com.github.wrdlbrnft.simpleorm.processor.SimpleOrmTypes;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.databases.exceptions.InvalidChangePasswordMethod;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.databases.exceptions.InvalidChildTableNameException;
+import com.github.wrdlbrnft.simpleorm.processor.analyzer.databases.exceptions.InvalidDatabaseConfigurationException;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.databases.exceptions.InvalidDatabaseException;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.databases.exceptions.InvalidDatabaseNameException;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.databases.exceptions.InvalidRepositoryMethodException;
@@ -17,6 +20,7 @@ import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.ColumnInfo;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.ColumnType;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.EntityAnalyzer;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.EntityInfo;
+import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.IndexInfo;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.exceptions.InvalidEntityException;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.typeadapter.TypeAdapterManager;
 
@@ -44,14 +48,18 @@ public class DatabaseAnalyzer {
     private final ProcessingEnvironment mProcessingEnvironment;
     private final ProcessingHelper mProcessingHelper;
     private final EntityAnalyzer mEntityAnalyzer;
+    private final QueryMethodAnalyzer mQueryMethodAnalyzer;
     private final TypeElement mRepositoryType;
+    private final TypeElement mCloseableType;
     private final Set<String> mTableNames = new HashSet<>();
 
     public DatabaseAnalyzer(ProcessingEnvironment processingEnv) {
         mProcessingEnvironment = processingEnv;
         mProcessingHelper = ProcessingHelper.from(processingEnv);
         mEntityAnalyzer = new EntityAnalyzer(processingEnv);
+        mQueryMethodAnalyzer = new QueryMethodAnalyzer(processingEnv);
         mRepositoryType = SimpleOrmTypes.REPOSITORY.asTypeElement(processingEnv);
+        mCloseableType = SimpleOrmTypes.CLOSEABLE.asTypeElement(processingEnv);
     }
 
     public List<DatabaseInfo> analyze(List<TypeElement> databaseElements, TypeAdapterManager adapterManager) {
@@ -81,6 +89,7 @@ public class DatabaseAnalyzer {
         mTableNames.clear();
         final List<RepositoryInfo> repositories = new ArrayList<>();
         final Set<EntityInfo> entityInfos = new HashSet<>();
+        final List<ExecutableElement> queryMethods = new ArrayList<>();
         ExecutableElement changePasswordMethod = null;
         for (Element member : databaseElement.getEnclosedElements()) {
             if (member.getKind() != ElementKind.METHOD) {
@@ -112,8 +121,13 @@ public class DatabaseAnalyzer {
                 continue;
             }
 
+            if (method.getAnnotation(Query.class) != null) {
+                queryMethods.add(method);
+                continue;
+            }
+
             if (!parameters.isEmpty()) {
-                throw new InvalidRepositoryMethodException("The database method " + method.getSimpleName() + "() has one or more parameters! These methods are not allowed to have any parameters.", method);
+                throw new InvalidRepositoryMethodException("The database method " + method.getSimpleName() + "() has one or more parameters! These methods are not allowed to have any parameters unless they are annotated with @Query.", method);
             }
 
             final TypeMirror returnType = method.getReturnType();
@@ -143,7 +157,97 @@ public class DatabaseAnalyzer {
             repositories.add(new RepositoryInfoImpl(entityElement, entityInfo, method));
         }
 
-        return new DatabaseInfoImpl(database.name(), database.version(), changePasswordMethod, database.encrypted(), databaseElement, repositories, entityInfos);
+        if (!database.encrypted()) {
+            for (EntityInfo entityInfo : entityInfos) {
+                for (IndexInfo indexInfo : entityInfo.getIndices()) {
+                    if (!indexInfo.getWhereClause().isEmpty()) {
+                        mProcessingEnvironment.getMessager().printMessage(
+                                Diagnostic.Kind.WARNING,
+                                "The index " + indexInfo.getIndexName() + " of the table " + entityInfo.getTableName() + " in the database " + databaseElement.getSimpleName() + " is a partial index. Partial indexes need SQLite 3.8.0 which plain databases only have from API 21 on. Creating the database fails on older devices unless the minSdkVersion is at least 21 or the database is encrypted.",
+                                databaseElement
+                        );
+                    }
+                }
+            }
+        }
+
+        final List<QueryMethodInfo> queryMethodInfos = new ArrayList<>();
+        for (ExecutableElement queryMethod : queryMethods) {
+            queryMethodInfos.add(mQueryMethodAnalyzer.analyze(queryMethod, repositories, database.version()));
+        }
+
+        final boolean closeable = mProcessingEnvironment.getTypeUtils().isAssignable(databaseElement.asType(), mCloseableType.asType());
+        final ConfigurationInfo configurationInfo = createConfigurationInfo(databaseElement, database);
+        return new DatabaseInfoImpl(database.name(), database.version(), changePasswordMethod, database.encrypted(), closeable, configurationInfo, databaseElement, repositories, queryMethodInfos, entityInfos);
+    }
+
+    private ConfigurationInfo createConfigurationInfo(TypeElement databaseElement, Database database) {
+        final int pageSize = database.pageSize();
+        if (pageSize != 0) {
+            if (database.encrypted()) {
+                throw new InvalidDatabaseConfigurationException("The database " + databaseElement.getSimpleName() + " is encrypted and cannot define a page size. SQLCipher manages the page size of encrypted databases itself.", databaseElement);
+            }
+
+            if (pageSize < 512 || pageSize > 65536 || Integer.bitCount(pageSize) != 1) {
+                throw new InvalidDatabaseConfigurationException("The page size " + pageSize + " of the database " + databaseElement.getSimpleName() + " is invalid. It has to be a power of two between 512 and 65536.", databaseElement);
+            }
+        }
+
+        if (database.busyTimeout() < 0) {
+            throw new InvalidDatabaseConfigurationException("The busy timeout of the database " + databaseElement.getSimpleName() + " cannot be negative.", databaseElement);
+        }
+
+        if (database.mmapSize() < -1L) {
+            throw new InvalidDatabaseConfigurationException("The mmap size of the database " + databaseElement.getSimpleName() + " cannot be negative. Use 0 to disable memory mapped I/O.", databaseElement);
+        }
+
+        final boolean configuresConnectionPragmas = database.cacheSize() != 0
+                || database.mmapSize() >= 0L
+                || database.tempStore() != TempStore.DEFAULT
+                || database.busyTimeout() != 0;
+        if (!database.encrypted() && database.writeAheadLogging() && configuresConnectionPragmas) {
+            throw new InvalidDatabaseConfigurationException("The database " + databaseElement.getSimpleName() + " enables write-ahead logging and configures cacheSize, mmapSize, tempStore or busyTimeout. With write-ahead logging Android reads through additional connections which these per connection settings cannot be applied to. Remove them or disable write-ahead logging.", databaseElement);
+        }
+
+        if (database.groupCommitWindow() < 0) {
+            throw new InvalidDatabaseConfigurationException("The group commit window of the database " + databaseElement.getSimpleName() + " cannot be negative.", databaseElement);
+        }
+
+        if (database.groupCommitMaxSize() < 0) {
+            throw new InvalidDatabaseConfigurationException("The group commit max size of the database " + databaseElement.getSimpleName() + " cannot be negative. Use 0 to not limit the size of a group.", databaseElement);
+        }
+
+        if (!database.groupCommit() && (database.groupCommitWindow() != 0 || database.groupCommitMaxSize() != 0)) {
+            throw new InvalidDatabaseConfigurationException("The database " + databaseElement.getSimpleName() + " configures a group commit window or max size but does not enable group commit. Set groupCommit = true in its @Database annotation.", databaseElement);
+        }
+
+        if (database.queryCacheMaxEntries() < 0) {
+            throw new InvalidDatabaseConfigurationException("The query cache size of the database " + databaseElement.getSimpleName() + " cannot be negative. Use 0 to disable the query cache.", databaseElement);
+        }
+
+        if (database.queryCacheMaxBytes() < 0L) {
+            throw new InvalidDatabaseConfigurationException("The query cache byte limit of the database " + databaseElement.getSimpleName() + " cannot be negative. Use 0 to not limit the estimated size of the query cache.", databaseElement);
+        }
+
+        if (database.queryCacheMaxEntries() == 0 && database.queryCacheMaxBytes() != 0L) {
+            throw new InvalidDatabaseConfigurationException("The database " + databaseElement.getSimpleName() + " configures a query cache byte limit but does not enable the query cache. Set queryCacheMaxEntries in its @Database annotation.", databaseElement);
+        }
+
+        return new ConfigurationInfoImpl(
+                database.writeAheadLogging(),
+                database.synchronous(),
+                database.cacheSize(),
+                database.mmapSize(),
+                database.tempStore(),
+                pageSize,
+                database.busyTimeout(),
+                database.groupCommit(),
+                database.groupCommitWindow(),
+                database.groupCommitMaxSize(),
+                database.identityMap(),
+                database.queryCacheMaxEntries(),
+                database.queryCacheMaxBytes()
+        );
     }
 
     private void appendChildEntities(Set<EntityInfo> entityInfos, EntityInfo entityInfo) {
@@ -19,7 +19,10 @@ public interface DatabaseInfo {
     int getDatabaseVersion();
     ExecutableElement getChangePasswordMethod();
     boolean isEncrypted();
+    boolean isCloseable();
+    ConfigurationInfo getConfigurationInfo();
     TypeElement getTypeElement();
     List<RepositoryInfo> getRepositoryInfos();
+    List<QueryMethodInfo> getQueryMethodInfos();
     Set<EntityInfo> getEntityInfos();
 }
@@ -19,17 +19,23 @@ class DatabaseInfoImpl implements DatabaseInfo {
     private final int mDatabaseVersion;
     private final ExecutableElement mChangePasswordMethod;
     private final boolean mEncrypted;
+    private final boolean mCloseable;
+    private final ConfigurationInfo mConfigurationInfo;
     private final TypeElement mTypeElement;
     private final List<RepositoryInfo> mRepositoryInfos;
+    private final List<QueryMethodInfo> mQueryMethodInfos;
     private final Set<EntityInfo> mEntityInfos;
 
-    DatabaseInfoImpl(String databaseName, int databaseVersion, ExecutableElement changePasswordMethod, boolean encrypted, TypeElement typeElement, List<RepositoryInfo> repositoryInfos, Set<EntityInfo> entityInfos) {
+    DatabaseInfoImpl(String databaseName, int databaseVersion, ExecutableElement changePasswordMethod, boolean encrypted, boolean closeable, ConfigurationInfo configurationInfo, TypeElement typeElement, List<RepositoryInfo> repositoryInfos, List<QueryMethodInfo> queryMethodInfos, Set<EntityInfo> entityInfos) {
         mDatabaseName = databaseName;
         mDatabaseVersion = databaseVersion;
         mChangePasswordMethod = changePasswordMethod;
         mEncrypted = encrypted;
+        mCloseable = closeable;
+        mConfigurationInfo = configurationInfo;
         mTypeElement = typeElement;
         mRepositoryInfos = repositoryInfos;
+        mQueryMethodInfos = queryMethodInfos;
         mEntityInfos = entityInfos;
     }
 
@@ -53,6 +59,16 @@ class DatabaseInfoImpl implements DatabaseInfo {
         return mEncrypted;
     }
 
+    @Override
+    public boolean isCloseable() {
+        return mCloseable;
+    }
+
+    @Override
+    public ConfigurationInfo getConfigurationInfo() {
+        return mConfigurationInfo;
+    }
+
     @Override
     public TypeElement getTypeElement() {
         return mTypeElement;
@@ -63,6 +79,11 @@ class DatabaseInfoImpl implements DatabaseInfo {
         return mRepositoryInfos;
     }
 
+    @Override
+    public List<QueryMethodInfo> getQueryMethodInfos() {
+        return mQueryMethodInfos;
+    }
+
     @Override
     public Set<EntityInfo> getEntityInfos() {
         return mEntityInfos;
@@ -0,0 +1,221 @@
+package com.github.wrdlbrnft.simpleorm.processor.analyzer.databases;
+
+import com.github.wrdlbrnft.codebuilder.util.ProcessingHelper;
+import com.github.wrdlbrnft.codebuilder.util.Utils;
+import com.github.wrdlbrnft.simpleorm.annotations.Query;
+import com.github.wrdlbrnft.simpleorm.processor.SimpleOrmTypes;
+import com.github.wrdlbrnft.simpleorm.processor.analyzer.databases.exceptions.InvalidQueryMethodException;
+import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.ColumnInfo;
+import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.ColumnType;
+import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.EntityInfo;
+import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.VersionInfo;
+
+import java.util.Date;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+
+class QueryMethodAnalyzer {
+
+    private static final Pattern PATTERN_METHOD_NAME = Pattern.compile("^(?:find|get|query)[A-Za-z0-9]*?(?:By([A-Z][A-Za-z0-9]*))?$");
+    private static final Pattern PATTERN_CONNECTOR = Pattern.compile("(?<=[a-z0-9])(And|Or)(?=[A-Z])");
+
+    private final ProcessingHelper mProcessingHelper;
+    private final Types mTypeUtils;
+    private final TypeMirror mLoaderType;
+    private final TypeMirror mLazyListType;
+    private final TypeMirror mListType;
+    private final TypeMirror mDateType;
+
+    QueryMethodAnalyzer(ProcessingEnvironment processingEnv) {
+        mProcessingHelper = ProcessingHelper.from(processingEnv);
+        mTypeUtils = processingEnv.getTypeUtils();
+        mLoaderType = SimpleOrmTypes.LOADER.asTypeElement(processingEnv).asType();
+        mLazyListType = SimpleOrmTypes.LAZY_LIST.asTypeElement(processingEnv).asType();
+        mListType = mProcessingHelper.getTypeMirror(List.class);
+        mDateType = mProcessingHelper.getTypeMirror(Date.class);
+    }
+
+    QueryMethodInfo analyze(ExecutableElement method, List<RepositoryInfo> repositories, int databaseVersion) {
+        final Query query = method.getAnnotation(Query.class);
+        final TypeMirror returnType = method.getReturnType();
+        if (returnType.getKind() != TypeKind.DECLARED) {
+            throw new InvalidQueryMethodException("The query method " + method.getSimpleName() + "() has to return an entity, a List of entities, a LazyList or a Loader.", method);
+        }
+
+        final QueryMethodInfo.ResultType resultType;
+        final TypeMirror entityType;
+        if (mProcessingHelper.isSameType(mLoaderType, returnType)) {
+            final TypeMirror loadedType = getTypeParameter(method, returnType);
+            if (mProcessingHelper.isSameType(mListType, loadedType)) {
+                resultType = QueryMethodInfo.ResultType.LOADER_LIST;
+                entityType = getTypeParameter(method, loadedType);
+            } else {
+                resultType = QueryMethodInfo.ResultType.LOADER_FIRST;
+                entityType = loadedType;
+            }
+        } else if (mProcessingHelper.isSameType(mLazyListType, returnType)) {
+            resultType = QueryMethodInfo.ResultType.LAZY_LIST;
+            entityType = getTypeParameter(method, returnType);
+        } else if (mProcessingHelper.isSameType(mListType, returnType)) {
+            resultType = QueryMethodInfo.ResultType.LIST;
+            entityType = getTypeParameter(method, returnType);
+        } else {
+            resultType = QueryMethodInfo.ResultType.FIRST;
+            entityType = returnType;
+        }
+
+        final RepositoryInfo repositoryInfo = findRepository(repositories, entityType);
+        if (repositoryInfo == null) {
+            throw new InvalidQueryMethodException("The query method " + method.getSimpleName() + "() returns " + entityType + " which is not an entity with a repository in this database.", method);
+        }
+
+        final String methodName = method.getSimpleName().toString();
+        final Matcher nameMatcher = PATTERN_METHOD_NAME.matcher(methodName);
+        if (!nameMatcher.matches()) {
+            throw new InvalidQueryMethodException("The name of the query method " + methodName + "() is invalid. Query methods have to start with find, get or query followed by By and the properties they select, for example findByStatusAndOwner().", method);
+        }
+
+        final EntityInfo entityInfo = repositoryInfo.getEntityInfo();
+        final List<? extends VariableElement> parameters = method.getParameters();
+        final String properties = nameMatcher.group(1);
+        final String selection = properties != null
+                ? createSelection(method, entityInfo, properties, parameters, databaseVersion)
+                : null;
+
+        if (selection == null && !parameters.isEmpty()) {
+            throw new InvalidQueryMethodException("The query method " + methodName + "() has parameters but does not select any properties. Name the properties after By, for example findByStatus(int status).", method);
+        }
+
+        final String orderBy;
+        if (query.orderBy().isEmpty()) {
+            orderBy = null;
+        } else {
+            final ColumnInfo orderColumn = findColumn(entityInfo, query.orderBy(), databaseVersion);
+            if (orderColumn == null) {
+                throw new InvalidQueryMethodException("The query method " + methodName + "() orders by " + query.orderBy() + " but " + entityInfo.getEntityElement().getSimpleName() + " has no column with that name.", method);
+            }
+            orderBy = orderColumn.getColumnName() + (query.descending() ? " DESC" : " ASC");
+        }
+
+        if (query.limit() < 0) {
+            throw new InvalidQueryMethodException("The limit of the query method " + methodName + "() cannot be negative. Use 0 to not limit the result.", method);
+        }
+
+        final String limit;
+        if (resultType == QueryMethodInfo.ResultType.FIRST || resultType == QueryMethodInfo.ResultType.LOADER_FIRST) {
+            limit = "1";
+        } else {
+            limit = query.limit() > 0 ? String.valueOf(query.limit()) : null;
+        }
+
+        return new QueryMethodInfoImpl(method, repositoryInfo, resultType, selection, orderBy, limit);
+    }
+
+    private String createSelection(ExecutableElement method, EntityInfo entityInfo, String properties, List<? extends VariableElement> parameters, int databaseVersion) {
+        final StringBuilder builder = new StringBuilder();
+        final Matcher connectorMatcher = PATTERN_CONNECTOR.matcher(properties);
+        int start = 0;
+        int index = 0;
+        String connector = null;
+        while (true) {
+            final boolean found = connectorMatcher.find();
+            final String property = properties.substring(start, found ? connectorMatcher.start() : properties.length());
+
+            if (connector != null) {
+                builder.append(" ").append(connector).append(" ");
+            }
+
+            final ColumnInfo column = findColumn(entityInfo, property, databaseVersion);
+            if (column == null) {
+                throw new InvalidQueryMethodException("The query method " + method.getSimpleName() + "() selects the property " + property + " but " + entityInfo.getEntityElement().getSimpleName() + " has no column with that name.", method);
+            }
+
+            if (index >= parameters.size()) {
+                throw new InvalidQueryMethodException("The query method " + method.getSimpleName() + "() selects more properties than it has parameters. Each property needs one parameter.", method);
+            }
+
+            verifyParameter(method, column, parameters.get(index++));
+            builder.append(entityInfo.getTableName()).append(".").append(column.getColumnName()).append(" = ?");
+
+            if (!found) {
+                break;
+            }
+
+            connector = connectorMatcher.group(1).toUpperCase();
+            start = connectorMatcher.end();
+        }
+
+        if (index != parameters.size()) {
+            throw new InvalidQueryMethodException("The query method " + method.getSimpleName() + "() has more parameters than properties it selects. Each parameter needs one property.", method);
+        }
+
+        return builder.toString();
+    }
+
+    private void verifyParameter(ExecutableElement method, ColumnInfo column, VariableElement parameter) {
+        final List<?> typeAdapters = column.getTypeAdapters();
+        final boolean isDate = column.getColumnType() == ColumnType.DATE && mTypeUtils.isSameType(mDateType, column.getTypeMirror());
+        if (typeAdapters != null && !typeAdapters.isEmpty() && !isDate) {
+            throw new InvalidQueryMethodException("The column " + column.getColumnName() + " uses a type adapter and cannot be selected by the query method " + method.getSimpleName() + "(). Use find() on the repository instead.", method);
+        }
+
+        if (!mTypeUtils.isSameType(box(parameter.asType()), box(column.getTypeMirror()))) {
+            throw new InvalidQueryMethodException("The parameter " + parameter.getSimpleName() + " of the query method " + method.getSimpleName() + "() is of type " + parameter.asType() + " but the column " + column.getColumnName() + " is of type " + column.getTypeMirror() + ".", method);
+        }
+    }
+
+    private TypeMirror box(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return mTypeUtils.boxedClass((PrimitiveType) type).asType();
+        }
+        return type;
+    }
+
+    private TypeMirror getTypeParameter(ExecutableElement method, TypeMirror type) {
+        final List<TypeMirror> typeParameters = Utils.getTypeParameters(type);
+        if (typeParameters.isEmpty()) {
+            throw new InvalidQueryMethodException("The query method " + method.getSimpleName() + "() returns " + type + " without a type parameter! You have to specify one of your entities as its type parameter.", method);
+        }
+        return typeParameters.get(0);
+    }
+
+    private static RepositoryInfo findRepository(List<RepositoryInfo> repositories, TypeMirror entityType) {
+        for (RepositoryInfo repositoryInfo : repositories) {
+            final TypeElement entityElement = repositoryInfo.getEntityType();
+            if (entityElement.asType().toString().equals(entityType.toString())) {
+                return repositoryInfo;
+            }
+        }
+        return null;
+    }
+
+    private static ColumnInfo findColumn(EntityInfo entityInfo, String property, int databaseVersion) {
+        for (ColumnInfo column : entityInfo.getColumns()) {
+            if (column.getColumnType() == ColumnType.ENTITY) {
+                continue;
+            }
+
+            final int removedInVersion = column.getVersionInfo().getRemovedInVersion();
+            if (removedInVersion != VersionInfo.NO_VERSION && removedInVersion <= databaseVersion) {
+                continue;
+            }
+
+            if (column.getIdentifier().equalsIgnoreCase(property)
+                    || column.getColumnName().equalsIgnoreCase(property)
+                    || column.getColumnName().replace("_", "").equalsIgnoreCase(property)) {
+                return column;
+            }
+        }
+        return null;
+    }
+}
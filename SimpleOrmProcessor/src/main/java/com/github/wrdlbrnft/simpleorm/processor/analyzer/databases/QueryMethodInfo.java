@@ -0,0 +1,21 @@
+package com.github.wrdlbrnft.simpleorm.processor.analyzer.databases;
+
+import javax.lang.model.element.ExecutableElement;
+
+public interface QueryMethodInfo {
+
+    enum ResultType {
+        LOADER_FIRST,
+        LOADER_LIST,
+        LAZY_LIST,
+        FIRST,
+        LIST
+    }
+
+    ExecutableElement getMethod();
+    RepositoryInfo getRepositoryInfo();
+    ResultType getResultType();
+    String getSelection();
+    String getOrderBy();
+    String getLimit();
+}
@@ -0,0 +1,52 @@
+package com.github.wrdlbrnft.simpleorm.processor.analyzer.databases;
+
+import javax.lang.model.element.ExecutableElement;
+
+class QueryMethodInfoImpl implements QueryMethodInfo {
+
+    private final ExecutableElement mMethod;
+    private final RepositoryInfo mRepositoryInfo;
+    private final ResultType mResultType;
+    private final String mSelection;
+    private final String mOrderBy;
+    private final String mLimit;
+
+    QueryMethodInfoImpl(ExecutableElement method, RepositoryInfo repositoryInfo, ResultType resultType, String selection, String orderBy, String limit) {
+        mMethod = method;
+        mRepositoryInfo = repositoryInfo;
+        mResultType = resultType;
+        mSelection = selection;
+        mOrderBy = orderBy;
+        mLimit = limit;
+    }
+
+    @Override
+    public ExecutableElement getMethod() {
+        return mMethod;
+    }
+
+    @Override
+    public RepositoryInfo getRepositoryInfo() {
+        return mRepositoryInfo;
+    }
+
+    @Override
+    public ResultType getResultType() {
+        return mResultType;
+    }
+
+    @Override
+    public String getSelection() {
+        return mSelection;
+    }
+
+    @Override
+    public String getOrderBy() {
+        return mOrderBy;
+    }
+
+    @Override
+    public String getLimit() {
+        return mLimit;
+    }
+}
@@ -0,0 +1,14 @@
+package com.github.wrdlbrnft.simpleorm.processor.analyzer.databases.exceptions;
+
+import javax.lang.model.element.TypeElement;
+
+public class InvalidDatabaseConfigurationException extends InvalidDatabaseException {
+
+    public InvalidDatabaseConfigurationException(String message, TypeElement databaseElement) {
+        super(message, databaseElement);
+    }
+
+    public InvalidDatabaseConfigurationException(String message, Throwable cause, TypeElement databaseElement) {
+        super(message, cause, databaseElement);
+    }
+}
@@ -0,0 +1,15 @@
+package com.github.wrdlbrnft.simpleorm.processor.analyzer.databases.exceptions;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+
+public class InvalidQueryMethodException extends InvalidDatabaseException {
+
+    public InvalidQueryMethodException(String message, ExecutableElement method) {
+        super(message, method);
+    }
+
+    public InvalidQueryMethodException(String message, Throwable cause, ExecutableElement method) {
+        super(message, cause, method);
+    }
+}
@@ -29,6 +29,7 @@ public interface ColumnInfo {
     List<TypeAdapterInfo> getTypeAdapters();
     EntityInfo getChildEntityInfo();
     CollectionType getCollectionType();
+    boolean isLazy();
     String getColumnName();
     String getIdentifier();
     VersionInfo getVersionInfo();
@@ -25,12 +25,13 @@ class ColumnInfoImpl implements ColumnInfo {
     private final List<TypeAdapterInfo> mTypeAdapters;
     private final EntityInfo mChildEntityInfo;
     private final CollectionType mCollectionType;
+    private final boolean mLazy;
     private final String mIdentifier;
     private final ExecutableElement mGetter;
     private final ExecutableElement mSetter;
     private final VersionInfo mVersionInfo;
 
-    ColumnInfoImpl(ColumnType columnType, TypeMirror typeMirror, Set<Constraint> constraints, String columnName, List<TypeAdapterInfo> typeAdapters, EntityInfo childEntityInfo, CollectionType collectionType, String identifier, ExecutableElement getter, ExecutableElement setter, VersionInfo versionInfo) {
+    ColumnInfoImpl(ColumnType columnType, TypeMirror typeMirror, Set<Constraint> constraints, String columnName, List<TypeAdapterInfo> typeAdapters, EntityInfo childEntityInfo, CollectionType collectionType, boolean lazy, String identifier, ExecutableElement getter, ExecutableElement setter, VersionInfo versionInfo) {
         mColumnType = columnType;
         mTypeMirror = typeMirror;
         mConstraints = Collections.unmodifiableSet(constraints);
@@ -38,6 +39,7 @@ class ColumnInfoImpl implements ColumnInfo {
         mTypeAdapters = typeAdapters;
         mChildEntityInfo = childEntityInfo;
         mCollectionType = collectionType;
+        mLazy = lazy;
         mIdentifier = identifier;
         mGetter = getter;
         mSetter = setter;
@@ -99,6 +101,11 @@ class ColumnInfoImpl implements ColumnInfo {
         return mCollectionType;
     }
 
+    @Override
+    public boolean isLazy() {
+        return mLazy;
+    }
+
     @Override
     public Type getObjectType() {
         if (mCollectionType == ColumnInfo.CollectionType.NONE) {
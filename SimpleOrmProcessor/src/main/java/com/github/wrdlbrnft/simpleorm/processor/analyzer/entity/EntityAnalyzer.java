@@ -2,12 +2,19 @@ package com.github.wrdlbrnft.simpleorm.processor.analyzer.entity;
 
 import com.github.wrdlbrnft.codebuilder.util.ProcessingHelper;
 import com.github.wrdlbrnft.simpleorm.annotations.AddedInVersion;
+import com.github.wrdlbrnft.simpleorm.annotations.CompositeIndex;
+import com.github.wrdlbrnft.simpleorm.annotations.CompositeIndexes;
+import com.github.wrdlbrnft.simpleorm.annotations.ConflictPolicy;
 import com.github.wrdlbrnft.simpleorm.annotations.Entity;
+import com.github.wrdlbrnft.simpleorm.annotations.Index;
+import com.github.wrdlbrnft.simpleorm.annotations.OnConflict;
 import com.github.wrdlbrnft.simpleorm.annotations.RemovedInVersion;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.exceptions.GetterWithParametersException;
+import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.exceptions.InvalidConflictPolicyException;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.exceptions.InconsistentGetterSetterTypeException;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.exceptions.InvalidEntityException;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.exceptions.InvalidIdColumnException;
+import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.exceptions.InvalidIndexException;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.exceptions.InvalidMethodNameException;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.exceptions.MissingIdAnnotationException;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.exceptions.MultipleGetterException;
@@ -64,10 +71,35 @@ public class EntityAnalyzer {
 
         final List<? extends Element> members = getMembers(entity);
         final Map<String, GetterSetterPair> getterSetterMap = createGetterSetterMap(members, adapterManager);
+        final AddedInVersion addedAnnotation = entity.getAnnotation(AddedInVersion.class);
+        final RemovedInVersion removedAnnotation = entity.getAnnotation(RemovedInVersion.class);
+        final VersionInfo versionInfo = new VersionInfoImpl(
+                addedAnnotation != null ? addedAnnotation.value() : VersionInfo.NO_VERSION,
+                removedAnnotation != null ? removedAnnotation.value() : VersionInfo.NO_VERSION
+        );
+
         ColumnInfo idColumn = null;
         final List<ColumnInfo> columns = new ArrayList<>();
+        final List<IndexInfo> indices = new ArrayList<>();
         for (GetterSetterPair pair : getterSetterMap.values()) {
             final ColumnInfo columnInfo = pair.createColumnInfo(mProcessingEnvironment, this, adapterManager);
+            final Index indexAnnotation = pair.getIndexAnnotation();
+            if (indexAnnotation != null) {
+                final ExecutableElement method = pair.getGetterMethod() != null ? pair.getGetterMethod() : pair.getSetterMethod();
+                if (columnInfo.getColumnType() == ColumnType.ENTITY) {
+                    throw new InvalidIndexException("The column " + columnInfo.getColumnName() + " of " + entity.getSimpleName() + " references another entity and cannot be indexed.", method);
+                }
+                indices.add(createIndexInfo(
+                        tableName,
+                        versionInfo,
+                        indexAnnotation.name(),
+                        Collections.singletonList(columnInfo),
+                        indexAnnotation.unique(),
+                        indexAnnotation.where(),
+                        indexAnnotation.addedInVersion(),
+                        indexAnnotation.removedInVersion()
+                ));
+            }
             if (pair.getIdAnnotation() != null) {
                 if (idColumn != null) {
                     throw new MultipleIdColumnsException("The entity " + entity.getSimpleName() + " has more than one Id columns.", entity);
@@ -91,16 +123,105 @@ public class EntityAnalyzer {
             }
         }
 
-        final AddedInVersion addedAnnotation = entity.getAnnotation(AddedInVersion.class);
-        final RemovedInVersion removedAnnotation = entity.getAnnotation(RemovedInVersion.class);
-        final EntityInfo entityInfo = new EntityInfoImpl(tableName, entity, idColumn, Collections.unmodifiableList(columns), new VersionInfoImpl(
-                addedAnnotation != null ? addedAnnotation.value() : VersionInfo.NO_VERSION,
-                removedAnnotation != null ? removedAnnotation.value() : VersionInfo.NO_VERSION
-        ));
+        final List<CompositeIndex> compositeIndexAnnotations = new ArrayList<>();
+        final CompositeIndex compositeIndexAnnotation = entity.getAnnotation(CompositeIndex.class);
+        if (compositeIndexAnnotation != null) {
+            compositeIndexAnnotations.add(compositeIndexAnnotation);
+        }
+        final CompositeIndexes compositeIndexesAnnotation = entity.getAnnotation(CompositeIndexes.class);
+        if (compositeIndexesAnnotation != null) {
+            Collections.addAll(compositeIndexAnnotations, compositeIndexesAnnotation.value());
+        }
+
+        for (CompositeIndex annotation : compositeIndexAnnotations) {
+            final List<ColumnInfo> indexColumns = new ArrayList<>();
+            for (String columnName : annotation.value()) {
+                indexColumns.add(findIndexColumn(entity, columns, columnName));
+            }
+            if (indexColumns.isEmpty()) {
+                throw new InvalidIndexException("A @CompositeIndex on " + entity.getSimpleName() + " does not define any columns.", entity);
+            }
+            indices.add(createIndexInfo(
+                    tableName,
+                    versionInfo,
+                    annotation.name(),
+                    indexColumns,
+                    annotation.unique(),
+                    annotation.where(),
+                    annotation.addedInVersion(),
+                    annotation.removedInVersion()
+            ));
+        }
+
+        final ConflictPolicy conflictPolicy = determineConflictPolicy(entity, idColumn);
+        final EntityInfo entityInfo = new EntityInfoImpl(tableName, entity, idColumn, Collections.unmodifiableList(columns), versionInfo, Collections.unmodifiableList(indices), conflictPolicy);
         wrapper.setEntityInfo(entityInfo);
         return entityInfo;
     }
 
+    private ConflictPolicy determineConflictPolicy(TypeElement entity, ColumnInfo idColumn) {
+        final OnConflict onConflictAnnotation = entity.getAnnotation(OnConflict.class);
+        if (onConflictAnnotation == null) {
+            return idColumn != null ? ConflictPolicy.UPDATE : ConflictPolicy.REPLACE;
+        }
+
+        final ConflictPolicy conflictPolicy = onConflictAnnotation.value();
+        if (idColumn == null && (conflictPolicy == ConflictPolicy.UPDATE || conflictPolicy == ConflictPolicy.IGNORE)) {
+            throw new InvalidConflictPolicyException("The entity " + entity.getSimpleName() + " uses the conflict policy " + conflictPolicy + " but does not have an Id column. Only REPLACE and ABORT can be used for entities without an Id.", entity);
+        }
+        return conflictPolicy;
+    }
+
+    private ColumnInfo findIndexColumn(TypeElement entity, List<ColumnInfo> columns, String columnName) {
+        for (ColumnInfo columnInfo : columns) {
+            if (!columnInfo.getColumnName().equals(columnName)) {
+                continue;
+            }
+
+            if (columnInfo.getColumnType() == ColumnType.ENTITY) {
+                throw new InvalidIndexException("The column " + columnName + " of " + entity.getSimpleName() + " references another entity and cannot be indexed.", entity);
+            }
+
+            return columnInfo;
+        }
+
+        throw new InvalidIndexException("The entity " + entity.getSimpleName() + " has no column named " + columnName + " which could be indexed.", entity);
+    }
+
+    private IndexInfo createIndexInfo(String tableName, VersionInfo entityVersionInfo, String name, List<ColumnInfo> columns, boolean unique, String whereClause, int addedInVersion, int removedInVersion) {
+        final StringBuilder indexName = new StringBuilder();
+        if (name.trim().isEmpty()) {
+            indexName.append("_Index_").append(tableName);
+            for (ColumnInfo column : columns) {
+                indexName.append("_").append(column.getColumnName());
+            }
+        } else {
+            indexName.append(name.trim());
+        }
+
+        int added = Math.max(entityVersionInfo.getAddedInVersion(), addedInVersion);
+        int removed = minVersion(entityVersionInfo.getRemovedInVersion(), removedInVersion);
+        for (ColumnInfo column : columns) {
+            final VersionInfo columnVersionInfo = column.getVersionInfo();
+            added = Math.max(added, columnVersionInfo.getAddedInVersion());
+            removed = minVersion(removed, columnVersionInfo.getRemovedInVersion());
+        }
+
+        return new IndexInfoImpl(indexName.toString(), columns, unique, whereClause.trim(), new VersionInfoImpl(added, removed));
+    }
+
+    private static int minVersion(int a, int b) {
+        if (a == VersionInfo.NO_VERSION) {
+            return b;
+        }
+
+        if (b == VersionInfo.NO_VERSION) {
+            return a;
+        }
+
+        return Math.min(a, b);
+    }
+
     private List<? extends Element> getMembers(TypeElement entity) {
         return entity.getEnclosedElements();
     }
@@ -232,6 +353,16 @@ public class EntityAnalyzer {
             return mEntityInfo.getVersionInfo();
         }
 
+        @Override
+        public List<IndexInfo> getIndices() {
+            return mEntityInfo.getIndices();
+        }
+
+        @Override
+        public ConflictPolicy getConflictPolicy() {
+            return mEntityInfo.getConflictPolicy();
+        }
+
         public void setEntityInfo(EntityInfo entityInfo) {
             mEntityInfo = entityInfo;
         }
@@ -1,5 +1,7 @@
 package com.github.wrdlbrnft.simpleorm.processor.analyzer.entity;
 
+import com.github.wrdlbrnft.simpleorm.annotations.ConflictPolicy;
+
 import java.util.List;
 
 import javax.lang.model.element.TypeElement;
@@ -16,4 +18,6 @@ public interface EntityInfo {
     ColumnInfo getIdColumn();
     List<ColumnInfo> getColumns();
     VersionInfo getVersionInfo();
+    List<IndexInfo> getIndices();
+    ConflictPolicy getConflictPolicy();
 }
@@ -1,5 +1,7 @@
 package com.github.wrdlbrnft.simpleorm.processor.analyzer.entity;
 
+import com.github.wrdlbrnft.simpleorm.annotations.ConflictPolicy;
+
 import java.util.List;
 
 import javax.lang.model.element.TypeElement;
@@ -16,13 +18,17 @@ class EntityInfoImpl implements EntityInfo {
     private final ColumnInfo mIdColumn;
     private final List<ColumnInfo> mContentColumns;
     private final VersionInfo mVersionInfo;
+    private final List<IndexInfo> mIndices;
+    private final ConflictPolicy mConflictPolicy;
 
-    public EntityInfoImpl(String tableName, TypeElement entityElement, ColumnInfo idColumn, List<ColumnInfo> contentColumns, VersionInfo versionInfo) {
+    public EntityInfoImpl(String tableName, TypeElement entityElement, ColumnInfo idColumn, List<ColumnInfo> contentColumns, VersionInfo versionInfo, List<IndexInfo> indices, ConflictPolicy conflictPolicy) {
         mTableName = tableName;
         mEntityElement = entityElement;
         mIdColumn = idColumn;
         mContentColumns = contentColumns;
         mVersionInfo = versionInfo;
+        mIndices = indices;
+        mConflictPolicy = conflictPolicy;
     }
 
     @Override
@@ -49,4 +55,14 @@ class EntityInfoImpl implements EntityInfo {
     public VersionInfo getVersionInfo() {
         return mVersionInfo;
     }
+
+    @Override
+    public List<IndexInfo> getIndices() {
+        return mIndices;
+    }
+
+    @Override
+    public ConflictPolicy getConflictPolicy() {
+        return mConflictPolicy;
+    }
 }
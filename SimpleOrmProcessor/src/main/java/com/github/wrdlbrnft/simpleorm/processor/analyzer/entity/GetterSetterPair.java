@@ -4,10 +4,13 @@ import com.github.wrdlbrnft.simpleorm.annotations.AddedInVersion;
 import com.github.wrdlbrnft.simpleorm.annotations.AutoIncrement;
 import com.github.wrdlbrnft.simpleorm.annotations.Column;
 import com.github.wrdlbrnft.simpleorm.annotations.Id;
+import com.github.wrdlbrnft.simpleorm.annotations.Index;
+import com.github.wrdlbrnft.simpleorm.annotations.Lazy;
 import com.github.wrdlbrnft.simpleorm.annotations.RemovedInVersion;
 import com.github.wrdlbrnft.simpleorm.annotations.Unique;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.exceptions.InconsistentColumnAnnotationException;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.exceptions.InconsistentRemovedAnnotationException;
+import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.exceptions.InvalidLazyColumnException;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.exceptions.MissingColumnAnnotationException;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.typeadapter.TypeAdapterInfo;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.typeadapter.TypeAdapterManager;
@@ -38,6 +41,8 @@ class GetterSetterPair {
     private Id mIdAnnotation;
     private AutoIncrement mAutoIncrementAnnotation;
     private Unique mUniqueAnnotation;
+    private Index mIndexAnnotation;
+    private Lazy mLazyAnnotation;
     private Column mColumnAnnotation;
     private AddedInVersion mAddedInVersion;
     private RemovedInVersion mRemovedInVersion;
@@ -96,6 +101,16 @@ class GetterSetterPair {
             mUniqueAnnotation = uniqueAnnotation;
         }
 
+        final Index indexAnnotation = method.getAnnotation(Index.class);
+        if (indexAnnotation != null) {
+            mIndexAnnotation = indexAnnotation;
+        }
+
+        final Lazy lazyAnnotation = method.getAnnotation(Lazy.class);
+        if (lazyAnnotation != null) {
+            mLazyAnnotation = lazyAnnotation;
+        }
+
         updateAddedAnnotation(method);
         updateRemovedAnnotation(method);
         updateColumnAnnotation(method);
@@ -153,6 +168,14 @@ class GetterSetterPair {
         return mUniqueAnnotation;
     }
 
+    public Index getIndexAnnotation() {
+        return mIndexAnnotation;
+    }
+
+    public Lazy getLazyAnnotation() {
+        return mLazyAnnotation;
+    }
+
     public ExecutableElement getSetterMethod() {
         return mSetterMethod;
     }
@@ -207,6 +230,11 @@ class GetterSetterPair {
             constraints.add(Constraint.UNIQUE);
         }
 
+        if (mLazyAnnotation != null && mColumnType != ColumnType.ENTITY) {
+            final ExecutableElement method = mGetterMethod != null ? mGetterMethod : mSetterMethod;
+            throw new InvalidLazyColumnException("The column " + columnName + " is annotated with @Lazy but does not reference another entity. Only entity and List<entity> columns can be loaded lazily.", method);
+        }
+
         final EntityInfo childEntityInfo = mColumnType == ColumnType.ENTITY
                 ? analyzer.analyze((TypeElement) processingEnvironment.getTypeUtils().asElement(mTypeMirror), adapterManager)
                 : null;
@@ -219,6 +247,7 @@ class GetterSetterPair {
                 mTypeAdapters,
                 childEntityInfo,
                 mCollectionType,
+                mLazyAnnotation != null,
                 mIdentifier,
                 mGetterMethod,
                 mSetterMethod,
@@ -0,0 +1,11 @@
+package com.github.wrdlbrnft.simpleorm.processor.analyzer.entity;
+
+import java.util.List;
+
+public interface IndexInfo {
+    String getIndexName();
+    List<ColumnInfo> getColumns();
+    boolean isUnique();
+    String getWhereClause();
+    VersionInfo getVersionInfo();
+}
@@ -0,0 +1,46 @@
+package com.github.wrdlbrnft.simpleorm.processor.analyzer.entity;
+
+import java.util.Collections;
+import java.util.List;
+
+class IndexInfoImpl implements IndexInfo {
+
+    private final String mIndexName;
+    private final List<ColumnInfo> mColumns;
+    private final boolean mUnique;
+    private final String mWhereClause;
+    private final VersionInfo mVersionInfo;
+
+    IndexInfoImpl(String indexName, List<ColumnInfo> columns, boolean unique, String whereClause, VersionInfo versionInfo) {
+        mIndexName = indexName;
+        mColumns = Collections.unmodifiableList(columns);
+        mUnique = unique;
+        mWhereClause = whereClause;
+        mVersionInfo = versionInfo;
+    }
+
+    @Override
+    public String getIndexName() {
+        return mIndexName;
+    }
+
+    @Override
+    public List<ColumnInfo> getColumns() {
+        return mColumns;
+    }
+
+    @Override
+    public boolean isUnique() {
+        return mUnique;
+    }
+
+    @Override
+    public String getWhereClause() {
+        return mWhereClause;
+    }
+
+    @Override
+    public VersionInfo getVersionInfo() {
+        return mVersionInfo;
+    }
+}
@@ -0,0 +1,14 @@
+package com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.exceptions;
+
+import javax.lang.model.element.Element;
+
+public class InvalidConflictPolicyException extends InvalidEntityException {
+
+    public InvalidConflictPolicyException(String message, Element element) {
+        super(message, element);
+    }
+
+    public InvalidConflictPolicyException(String message, Throwable cause, Element element) {
+        super(message, cause, element);
+    }
+}
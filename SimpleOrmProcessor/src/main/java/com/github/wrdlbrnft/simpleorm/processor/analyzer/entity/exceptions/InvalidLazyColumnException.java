@@ -0,0 +1,14 @@
+package com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.exceptions;
+
+import javax.lang.model.element.Element;
+
+public class InvalidLazyColumnException extends InvalidEntityException {
+
+    public InvalidLazyColumnException(String message, Element element) {
+        super(message, element);
+    }
+
+    public InvalidLazyColumnException(String message, Throwable cause, Element element) {
+        super(message, cause, element);
+    }
+}
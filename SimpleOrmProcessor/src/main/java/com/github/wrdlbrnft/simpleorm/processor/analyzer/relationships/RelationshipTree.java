@@ -26,6 +26,59 @@ public class RelationshipTree {
         }
     }
 
+    public static void iterateEager(List<RelationshipInfo> relationshipInfos, Iterator iterator) {
+        for (RelationshipInfo relationshipInfo : relationshipInfos) {
+            if (relationshipInfo.getColumnInfo().isLazy()) {
+                continue;
+            }
+            walkEager(Collections.singletonList(relationshipInfo), iterator);
+        }
+    }
+
+    public static boolean hasEagerRelationships(List<RelationshipInfo> relationshipInfos) {
+        for (RelationshipInfo relationshipInfo : relationshipInfos) {
+            if (!relationshipInfo.getColumnInfo().isLazy()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static List<RelationshipInfo> getLazyRelationships(List<RelationshipInfo> relationshipInfos) {
+        final List<RelationshipInfo> lazyRelationships = new ArrayList<>();
+        for (RelationshipInfo relationshipInfo : relationshipInfos) {
+            if (relationshipInfo.getColumnInfo().isLazy()) {
+                lazyRelationships.add(relationshipInfo);
+            }
+        }
+        iterateEager(relationshipInfos, new Iterator() {
+            @Override
+            public void onPathFound(List<RelationshipInfo> path) {
+                final RelationshipInfo relationshipInfo = path.get(path.size() - 1);
+                for (RelationshipInfo info : relationshipInfo.getChildRelationshipInfos()) {
+                    if (info.getColumnInfo().isLazy()) {
+                        lazyRelationships.add(info);
+                    }
+                }
+            }
+        });
+        return lazyRelationships;
+    }
+
+    private static void walkEager(List<RelationshipInfo> backlog, Iterator iterator) {
+        final RelationshipInfo relationshipInfo = backlog.get(backlog.size() - 1);
+        for (RelationshipInfo info : relationshipInfo.getChildRelationshipInfos()) {
+            if (info.getColumnInfo().isLazy()) {
+                continue;
+            }
+            final List<RelationshipInfo> newBacklog = new ArrayList<>(backlog);
+            newBacklog.add(info);
+            walkEager(newBacklog, iterator);
+        }
+
+        iterator.onPathFound(backlog);
+    }
+
     private static void walk(List<RelationshipInfo> backlog, Iterator iterator) {
         final RelationshipInfo relationshipInfo = backlog.get(backlog.size() - 1);
         for (RelationshipInfo info : relationshipInfo.getChildRelationshipInfos()) {
@@ -12,9 +12,12 @@ import com.github.wrdlbrnft.codebuilder.types.Types;
 import com.github.wrdlbrnft.codebuilder.util.Operators;
 import com.github.wrdlbrnft.codebuilder.util.ProcessingHelper;
 import com.github.wrdlbrnft.codebuilder.util.Utils;
+import com.github.wrdlbrnft.codebuilder.variables.Field;
 import com.github.wrdlbrnft.codebuilder.variables.Variable;
+import com.github.wrdlbrnft.simpleorm.processor.SimpleOrmTypes;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.databases.DatabaseInfo;
 import com.github.wrdlbrnft.simpleorm.processor.builder.databases.implementation.DatabaseImplementationBuilder;
+import com.github.wrdlbrnft.simpleorm.processor.builder.openhelper.SQLiteProviderBuilder;
 
 import java.util.ArrayList;
 import java.util.EnumSet;
@@ -36,11 +39,13 @@ public class DatabaseFactoryBuilder {
     private final ProcessingEnvironment mProcessingEnvironment;
     private final ProcessingHelper mProcessingHelper;
     private final DatabaseImplementationBuilder mDatabaseImplementationBuilder;
+    private final SQLiteProviderBuilder mSQLiteProviderBuilder;
 
     public DatabaseFactoryBuilder(ProcessingEnvironment processingEnv) {
         mProcessingEnvironment = processingEnv;
         mProcessingHelper = ProcessingHelper.from(processingEnv);
         mDatabaseImplementationBuilder = new DatabaseImplementationBuilder(processingEnv);
+        mSQLiteProviderBuilder = new SQLiteProviderBuilder(processingEnv);
     }
 
     public Implementation build(final DatabaseInfo databaseInfo) {
@@ -49,9 +54,19 @@ public class DatabaseFactoryBuilder {
         builder.setModifiers(EnumSet.of(Modifier.PUBLIC, Modifier.FINAL));
         builder.setName(Utils.createGeneratedClassName(databaseInfo.getTypeElement(), "", "Factory"));
 
-        final Implementation databaseImpl = mDatabaseImplementationBuilder.build(databaseInfo);
+        final Method createSchemaMethod = mSQLiteProviderBuilder.buildCreateSchemaMethod(databaseInfo);
+        builder.addMethod(createSchemaMethod);
+
+        final Implementation databaseImpl = mDatabaseImplementationBuilder.build(databaseInfo, createSchemaMethod);
         builder.addNestedImplementation(databaseImpl);
 
+        final Field defaultExecutorStrategyField = new Field.Builder()
+                .setModifiers(EnumSet.of(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL))
+                .setType(SimpleOrmTypes.EXECUTOR_STRATEGY)
+                .setInitialValue(SimpleOrmTypes.DEFAULT_EXECUTOR_STRATEGY.newInstance())
+                .build();
+        builder.addField(defaultExecutorStrategyField);
+
         final Method newInstanceMethod = new Method.Builder()
                 .setName("newInstance")
                 .setModifiers(EnumSet.of(Modifier.PUBLIC, Modifier.STATIC))
@@ -60,6 +75,7 @@ public class DatabaseFactoryBuilder {
 
                     private Variable mParamContext;
                     private Variable mParamPassword;
+                    private Variable mParamExecutorStrategy;
 
                     @Override
                     protected List<Variable> createParameters() {
@@ -76,22 +92,138 @@ public class DatabaseFactoryBuilder {
                                     .build());
                         }
 
+                        parameters.add(mParamExecutorStrategy = new Variable.Builder()
+                                .setType(SimpleOrmTypes.EXECUTOR_STRATEGY)
+                                .setName("executorStrategy")
+                                .build());
+
                         return parameters;
                     }
 
                     @Override
                     protected void write(Block block) {
+                        final CodeElement executorStrategy = performNullCheck(mParamExecutorStrategy, mParamExecutorStrategy, defaultExecutorStrategyField);
                         final CodeElement openHelperInstance = databaseInfo.isEncrypted()
-                                ? databaseImpl.newInstance(mParamContext, performNullCheck(mParamPassword, mParamPassword, Types.arrayOf(Types.of(char.class)).newInstance(Values.of(0))))
-                                : databaseImpl.newInstance(mParamContext);
+                                ? databaseImpl.newInstance(mParamContext, performNullCheck(mParamPassword, mParamPassword, Types.arrayOf(Types.of(char.class)).newInstance(Values.of(0))), executorStrategy)
+                                : databaseImpl.newInstance(mParamContext, executorStrategy);
                         block.append("return ").append(openHelperInstance).append(";");
                     }
                 })
                 .build();
         builder.addMethod(newInstanceMethod);
 
+        // Only used to run the generated code on other providers, like the JDBC provider of the benchmarks
+        builder.addMethod(new Method.Builder()
+                .setName("newInstance")
+                .setModifiers(EnumSet.of(Modifier.STATIC))
+                .setReturnType(Types.of(databaseInfo.getTypeElement()))
+                .setCode(new ExecutableBuilder() {
+
+                    private Variable mParamProvider;
+                    private Variable mParamExecutorStrategy;
+
+                    @Override
+                    protected List<Variable> createParameters() {
+                        final List<Variable> parameters = new ArrayList<>();
+                        parameters.add(mParamProvider = new Variable.Builder()
+                                .setType(databaseInfo.isEncrypted()
+                                        ? SimpleOrmTypes.ENCRYPTED_SQLITE_PROVIDER
+                                        : SimpleOrmTypes.SQLITE_PROVIDER)
+                                .setName("provider")
+                                .build());
+                        parameters.add(mParamExecutorStrategy = new Variable.Builder()
+                                .setType(SimpleOrmTypes.EXECUTOR_STRATEGY)
+                                .setName("executorStrategy")
+                                .build());
+                        return parameters;
+                    }
+
+                    @Override
+                    protected void write(Block block) {
+                        final CodeElement executorStrategy = performNullCheck(mParamExecutorStrategy, mParamExecutorStrategy, defaultExecutorStrategyField);
+                        block.append("return ").append(databaseImpl.newInstance(mParamProvider, executorStrategy)).append(";");
+                    }
+                })
+                .build());
+
+        builder.addMethod(new Method.Builder()
+                .setName("newInstance")
+                .setModifiers(EnumSet.of(Modifier.PUBLIC, Modifier.STATIC))
+                .setReturnType(Types.of(databaseInfo.getTypeElement()))
+                .setCode(new ExecutableBuilder() {
+
+                    private Variable mParamContext;
+                    private Variable mParamPassword;
+
+                    @Override
+                    protected List<Variable> createParameters() {
+                        final List<Variable> parameters = new ArrayList<>();
+                        parameters.add(mParamContext = new Variable.Builder()
+                                .setType(Types.Android.CONTEXT)
+                                .setName("context")
+                                .build());
+
+                        if (databaseInfo.isEncrypted()) {
+                            parameters.add(mParamPassword = new Variable.Builder()
+                                    .setType(Types.of(char[].class))
+                                    .setName("password")
+                                    .build());
+                        }
+
+                        return parameters;
+                    }
+
+                    @Override
+                    protected void write(Block block) {
+                        final CodeElement instance = databaseInfo.isEncrypted()
+                                ? newInstanceMethod.call(mParamContext, mParamPassword, defaultExecutorStrategyField)
+                                : newInstanceMethod.call(mParamContext, defaultExecutorStrategyField);
+                        block.append("return ").append(instance).append(";");
+                    }
+                })
+                .build());
+
         if (databaseInfo.isEncrypted()) {
 
+            builder.addMethod(new Method.Builder()
+                    .setName("newInstance")
+                    .setModifiers(EnumSet.of(Modifier.PUBLIC, Modifier.STATIC))
+                    .setReturnType(Types.of(databaseInfo.getTypeElement()))
+                    .setCode(new ExecutableBuilder() {
+
+                        private Variable mParamContext;
+                        private Variable mParamPassword;
+                        private Variable mParamExecutorStrategy;
+
+                        @Override
+                        protected List<Variable> createParameters() {
+                            final List<Variable> parameters = new ArrayList<>();
+                            parameters.add(mParamContext = new Variable.Builder()
+                                    .setType(Types.Android.CONTEXT)
+                                    .setName("context")
+                                    .build());
+                            parameters.add(mParamPassword = new Variable.Builder()
+                                    .setType(Types.STRING)
+                                    .setName("password")
+                                    .build());
+                            parameters.add(mParamExecutorStrategy = new Variable.Builder()
+                                    .setType(SimpleOrmTypes.EXECUTOR_STRATEGY)
+                                    .setName("executorStrategy")
+                                    .build());
+                            return parameters;
+                        }
+
+                        @Override
+                        protected void write(Block block) {
+                            block.append("return ").append(newInstanceMethod.call(
+                                    mParamContext,
+                                    performNullCheck(mParamPassword, TO_CHAR_ARRAY.callOnTarget(mParamPassword), Types.arrayOf(Types.of(char.class)).newInstance(Values.of(0))),
+                                    mParamExecutorStrategy
+                            )).append(";");
+                        }
+                    })
+                    .build());
+
             builder.addMethod(new Method.Builder()
                     .setName("newInstance")
                     .setModifiers(EnumSet.of(Modifier.PUBLIC, Modifier.STATIC))
@@ -119,7 +251,8 @@ public class DatabaseFactoryBuilder {
                         protected void write(Block block) {
                             block.append("return ").append(newInstanceMethod.call(
                                     mParamContext,
-                                    performNullCheck(mParamPassword, TO_CHAR_ARRAY.callOnTarget(mParamPassword), Types.arrayOf(Types.of(char.class)).newInstance(Values.of(0)))
+                                    performNullCheck(mParamPassword, TO_CHAR_ARRAY.callOnTarget(mParamPassword), Types.arrayOf(Types.of(char.class)).newInstance(Values.of(0))),
+                                    defaultExecutorStrategyField
                             )).append(";");
                         }
                     })
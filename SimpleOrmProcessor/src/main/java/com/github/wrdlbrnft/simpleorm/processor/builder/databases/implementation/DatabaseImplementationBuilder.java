@@ -4,6 +4,7 @@ import com.github.wrdlbrnft.codebuilder.annotations.Annotations;
 import com.github.wrdlbrnft.codebuilder.code.Block;
 import com.github.wrdlbrnft.codebuilder.code.BlockWriter;
 import com.github.wrdlbrnft.codebuilder.code.CodeElement;
+import com.github.wrdlbrnft.codebuilder.elements.values.Values;
 import com.github.wrdlbrnft.codebuilder.executables.Constructor;
 import com.github.wrdlbrnft.codebuilder.executables.ExecutableBuilder;
 import com.github.wrdlbrnft.codebuilder.executables.Method;
@@ -15,7 +16,9 @@ import com.github.wrdlbrnft.codebuilder.variables.Field;
 import com.github.wrdlbrnft.codebuilder.variables.Variable;
 import com.github.wrdlbrnft.codebuilder.variables.Variables;
 import com.github.wrdlbrnft.simpleorm.processor.SimpleOrmTypes;
+import com.github.wrdlbrnft.simpleorm.processor.analyzer.databases.ConfigurationInfo;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.databases.DatabaseInfo;
+import com.github.wrdlbrnft.simpleorm.processor.analyzer.databases.QueryMethodInfo;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.databases.RepositoryInfo;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.ColumnInfo;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.ColumnType;
@@ -46,9 +49,14 @@ import javax.lang.model.element.VariableElement;
 public class DatabaseImplementationBuilder {
 
     private static final Method METHOD_CHANGE_PASSWORD = Methods.stub("changePassword");
-    private static final Method METHOD_NEW_SINGLE_THREAD_EXECUTOR = Methods.stub("newSingleThreadExecutor");
-    private static final Method METHOD_FINALIZE = Methods.stub("finalize");
+    private static final Method METHOD_GET_READ_EXECUTOR = Methods.stub("getReadExecutor");
+    private static final Method METHOD_GET_WRITE_EXECUTOR = Methods.stub("getWriteExecutor");
     private static final Method METHOD_CLOSE = Methods.stub("close");
+    private static final Method METHOD_QUERY_FIRST = Methods.stub("queryFirst");
+    private static final Method METHOD_QUERY_LIST = Methods.stub("queryList");
+    private static final Method METHOD_QUERY_LAZY = Methods.stub("queryLazy");
+    private static final Method METHOD_NOW = Methods.stub("now");
+    private static final Method METHOD_ARGUMENT = Methods.stub("argument");
 
     public interface EntityImplementationCache {
         EntityImplementationInfo get(EntityInfo info);
@@ -74,27 +82,21 @@ public class DatabaseImplementationBuilder {
         mManagerBuilder = new EntityManagerBuilder(processingEnv);
     }
 
-    public Implementation build(final DatabaseInfo databaseInfo) {
+    public Implementation build(final DatabaseInfo databaseInfo, Method createSchemaMethod) {
         final TypeElement databaseTypeElement = databaseInfo.getTypeElement();
 
         final Implementation.Builder builder = new Implementation.Builder();
         builder.setModifiers(EnumSet.of(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL));
         builder.addImplementedType(Types.of(databaseTypeElement));
 
-        final Implementation openHelperImplementation = mSQLiteProviderBuilder.build(databaseInfo);
+        final Implementation openHelperImplementation = mSQLiteProviderBuilder.build(databaseInfo, createSchemaMethod);
         builder.addNestedImplementation(openHelperImplementation);
 
-        final Field executorField = new Field.Builder()
-                .setModifiers(EnumSet.of(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL))
-                .setType(SimpleOrmTypes.EXECUTOR)
-                .setInitialValue(METHOD_NEW_SINGLE_THREAD_EXECUTOR.callOnTarget(SimpleOrmTypes.EXECUTORS))
-                .build();
-        builder.addField(executorField);
-
+        final Type providerType = databaseInfo.isEncrypted()
+                ? SimpleOrmTypes.ENCRYPTED_SQLITE_PROVIDER
+                : SimpleOrmTypes.SQLITE_PROVIDER;
         final Field providerField = new Field.Builder()
-                .setType(databaseInfo.isEncrypted()
-                        ? SimpleOrmTypes.ENCRYPTED_SQLITE_PROVIDER
-                        : SimpleOrmTypes.SQLITE_PROVIDER)
+                .setType(providerType)
                 .setModifiers(EnumSet.of(Modifier.PRIVATE, Modifier.FINAL))
                 .build();
         builder.addField(providerField);
@@ -158,7 +160,7 @@ public class DatabaseImplementationBuilder {
             }
 
             final Field field = new Field.Builder()
-                    .setType(Types.generic(SimpleOrmTypes.REPOSITORY, entityType))
+                    .setType(Types.generic(SimpleOrmTypes.BASE_REPOSITORY, entityType))
                     .setModifiers(EnumSet.of(Modifier.PRIVATE, Modifier.FINAL))
                     .build();
 
@@ -187,12 +189,18 @@ public class DatabaseImplementationBuilder {
                     .build());
         }
 
+        for (QueryMethodInfo queryMethodInfo : databaseInfo.getQueryMethodInfos()) {
+            final Field repositoryField = repositoryMap.get(queryMethodInfo.getRepositoryInfo());
+            builder.addMethod(createQueryMethod(queryMethodInfo, repositoryField));
+        }
+
         builder.addConstructor(new Constructor.Builder()
                 .setModifiers(EnumSet.of(Modifier.PRIVATE))
                 .setCode(new ExecutableBuilder() {
 
                     private Variable mParamContext;
                     private Variable mParamPassword;
+                    private Variable mParamExecutorStrategy;
 
                     @Override
                     protected List<Variable> createParameters() {
@@ -203,6 +211,7 @@ public class DatabaseImplementationBuilder {
                             parameters.add(mParamPassword = Variables.of(Types.of(char[].class)));
                         }
 
+                        parameters.add(mParamExecutorStrategy = Variables.of(SimpleOrmTypes.EXECUTOR_STRATEGY));
                         return parameters;
                     }
 
@@ -211,7 +220,34 @@ public class DatabaseImplementationBuilder {
                         final CodeElement openHelperInstance = databaseInfo.isEncrypted()
                                 ? openHelperImplementation.newInstance(mParamContext, mParamPassword)
                                 : openHelperImplementation.newInstance(mParamContext);
-                        block.set(providerField, openHelperInstance).append(";");
+                        block.append("this(").append(openHelperInstance).append(", ").append(mParamExecutorStrategy).append(");");
+                    }
+                })
+                .build());
+
+        builder.addConstructor(new Constructor.Builder()
+                .setModifiers(EnumSet.of(Modifier.PRIVATE))
+                .setCode(new ExecutableBuilder() {
+
+                    private Variable mParamProvider;
+                    private Variable mParamExecutorStrategy;
+
+                    @Override
+                    protected List<Variable> createParameters() {
+                        final List<Variable> parameters = new ArrayList<>();
+                        parameters.add(mParamProvider = Variables.of(providerType));
+                        parameters.add(mParamExecutorStrategy = Variables.of(SimpleOrmTypes.EXECUTOR_STRATEGY));
+                        return parameters;
+                    }
+
+                    @Override
+                    protected void write(Block block) {
+                        block.set(providerField, mParamProvider).append(";");
+
+                        final ConfigurationInfo configurationInfo = databaseInfo.getConfigurationInfo();
+                        final boolean queryCacheEnabled = configurationInfo.getQueryCacheMaxEntries() > 0;
+                        final Variable tableChangeNotifier = Variables.of(SimpleOrmTypes.TABLE_CHANGE_NOTIFIER, Modifier.FINAL);
+                        block.newLine().set(tableChangeNotifier, SimpleOrmTypes.TABLE_CHANGE_NOTIFIER.newInstance()).append(";");
 
                         for (RepositoryInfo repositoryInfo : databaseInfo.getRepositoryInfos()) {
                             final EntityInfo entityInfo = repositoryInfo.getEntityInfo();
@@ -220,28 +256,112 @@ public class DatabaseImplementationBuilder {
                             final Implementation managerImplementation = managerMap.get(repositoryInfo);
 
                             final Type repositoryType = Types.generic(SimpleOrmTypes.BASE_REPOSITORY, entityType);
-                            final CodeElement managerInstance = managerImplementation.newInstance(providerField);
-                            final CodeElement repositoryInstance = repositoryType.newInstance(executorField, managerInstance);
+                            final CodeElement baseManagerInstance = managerImplementation.newInstance(providerField, Values.of(configurationInfo.isIdentityMapEnabled()), tableChangeNotifier);
+                            final CodeElement managerInstance = queryCacheEnabled
+                                    ? Types.generic(SimpleOrmTypes.CACHING_ENTITY_MANAGER, entityType).newInstance(baseManagerInstance, Values.of(configurationInfo.getQueryCacheMaxEntries()), new Block().append(configurationInfo.getQueryCacheMaxBytes() + "L"))
+                                    : baseManagerInstance;
+                            final CodeElement readExecutor = METHOD_GET_READ_EXECUTOR.callOnTarget(mParamExecutorStrategy);
+                            final CodeElement writeExecutor = METHOD_GET_WRITE_EXECUTOR.callOnTarget(mParamExecutorStrategy);
+                            final CodeElement repositoryInstance = configurationInfo.isGroupCommitEnabled()
+                                    ? repositoryType.newInstance(readExecutor, writeExecutor, managerInstance, new Block().append(configurationInfo.getGroupCommitWindow() + "L"), Values.of(configurationInfo.getGroupCommitMaxSize()))
+                                    : repositoryType.newInstance(readExecutor, writeExecutor, managerInstance);
                             block.newLine().set(field, repositoryInstance).append(";");
                         }
                     }
                 })
                 .build());
 
-        builder.addMethod(new Method.Builder()
-                .setName("finalize")
-                .setModifiers(EnumSet.of(Modifier.PROTECTED))
-                .addThrownException(SimpleOrmTypes.THROWABLE)
+        if (databaseInfo.isCloseable()) {
+            builder.addMethod(new Method.Builder()
+                    .setName("close")
+                    .setModifiers(EnumSet.of(Modifier.PUBLIC))
+                    .addAnnotation(Annotations.forType(Override.class))
+                    .setCode(new ArrayList<Variable>(), new BlockWriter() {
+                        @Override
+                        protected void write(Block block) {
+                            block.append(METHOD_CLOSE.callOnTarget(providerField)).append(";");
+                        }
+                    })
+                    .build());
+        }
+
+        return builder.build();
+    }
+
+    private static Method createQueryMethod(final QueryMethodInfo queryMethodInfo, final Field repositoryField) {
+        final ExecutableElement method = queryMethodInfo.getMethod();
+        return new Method.Builder()
+                .setName(method.getSimpleName().toString())
+                .setModifiers(EnumSet.of(Modifier.PUBLIC))
                 .addAnnotation(Annotations.forType(Override.class))
-                .setCode(new ArrayList<Variable>(), new BlockWriter() {
+                .setReturnType(Types.of(method.getReturnType()))
+                .setCode(new ExecutableBuilder() {
+
+                    private final List<Variable> mParameters = new ArrayList<>();
+
+                    @Override
+                    protected List<Variable> createParameters() {
+                        for (VariableElement parameter : method.getParameters()) {
+                            mParameters.add(Variables.of(Types.of(parameter.asType())));
+                        }
+                        return mParameters;
+                    }
+
                     @Override
                     protected void write(Block block) {
-                        block.append(METHOD_FINALIZE.callOnTarget(Methods.SUPER)).append(";").newLine();
-                        block.append(METHOD_CLOSE.callOnTarget(providerField)).append(";");
+                        final CodeElement selectionArgs = createSelectionArgs(block);
+                        final CodeElement query = SimpleOrmTypes.COMPILED_QUERY.newInstance(
+                                toValue(queryMethodInfo.getSelection()),
+                                selectionArgs,
+                                toValue(queryMethodInfo.getOrderBy()),
+                                toValue(queryMethodInfo.getLimit())
+                        );
+
+                        block.append("return ");
+                        switch (queryMethodInfo.getResultType()) {
+                            case LOADER_FIRST:
+                                block.append(METHOD_QUERY_FIRST.callOnTarget(repositoryField, query));
+                                break;
+
+                            case LOADER_LIST:
+                                block.append(METHOD_QUERY_LIST.callOnTarget(repositoryField, query));
+                                break;
+
+                            case LAZY_LIST:
+                                block.append(METHOD_QUERY_LAZY.callOnTarget(repositoryField, query));
+                                break;
+
+                            case FIRST:
+                                block.append(METHOD_NOW.callOnTarget(METHOD_QUERY_FIRST.callOnTarget(repositoryField, query)));
+                                break;
+
+                            case LIST:
+                                block.append(METHOD_NOW.callOnTarget(METHOD_QUERY_LIST.callOnTarget(repositoryField, query)));
+                                break;
+
+                            default:
+                                throw new IllegalStateException("Encountered unknown result type: " + queryMethodInfo.getResultType());
+                        }
+                        block.append(";");
+                    }
+
+                    private CodeElement createSelectionArgs(Block block) {
+                        if (mParameters.isEmpty()) {
+                            return Values.ofNull();
+                        }
+
+                        final Variable selectionArgs = Variables.of(SimpleOrmTypes.SELECTION_ARGS, Modifier.FINAL);
+                        block.set(selectionArgs, SimpleOrmTypes.SELECTION_ARGS.newInstance(Values.of(mParameters.size()))).append(";").newLine();
+                        for (Variable parameter : mParameters) {
+                            block.append(METHOD_ARGUMENT.callOnTarget(SimpleOrmTypes.COMPILED_QUERY, selectionArgs, parameter)).append(";").newLine();
+                        }
+                        return selectionArgs;
                     }
                 })
-                .build());
+                .build();
+    }
 
-        return builder.build();
+    private static CodeElement toValue(String value) {
+        return value != null ? Values.of(value) : Values.ofNull();
     }
 }
@@ -4,22 +4,28 @@ import com.github.wrdlbrnft.codebuilder.annotations.Annotations;
 import com.github.wrdlbrnft.codebuilder.code.Block;
 import com.github.wrdlbrnft.codebuilder.code.BlockWriter;
 import com.github.wrdlbrnft.codebuilder.code.CodeElement;
+import com.github.wrdlbrnft.codebuilder.elements.ifs.If;
+import com.github.wrdlbrnft.codebuilder.elements.ifs.TernaryIf;
 import com.github.wrdlbrnft.codebuilder.executables.Constructor;
+import com.github.wrdlbrnft.codebuilder.elements.values.Values;
 import com.github.wrdlbrnft.codebuilder.executables.ExecutableBuilder;
 import com.github.wrdlbrnft.codebuilder.executables.Method;
 import com.github.wrdlbrnft.codebuilder.executables.Methods;
 import com.github.wrdlbrnft.codebuilder.implementations.Implementation;
 import com.github.wrdlbrnft.codebuilder.types.Type;
 import com.github.wrdlbrnft.codebuilder.types.Types;
+import com.github.wrdlbrnft.codebuilder.util.Operators;
 import com.github.wrdlbrnft.codebuilder.variables.Field;
 import com.github.wrdlbrnft.codebuilder.variables.Variable;
 import com.github.wrdlbrnft.codebuilder.variables.Variables;
+import com.github.wrdlbrnft.simpleorm.processor.SimpleOrmTypes;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.ColumnInfo;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.EntityInfo;
 
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -36,6 +42,14 @@ import javax.lang.model.element.VariableElement;
 
 public class EntityImplementationBuilder {
 
+    private static final Method METHOD_MARK_DIRTY = Methods.stub("markDirty");
+    private static final Method METHOD_IS_DIRTY = Methods.stub("isDirty");
+    private static final Method METHOD_IS_LOADED = Methods.stub("isLoaded");
+    private static final Method METHOD_HAS_CHANGES = Methods.stub("hasChanges");
+    private static final Method METHOD_COPY_OF = Methods.stub("copyOf");
+    private static final Method METHOD_IS_EMPTY = Methods.stub("isEmpty");
+    private static final Method METHOD_GET = Methods.stub("get");
+
     private final ProcessingEnvironment mProcessingEnvironment;
 
     public EntityImplementationBuilder(ProcessingEnvironment processingEnvironment) {
@@ -47,22 +61,63 @@ public class EntityImplementationBuilder {
         builder.setModifiers(EnumSet.of(Modifier.PRIVATE, Modifier.STATIC));
         final Type entityType = Types.of(info.getEntityElement());
         builder.addImplementedType(entityType);
+        builder.addImplementedType(SimpleOrmTypes.TRACKED_ENTITY);
+
+        final Field persistedField = new Field.Builder()
+                .setModifiers(EnumSet.of(Modifier.PRIVATE))
+                .setType(Types.Primitives.BOOLEAN)
+                .build();
+        builder.addField(persistedField);
+
+        final Field dirtyColumnsField = new Field.Builder()
+                .setModifiers(EnumSet.of(Modifier.PRIVATE))
+                .setType(SimpleOrmTypes.BIT_SET)
+                .build();
+        builder.addField(dirtyColumnsField);
 
         final List<ColumnInfo> constructorParameters = new ArrayList<>();
+        final List<ColumnInfo> lazyReferenceParameters = new ArrayList<>();
         final Map<ColumnInfo, Field> fieldMap = new HashMap<>();
+        final Map<ColumnInfo, Field> lazyFieldMap = new HashMap<>();
+        final Map<Integer, Field> lazyColumnFieldMap = new LinkedHashMap<>();
+        final Map<Integer, Field> lazyReferenceFieldMap = new LinkedHashMap<>();
         final List<FieldInfo> fieldInfos = new ArrayList<>();
-        for (ColumnInfo columnInfo : info.getColumns()) {
+        final List<ColumnInfo> columns = info.getColumns();
+        for (int i = 0, count = columns.size(); i < count; i++) {
+            final ColumnInfo columnInfo = columns.get(i);
             constructorParameters.add(columnInfo);
-            final Field field = implementMethod(builder, columnInfo);
+
+            final Field lazyField;
+            if (columnInfo.isLazy() && columnInfo.getCollectionType() == ColumnInfo.CollectionType.NONE) {
+                lazyField = new Field.Builder()
+                        .setModifiers(EnumSet.of(Modifier.PRIVATE))
+                        .setType(Types.generic(Types.LIST, columnInfo.getObjectType()))
+                        .build();
+                builder.addField(lazyField);
+                lazyReferenceParameters.add(columnInfo);
+                lazyFieldMap.put(columnInfo, lazyField);
+                lazyReferenceFieldMap.put(i, lazyField);
+            } else {
+                lazyField = null;
+            }
+
+            final Field field = implementMethod(builder, columnInfo, i, dirtyColumnsField, lazyField);
             final ExecutableElement getterElement = columnInfo.getGetterElement();
-            fieldInfos.add(new FieldInfo(field, getterElement.getReturnType(), Methods.from(getterElement)));
+            final Method getter = Methods.from(getterElement);
+            fieldInfos.add(new FieldInfo(field, getterElement.getReturnType(), getter, columnInfo.isLazy(), lazyField != null ? i : -1));
             fieldMap.put(columnInfo, field);
+            if (columnInfo.isLazy()) {
+                lazyColumnFieldMap.put(i, lazyField != null ? lazyField : field);
+            }
         }
 
         builder.addConstructor(new Constructor.Builder()
                 .setCode(new ExecutableBuilder() {
 
                     private final Map<ColumnInfo, Variable> mParameterMap = new HashMap<>();
+                    private final Map<ColumnInfo, Variable> mLazyParameterMap = new HashMap<>();
+                    private Variable mPersisted;
+                    private Variable mDirtyColumns;
 
                     @Override
                     protected List<Variable> createParameters() {
@@ -72,6 +127,13 @@ public class EntityImplementationBuilder {
                             parameters.add(parameter);
                             mParameterMap.put(columnInfo, parameter);
                         }
+                        parameters.add(mPersisted = Variables.of(Types.Primitives.BOOLEAN));
+                        parameters.add(mDirtyColumns = Variables.of(SimpleOrmTypes.BIT_SET));
+                        for (ColumnInfo columnInfo : lazyReferenceParameters) {
+                            final Variable parameter = Variables.of(Types.generic(Types.LIST, columnInfo.getObjectType()));
+                            parameters.add(parameter);
+                            mLazyParameterMap.put(columnInfo, parameter);
+                        }
                         return parameters;
                     }
 
@@ -90,10 +152,17 @@ public class EntityImplementationBuilder {
 
                             block.set(field, parameter).append(";");
                         }
+                        block.newLine().set(persistedField, mPersisted).append(";");
+                        block.newLine().set(dirtyColumnsField, mDirtyColumns).append(";");
+                        for (ColumnInfo columnInfo : lazyReferenceParameters) {
+                            block.newLine().set(lazyFieldMap.get(columnInfo), mLazyParameterMap.get(columnInfo)).append(";");
+                        }
                     }
                 })
                 .build());
 
+        implementTrackedEntity(builder, persistedField, dirtyColumnsField, lazyColumnFieldMap, lazyReferenceFieldMap);
+
         builder.addMethod(new Method.Builder()
                 .setModifiers(EnumSet.of(Modifier.PUBLIC))
                 .setReturnType(Types.Primitives.BOOLEAN)
@@ -110,10 +179,167 @@ public class EntityImplementationBuilder {
                 .setCode(new HashCodeExecutableBuilder(fieldInfos))
                 .build());
 
-        return new EntityImplementationInfoImpl(builder.build(), constructorParameters);
+        return new EntityImplementationInfoImpl(builder.build(), constructorParameters, lazyReferenceParameters);
     }
 
-    private Field implementMethod(Implementation.Builder builder, ColumnInfo info) {
+    private void implementTrackedEntity(Implementation.Builder builder, final Field persistedField, final Field dirtyColumnsField, final Map<Integer, Field> lazyColumnFieldMap, final Map<Integer, Field> lazyReferenceFieldMap) {
+        builder.addMethod(new Method.Builder()
+                .setName("isPersisted")
+                .setModifiers(EnumSet.of(Modifier.PUBLIC))
+                .setReturnType(Types.Primitives.BOOLEAN)
+                .addAnnotation(Annotations.forType(Override.class))
+                .setCode(new ArrayList<Variable>(), new BlockWriter() {
+                    @Override
+                    protected void write(Block block) {
+                        block.append("return ").append(persistedField).append(";");
+                    }
+                })
+                .build());
+
+        builder.addMethod(new Method.Builder()
+                .setName("hasChanges")
+                .setModifiers(EnumSet.of(Modifier.PUBLIC))
+                .setReturnType(Types.Primitives.BOOLEAN)
+                .addAnnotation(Annotations.forType(Override.class))
+                .setCode(new ArrayList<Variable>(), new BlockWriter() {
+                    @Override
+                    protected void write(Block block) {
+                        block.append("return ").append(METHOD_HAS_CHANGES.callOnTarget(SimpleOrmTypes.CHANGE_TRACKING, dirtyColumnsField)).append(";");
+                    }
+                })
+                .build());
+
+        builder.addMethod(new Method.Builder()
+                .setName("isDirty")
+                .setModifiers(EnumSet.of(Modifier.PUBLIC))
+                .setReturnType(Types.Primitives.BOOLEAN)
+                .addAnnotation(Annotations.forType(Override.class))
+                .setCode(new ExecutableBuilder() {
+
+                    private Variable mColumnIndex;
+
+                    @Override
+                    protected List<Variable> createParameters() {
+                        final List<Variable> parameters = new ArrayList<>();
+                        parameters.add(mColumnIndex = Variables.of(Types.Primitives.INTEGER));
+                        return parameters;
+                    }
+
+                    @Override
+                    protected void write(Block block) {
+                        block.append("return ").append(METHOD_IS_DIRTY.callOnTarget(SimpleOrmTypes.CHANGE_TRACKING, dirtyColumnsField, mColumnIndex)).append(";");
+                    }
+                })
+                .build());
+
+        builder.addMethod(new Method.Builder()
+                .setName("isLoaded")
+                .setModifiers(EnumSet.of(Modifier.PUBLIC))
+                .setReturnType(Types.Primitives.BOOLEAN)
+                .addAnnotation(Annotations.forType(Override.class))
+                .setCode(new ExecutableBuilder() {
+
+                    private Variable mColumnIndex;
+
+                    @Override
+                    protected List<Variable> createParameters() {
+                        final List<Variable> parameters = new ArrayList<>();
+                        parameters.add(mColumnIndex = Variables.of(Types.Primitives.INTEGER));
+                        return parameters;
+                    }
+
+                    @Override
+                    protected void write(Block block) {
+                        for (Map.Entry<Integer, Field> entry : lazyColumnFieldMap.entrySet()) {
+                            final Field lazyColumnField = entry.getValue();
+                            block.append(new If.Builder()
+                                    .add(Operators.operate(mColumnIndex, "==", Values.of(entry.getKey())), new BlockWriter() {
+                                        @Override
+                                        protected void write(Block block) {
+                                            block.append("return ").append(METHOD_IS_LOADED.callOnTarget(SimpleOrmTypes.CHANGE_TRACKING, lazyColumnField)).append(";");
+                                        }
+                                    })
+                                    .build()).newLine();
+                        }
+                        block.append("return ").append(Values.of(true)).append(";");
+                    }
+                })
+                .build());
+
+        builder.addMethod(new Method.Builder()
+                .setName("getLazyReference")
+                .setModifiers(EnumSet.of(Modifier.PUBLIC))
+                .setReturnType(Types.OBJECT)
+                .addAnnotation(Annotations.forType(Override.class))
+                .setCode(new ExecutableBuilder() {
+
+                    private Variable mColumnIndex;
+
+                    @Override
+                    protected List<Variable> createParameters() {
+                        final List<Variable> parameters = new ArrayList<>();
+                        parameters.add(mColumnIndex = Variables.of(Types.Primitives.INTEGER));
+                        return parameters;
+                    }
+
+                    @Override
+                    protected void write(Block block) {
+                        for (Map.Entry<Integer, Field> entry : lazyReferenceFieldMap.entrySet()) {
+                            final Field lazyReferenceField = entry.getValue();
+                            block.append(new If.Builder()
+                                    .add(Operators.operate(mColumnIndex, "==", Values.of(entry.getKey())), new BlockWriter() {
+                                        @Override
+                                        protected void write(Block block) {
+                                            block.append("return ").append(lazyReferenceField).append(";");
+                                        }
+                                    })
+                                    .build()).newLine();
+                        }
+                        block.append("return ").append(Values.ofNull()).append(";");
+                    }
+                })
+                .build());
+
+        builder.addMethod(new Method.Builder()
+                .setName("copyDirtyColumns")
+                .setModifiers(EnumSet.of(Modifier.PUBLIC))
+                .setReturnType(SimpleOrmTypes.BIT_SET)
+                .addAnnotation(Annotations.forType(Override.class))
+                .setCode(new ArrayList<Variable>(), new BlockWriter() {
+                    @Override
+                    protected void write(Block block) {
+                        block.append("return ").append(METHOD_COPY_OF.callOnTarget(SimpleOrmTypes.CHANGE_TRACKING, dirtyColumnsField)).append(";");
+                    }
+                })
+                .build());
+
+        builder.addMethod(new Method.Builder()
+                .setName("onPersisted")
+                .setModifiers(EnumSet.of(Modifier.PUBLIC))
+                .addAnnotation(Annotations.forType(Override.class))
+                .setCode(new ArrayList<Variable>(), new BlockWriter() {
+                    @Override
+                    protected void write(Block block) {
+                        block.set(persistedField, Values.of(true)).append(";").newLine();
+                        block.set(dirtyColumnsField, Values.ofNull()).append(";");
+                    }
+                })
+                .build());
+
+        builder.addMethod(new Method.Builder()
+                .setName("onRemoved")
+                .setModifiers(EnumSet.of(Modifier.PUBLIC))
+                .addAnnotation(Annotations.forType(Override.class))
+                .setCode(new ArrayList<Variable>(), new BlockWriter() {
+                    @Override
+                    protected void write(Block block) {
+                        block.set(persistedField, Values.of(false)).append(";");
+                    }
+                })
+                .build());
+    }
+
+    private Field implementMethod(Implementation.Builder builder, final ColumnInfo info, final int columnIndex, final Field dirtyColumnsField, final Field lazyField) {
         final Field field = new Field.Builder()
                 .setModifiers(EnumSet.of(Modifier.PRIVATE))
                 .setType(info.getObjectType())
@@ -129,6 +355,22 @@ public class EntityImplementationBuilder {
                     .setCode(new ArrayList<Variable>(), new BlockWriter() {
                         @Override
                         protected void write(Block block) {
+                            if (lazyField != null) {
+                                final Variable lazyReference = Variables.of(Types.generic(Types.LIST, info.getObjectType()), Modifier.FINAL);
+                                block.set(lazyReference, lazyField).append(";").newLine();
+                                block.append(new If.Builder()
+                                        .add(Operators.operate(lazyReference, "!=", Values.ofNull()), new BlockWriter() {
+                                            @Override
+                                            protected void write(Block block) {
+                                                block.append("return ").append(new TernaryIf.Builder()
+                                                        .setComparison(METHOD_IS_EMPTY.callOnTarget(lazyReference))
+                                                        .setTrueBlock(Values.ofNull())
+                                                        .setFalseBlock(METHOD_GET.callOnTarget(lazyReference, Values.of(0)))
+                                                        .build()).append(";");
+                                            }
+                                        })
+                                        .build()).newLine();
+                            }
                             block.append("return ").append(field).append(";");
                         }
                     })
@@ -155,7 +397,11 @@ public class EntityImplementationBuilder {
 
                         @Override
                         protected void write(Block block) {
-                            block.set(field, mValue).append(";");
+                            block.set(field, mValue).append(";").newLine();
+                            if (lazyField != null) {
+                                block.set(lazyField, Values.ofNull()).append(";").newLine();
+                            }
+                            block.set(dirtyColumnsField, METHOD_MARK_DIRTY.callOnTarget(SimpleOrmTypes.CHANGE_TRACKING, dirtyColumnsField, Values.of(columnIndex))).append(";");
                         }
                     })
                     .build());
@@ -1,5 +1,6 @@
 package com.github.wrdlbrnft.simpleorm.processor.builder.entity;
 
+import com.github.wrdlbrnft.codebuilder.code.CodeElement;
 import com.github.wrdlbrnft.codebuilder.implementations.Implementation;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.ColumnInfo;
 
@@ -14,4 +15,7 @@ import java.util.List;
 public interface EntityImplementationInfo {
     Implementation getImplementation();
     List<ColumnInfo> getConstructorParameters();
+    List<ColumnInfo> getLazyReferenceParameters();
+    CodeElement newInstance(CodeElement[] columnValues, CodeElement persisted, CodeElement dirtyColumns);
+    CodeElement newInstance(CodeElement[] columnValues, CodeElement[] lazyReferences, CodeElement persisted, CodeElement dirtyColumns);
 }
@@ -1,5 +1,7 @@
 package com.github.wrdlbrnft.simpleorm.processor.builder.entity;
 
+import com.github.wrdlbrnft.codebuilder.code.CodeElement;
+import com.github.wrdlbrnft.codebuilder.elements.values.Values;
 import com.github.wrdlbrnft.codebuilder.implementations.Implementation;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.ColumnInfo;
 
@@ -14,10 +16,12 @@ class EntityImplementationInfoImpl implements EntityImplementationInfo {
 
     private final Implementation mImplementation;
     private final List<ColumnInfo> mConstructorParameters;
+    private final List<ColumnInfo> mLazyReferenceParameters;
 
-    EntityImplementationInfoImpl(Implementation implementation, List<ColumnInfo> constructorParameters) {
+    EntityImplementationInfoImpl(Implementation implementation, List<ColumnInfo> constructorParameters, List<ColumnInfo> lazyReferenceParameters) {
         mImplementation = implementation;
         mConstructorParameters = constructorParameters;
+        mLazyReferenceParameters = lazyReferenceParameters;
     }
 
     @Override
@@ -29,4 +33,28 @@ class EntityImplementationInfoImpl implements EntityImplementationInfo {
     public List<ColumnInfo> getConstructorParameters() {
         return mConstructorParameters;
     }
+
+    @Override
+    public List<ColumnInfo> getLazyReferenceParameters() {
+        return mLazyReferenceParameters;
+    }
+
+    @Override
+    public CodeElement newInstance(CodeElement[] columnValues, CodeElement persisted, CodeElement dirtyColumns) {
+        final CodeElement[] lazyReferences = new CodeElement[mLazyReferenceParameters.size()];
+        for (int i = 0; i < lazyReferences.length; i++) {
+            lazyReferences[i] = Values.ofNull();
+        }
+        return newInstance(columnValues, lazyReferences, persisted, dirtyColumns);
+    }
+
+    @Override
+    public CodeElement newInstance(CodeElement[] columnValues, CodeElement[] lazyReferences, CodeElement persisted, CodeElement dirtyColumns) {
+        final CodeElement[] parameters = new CodeElement[columnValues.length + 2 + lazyReferences.length];
+        System.arraycopy(columnValues, 0, parameters, 0, columnValues.length);
+        parameters[columnValues.length] = persisted;
+        parameters[columnValues.length + 1] = dirtyColumns;
+        System.arraycopy(lazyReferences, 0, parameters, columnValues.length + 2, lazyReferences.length);
+        return mImplementation.newInstance(parameters);
+    }
 }
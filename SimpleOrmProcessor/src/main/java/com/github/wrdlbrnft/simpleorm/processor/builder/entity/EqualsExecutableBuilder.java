@@ -14,9 +14,9 @@ import com.github.wrdlbrnft.codebuilder.types.Type;
 import com.github.wrdlbrnft.codebuilder.types.Types;
 import com.github.wrdlbrnft.codebuilder.util.Operators;
 import com.github.wrdlbrnft.codebuilder.util.Utils;
-import com.github.wrdlbrnft.codebuilder.variables.Field;
 import com.github.wrdlbrnft.codebuilder.variables.Variable;
 import com.github.wrdlbrnft.codebuilder.variables.Variables;
+import com.github.wrdlbrnft.simpleorm.processor.SimpleOrmTypes;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -31,6 +31,8 @@ import javax.lang.model.element.Modifier;
 class EqualsExecutableBuilder extends ExecutableBuilder {
 
     private static final Method METHOD_COMPARE = Methods.stub("compare");
+    private static final Method METHOD_HAS_UNLOADED_REFERENCE = Methods.stub("hasUnloadedReference");
+    private static final Method METHOD_REFERENCE_EQUALS = Methods.stub("referenceEquals");
 
     private final List<FieldInfo> mFieldInfos;
     private final Type mEntityType;
@@ -70,7 +72,12 @@ class EqualsExecutableBuilder extends ExecutableBuilder {
         }).append(";").newLine();
 
         for (FieldInfo fieldInfo : mFieldInfos) {
-            final Field field = fieldInfo.getField();
+            if (fieldInfo.isLazyReference()) {
+                block.append(createLazyReferenceEqualsComparison(otherInstance, fieldInfo)).newLine();
+                continue;
+            }
+
+            final CodeElement field = fieldInfo.getValue();
             final Variable otherInstanceVariable = Variables.of(Types.of(fieldInfo.getBaseType()), Modifier.FINAL);
             block.set(otherInstanceVariable, fieldInfo.getGetter().callOnTarget(otherInstance)).append(";").newLine();
 
@@ -93,27 +100,27 @@ class EqualsExecutableBuilder extends ExecutableBuilder {
         block.append(new ReturnStatement(Values.of(true)));
     }
 
-    private CodeElement createPrimitiveEqualsComparison(CodeElement otherInstanceField, Field field) {
+    private CodeElement createPrimitiveEqualsComparison(CodeElement otherInstanceField, CodeElement field) {
         final If.Builder builder = new If.Builder();
         builder.add(Operators.operate(field, "!=", otherInstanceField), new ReturnStatement(Values.of(false)));
         return builder.build();
     }
 
-    private CodeElement createDoubleEqualsComparison(CodeElement otherInstanceField, Field field) {
+    private CodeElement createDoubleEqualsComparison(CodeElement otherInstanceField, CodeElement field) {
         final If.Builder builder = new If.Builder();
         final CodeElement doubleCompareCall = METHOD_COMPARE.callOnTarget(Types.Boxed.DOUBLE, otherInstanceField, field);
         builder.add(Operators.operate(doubleCompareCall, "!=", Values.of(0)), new ReturnStatement(Values.of(false)));
         return builder.build();
     }
 
-    private CodeElement createFloatEqualsComparison(CodeElement otherInstanceField, Field field) {
+    private CodeElement createFloatEqualsComparison(CodeElement otherInstanceField, CodeElement field) {
         final If.Builder builder = new If.Builder();
         final CodeElement floatCompareCall = METHOD_COMPARE.callOnTarget(Types.Boxed.FLOAT, otherInstanceField, field);
         builder.add(Operators.operate(floatCompareCall, "!=", Values.of(0)), new ReturnStatement(Values.of(false)));
         return builder.build();
     }
 
-    private CodeElement createObjectEqualsComparison(CodeElement otherInstanceField, Field field) {
+    private CodeElement createObjectEqualsComparison(CodeElement otherInstanceField, CodeElement field) {
         final If.Builder builder = new If.Builder();
         builder.add(new TernaryIf.Builder()
                         .setComparison(Operators.operate(field, "!=", Values.ofNull()))
@@ -125,6 +132,26 @@ class EqualsExecutableBuilder extends ExecutableBuilder {
         return builder.build();
     }
 
+    // Getters of lazy references load them, so they are only called if the references cannot be compared unloaded
+    private CodeElement createLazyReferenceEqualsComparison(Variable otherInstance, FieldInfo fieldInfo) {
+        final CodeElement columnIndex = Values.of(fieldInfo.getLazyReferenceIndex());
+        final CodeElement value = fieldInfo.getGetter().call();
+        final CodeElement otherValue = fieldInfo.getGetter().callOnTarget(otherInstance);
+        final If.Builder builder = new If.Builder();
+        builder.add(new TernaryIf.Builder()
+                        .setComparison(METHOD_HAS_UNLOADED_REFERENCE.callOnTarget(SimpleOrmTypes.CHANGE_TRACKING, Values.ofThis(), otherInstance, columnIndex))
+                        .setTrueBlock(Values.invert(METHOD_REFERENCE_EQUALS.callOnTarget(SimpleOrmTypes.CHANGE_TRACKING, Values.ofThis(), otherInstance, columnIndex)))
+                        .setFalseBlock(new BracedStatement(new TernaryIf.Builder()
+                                .setComparison(Operators.operate(value, "!=", Values.ofNull()))
+                                .setTrueBlock(Values.invert(Methods.EQUALS.callOnTarget(value, otherValue)))
+                                .setFalseBlock(Operators.operate(otherValue, "!=", Values.ofNull()))
+                                .build()))
+                        .build(),
+                new ReturnStatement(Values.of(false))
+        );
+        return builder.build();
+    }
+
     private static class ReturnStatement extends BlockWriter {
 
         private final Value mReturnValue;
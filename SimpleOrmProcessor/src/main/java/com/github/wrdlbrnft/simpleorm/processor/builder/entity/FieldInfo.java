@@ -1,7 +1,7 @@
 package com.github.wrdlbrnft.simpleorm.processor.builder.entity;
 
+import com.github.wrdlbrnft.codebuilder.code.CodeElement;
 import com.github.wrdlbrnft.codebuilder.executables.Method;
-import com.github.wrdlbrnft.codebuilder.variables.Field;
 
 import javax.lang.model.type.TypeMirror;
 
@@ -13,18 +13,22 @@ import javax.lang.model.type.TypeMirror;
 
 class FieldInfo {
 
-    private final Field mField;
+    private final CodeElement mValue;
     private final TypeMirror mBaseType;
     private final Method mGetter;
+    private final boolean mLazy;
+    private final int mLazyReferenceIndex;
 
-    FieldInfo(Field field, TypeMirror baseType, Method getter) {
-        mField = field;
+    FieldInfo(CodeElement value, TypeMirror baseType, Method getter, boolean lazy, int lazyReferenceIndex) {
+        mValue = value;
         mBaseType = baseType;
         mGetter = getter;
+        mLazy = lazy;
+        mLazyReferenceIndex = lazyReferenceIndex;
     }
 
-    public Field getField() {
-        return mField;
+    public CodeElement getValue() {
+        return mValue;
     }
 
     public Method getGetter() {
@@ -34,4 +38,16 @@ class FieldInfo {
     public TypeMirror getBaseType() {
         return mBaseType;
     }
+
+    public boolean isLazy() {
+        return mLazy;
+    }
+
+    public boolean isLazyReference() {
+        return mLazyReferenceIndex >= 0;
+    }
+
+    public int getLazyReferenceIndex() {
+        return mLazyReferenceIndex;
+    }
 }
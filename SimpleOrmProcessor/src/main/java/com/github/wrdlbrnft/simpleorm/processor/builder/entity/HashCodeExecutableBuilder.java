@@ -11,7 +11,6 @@ import com.github.wrdlbrnft.codebuilder.executables.Methods;
 import com.github.wrdlbrnft.codebuilder.types.Types;
 import com.github.wrdlbrnft.codebuilder.util.Operators;
 import com.github.wrdlbrnft.codebuilder.util.Utils;
-import com.github.wrdlbrnft.codebuilder.variables.Field;
 import com.github.wrdlbrnft.codebuilder.variables.Variable;
 import com.github.wrdlbrnft.codebuilder.variables.Variables;
 
@@ -45,10 +44,14 @@ class HashCodeExecutableBuilder extends ExecutableBuilder {
     protected void write(Block block) {
         final Variable varResult = Variables.of(Types.Primitives.INTEGER);
 
-        for (int i = 0, count = mFieldInfos.size(); i < count; i++) {
-            final FieldInfo fieldInfo = mFieldInfos.get(i);
+        boolean first = true;
+        for (FieldInfo fieldInfo : mFieldInfos) {
+            // Lazy relations are left out, hashing them would load them. The id already identifies the relation.
+            if (fieldInfo.isLazy()) {
+                continue;
+            }
 
-            if (i > 0) {
+            if (!first) {
                 block.set(varResult, Operators.operate(
                         Operators.operate(Values.of(31), "*", varResult),
                         "+",
@@ -56,6 +59,7 @@ class HashCodeExecutableBuilder extends ExecutableBuilder {
                 ));
             } else {
                 block.set(varResult, createHashCodeStatement(fieldInfo));
+                first = false;
             }
             block.append(";").newLine();
         }
@@ -64,7 +68,7 @@ class HashCodeExecutableBuilder extends ExecutableBuilder {
     }
 
     private CodeElement createHashCodeStatement(FieldInfo fieldInfo) {
-        final Field field = fieldInfo.getField();
+        final CodeElement field = fieldInfo.getValue();
         final TypeMirror type = fieldInfo.getBaseType();
 
         if (Utils.isSameType(type, int.class)) {
@@ -3,16 +3,21 @@ package com.github.wrdlbrnft.simpleorm.processor.builder.entitybuilder;
 import com.github.wrdlbrnft.codebuilder.code.Block;
 import com.github.wrdlbrnft.codebuilder.code.BlockWriter;
 import com.github.wrdlbrnft.codebuilder.code.CodeElement;
+import com.github.wrdlbrnft.codebuilder.elements.ifs.If;
 import com.github.wrdlbrnft.codebuilder.elements.values.Values;
+import com.github.wrdlbrnft.codebuilder.executables.Constructor;
 import com.github.wrdlbrnft.codebuilder.executables.ExecutableBuilder;
 import com.github.wrdlbrnft.codebuilder.executables.Method;
 import com.github.wrdlbrnft.codebuilder.executables.Methods;
 import com.github.wrdlbrnft.codebuilder.implementations.Implementation;
 import com.github.wrdlbrnft.codebuilder.types.Type;
 import com.github.wrdlbrnft.codebuilder.types.Types;
+import com.github.wrdlbrnft.codebuilder.util.Operators;
 import com.github.wrdlbrnft.codebuilder.util.Utils;
 import com.github.wrdlbrnft.codebuilder.variables.Field;
 import com.github.wrdlbrnft.codebuilder.variables.Variable;
+import com.github.wrdlbrnft.codebuilder.variables.Variables;
+import com.github.wrdlbrnft.simpleorm.processor.SimpleOrmTypes;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.ColumnInfo;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.EntityInfo;
 import com.github.wrdlbrnft.simpleorm.processor.builder.entity.EntityImplementationBuilder;
@@ -20,7 +25,9 @@ import com.github.wrdlbrnft.simpleorm.processor.builder.entity.EntityImplementat
 
 import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.ExecutableElement;
@@ -35,6 +42,11 @@ import javax.lang.model.element.Modifier;
 public class EntityBuilderBuilder {
 
     private static final Method METHOD_EMPTY_LIST = Methods.stub("emptyList");
+    private static final Method METHOD_MARK_DIRTY = Methods.stub("markDirty");
+    private static final Method METHOD_IS_PERSISTED = Methods.stub("isPersisted");
+    private static final Method METHOD_COPY_OF = Methods.stub("copyOf");
+    private static final Method METHOD_COPY_DIRTY_COLUMNS = Methods.stub("copyDirtyColumns");
+    private static final Method METHOD_GET_LAZY_REFERENCE = Methods.stub("getLazyReference");
 
     private final ProcessingEnvironment mProcessingEnv;
     private final EntityImplementationBuilder mImplementationBuilder;
@@ -44,7 +56,7 @@ public class EntityBuilderBuilder {
         mImplementationBuilder = new EntityImplementationBuilder(processingEnv);
     }
 
-    public Implementation build(EntityInfo info) {
+    public Implementation build(final EntityInfo info) {
         final EntityImplementationInfo implementationInfo = mImplementationBuilder.build(info);
 
         final TypePlaceHolder typePlaceHolder = new TypePlaceHolder();
@@ -54,9 +66,25 @@ public class EntityBuilderBuilder {
         builder.setModifiers(EnumSet.of(Modifier.PUBLIC, Modifier.FINAL));
         builder.addNestedImplementation(implementationInfo.getImplementation());
 
+        final Field persistedField = new Field.Builder()
+                .setModifiers(EnumSet.of(Modifier.PRIVATE))
+                .setType(Types.Primitives.BOOLEAN)
+                .build();
+        builder.addField(persistedField);
+
+        final Field dirtyColumnsField = new Field.Builder()
+                .setModifiers(EnumSet.of(Modifier.PRIVATE))
+                .setType(SimpleOrmTypes.BIT_SET)
+                .build();
+        builder.addField(dirtyColumnsField);
+
         final List<ColumnInfo> constructorParameters = implementationInfo.getConstructorParameters();
         final CodeElement[] parameters = new CodeElement[constructorParameters.size()];
+        final List<Field> fields = new ArrayList<>();
+        final List<ColumnInfo> lazyReferenceParameters = implementationInfo.getLazyReferenceParameters();
+        final Map<ColumnInfo, Field> lazyReferenceFields = new HashMap<>();
         for (int i = 0, size = constructorParameters.size(); i < size; i++) {
+            final int columnIndex = i;
             final ColumnInfo columnInfo = constructorParameters.get(i);
             final Type type = columnInfo.getObjectType();
 
@@ -71,6 +99,19 @@ public class EntityBuilderBuilder {
             final Field field = fieldBuilder.build();
             builder.addField(field);
             parameters[i] = field;
+            fields.add(field);
+
+            final Field lazyReferenceField;
+            if (lazyReferenceParameters.contains(columnInfo)) {
+                lazyReferenceField = new Field.Builder()
+                        .setModifiers(EnumSet.of(Modifier.PRIVATE))
+                        .setType(Types.generic(Types.LIST, type))
+                        .build();
+                builder.addField(lazyReferenceField);
+                lazyReferenceFields.put(columnInfo, lazyReferenceField);
+            } else {
+                lazyReferenceField = null;
+            }
 
             final String setterName = parseSetterName(columnInfo);
             final String variableName = parseVariableName(setterName);
@@ -95,12 +136,72 @@ public class EntityBuilderBuilder {
                         @Override
                         protected void write(Block block) {
                             block.set(field, mValue).append(";").newLine();
+                            if (lazyReferenceField != null) {
+                                block.set(lazyReferenceField, Values.ofNull()).append(";").newLine();
+                            }
+                            block.set(dirtyColumnsField, METHOD_MARK_DIRTY.callOnTarget(SimpleOrmTypes.CHANGE_TRACKING, dirtyColumnsField, Values.of(columnIndex))).append(";").newLine();
                             block.append("return ").append(Values.ofThis()).append(";");
                         }
                     })
                     .build());
         }
 
+        builder.addConstructor(new Constructor.Builder()
+                .setModifiers(EnumSet.of(Modifier.PUBLIC))
+                .setCode(new ExecutableBuilder() {
+                    @Override
+                    protected List<Variable> createParameters() {
+                        return new ArrayList<>();
+                    }
+
+                    @Override
+                    protected void write(Block block) {
+                    }
+                })
+                .build());
+
+        builder.addConstructor(new Constructor.Builder()
+                .setModifiers(EnumSet.of(Modifier.PUBLIC))
+                .setCode(new ExecutableBuilder() {
+
+                    private Variable mEntity;
+
+                    @Override
+                    protected List<Variable> createParameters() {
+                        final List<Variable> parameters = new ArrayList<>();
+                        parameters.add(mEntity = Variables.of(Types.of(info.getEntityElement())));
+                        return parameters;
+                    }
+
+                    @Override
+                    protected void write(Block block) {
+                        for (int i = 0, size = constructorParameters.size(); i < size; i++) {
+                            final ColumnInfo columnInfo = constructorParameters.get(i);
+                            final Field field = fields.get(i);
+                            final CodeElement value = Methods.from(columnInfo.getGetterElement()).callOnTarget(mEntity);
+                            final Field lazyReferenceField = lazyReferenceFields.get(columnInfo);
+                            if (lazyReferenceField == null) {
+                                block.set(field, value).append(";").newLine();
+                                continue;
+                            }
+
+                            // Copying the reference instead of calling the getter keeps unloaded references unloaded
+                            block.set(lazyReferenceField, METHOD_GET_LAZY_REFERENCE.callOnTarget(SimpleOrmTypes.CHANGE_TRACKING, mEntity, Values.of(i))).append(";").newLine();
+                            block.append(new If.Builder()
+                                    .add(Operators.operate(lazyReferenceField, "==", Values.ofNull()), new BlockWriter() {
+                                        @Override
+                                        protected void write(Block block) {
+                                            block.set(field, value).append(";");
+                                        }
+                                    })
+                                    .build()).newLine();
+                        }
+                        block.set(persistedField, METHOD_IS_PERSISTED.callOnTarget(SimpleOrmTypes.CHANGE_TRACKING, mEntity)).append(";").newLine();
+                        block.set(dirtyColumnsField, METHOD_COPY_DIRTY_COLUMNS.callOnTarget(SimpleOrmTypes.CHANGE_TRACKING, mEntity)).append(";");
+                    }
+                })
+                .build());
+
         builder.addMethod(new Method.Builder()
                 .setName("build")
                 .setModifiers(EnumSet.of(Modifier.PUBLIC))
@@ -113,7 +214,16 @@ public class EntityBuilderBuilder {
 
                     @Override
                     protected void write(Block block) {
-                        block.append("return ").append(implementationInfo.getImplementation().newInstance(parameters)).append(";");
+                        final CodeElement[] lazyReferences = new CodeElement[lazyReferenceParameters.size()];
+                        for (int i = 0; i < lazyReferences.length; i++) {
+                            lazyReferences[i] = lazyReferenceFields.get(lazyReferenceParameters.get(i));
+                        }
+                        block.append("return ").append(implementationInfo.newInstance(
+                                parameters,
+                                lazyReferences,
+                                persistedField,
+                                METHOD_COPY_OF.callOnTarget(SimpleOrmTypes.CHANGE_TRACKING, dirtyColumnsField)
+                        )).append(";");
                     }
                 })
                 .build());
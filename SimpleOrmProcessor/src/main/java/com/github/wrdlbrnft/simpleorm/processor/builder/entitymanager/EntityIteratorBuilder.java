@@ -39,12 +39,12 @@ import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.Modifier;
 
 import static com.github.wrdlbrnft.simpleorm.processor.builder.entitymanager.EntityManagerBuilder.METHOD_CONVERT_TO;
-import static com.github.wrdlbrnft.simpleorm.processor.builder.entitymanager.EntityManagerBuilder.METHOD_GET_COLUMN_INDEX;
 import static com.github.wrdlbrnft.simpleorm.processor.builder.entitymanager.EntityManagerBuilder.METHOD_GET_COUNT;
 import static com.github.wrdlbrnft.simpleorm.processor.builder.entitymanager.EntityManagerBuilder.METHOD_GET_LIMIT;
 import static com.github.wrdlbrnft.simpleorm.processor.builder.entitymanager.EntityManagerBuilder.METHOD_GET_ORDER_BY;
@@ -66,9 +66,14 @@ class EntityIteratorBuilder {
     private static final Method METHOD_APPEND = Methods.stub("append");
     private static final Method METHOD_ADD = Methods.stub("add");
     private static final Method METHOD_GET = Methods.stub("get");
-    private static final Method METHOD_TRIM = Methods.stub("trim");
-    private static final Method METHOD_FINALIZE = Methods.stub("finalize");
     private static final Method METHOD_CLOSE = Methods.stub("close");
+    private static final Method METHOD_LOOKUP = Methods.stub("lookup");
+    private static final Method METHOD_REGISTER = Methods.stub("register");
+    private static final Method METHOD_GET_GENERATION = Methods.stub("getGeneration");
+    private static final Method METHOD_SET = Methods.stub("set");
+    private static final Method METHOD_IS_NULL = Methods.stub("isNull");
+
+    private static final int CHILD_CHUNK_SIZE = 100;
 
     private static final Map<ColumnType, Type> COLUMN_TYPE_MAP = new MapBuilder<ColumnType, Type>()
             .put(ColumnType.PRIMITIVE_INT, Types.Primitives.INTEGER)
@@ -87,19 +92,28 @@ class EntityIteratorBuilder {
 
     private static final Map<ColumnType, Method> COLUMN_METHOD_MAP = new MapBuilder<ColumnType, Method>()
             .put(ColumnType.PRIMITIVE_INT, Methods.stub("getInt"))
-            .put(ColumnType.INT, Methods.stub("getIntOrNull"))
+            .put(ColumnType.INT, Methods.stub("getInt"))
             .put(ColumnType.PRIMITIVE_LONG, Methods.stub("getLong"))
-            .put(ColumnType.LONG, Methods.stub("getLongOrNull"))
+            .put(ColumnType.LONG, Methods.stub("getLong"))
             .put(ColumnType.PRIMITIVE_BOOLEAN, Methods.stub("getBoolean"))
-            .put(ColumnType.BOOLEAN, Methods.stub("getBooleanOrNull"))
+            .put(ColumnType.BOOLEAN, Methods.stub("getBoolean"))
             .put(ColumnType.PRIMITIVE_FLOAT, Methods.stub("getFloat"))
-            .put(ColumnType.FLOAT, Methods.stub("getFloatOrNull"))
+            .put(ColumnType.FLOAT, Methods.stub("getFloat"))
             .put(ColumnType.PRIMITIVE_DOUBLE, Methods.stub("getDouble"))
-            .put(ColumnType.DOUBLE, Methods.stub("getDoubleOrNull"))
+            .put(ColumnType.DOUBLE, Methods.stub("getDouble"))
             .put(ColumnType.STRING, Methods.stub("getString"))
-            .put(ColumnType.DATE, Methods.stub("getLongOrNull"))
+            .put(ColumnType.DATE, Methods.stub("getLong"))
             .build();
 
+    private static final Set<ColumnType> NULLABLE_COLUMN_TYPES = EnumSet.of(
+            ColumnType.INT,
+            ColumnType.LONG,
+            ColumnType.BOOLEAN,
+            ColumnType.FLOAT,
+            ColumnType.DOUBLE,
+            ColumnType.DATE
+    );
+
     private final ProcessingEnvironment mProcessingEnvironment;
 
     EntityIteratorBuilder(ProcessingEnvironment processingEnvironment) {
@@ -134,15 +148,33 @@ class EntityIteratorBuilder {
 
         final Field cacheField = new Field.Builder()
                 .setType(Types.arrayOf(entityType))
-                .setModifiers(EnumSet.of(Modifier.PRIVATE, Modifier.FINAL))
+                .setModifiers(EnumSet.of(Modifier.PRIVATE))
                 .build();
         builder.addField(cacheField);
 
+        final Field closedField = new Field.Builder()
+                .setType(Types.Primitives.BOOLEAN)
+                .setModifiers(EnumSet.of(Modifier.PRIVATE))
+                .setInitialValue(Values.of(false))
+                .build();
+        builder.addField(closedField);
+
+        final Field identityMapField = new Field.Builder()
+                .setType(Types.generic(SimpleOrmTypes.IDENTITY_MAP, entityType))
+                .setModifiers(EnumSet.of(Modifier.PRIVATE, Modifier.FINAL))
+                .build();
+        builder.addField(identityMapField);
+
+        final Field identityMapGenerationField = new Field.Builder()
+                .setType(Types.Primitives.LONG)
+                .setModifiers(EnumSet.of(Modifier.PRIVATE, Modifier.FINAL))
+                .build();
+        builder.addField(identityMapGenerationField);
+
         final Map<RelationshipInfo, Field> wrapperMap = new HashMap<>();
-        final Map<Identifier, Field> indexFieldMap = new HashMap<>();
         final Map<Identifier, MethodWrapper> childMethodWrapperMap = new HashMap<>();
-        final Map<RelationshipInfo, Field> mappingIdIndexFieldMap = new HashMap<>();
-        RelationshipTree.iterate(relationshipInfos, new RelationshipTree.Iterator() {
+        final Map<RelationshipInfo, Field> cacheFieldMap = new HashMap<>();
+        RelationshipTree.iterateEager(relationshipInfos, new RelationshipTree.Iterator() {
             @Override
             public void onPathFound(List<RelationshipInfo> path) {
                 final int startIndex = path.size() - 1;
@@ -152,30 +184,11 @@ class EntityIteratorBuilder {
 
                 final Field wrapperField = new Field.Builder()
                         .setType(SimpleOrmTypes.CURSOR_WRAPPER)
-                        .setModifiers(EnumSet.of(Modifier.PRIVATE, Modifier.FINAL))
+                        .setModifiers(EnumSet.of(Modifier.PRIVATE))
                         .build();
                 builder.addField(wrapperField);
                 wrapperMap.put(relationshipInfo, wrapperField);
 
-                final Field mappingIdIndexField = new Field.Builder()
-                        .setType(Types.Primitives.INTEGER)
-                        .setModifiers(EnumSet.of(Modifier.PRIVATE, Modifier.FINAL))
-                        .build();
-                builder.addField(mappingIdIndexField);
-                mappingIdIndexFieldMap.put(relationshipInfo, mappingIdIndexField);
-
-                for (ColumnInfo columnInfo : childEntityInfo.getColumns()) {
-                    if (columnInfo.getColumnType() == ColumnType.ENTITY) {
-                        continue;
-                    }
-                    final Field field = new Field.Builder()
-                            .setType(Types.Primitives.INTEGER)
-                            .setModifiers(EnumSet.of(Modifier.PRIVATE, Modifier.FINAL))
-                            .build();
-                    builder.addField(field);
-                    indexFieldMap.put(new RelationshipColumnIdentifier(relationshipInfo, columnInfo), field);
-                }
-
                 final GenericType cacheType = Types.generic(SimpleOrmTypes.LONG_SPARSE_ARRAY_COMPAT, Types.generic(Types.LIST, childEntityType));
                 final Field cacheField = new Field.Builder()
                         .setModifiers(EnumSet.of(Modifier.PRIVATE, Modifier.FINAL))
@@ -183,13 +196,7 @@ class EntityIteratorBuilder {
                         .setInitialValue(cacheType.newInstance())
                         .build();
                 builder.addField(cacheField);
-
-                final Field childrenLoadedFlag = new Field.Builder()
-                        .setType(Types.Primitives.BOOLEAN)
-                        .setModifiers(EnumSet.of(Modifier.PRIVATE))
-                        .setInitialValue(Values.of(false))
-                        .build();
-                builder.addField(childrenLoadedFlag);
+                cacheFieldMap.put(relationshipInfo, cacheField);
 
                 final Method childMethod = new Method.Builder()
                         .setReturnType(Types.generic(Types.LIST, childEntityType))
@@ -207,38 +214,6 @@ class EntityIteratorBuilder {
 
                             @Override
                             protected void write(Block block) {
-                                block.append(new If.Builder().add(Values.invert(childrenLoadedFlag), new BlockWriter() {
-                                    @Override
-                                    protected void write(Block block) {
-                                        block.set(childrenLoadedFlag, Values.of(true)).append(";").newLine();
-
-                                        block.append(new CountingFor.Builder()
-                                                .setCounterType(Types.Primitives.INTEGER)
-                                                .setValues(Values.of(0), METHOD_GET_COUNT.callOnTarget(wrapperField))
-                                                .setMode(CountingFor.Mode.INCREMENTING)
-                                                .setIteration(new CountingFor.Iteration() {
-                                                    @Override
-                                                    public void onIteration(Block block, Variable index, CodeElement endValue) {
-                                                        final CodeElement instance = appendReadInstance(block, index, relationshipInfo, wrapperField, cache, childEntityInfo, indexFieldMap, childMethodWrapperMap, adapterFieldMap);
-                                                        final Variable mappingId = Variables.of(Types.Primitives.LONG, Modifier.FINAL);
-                                                        block.set(mappingId, COLUMN_METHOD_MAP.get(ColumnType.PRIMITIVE_LONG).callOnTarget(wrapperField, mappingIdIndexField)).append(";").newLine();
-
-                                                        final Variable list = Variables.of(Types.generic(Types.LIST, childEntityType));
-                                                        block.set(list, METHOD_GET.callOnTarget(cacheField, mappingId, Types.generic(Types.ARRAY_LIST, childEntityType).newInstance())).append(";").newLine();
-                                                        block.append(METHOD_ADD.callOnTarget(list, instance)).append(";").newLine();
-                                                        block.append(METHOD_PUT.callOnTarget(cacheField, mappingId, list)).append(";");
-                                                    }
-
-                                                    @Override
-                                                    public void onCompare(Block block, Variable index, CodeElement endValue) {
-                                                        block.append(Operators.operate(index, "<", endValue));
-                                                    }
-                                                })
-                                                .build());
-                                    }
-                                })
-                                        .build());
-                                block.newLine();
                                 block.append("return ").append(METHOD_GET.callOnTarget(cacheField, mParentId, Types.generic(Types.ARRAY_LIST, childEntityType).newInstance())).append(";");
                             }
                         })
@@ -248,121 +223,269 @@ class EntityIteratorBuilder {
             }
         });
 
-        for (ColumnInfo columnInfo : info.getColumns()) {
-            if (columnInfo.getColumnType() == ColumnType.ENTITY) {
+        final Field readableWrapperField = new Field.Builder()
+                .setType(SimpleOrmTypes.READABLE_SQLITE_WRAPPER)
+                .setModifiers(EnumSet.of(Modifier.PRIVATE, Modifier.FINAL))
+                .build();
+        builder.addField(readableWrapperField);
+
+        final Map<ColumnInfo, LazyRelationship> lazyRelationshipMap = new HashMap<>();
+        for (RelationshipInfo relationshipInfo : RelationshipTree.getLazyRelationships(relationshipInfos)) {
+            final ColumnInfo columnInfo = relationshipInfo.getColumnInfo();
+            if (lazyRelationshipMap.containsKey(columnInfo)) {
                 continue;
             }
-            final Field field = new Field.Builder()
-                    .setType(Types.Primitives.INTEGER)
-                    .setModifiers(EnumSet.of(Modifier.PRIVATE, Modifier.FINAL))
+
+            final EntityInfo childEntityInfo = relationshipInfo.getChildEntityInfo();
+            final DefinedType childEntityType = Types.of(childEntityInfo.getEntityElement());
+            final Implementation childIterator = build(childEntityInfo, relationshipInfo.getChildRelationshipInfos(), cache, adapterFieldMap).getImplementation();
+            builder.addNestedImplementation(childIterator);
+
+            final Implementation factory = new Implementation.Builder()
+                    .setModifiers(EnumSet.of(Modifier.PRIVATE, Modifier.STATIC))
+                    .addImplementedType(Types.generic(SimpleOrmTypes.LAZY_CHILD_LIST_FACTORY, childEntityType))
+                    .addMethod(new Method.Builder()
+                            .setModifiers(EnumSet.of(Modifier.PUBLIC))
+                            .setName("create")
+                            .addAnnotation(Annotations.forType(Override.class))
+                            .setReturnType(Types.generic(SimpleOrmTypes.ENTITY_ITERATOR, childEntityType))
+                            .setCode(new ExecutableBuilder() {
+
+                                private Variable mReadableSQLiteWrapper;
+                                private Variable mQueryParameters;
+
+                                @Override
+                                protected List<Variable> createParameters() {
+                                    final List<Variable> parameters = new ArrayList<>();
+                                    parameters.add(mReadableSQLiteWrapper = Variables.of(SimpleOrmTypes.READABLE_SQLITE_WRAPPER));
+                                    parameters.add(mQueryParameters = Variables.of(SimpleOrmTypes.QUERY_PARAMETERS));
+                                    return parameters;
+                                }
+
+                                @Override
+                                protected void write(Block block) {
+                                    block.append("return ").append(childIterator.newInstance(mReadableSQLiteWrapper, mQueryParameters, Values.ofNull())).append(";");
+                                }
+                            })
+                            .build())
                     .build();
-            builder.addField(field);
-            indexFieldMap.put(new RelationshipColumnIdentifier(null, columnInfo), field);
+            builder.addNestedImplementation(factory);
+
+            final Field factoryField = new Field.Builder()
+                    .setModifiers(EnumSet.of(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL))
+                    .setType(Types.generic(SimpleOrmTypes.LAZY_CHILD_LIST_FACTORY, childEntityType))
+                    .setInitialValue(factory.newInstance())
+                    .build();
+            builder.addField(factoryField);
+
+            final String mappingTableName = MappingTables.getTableName(relationshipInfo.getParentEntityInfo(), columnInfo);
+            final String selection = childEntityInfo.getTableName() + "." + childEntityInfo.getIdColumn().getColumnName()
+                    + " IN (SELECT " + MappingTables.COLUMN_CHILD_ID + " FROM " + mappingTableName
+                    + " WHERE " + MappingTables.COLUMN_PARENT_ID + " = ?)";
+            lazyRelationshipMap.put(columnInfo, new LazyRelationship(childEntityType, factoryField, selection));
         }
 
-        final Method notNullOrEmpty = new Method.Builder()
-                .setReturnType(Types.Primitives.BOOLEAN)
-                .setModifiers(EnumSet.of(Modifier.PRIVATE))
-                .setCode(new ExecutableBuilder() {
+        final boolean hasEagerRelationships = RelationshipTree.hasEagerRelationships(relationshipInfos);
 
-                    private Variable mString;
+        final List<Method> loadMethods = new ArrayList<>();
+        RelationshipTree.iterateEager(relationshipInfos, new RelationshipTree.Iterator() {
+            @Override
+            public void onPathFound(final List<RelationshipInfo> path) {
+                final RelationshipInfo relationshipInfo = path.get(path.size() - 1);
+                final EntityInfo childEntityInfo = relationshipInfo.getChildEntityInfo();
+                final DefinedType childEntityType = Types.of(childEntityInfo.getEntityElement());
+                final Field wrapperField = wrapperMap.get(relationshipInfo);
+                final int mappingIdOrdinal = getSelectedColumnCount(childEntityInfo);
+                final Field cacheField = cacheFieldMap.get(relationshipInfo);
+                final String rootIdColumn = info.getTableName() + "." + info.getIdColumn().getColumnName();
 
-                    @Override
-                    protected List<Variable> createParameters() {
-                        final List<Variable> parameters = new ArrayList<>();
-                        parameters.add(mString = Variables.of(Types.STRING));
-                        return parameters;
-                    }
+                final Method loadMethod = new Method.Builder()
+                        .setModifiers(EnumSet.of(Modifier.PRIVATE))
+                        .setCode(new ExecutableBuilder() {
 
-                    @Override
-                    protected void write(Block block) {
-                        block.append("return ")
-                                .append(Operators.operate(mString, "!=", Values.ofNull()))
-                                .append(" && ")
-                                .append(Values.invert(METHOD_IS_EMPTY.callOnTarget(METHOD_TRIM.callOnTarget(mString))))
-                                .append(";");
-                    }
-                })
+                            private Variable mRootIds;
+
+                            @Override
+                            protected List<Variable> createParameters() {
+                                final List<Variable> parameters = new ArrayList<>();
+                                parameters.add(mRootIds = Variables.of(Types.STRING));
+                                return parameters;
+                            }
+
+                            @Override
+                            protected void write(Block block) {
+                                final CodeElement query = new Block()
+                                        .append(Values.of(createSelectionQuery(path) + " WHERE " + rootIdColumn + " IN ("))
+                                        .append(" + ").append(mRootIds)
+                                        .append(" + ").append(Values.of(")"));
+                                block.set(wrapperField, METHOD_QUERY.callOnTarget(readableWrapperField, query, Values.ofNull())).append(";").newLine();
+
+                                final GenericType listType = Types.generic(Types.LIST, childEntityType);
+                                final GenericType loadedType = Types.generic(SimpleOrmTypes.LONG_SPARSE_ARRAY_COMPAT, listType);
+                                final Variable loaded = Variables.of(loadedType, Modifier.FINAL);
+                                block.set(loaded, loadedType.newInstance()).append(";").newLine();
+
+                                block.append(new CountingFor.Builder()
+                                        .setCounterType(Types.Primitives.INTEGER)
+                                        .setValues(Values.of(0), METHOD_GET_COUNT.callOnTarget(wrapperField))
+                                        .setMode(CountingFor.Mode.INCREMENTING)
+                                        .setIteration(new CountingFor.Iteration() {
+                                            @Override
+                                            public void onIteration(Block block, final Variable index, CodeElement endValue) {
+                                                block.append(METHOD_MOVE_TO_POSITION.callOnTarget(wrapperField, index)).append(";").newLine();
+                                                final Variable mappingId = Variables.of(Types.Primitives.LONG, Modifier.FINAL);
+                                                block.set(mappingId, COLUMN_METHOD_MAP.get(ColumnType.PRIMITIVE_LONG).callOnTarget(wrapperField, Values.of(mappingIdOrdinal))).append(";").newLine();
+
+                                                final Variable list = Variables.of(listType);
+                                                block.set(list, METHOD_GET.callOnTarget(loaded, mappingId)).append(";").newLine();
+                                                block.append(new If.Builder()
+                                                        .add(Operators.operate(list, "==", Values.ofNull()), new BlockWriter() {
+                                                            @Override
+                                                            protected void write(Block block) {
+                                                                block.append(new If.Builder()
+                                                                        .add(Operators.operate(METHOD_GET.callOnTarget(cacheField, mappingId), "!=", Values.ofNull()), new BlockWriter() {
+                                                                            @Override
+                                                                            protected void write(Block block) {
+                                                                                block.append("continue;");
+                                                                            }
+                                                                        })
+                                                                        .build()).newLine();
+                                                                block.set(list, Types.generic(Types.ARRAY_LIST, childEntityType).newInstance()).append(";").newLine();
+                                                                block.append(METHOD_PUT.callOnTarget(loaded, mappingId, list)).append(";").newLine();
+                                                                block.append(METHOD_PUT.callOnTarget(cacheField, mappingId, list)).append(";");
+                                                            }
+                                                        })
+                                                        .build()).newLine();
+
+                                                final CodeElement instance = appendReadInstance(block, index, wrapperField, cache, childEntityInfo, childMethodWrapperMap, adapterFieldMap, readableWrapperField, lazyRelationshipMap);
+                                                block.append(METHOD_ADD.callOnTarget(list, instance)).append(";");
+                                            }
+
+                                            @Override
+                                            public void onCompare(Block block, Variable index, CodeElement endValue) {
+                                                block.append(Operators.operate(index, "<", endValue));
+                                            }
+                                        })
+                                        .build()).newLine();
+                                block.append(METHOD_CLOSE.callOnTarget(wrapperField)).append(";").newLine();
+                                block.set(wrapperField, Values.ofNull()).append(";");
+                            }
+                        })
+                        .build();
+                builder.addMethod(loadMethod);
+                loadMethods.add(loadMethod);
+            }
+        });
+
+        final Field loadedChunksField = new Field.Builder()
+                .setType(SimpleOrmTypes.BIT_SET)
+                .setModifiers(EnumSet.of(Modifier.PRIVATE, Modifier.FINAL))
+                .setInitialValue(SimpleOrmTypes.BIT_SET.newInstance())
                 .build();
-        builder.addMethod(notNullOrEmpty);
 
-        final Method createQueryString = new Method.Builder()
-                .setReturnType(Types.STRING)
+        final Method loadChildren = new Method.Builder()
                 .setModifiers(EnumSet.of(Modifier.PRIVATE))
                 .setCode(new ExecutableBuilder() {
 
-                    private Variable mQuery;
-                    private Variable mSelectionString;
-                    private Variable mOrderByString;
-                    private Variable mLimitString;
+                    private Variable mPosition;
 
                     @Override
                     protected List<Variable> createParameters() {
                         final List<Variable> parameters = new ArrayList<>();
-                        parameters.add(mQuery = Variables.of(Types.STRING));
-                        parameters.add(mSelectionString = Variables.of(Types.STRING));
-                        parameters.add(mOrderByString = Variables.of(Types.STRING));
-                        parameters.add(mLimitString = Variables.of(Types.STRING));
+                        parameters.add(mPosition = Variables.of(Types.Primitives.INTEGER));
                         return parameters;
                     }
 
                     @Override
                     protected void write(Block block) {
-                        final Variable stringBuilder = Variables.of(SimpleOrmTypes.STRING_BUILDER, Modifier.FINAL);
-                        block.set(stringBuilder, SimpleOrmTypes.STRING_BUILDER.newInstance(mQuery)).append(";").newLine();
-
+                        final Variable chunk = Variables.of(Types.Primitives.INTEGER, Modifier.FINAL);
+                        block.set(chunk, Operators.operate(mPosition, "/", Values.of(CHILD_CHUNK_SIZE))).append(";").newLine();
                         block.append(new If.Builder()
-                                .add(notNullOrEmpty.call(mSelectionString), new BlockWriter() {
+                                .add(METHOD_GET.callOnTarget(loadedChunksField, chunk), new BlockWriter() {
                                     @Override
                                     protected void write(Block block) {
-                                        block.append(METHOD_APPEND.callOnTarget(METHOD_APPEND.callOnTarget(stringBuilder, Values.of(" WHERE ")), mSelectionString)).append(";");
+                                        block.append("return;");
                                     }
                                 })
-                                .build());
-                        block.newLine();
-
-                        block.append(new If.Builder()
-                                .add(notNullOrEmpty.call(mOrderByString), new BlockWriter() {
+                                .build()).newLine();
+                        block.append(METHOD_SET.callOnTarget(loadedChunksField, chunk)).append(";").newLine();
+
+                        final Variable start = Variables.of(Types.Primitives.INTEGER, Modifier.FINAL);
+                        block.set(start, Operators.operate(chunk, "*", Values.of(CHILD_CHUNK_SIZE))).append(";").newLine();
+                        final Variable end = Variables.of(Types.Primitives.INTEGER, Modifier.FINAL);
+                        block.set(end, new TernaryIf.Builder()
+                                .setComparison(Operators.operate(Operators.operate(start, "+", Values.of(CHILD_CHUNK_SIZE)), "<", sizeField))
+                                .setTrueBlock(Operators.operate(start, "+", Values.of(CHILD_CHUNK_SIZE)))
+                                .setFalseBlock(sizeField)
+                                .build()).append(";").newLine();
+
+                        final int idOrdinal = getColumnOrdinal(info, info.getIdColumn());
+                        final Variable rootIds = Variables.of(SimpleOrmTypes.STRING_BUILDER, Modifier.FINAL);
+                        block.set(rootIds, SimpleOrmTypes.STRING_BUILDER.newInstance()).append(";").newLine();
+                        block.append(new CountingFor.Builder()
+                                .setCounterType(Types.Primitives.INTEGER)
+                                .setValues(start, end)
+                                .setMode(CountingFor.Mode.INCREMENTING)
+                                .setIteration(new CountingFor.Iteration() {
                                     @Override
-                                    protected void write(Block block) {
-                                        block.append(METHOD_APPEND.callOnTarget(METHOD_APPEND.callOnTarget(stringBuilder, Values.of(" ORDER BY ")), mOrderByString)).append(";");
+                                    public void onIteration(Block block, Variable index, CodeElement endValue) {
+                                        block.append(METHOD_MOVE_TO_POSITION.callOnTarget(wrapperField, index)).append(";").newLine();
+                                        block.append(new If.Builder()
+                                                .add(Operators.operate(index, ">", start), new BlockWriter() {
+                                                    @Override
+                                                    protected void write(Block block) {
+                                                        block.append(METHOD_APPEND.callOnTarget(rootIds, Values.of(","))).append(";");
+                                                    }
+                                                })
+                                                .build()).newLine();
+                                        block.append(METHOD_APPEND.callOnTarget(rootIds, COLUMN_METHOD_MAP.get(ColumnType.PRIMITIVE_LONG).callOnTarget(wrapperField, Values.of(idOrdinal)))).append(";");
                                     }
-                                })
-                                .build());
-                        block.newLine();
 
-                        block.append(new If.Builder()
-                                .add(notNullOrEmpty.call(mLimitString), new BlockWriter() {
                                     @Override
-                                    protected void write(Block block) {
-                                        block.append(METHOD_APPEND.callOnTarget(METHOD_APPEND.callOnTarget(stringBuilder, Values.of(" LIMIT ")), mLimitString)).append(";");
+                                    public void onCompare(Block block, Variable index, CodeElement endValue) {
+                                        block.append(Operators.operate(index, "<", endValue));
                                     }
                                 })
-                                .build());
-                        block.newLine();
+                                .build()).newLine();
 
-                        block.append("return ").append(Methods.TO_STRING.callOnTarget(stringBuilder)).append(";");
+                        final Variable rootIdString = Variables.of(Types.STRING, Modifier.FINAL);
+                        block.set(rootIdString, Methods.TO_STRING.callOnTarget(rootIds)).append(";");
+                        for (Method loadMethod : loadMethods) {
+                            block.newLine().append(loadMethod.call(rootIdString)).append(";");
+                        }
                     }
                 })
                 .build();
-        builder.addMethod(createQueryString);
+        if (hasEagerRelationships) {
+            builder.addField(loadedChunksField);
+            builder.addMethod(loadChildren);
+        }
 
         builder.addConstructor(new Constructor.Builder()
                 .setCode(new ExecutableBuilder() {
 
                     private Variable mReadableSQLiteWrapper;
                     private Variable mQueryParameters;
+                    private Variable mIdentityMap;
 
                     @Override
                     protected List<Variable> createParameters() {
                         final List<Variable> parameters = new ArrayList<>();
                         parameters.add(mReadableSQLiteWrapper = Variables.of(SimpleOrmTypes.READABLE_SQLITE_WRAPPER));
                         parameters.add(mQueryParameters = Variables.of(SimpleOrmTypes.QUERY_PARAMETERS));
+                        parameters.add(mIdentityMap = Variables.of(Types.generic(SimpleOrmTypes.IDENTITY_MAP, entityType)));
                         return parameters;
                     }
 
                     @Override
                     protected void write(final Block block) {
+                        block.set(readableWrapperField, mReadableSQLiteWrapper).append(";").newLine();
+                        block.set(identityMapField, mIdentityMap).append(";").newLine();
+                        block.set(identityMapGenerationField, new TernaryIf.Builder()
+                                .setComparison(Operators.operate(mIdentityMap, "!=", Values.ofNull()))
+                                .setTrueBlock(METHOD_GET_GENERATION.callOnTarget(mIdentityMap))
+                                .setFalseBlock(Values.of(0))
+                                .build()).append(";").newLine();
 
                         final Variable selection = Variables.of(SimpleOrmTypes.SELECTION, Modifier.FINAL);
                         block.set(selection, METHOD_GET_SELECTION.callOnTarget(mQueryParameters)).append(";").newLine();
@@ -378,7 +501,7 @@ class EntityIteratorBuilder {
                         final Variable selectionString = Variables.of(Types.STRING, Modifier.FINAL);
                         block.set(selectionString, METHOD_GET_SELECTION.callOnTarget(selection, Values.of(info.getTableName()))).append(";").newLine();
 
-                        final Variable selectionArgs = Variables.of(Types.arrayOf(Types.STRING), Modifier.FINAL);
+                        final Variable selectionArgs = Variables.of(SimpleOrmTypes.SELECTION_ARGS, Modifier.FINAL);
                         block.set(selectionArgs, METHOD_GET_SELECTION_ARGS.callOnTarget(selection)).append(";").newLine();
 
                         block.set(wrapperField, METHOD_QUERY.callOnTarget(mReadableSQLiteWrapper,
@@ -390,39 +513,8 @@ class EntityIteratorBuilder {
                                 Values.ofNull(),
                                 METHOD_GET_ORDER_BY.callOnTarget(mQueryParameters),
                                 METHOD_GET_LIMIT.callOnTarget(mQueryParameters)
-                        )).append(";");
-                        for (ColumnInfo columnInfo : info.getColumns()) {
-                            if (columnInfo.getColumnType() == ColumnType.ENTITY) {
-                                continue;
-                            }
-                            final Field field = indexFieldMap.get(new RelationshipColumnIdentifier(null, columnInfo));
-                            block.newLine().set(field, METHOD_GET_COLUMN_INDEX.callOnTarget(wrapperField, Values.of(columnInfo.getColumnName()))).append(";");
-                        }
-
-                        RelationshipTree.iterate(relationshipInfos, new RelationshipTree.Iterator() {
-                            @Override
-                            public void onPathFound(List<RelationshipInfo> path) {
-                                final String query = createSelectionQuery(path);
-                                final RelationshipInfo key = path.get(path.size() - 1);
-                                final Field wrapperField = wrapperMap.get(key);
-                                block.newLine().set(wrapperField, METHOD_QUERY.callOnTarget(mReadableSQLiteWrapper,
-                                        createQueryString.call(Values.of(query), selectionString, Values.ofNull(), Values.ofNull()),
-                                        selectionArgs
-                                )).append(";");
-                                for (ColumnInfo columnInfo : key.getChildEntityInfo().getColumns()) {
-                                    if (columnInfo.getColumnType() == ColumnType.ENTITY) {
-                                        continue;
-                                    }
-                                    final Field field = indexFieldMap.get(new RelationshipColumnIdentifier(key, columnInfo));
-                                    block.newLine().set(field, METHOD_GET_COLUMN_INDEX.callOnTarget(wrapperField, Values.of(columnInfo.getColumnName()))).append(";");
-                                }
-                                final Field mappingIdIndexField = mappingIdIndexFieldMap.get(key);
-                                block.newLine().set(mappingIdIndexField, METHOD_GET_COLUMN_INDEX.callOnTarget(wrapperField, Values.of(MappingTables.COLUMN_PARENT_ID))).append(";");
-                            }
-                        });
-
-                        block.newLine().set(sizeField, METHOD_GET_COUNT.callOnTarget(wrapperField)).append(";");
-                        block.newLine().set(cacheField, Types.arrayOf(entityType).newInstance(sizeField)).append(";");
+                        )).append(";").newLine();
+                        block.set(sizeField, METHOD_GET_COUNT.callOnTarget(wrapperField)).append(";");
                     }
                 })
                 .build());
@@ -443,8 +535,49 @@ class EntityIteratorBuilder {
 
                     @Override
                     protected void write(Block block) {
-                        final CodeElement instance = appendReadInstance(block, mPosition, null, wrapperField, cache, info, indexFieldMap, childMethodWrapperMap, adapterFieldMap);
-                        block.append("return ").append(instance).append(";");
+                        final ColumnInfo idColumn = info.getIdColumn();
+                        final boolean identityMapped = idColumn != null && idColumn.getGetterElement() != null;
+                        if (identityMapped) {
+                            block.append(new If.Builder()
+                                    .add(Operators.operate(identityMapField, "!=", Values.ofNull()), new BlockWriter() {
+                                        @Override
+                                        protected void write(Block block) {
+                                            block.append(METHOD_MOVE_TO_POSITION.callOnTarget(wrapperField, mPosition)).append(";").newLine();
+                                            final Variable mapped = Variables.of(entityType, Modifier.FINAL);
+                                            final CodeElement id = COLUMN_METHOD_MAP.get(ColumnType.PRIMITIVE_LONG).callOnTarget(wrapperField, Values.of(getColumnOrdinal(info, idColumn)));
+                                            block.set(mapped, METHOD_LOOKUP.callOnTarget(identityMapField, id)).append(";").newLine();
+                                            block.append(new If.Builder()
+                                                    .add(Operators.operate(mapped, "!=", Values.ofNull()), new BlockWriter() {
+                                                        @Override
+                                                        protected void write(Block block) {
+                                                            block.append("return ").append(mapped).append(";");
+                                                        }
+                                                    })
+                                                    .build());
+                                        }
+                                    })
+                                    .build()).newLine();
+                        }
+                        if (hasEagerRelationships) {
+                            block.append(loadChildren.call(mPosition)).append(";").newLine();
+                        }
+                        final CodeElement instance = appendReadInstance(block, mPosition, wrapperField, cache, info, childMethodWrapperMap, adapterFieldMap, readableWrapperField, lazyRelationshipMap);
+                        if (!identityMapped) {
+                            block.append("return ").append(instance).append(";");
+                            return;
+                        }
+
+                        final Variable entity = Variables.of(entityType, Modifier.FINAL);
+                        block.set(entity, instance).append(";").newLine();
+                        block.append(new If.Builder()
+                                .add(Operators.operate(identityMapField, "!=", Values.ofNull()), new BlockWriter() {
+                                    @Override
+                                    protected void write(Block block) {
+                                        block.append(METHOD_REGISTER.callOnTarget(identityMapField, Methods.from(idColumn.getGetterElement()).callOnTarget(entity), entity, identityMapGenerationField)).append(";");
+                                    }
+                                })
+                                .build()).newLine();
+                        block.append("return ").append(entity).append(";");
                     }
                 })
                 .build();
@@ -466,6 +599,14 @@ class EntityIteratorBuilder {
 
                     @Override
                     protected void write(Block block) {
+                        block.append(new If.Builder()
+                                .add(Operators.operate(cacheField, "==", Values.ofNull()), new BlockWriter() {
+                                    @Override
+                                    protected void write(Block block) {
+                                        block.set(cacheField, Types.arrayOf(entityType).newInstance(sizeField)).append(";");
+                                    }
+                                })
+                                .build()).newLine();
                         final Variable arrayItem = ArrayUtils.access(cacheField, mPosition);
                         block.append(new If.Builder()
                                 .add(Operators.operate(arrayItem, "==", Values.ofNull()), new BlockWriter() {
@@ -506,7 +647,7 @@ class EntityIteratorBuilder {
                                 .add(Operators.operate(indexField, "<", sizeField), new BlockWriter() {
                                     @Override
                                     protected void write(Block block) {
-                                        block.append("return ").append(read.call(Variables.postIncrement(indexField))).append(";");
+                                        block.append("return ").append(readFromPosition.call(Variables.postIncrement(indexField))).append(";");
                                     }
                                 })
                                 .build()).newLine();
@@ -528,9 +669,43 @@ class EntityIteratorBuilder {
                 })
                 .build());
 
+        final Method releaseCursors = new Method.Builder()
+                .setModifiers(EnumSet.of(Modifier.PRIVATE))
+                .setCode(new ArrayList<Variable>(), new BlockWriter() {
+                    @Override
+                    protected void write(Block block) {
+                        block.append(new If.Builder()
+                                .add(closedField, new BlockWriter() {
+                                    @Override
+                                    protected void write(Block block) {
+                                        block.append("return;");
+                                    }
+                                })
+                                .build()).newLine();
+                        block.set(closedField, Values.of(true)).append(";").newLine();
+                        block.set(cacheField, Values.ofNull()).append(";").newLine();
+                        block.append(METHOD_CLOSE.callOnTarget(wrapperField)).append(";");
+
+                        for (final Field field : wrapperMap.values()) {
+                            block.newLine().append(new If.Builder()
+                                    .add(Operators.operate(field, "!=", Values.ofNull()), new BlockWriter() {
+                                        @Override
+                                        protected void write(Block block) {
+                                            block.append(METHOD_CLOSE.callOnTarget(field)).append(";").newLine();
+                                            block.set(field, Values.ofNull()).append(";");
+                                        }
+                                    })
+                                    .build());
+                        }
+                    }
+                })
+                .build();
+        builder.addMethod(releaseCursors);
+
         final Implementation lazyListImplementation = new Implementation.Builder()
                 .setModifiers(EnumSet.of(Modifier.PRIVATE))
                 .setExtendedType(Types.generic(SimpleOrmTypes.ABSTRACT_LIST, entityType))
+                .addImplementedType(Types.generic(SimpleOrmTypes.LAZY_LIST, entityType))
                 .addMethod(new Method.Builder()
                         .setModifiers(EnumSet.of(Modifier.PUBLIC))
                         .setName("get")
@@ -549,6 +724,14 @@ class EntityIteratorBuilder {
 
                             @Override
                             protected void write(Block block) {
+                                block.append(new If.Builder()
+                                        .add(closedField, new BlockWriter() {
+                                            @Override
+                                            protected void write(Block block) {
+                                                block.append("throw ").append(SimpleOrmTypes.ILLEGAL_STATE_EXCEPTION.newInstance(Values.of("This LazyList has already been closed."))).append(";");
+                                            }
+                                        })
+                                        .build()).newLine();
                                 block.append(new If.Builder()
                                         .add(Operators.operate(Operators.operate(mPosition, "<", Values.of(0)), "||", Operators.operate(mPosition, ">=", sizeField)), new BlockWriter() {
                                             @Override
@@ -578,11 +761,34 @@ class EntityIteratorBuilder {
                             }
                         })
                         .build())
+                .addMethod(new Method.Builder()
+                        .setModifiers(EnumSet.of(Modifier.PUBLIC))
+                        .setName("close")
+                        .addAnnotation(Annotations.forType(Override.class))
+                        .setCode(new ArrayList<Variable>(), new BlockWriter() {
+                            @Override
+                            protected void write(Block block) {
+                                block.append(releaseCursors.call()).append(";");
+                            }
+                        })
+                        .build())
+                .addMethod(new Method.Builder()
+                        .setModifiers(EnumSet.of(Modifier.PUBLIC))
+                        .setName("isClosed")
+                        .addAnnotation(Annotations.forType(Override.class))
+                        .setReturnType(Types.Primitives.BOOLEAN)
+                        .setCode(new ArrayList<Variable>(), new BlockWriter() {
+                            @Override
+                            protected void write(Block block) {
+                                block.append("return ").append(closedField).append(";");
+                            }
+                        })
+                        .build())
                 .build();
         builder.addNestedImplementation(lazyListImplementation);
 
         builder.addMethod(new Method.Builder()
-                .setReturnType(Types.generic(Types.LIST, entityType))
+                .setReturnType(Types.generic(SimpleOrmTypes.LAZY_LIST, entityType))
                 .setName("asList")
                 .addAnnotation(Annotations.forType(Override.class))
                 .setModifiers(EnumSet.of(Modifier.PUBLIC))
@@ -595,19 +801,13 @@ class EntityIteratorBuilder {
                 .build());
 
         builder.addMethod(new Method.Builder()
-                .setName("finalize")
-                .addThrownException(SimpleOrmTypes.THROWABLE)
-                .setModifiers(EnumSet.of(Modifier.PROTECTED))
+                .setName("close")
                 .addAnnotation(Annotations.forType(Override.class))
+                .setModifiers(EnumSet.of(Modifier.PUBLIC))
                 .setCode(new ArrayList<Variable>(), new BlockWriter() {
                     @Override
                     protected void write(Block block) {
-                        block.append(METHOD_FINALIZE.callOnTarget(Methods.SUPER)).append(";").newLine();
-                        block.append(METHOD_CLOSE.callOnTarget(wrapperField)).append(";");
-
-                        for (Field field : wrapperMap.values()) {
-                            block.newLine().append(METHOD_CLOSE.callOnTarget(field)).append(";");
-                        }
+                        block.append(releaseCursors.call()).append(";");
                     }
                 })
                 .build());
@@ -616,7 +816,7 @@ class EntityIteratorBuilder {
         return new EntityIteratorInfoImpl(implementation);
     }
 
-    private CodeElement appendReadInstance(Block block, Variable index, RelationshipInfo relationshipInfo, Field wrapperField, DatabaseImplementationBuilder.EntityImplementationCache cache, EntityInfo info, Map<Identifier, Field> indexFieldMap, Map<Identifier, MethodWrapper> childMethodWrapperMap, Map<TypeAdapterInfo, Field> adapterFieldMap) {
+    private CodeElement appendReadInstance(Block block, Variable index, Field wrapperField, DatabaseImplementationBuilder.EntityImplementationCache cache, EntityInfo info, Map<Identifier, MethodWrapper> childMethodWrapperMap, Map<TypeAdapterInfo, Field> adapterFieldMap, Field readableWrapperField, Map<ColumnInfo, LazyRelationship> lazyRelationshipMap) {
         block.append(METHOD_MOVE_TO_POSITION.callOnTarget(wrapperField, index)).append(";").newLine();
         final EntityImplementationInfo implementationInfo = cache.get(info);
         final List<ColumnInfo> constructorParameters = implementationInfo.getConstructorParameters();
@@ -631,20 +831,45 @@ class EntityIteratorBuilder {
                 continue;
             }
 
-            final Field indexField = indexFieldMap.get(new RelationshipColumnIdentifier(relationshipInfo, columnInfo));
-            final Type type = COLUMN_TYPE_MAP.get(columnType);
-            final Variable parameter = Variables.of(type, Modifier.FINAL);
-            final Method method = COLUMN_METHOD_MAP.get(columnType);
-            block.set(parameter, method.callOnTarget(wrapperField, indexField)).append(";").newLine();
-            parameters[i] = applyAdaptersConvertTo(columnInfo.getTypeAdapters(), adapterFieldMap, parameter);
+            final CodeElement ordinal = Values.of(getColumnOrdinal(info, columnInfo));
+            final CodeElement value = COLUMN_METHOD_MAP.get(columnType).callOnTarget(wrapperField, ordinal);
+            final List<TypeAdapterInfo> typeAdapters = columnInfo.getTypeAdapters();
+            final Variable parameter;
+            final List<TypeAdapterInfo> remainingAdapters;
+            if (columnType == ColumnType.DATE && !typeAdapters.isEmpty() && isDateTypeAdapter(typeAdapters.get(typeAdapters.size() - 1))) {
+                parameter = Variables.of(SimpleOrmTypes.DATE, Modifier.FINAL);
+                block.set(parameter, readNullable(wrapperField, ordinal, SimpleOrmTypes.DATE.newInstance(value))).append(";").newLine();
+                remainingAdapters = typeAdapters.subList(0, typeAdapters.size() - 1);
+            } else {
+                parameter = Variables.of(COLUMN_TYPE_MAP.get(columnType), Modifier.FINAL);
+                block.set(parameter, NULLABLE_COLUMN_TYPES.contains(columnType) ? readNullable(wrapperField, ordinal, value) : value).append(";").newLine();
+                remainingAdapters = typeAdapters;
+            }
+            parameters[i] = applyAdaptersConvertTo(remainingAdapters, adapterFieldMap, parameter);
 
             if (columnInfo == info.getIdColumn()) {
                 idVariable = parameter;
             }
         }
+        final List<ColumnInfo> lazyReferenceParameters = implementationInfo.getLazyReferenceParameters();
+        final CodeElement[] lazyReferences = new CodeElement[lazyReferenceParameters.size()];
         for (ChildResolveInfo resolveInfo : resolveInfos) {
             final EntityInfo childInfo = resolveInfo.mChildInfo;
             final ColumnInfo columnInfo = resolveInfo.mColumnInfo;
+            final LazyRelationship lazyRelationship = lazyRelationshipMap.get(columnInfo);
+            if (lazyRelationship != null) {
+                final Type lazyListType = Types.generic(SimpleOrmTypes.LAZY_CHILD_LIST, lazyRelationship.mChildEntityType);
+                final Variable lazyList = Variables.of(lazyListType, Modifier.FINAL);
+                block.set(lazyList, lazyListType.newInstance(readableWrapperField, lazyRelationship.mFactoryField, Values.of(lazyRelationship.mSelection), idVariable)).append(";").newLine();
+                if (columnInfo.getCollectionType() == ColumnInfo.CollectionType.LIST) {
+                    parameters[resolveInfo.mIndex] = lazyList;
+                } else {
+                    parameters[resolveInfo.mIndex] = Values.ofNull();
+                    lazyReferences[lazyReferenceParameters.indexOf(columnInfo)] = lazyList;
+                }
+                continue;
+            }
+
             final MethodWrapper wrapper = getMethodWrapper(childMethodWrapperMap, childInfo, columnInfo);
             final ColumnInfo.CollectionType collectionType = columnInfo.getCollectionType();
             final Variable listVariable = Variables.of(Types.generic(Types.LIST, Types.of(childInfo.getEntityElement())), Modifier.FINAL);
@@ -659,7 +884,48 @@ class EntityIteratorBuilder {
                         .build();
             }
         }
-        return implementationInfo.getImplementation().newInstance(parameters);
+        for (int i = 0; i < lazyReferences.length; i++) {
+            if (lazyReferences[i] == null) {
+                lazyReferences[i] = Values.ofNull();
+            }
+        }
+        return implementationInfo.newInstance(parameters, lazyReferences, Values.of(true), Values.ofNull());
+    }
+
+    private static CodeElement readNullable(Field wrapperField, CodeElement ordinal, CodeElement value) {
+        return new TernaryIf.Builder()
+                .setComparison(METHOD_IS_NULL.callOnTarget(wrapperField, ordinal))
+                .setTrueBlock(Values.ofNull())
+                .setFalseBlock(value)
+                .build();
+    }
+
+    private boolean isDateTypeAdapter(TypeAdapterInfo info) {
+        return SimpleOrmTypes.DATE_TYPE_ADAPTER.asTypeElement(mProcessingEnvironment).equals(info.getAdapterElement());
+    }
+
+    private static int getColumnOrdinal(EntityInfo info, ColumnInfo columnInfo) {
+        // Same order as the columns selected in the constructor and in createSelectionQuery()
+        int ordinal = 0;
+        for (ColumnInfo column : info.getColumns()) {
+            if (column == columnInfo) {
+                return ordinal;
+            }
+            if (column.getColumnType() != ColumnType.ENTITY) {
+                ordinal++;
+            }
+        }
+        throw new IllegalStateException("Column " + columnInfo.getColumnName() + " is not part of " + info.getTableName());
+    }
+
+    private static int getSelectedColumnCount(EntityInfo info) {
+        int count = 0;
+        for (ColumnInfo column : info.getColumns()) {
+            if (column.getColumnType() != ColumnType.ENTITY) {
+                count++;
+            }
+        }
+        return count;
     }
 
     private MethodWrapper getMethodWrapper(Map<Identifier, MethodWrapper> childMethodWrapperMap, EntityInfo info, ColumnInfo column) {
@@ -694,6 +960,19 @@ class EntityIteratorBuilder {
         }
     }
 
+    private static class LazyRelationship {
+
+        private final Type mChildEntityType;
+        private final Field mFactoryField;
+        private final String mSelection;
+
+        private LazyRelationship(Type childEntityType, Field factoryField, String selection) {
+            mChildEntityType = childEntityType;
+            mFactoryField = factoryField;
+            mSelection = selection;
+        }
+    }
+
     private String createSelectionQuery(List<RelationshipInfo> path) {
         final int startIndex = path.size() - 1;
         final StringBuilder queryBuilder = new StringBuilder();
@@ -709,7 +988,7 @@ class EntityIteratorBuilder {
             final String mappingTableName = MappingTables.getTableName(parentEntityInfo, relationshipColumnInfo);
 
             if (i == startIndex) {
-                queryBuilder.append("SELECT ");
+                queryBuilder.append(path.size() > 1 ? "SELECT DISTINCT " : "SELECT ");
                 for (ColumnInfo columnInfo : childEntityInfo.getColumns()) {
                     if (columnInfo.getColumnType() == ColumnType.ENTITY) {
                         continue;
@@ -741,36 +1020,6 @@ class EntityIteratorBuilder {
 
     }
 
-    private static class RelationshipColumnIdentifier implements Identifier {
-
-        private final RelationshipInfo mRelationshipInfo;
-        private final ColumnInfo mColumnInfo;
-
-        private RelationshipColumnIdentifier(RelationshipInfo relationshipInfo, ColumnInfo columnInfo) {
-            mRelationshipInfo = relationshipInfo;
-            mColumnInfo = columnInfo;
-        }
-
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (o == null || getClass() != o.getClass()) return false;
-
-            RelationshipColumnIdentifier that = (RelationshipColumnIdentifier) o;
-
-            if (mRelationshipInfo != null ? !mRelationshipInfo.equals(that.mRelationshipInfo) : that.mRelationshipInfo != null)
-                return false;
-            return mColumnInfo != null ? mColumnInfo.equals(that.mColumnInfo) : that.mColumnInfo == null;
-        }
-
-        @Override
-        public int hashCode() {
-            int result = mRelationshipInfo != null ? mRelationshipInfo.hashCode() : 0;
-            result = 31 * result + (mColumnInfo != null ? mColumnInfo.hashCode() : 0);
-            return result;
-        }
-    }
-
     private static class EntityInfoColumnIdentifier implements Identifier {
 
         private final EntityInfo mEntityInfo;
@@ -1,9 +1,12 @@
 package com.github.wrdlbrnft.simpleorm.processor.builder.entitymanager;
 
 import com.github.wrdlbrnft.codebuilder.annotations.Annotations;
+import com.github.wrdlbrnft.codebuilder.arrays.ArrayUtils;
 import com.github.wrdlbrnft.codebuilder.code.Block;
 import com.github.wrdlbrnft.codebuilder.code.BlockWriter;
+import com.github.wrdlbrnft.codebuilder.code.CodeElement;
 import com.github.wrdlbrnft.codebuilder.elements.ifs.If;
+import com.github.wrdlbrnft.codebuilder.elements.switches.Switch;
 import com.github.wrdlbrnft.codebuilder.elements.values.Values;
 import com.github.wrdlbrnft.codebuilder.executables.Constructor;
 import com.github.wrdlbrnft.codebuilder.executables.ExecutableBuilder;
@@ -16,19 +19,23 @@ import com.github.wrdlbrnft.codebuilder.util.Operators;
 import com.github.wrdlbrnft.codebuilder.variables.Field;
 import com.github.wrdlbrnft.codebuilder.variables.Variable;
 import com.github.wrdlbrnft.codebuilder.variables.Variables;
+import com.github.wrdlbrnft.simpleorm.annotations.ConflictPolicy;
 import com.github.wrdlbrnft.simpleorm.processor.SimpleOrmTypes;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.ColumnInfo;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.ColumnType;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.EntityInfo;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.relationships.RelationshipAnalyzer;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.relationships.RelationshipInfo;
+import com.github.wrdlbrnft.simpleorm.processor.analyzer.relationships.RelationshipTree;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.typeadapter.TypeAdapterInfo;
 import com.github.wrdlbrnft.simpleorm.processor.builder.databases.implementation.DatabaseImplementationBuilder;
+import com.github.wrdlbrnft.simpleorm.processor.utils.MappingTables;
 
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -48,12 +55,13 @@ public class EntityManagerBuilder {
     static final Method METHOD_DELETE = Methods.stub("delete");
     static final Method METHOD_OR = Methods.stub("or");
     static final Method METHOD_STATEMENT = Methods.stub("statement");
-    static final Method METHOD_VALUE_OF = Methods.stub("valueOf");
     static final Method METHOD_BUILD = Methods.stub("build");
     static final Method METHOD_IS_EMPTY = Methods.stub("isEmpty");
     static final Method METHOD_EXEC_SQL = Methods.stub("execSql");
     static final Method METHOD_PUT = Methods.stub("put");
-    static final Method METHOD_INSERT = Methods.stub("insert");
+    static final Method METHOD_COMPILE_STATEMENT = Methods.stub("compileStatement");
+    static final Method METHOD_EXECUTE_INSERT = Methods.stub("executeInsert");
+    static final Method METHOD_CLOSE = Methods.stub("close");
     static final Method METHOD_QUERY = Methods.stub("query");
     static final Method METHOD_SIZE = Methods.stub("size");
     static final Method METHOD_GET = Methods.stub("get");
@@ -62,11 +70,11 @@ public class EntityManagerBuilder {
     static final Method METHOD_GET_ORDER_BY = Methods.stub("getOrderBy");
     static final Method METHOD_GET_LIMIT = Methods.stub("getLimit");
     static final Method METHOD_GET_COUNT = Methods.stub("getCount");
-    static final Method METHOD_GET_COLUMN_INDEX = Methods.stub("getColumnIndex");
     static final Method METHOD_MOVE_TO_POSITION = Methods.stub("moveToPosition");
     static final Method METHOD_CONVERT_TO = Methods.stub("convertTo");
     static final Method METHOD_CONVERT_FROM = Methods.stub("convertFrom");
     static final Method METHOD_VERIFY_ID = Methods.stub("verifyIdOrThrow");
+    static final Method METHOD_GET_IDENTITY_MAP = Methods.stub("getIdentityMap");
     private static final Method METHOD_APPEND = Methods.stub("append");
     private static final Method METHOD_TRIM = Methods.stub("trim");
 
@@ -92,17 +100,21 @@ public class EntityManagerBuilder {
                 .setCode(new ExecutableBuilder() {
 
                     private Variable mParamProvider;
+                    private Variable mParamIdentityMapEnabled;
+                    private Variable mParamTableChangeNotifier;
 
                     @Override
                     protected List<Variable> createParameters() {
                         final List<Variable> parameters = new ArrayList<>();
                         parameters.add(mParamProvider = Variables.of(SimpleOrmTypes.SQLITE_PROVIDER));
+                        parameters.add(mParamIdentityMapEnabled = Variables.of(Types.Primitives.BOOLEAN));
+                        parameters.add(mParamTableChangeNotifier = Variables.of(SimpleOrmTypes.TABLE_CHANGE_NOTIFIER));
                         return parameters;
                     }
 
                     @Override
                     protected void write(Block block) {
-                        block.append(Methods.SUPER.call(mParamProvider)).append(";");
+                        block.append(Methods.SUPER.call(mParamProvider, mParamIdentityMapEnabled, mParamTableChangeNotifier)).append(";");
                     }
                 })
                 .build());
@@ -186,11 +198,14 @@ public class EntityManagerBuilder {
                 .build();
         builder.addMethod(createRemoveQuery);
 
+        final Map<EntityInfo, Method> writeChangesMethods = new HashMap<>();
+        addWriteChangesMethods(builder, info, adapterFieldMap, writeChangesMethods, new HashSet<EntityInfo>());
+
         builder.addMethod(new Method.Builder()
                 .setName("performSave")
                 .setModifiers(EnumSet.of(Modifier.PROTECTED))
                 .addAnnotation(Annotations.forType(Override.class))
-                .setCode(new PerformSaveExecutableBuilder(info, adapterFieldMap, createRemoveQuery))
+                .setCode(new PerformSaveExecutableBuilder(info, adapterFieldMap, createRemoveQuery, writeChangesMethods))
                 .build());
 
         builder.addMethod(new Method.Builder()
@@ -221,7 +236,120 @@ public class EntityManagerBuilder {
                     @Override
                     protected void write(Block block) {
                         final Type type = iteratorInfo.getImplementation();
-                        block.append("return ").append(type.newInstance(mReadableSQLiteWrapper, mQueryParameters)).append(";");
+                        block.append("return ").append(type.newInstance(mReadableSQLiteWrapper, mQueryParameters, METHOD_GET_IDENTITY_MAP.call())).append(";");
+                    }
+                })
+                .build());
+
+        builder.addMethod(new Method.Builder()
+                .setName("getTableName")
+                .setModifiers(EnumSet.of(Modifier.PROTECTED))
+                .addAnnotation(Annotations.forType(Override.class))
+                .setReturnType(Types.STRING)
+                .setCode(new ExecutableBuilder() {
+                    @Override
+                    protected List<Variable> createParameters() {
+                        return new ArrayList<>();
+                    }
+
+                    @Override
+                    protected void write(Block block) {
+                        block.append("return ").append(Values.of(info.getTableName())).append(";");
+                    }
+                })
+                .build());
+
+        builder.addMethod(new Method.Builder()
+                .setName("getTableNames")
+                .setModifiers(EnumSet.of(Modifier.PUBLIC))
+                .addAnnotation(Annotations.forType(Override.class))
+                .setReturnType(Types.arrayOf(Types.STRING))
+                .setCode(new ExecutableBuilder() {
+                    @Override
+                    protected List<Variable> createParameters() {
+                        return new ArrayList<>();
+                    }
+
+                    @Override
+                    protected void write(Block block) {
+                        final Set<String> tableNames = new LinkedHashSet<>();
+                        tableNames.add(info.getTableName());
+                        RelationshipTree.iterate(relationshipInfos, new RelationshipTree.Iterator() {
+                            @Override
+                            public void onPathFound(List<RelationshipInfo> path) {
+                                final RelationshipInfo relationshipInfo = path.get(path.size() - 1);
+                                tableNames.add(MappingTables.getTableName(relationshipInfo.getParentEntityInfo(), relationshipInfo.getColumnInfo()));
+                                tableNames.add(relationshipInfo.getChildEntityInfo().getTableName());
+                            }
+                        });
+
+                        final List<CodeElement> values = new ArrayList<>();
+                        for (String tableName : tableNames) {
+                            values.add(Values.of(tableName));
+                        }
+                        block.append("return ").append(ArrayUtils.of(Types.STRING, values)).append(";");
+                    }
+                })
+                .build());
+
+        builder.addMethod(new Method.Builder()
+                .setName("getIdColumnName")
+                .setModifiers(EnumSet.of(Modifier.PROTECTED))
+                .addAnnotation(Annotations.forType(Override.class))
+                .setReturnType(Types.STRING)
+                .setCode(new ExecutableBuilder() {
+                    @Override
+                    protected List<Variable> createParameters() {
+                        return new ArrayList<>();
+                    }
+
+                    @Override
+                    protected void write(Block block) {
+                        final ColumnInfo idColumn = info.getIdColumn();
+                        block.append("return ").append(idColumn != null ? Values.of(idColumn.getColumnName()) : Values.ofNull()).append(";");
+                    }
+                })
+                .build());
+
+        builder.addMethod(new Method.Builder()
+                .setName("getColumnValue")
+                .setModifiers(EnumSet.of(Modifier.PROTECTED))
+                .addAnnotation(Annotations.forType(Override.class))
+                .setReturnType(Types.OBJECT)
+                .setCode(new ExecutableBuilder() {
+
+                    private Variable mEntity;
+                    private Variable mColumnName;
+
+                    @Override
+                    protected List<Variable> createParameters() {
+                        final List<Variable> parameters = new ArrayList<>();
+                        parameters.add(mEntity = Variables.of(entityType));
+                        parameters.add(mColumnName = Variables.of(Types.STRING));
+                        return parameters;
+                    }
+
+                    @Override
+                    protected void write(Block block) {
+                        final Switch.Builder switchBuilder = new Switch.Builder();
+                        switchBuilder.setVariable(mColumnName);
+                        for (final ColumnInfo columnInfo : info.getColumns()) {
+                            if (columnInfo.getColumnType() == ColumnType.ENTITY || columnInfo.getGetterElement() == null) {
+                                continue;
+                            }
+
+                            switchBuilder.addCase(Values.of(columnInfo.getColumnName()), new BlockWriter() {
+                                @Override
+                                protected void write(Block block) {
+                                    final CodeElement value = Methods.from(columnInfo.getGetterElement()).callOnTarget(mEntity);
+                                    block.append("return ").append(applyAdaptersConvertFrom(adapterFieldMap, columnInfo.getTypeAdapters(), value)).append(";");
+                                }
+                            });
+                        }
+                        block.append(switchBuilder.build()).newLine();
+                        block.append("throw ").append(SimpleOrmTypes.ILLEGAL_ARGUMENT_EXCEPTION.newInstance(
+                                Operators.operate(Values.of("Unknown column: "), "+", mColumnName)
+                        )).append(";");
                     }
                 })
                 .build());
@@ -229,6 +357,39 @@ public class EntityManagerBuilder {
         return builder.build();
     }
 
+    static CodeElement applyAdaptersConvertFrom(Map<TypeAdapterInfo, Field> adapterFieldMap, List<TypeAdapterInfo> typeAdapters, CodeElement codeElement) {
+        if (typeAdapters.isEmpty()) {
+            return codeElement;
+        }
+
+        final int lastIndex = typeAdapters.size() - 1;
+        final TypeAdapterInfo info = typeAdapters.get(lastIndex);
+        final Field field = adapterFieldMap.get(info);
+        return METHOD_CONVERT_FROM.callOnTarget(field, applyAdaptersConvertFrom(adapterFieldMap, typeAdapters.subList(0, lastIndex), codeElement));
+    }
+
+    private void addWriteChangesMethods(Implementation.Builder builder, EntityInfo entityInfo, Map<TypeAdapterInfo, Field> adapterFieldMap, Map<EntityInfo, Method> methods, Set<EntityInfo> handledEntities) {
+        if (!handledEntities.add(entityInfo)) {
+            return;
+        }
+
+        if (entityInfo.getConflictPolicy() == ConflictPolicy.UPDATE) {
+            final Method method = new Method.Builder()
+                    .setModifiers(EnumSet.of(Modifier.PRIVATE))
+                    .setReturnType(Types.Primitives.BOOLEAN)
+                    .setCode(new WriteChangesExecutableBuilder(entityInfo, adapterFieldMap))
+                    .build();
+            builder.addMethod(method);
+            methods.put(entityInfo, method);
+        }
+
+        for (ColumnInfo columnInfo : entityInfo.getColumns()) {
+            if (columnInfo.getColumnType() == ColumnType.ENTITY) {
+                addWriteChangesMethods(builder, columnInfo.getChildEntityInfo(), adapterFieldMap, methods, handledEntities);
+            }
+        }
+    }
+
     private Set<TypeAdapterInfo> getAllTypeAdapters(EntityInfo entityInfo) {
         final Set<TypeAdapterInfo> infos = new HashSet<>();
         iterateAllTypeAdapters(entityInfo, infos, new HashSet<ColumnInfo>());
@@ -29,7 +29,6 @@ import java.util.Map;
 
 import javax.lang.model.element.Modifier;
 
-import static com.github.wrdlbrnft.simpleorm.processor.builder.entitymanager.EntityManagerBuilder.METHOD_BUILD;
 import static com.github.wrdlbrnft.simpleorm.processor.builder.entitymanager.EntityManagerBuilder.METHOD_CONVERT_FROM;
 import static com.github.wrdlbrnft.simpleorm.processor.builder.entitymanager.EntityManagerBuilder.METHOD_DELETE;
 import static com.github.wrdlbrnft.simpleorm.processor.builder.entitymanager.EntityManagerBuilder.METHOD_ENTITIES_TO_REMOVE;
@@ -37,9 +36,6 @@ import static com.github.wrdlbrnft.simpleorm.processor.builder.entitymanager.Ent
 import static com.github.wrdlbrnft.simpleorm.processor.builder.entitymanager.EntityManagerBuilder.METHOD_GET_SELECTION;
 import static com.github.wrdlbrnft.simpleorm.processor.builder.entitymanager.EntityManagerBuilder.METHOD_GET_SELECTION_ARGS;
 import static com.github.wrdlbrnft.simpleorm.processor.builder.entitymanager.EntityManagerBuilder.METHOD_IS_EMPTY;
-import static com.github.wrdlbrnft.simpleorm.processor.builder.entitymanager.EntityManagerBuilder.METHOD_OR;
-import static com.github.wrdlbrnft.simpleorm.processor.builder.entitymanager.EntityManagerBuilder.METHOD_STATEMENT;
-import static com.github.wrdlbrnft.simpleorm.processor.builder.entitymanager.EntityManagerBuilder.METHOD_VALUE_OF;
 
 /**
  * Created with Android Studio
@@ -49,6 +45,12 @@ import static com.github.wrdlbrnft.simpleorm.processor.builder.entitymanager.Ent
 
 class PerformRemoveExecutableBuilder extends ExecutableBuilder {
 
+    private static final int REMOVE_CHUNK_SIZE = 500;
+
+    private static final Method METHOD_APPEND = Methods.stub("append");
+    private static final Method METHOD_ADD = Methods.stub("add");
+    private static final Method METHOD_SET_LENGTH = Methods.stub("setLength");
+
     private final EntityInfo mEntityInfo;
     private final List<RelationshipInfo> mRelationshipInfos;
     private final Map<TypeAdapterInfo, Field> mAdapterFieldMap;
@@ -84,7 +86,7 @@ class PerformRemoveExecutableBuilder extends ExecutableBuilder {
                         final Variable resolvedSelection = Variables.of(Types.STRING, Modifier.FINAL);
                         block.set(resolvedSelection, METHOD_GET_SELECTION.callOnTarget(selection, Values.of(mEntityInfo.getTableName()))).append(";").newLine();
 
-                        final Variable resolvedSelectionArgs = Variables.of(Types.arrayOf(Types.STRING), Modifier.FINAL);
+                        final Variable resolvedSelectionArgs = Variables.of(SimpleOrmTypes.SELECTION_ARGS, Modifier.FINAL);
                         block.set(resolvedSelectionArgs, METHOD_GET_SELECTION_ARGS.callOnTarget(selection)).append(";").newLine();
 
                         appendChildRemoval(block, resolvedSelection, resolvedSelectionArgs);
@@ -113,8 +115,14 @@ class PerformRemoveExecutableBuilder extends ExecutableBuilder {
                 .build());
         block.newLine();
 
-        final Variable builder = Variables.of(SimpleOrmTypes.SELECTION_BUILDER, Modifier.FINAL);
-        block.set(builder, SimpleOrmTypes.SELECTION_BUILDER.newInstance()).append(";").newLine();
+        final Variable chunks = Variables.of(Types.generic(Types.LIST, Types.STRING), Modifier.FINAL);
+        block.set(chunks, Types.generic(Types.ARRAY_LIST, Types.STRING).newInstance()).append(";").newLine();
+
+        final Variable idList = Variables.of(SimpleOrmTypes.STRING_BUILDER, Modifier.FINAL);
+        block.set(idList, SimpleOrmTypes.STRING_BUILDER.newInstance()).append(";").newLine();
+
+        final Variable chunkSize = Variables.of(Types.Primitives.INTEGER);
+        block.set(chunkSize, Values.of(0)).append(";").newLine();
 
         final ColumnInfo idColumn = mEntityInfo.getIdColumn();
         final Method idGetterMethod = Methods.from(idColumn.getGetterElement());
@@ -128,14 +136,29 @@ class PerformRemoveExecutableBuilder extends ExecutableBuilder {
                         final Variable id = Variables.of(Types.Boxed.LONG, Modifier.FINAL);
                         block.set(id, applyAdaptersConvertFrom(idColumn.getTypeAdapters(), idGetterMethod.callOnTarget(entity))).append(";").newLine();
                         block.append(new If.Builder()
-                                .add(Operators.operate(id, "!=", Values.ofNull()), new BlockWriter() {
+                                .add(Operators.operate(id, "==", Values.ofNull()), new BlockWriter() {
                                     @Override
                                     protected void write(Block block) {
-                                        block.append(METHOD_OR.callOnTarget(METHOD_STATEMENT.callOnTarget(builder,
-                                                Values.of(idColumn.getColumnName()),
-                                                Values.of("="),
-                                                METHOD_VALUE_OF.callOnTarget(Types.STRING, id)
-                                        ))).append(";");
+                                        block.append("continue;");
+                                    }
+                                })
+                                .build()).newLine();
+                        block.append(new If.Builder()
+                                .add(Operators.operate(chunkSize, ">", Values.of(0)), new BlockWriter() {
+                                    @Override
+                                    protected void write(Block block) {
+                                        block.append(METHOD_APPEND.callOnTarget(idList, Values.of(","))).append(";");
+                                    }
+                                })
+                                .build()).newLine();
+                        block.append(METHOD_APPEND.callOnTarget(idList, id)).append(";").newLine();
+                        block.append(new If.Builder()
+                                .add(Operators.operate(new Block().append("++").append(chunkSize), "==", Values.of(REMOVE_CHUNK_SIZE)), new BlockWriter() {
+                                    @Override
+                                    protected void write(Block block) {
+                                        block.append(METHOD_ADD.callOnTarget(chunks, Methods.TO_STRING.callOnTarget(idList))).append(";").newLine();
+                                        block.append(METHOD_SET_LENGTH.callOnTarget(idList, Values.of(0))).append(";").newLine();
+                                        block.set(chunkSize, Values.of(0)).append(";");
                                     }
                                 })
                                 .build());
@@ -155,25 +178,41 @@ class PerformRemoveExecutableBuilder extends ExecutableBuilder {
                 .build());
         block.newLine();
 
-        final Variable entitySelection = Variables.of(SimpleOrmTypes.SELECTION, Modifier.FINAL);
-        block.set(entitySelection, METHOD_BUILD.callOnTarget(builder)).append(";").newLine();
-
-        final Variable resolvedEntitySelection = Variables.of(Types.STRING, Modifier.FINAL);
-        block.set(resolvedEntitySelection, METHOD_GET_SELECTION.callOnTarget(entitySelection, Values.of(mEntityInfo.getTableName()))).append(";").newLine();
+        block.append(new If.Builder()
+                .add(Operators.operate(chunkSize, ">", Values.of(0)), new BlockWriter() {
+                    @Override
+                    protected void write(Block block) {
+                        block.append(METHOD_ADD.callOnTarget(chunks, Methods.TO_STRING.callOnTarget(idList))).append(";");
+                    }
+                })
+                .build()).newLine();
 
-        final Variable resolvedEntitySelectionArgs = Variables.of(Types.arrayOf(Types.STRING), Modifier.FINAL);
-        block.set(resolvedEntitySelectionArgs, METHOD_GET_SELECTION_ARGS.callOnTarget(entitySelection)).append(";").newLine();
+        final String idColumnName = mEntityInfo.getTableName() + "." + idColumn.getColumnName();
+        block.append(new Foreach.Builder()
+                .setCollection(chunks)
+                .setItemType(Types.STRING)
+                .setIteration(new Foreach.Iteration() {
+                    @Override
+                    public void onIteration(Block block, Variable chunk) {
+                        final Variable chunkSelection = Variables.of(Types.STRING, Modifier.FINAL);
+                        block.set(chunkSelection, new Block()
+                                .append(Values.of(idColumnName + " IN ("))
+                                .append(" + ").append(chunk)
+                                .append(" + ").append(Values.of(")"))).append(";").newLine();
 
-        appendChildRemoval(block, resolvedEntitySelection, resolvedEntitySelectionArgs);
+                        appendChildRemoval(block, chunkSelection, Values.ofNull());
 
-        block.append(METHOD_DELETE.callOnTarget(mWritableSQLiteWrapper,
-                Values.of(mEntityInfo.getTableName()),
-                resolvedEntitySelection,
-                resolvedEntitySelectionArgs
-        )).append(";");
+                        block.append(METHOD_DELETE.callOnTarget(mWritableSQLiteWrapper,
+                                Values.of(mEntityInfo.getTableName()),
+                                chunkSelection,
+                                Values.ofNull()
+                        )).append(";");
+                    }
+                })
+                .build());
     }
 
-    private void appendChildRemoval(Block block, Variable selection, Variable selectionArgs) {
+    private void appendChildRemoval(Block block, Variable selection, CodeElement selectionArgs) {
         for (CodeElement removeQuery : appendChildRemoval(selection)) {
             block.append(METHOD_EXEC_SQL.callOnTarget(mWritableSQLiteWrapper, removeQuery, selectionArgs)).append(";").newLine();
         }
@@ -1,21 +1,23 @@
 package com.github.wrdlbrnft.simpleorm.processor.builder.entitymanager;
 
-import com.github.wrdlbrnft.codebuilder.arrays.ArrayUtils;
 import com.github.wrdlbrnft.codebuilder.code.Block;
 import com.github.wrdlbrnft.codebuilder.code.BlockWriter;
 import com.github.wrdlbrnft.codebuilder.code.CodeElement;
 import com.github.wrdlbrnft.codebuilder.elements.forloop.item.Foreach;
 import com.github.wrdlbrnft.codebuilder.elements.ifs.If;
+import com.github.wrdlbrnft.codebuilder.elements.ifs.TernaryIf;
 import com.github.wrdlbrnft.codebuilder.elements.values.Values;
 import com.github.wrdlbrnft.codebuilder.executables.ExecutableBuilder;
 import com.github.wrdlbrnft.codebuilder.executables.Method;
 import com.github.wrdlbrnft.codebuilder.executables.Methods;
 import com.github.wrdlbrnft.codebuilder.types.Type;
 import com.github.wrdlbrnft.codebuilder.types.Types;
+import com.github.wrdlbrnft.codebuilder.util.MapBuilder;
 import com.github.wrdlbrnft.codebuilder.util.Operators;
 import com.github.wrdlbrnft.codebuilder.variables.Field;
 import com.github.wrdlbrnft.codebuilder.variables.Variable;
 import com.github.wrdlbrnft.codebuilder.variables.Variables;
+import com.github.wrdlbrnft.simpleorm.annotations.ConflictPolicy;
 import com.github.wrdlbrnft.simpleorm.processor.SimpleOrmTypes;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.ColumnInfo;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.ColumnType;
@@ -24,21 +26,23 @@ import com.github.wrdlbrnft.simpleorm.processor.analyzer.typeadapter.TypeAdapter
 import com.github.wrdlbrnft.simpleorm.processor.utils.MappingTables;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javax.lang.model.element.Modifier;
 
 import static com.github.wrdlbrnft.simpleorm.processor.builder.entitymanager.EntityManagerBuilder.METHOD_BUILD;
-import static com.github.wrdlbrnft.simpleorm.processor.builder.entitymanager.EntityManagerBuilder.METHOD_CONVERT_FROM;
+import static com.github.wrdlbrnft.simpleorm.processor.builder.entitymanager.EntityManagerBuilder.METHOD_CLOSE;
+import static com.github.wrdlbrnft.simpleorm.processor.builder.entitymanager.EntityManagerBuilder.METHOD_COMPILE_STATEMENT;
 import static com.github.wrdlbrnft.simpleorm.processor.builder.entitymanager.EntityManagerBuilder.METHOD_ENTITIES_TO_SAVE;
+import static com.github.wrdlbrnft.simpleorm.processor.builder.entitymanager.EntityManagerBuilder.METHOD_EXECUTE_INSERT;
 import static com.github.wrdlbrnft.simpleorm.processor.builder.entitymanager.EntityManagerBuilder.METHOD_EXEC_SQL;
 import static com.github.wrdlbrnft.simpleorm.processor.builder.entitymanager.EntityManagerBuilder.METHOD_GET_SELECTION;
 import static com.github.wrdlbrnft.simpleorm.processor.builder.entitymanager.EntityManagerBuilder.METHOD_GET_SELECTION_ARGS;
-import static com.github.wrdlbrnft.simpleorm.processor.builder.entitymanager.EntityManagerBuilder.METHOD_INSERT;
-import static com.github.wrdlbrnft.simpleorm.processor.builder.entitymanager.EntityManagerBuilder.METHOD_PUT;
 import static com.github.wrdlbrnft.simpleorm.processor.builder.entitymanager.EntityManagerBuilder.METHOD_STATEMENT;
-import static com.github.wrdlbrnft.simpleorm.processor.builder.entitymanager.EntityManagerBuilder.METHOD_VALUE_OF;
 import static com.github.wrdlbrnft.simpleorm.processor.builder.entitymanager.EntityManagerBuilder.METHOD_VERIFY_ID;
 
 /**
@@ -49,17 +53,42 @@ import static com.github.wrdlbrnft.simpleorm.processor.builder.entitymanager.Ent
 
 class PerformSaveExecutableBuilder extends ExecutableBuilder {
 
+    private static final Map<ColumnType, Method> BIND_METHOD_MAP = new MapBuilder<ColumnType, Method>()
+            .put(ColumnType.PRIMITIVE_INT, Methods.stub("bindInt"))
+            .put(ColumnType.INT, Methods.stub("bindIntOrNull"))
+            .put(ColumnType.PRIMITIVE_LONG, Methods.stub("bindLong"))
+            .put(ColumnType.LONG, Methods.stub("bindLongOrNull"))
+            .put(ColumnType.PRIMITIVE_BOOLEAN, Methods.stub("bindBoolean"))
+            .put(ColumnType.BOOLEAN, Methods.stub("bindBooleanOrNull"))
+            .put(ColumnType.PRIMITIVE_FLOAT, Methods.stub("bindFloat"))
+            .put(ColumnType.FLOAT, Methods.stub("bindFloatOrNull"))
+            .put(ColumnType.PRIMITIVE_DOUBLE, Methods.stub("bindDouble"))
+            .put(ColumnType.DOUBLE, Methods.stub("bindDoubleOrNull"))
+            .put(ColumnType.STRING, Methods.stub("bindString"))
+            .put(ColumnType.DATE, Methods.stub("bindLongOrNull"))
+            .build();
+
+    private static final Method METHOD_BIND_LONG_OR_NULL = Methods.stub("bindLongOrNull");
+    private static final Method METHOD_EXECUTE_UPSERT = Methods.stub("executeUpsert");
+    private static final Method METHOD_EXECUTE_INSERT_OR_IGNORE = Methods.stub("executeInsertOrIgnore");
+    private static final Method METHOD_TRACK_SAVED = Methods.stub("trackSaved");
+    private static final Method METHOD_ADD_LONG = Methods.stub("addLong");
+    private static final Method METHOD_IS_LOADED = Methods.stub("isLoaded");
+
     private final EntityInfo mEntityInfo;
     private final Map<TypeAdapterInfo, Field> mAdapterFieldMap;
     private final Method mCreateRemoveQuery;
+    private final Map<EntityInfo, Method> mWriteChangesMethods;
 
     private Variable mWritableSQLiteWrapper;
     private Variable mSaveParameters;
+    private Variable mTrackedEntities;
 
-    PerformSaveExecutableBuilder(EntityInfo entityInfo, Map<TypeAdapterInfo, Field> adapterFieldMap, Method createRemoveQuery) {
+    PerformSaveExecutableBuilder(EntityInfo entityInfo, Map<TypeAdapterInfo, Field> adapterFieldMap, Method createRemoveQuery, Map<EntityInfo, Method> writeChangesMethods) {
         mEntityInfo = entityInfo;
         mAdapterFieldMap = adapterFieldMap;
         mCreateRemoveQuery = createRemoveQuery;
+        mWriteChangesMethods = writeChangesMethods;
     }
 
     @Override
@@ -67,6 +96,7 @@ class PerformSaveExecutableBuilder extends ExecutableBuilder {
         final List<Variable> parameters = new ArrayList<>();
         parameters.add(mWritableSQLiteWrapper = Variables.of(SimpleOrmTypes.WRITABLE_SQLITE_WRAPPER));
         parameters.add(mSaveParameters = Variables.of(Types.generic(SimpleOrmTypes.SAVE_PARAMETERS, Types.of(mEntityInfo.getEntityElement()))));
+        parameters.add(mTrackedEntities = Variables.of(Types.generic(Types.LIST, SimpleOrmTypes.TRACKED_ENTITY)));
         return parameters;
     }
 
@@ -76,16 +106,22 @@ class PerformSaveExecutableBuilder extends ExecutableBuilder {
         final Variable entities = Variables.of(Types.generic(Types.LIST, entityType), Modifier.FINAL);
         block.set(entities, METHOD_ENTITIES_TO_SAVE.callOnTarget(mSaveParameters)).append(";").newLine();
 
+        final Map<String, Variable> statements = new LinkedHashMap<>();
+        final Map<String, Variable> updateStatements = new LinkedHashMap<>();
+        final Map<String, Variable> partialUpdates = new LinkedHashMap<>();
+        appendCompileStatements(block, mEntityInfo, statements, updateStatements, partialUpdates, new HashSet<EntityInfo>());
+
+        block.append("try {").newLine();
         block.append(new Foreach.Builder()
                 .setCollection(entities)
                 .setItemType(entityType)
                 .setIteration(new Foreach.Iteration() {
                     @Override
                     public void onIteration(Block block, Variable entity) {
-                        appendSave(block, null, null, null, null, null, mEntityInfo, entity);
+                        appendSave(block, null, null, null, null, mEntityInfo, entity);
                     }
 
-                    private void appendSave(Block block, EntityInfo parent, ColumnInfo parentColumn, Variable parentId, final Variable removeMappingSelection, Variable removeMappingparentId, final EntityInfo child, Variable entity) {
+                    private void appendSave(Block block, final EntityInfo parent, final ColumnInfo parentColumn, final Variable parentId, final Variable removeMappingSelection, final EntityInfo child, final Variable entity) {
                         block.append(new If.Builder()
                                 .add(Operators.operate(entity, "==", Values.ofNull()), new BlockWriter() {
                                     @Override
@@ -96,121 +132,290 @@ class PerformSaveExecutableBuilder extends ExecutableBuilder {
                                 .build()).newLine();
 
                         final List<ColumnInfo> entityColumns = new ArrayList<>();
-                        final Variable values = Variables.of(SimpleOrmTypes.CONTENT_VALUES, Modifier.FINAL);
-                        block.set(values, SimpleOrmTypes.CONTENT_VALUES.newInstance()).append(";");
                         for (ColumnInfo columnInfo : child.getColumns()) {
-                            final ColumnType columnType = columnInfo.getColumnType();
-                            if (columnType == ColumnType.ENTITY) {
+                            if (columnInfo.getColumnType() == ColumnType.ENTITY) {
                                 entityColumns.add(columnInfo);
-                                continue;
                             }
-
-                            final Method getterMethod = Methods.from(columnInfo.getGetterElement());
-                            final List<TypeAdapterInfo> typeAdapters = columnInfo.getTypeAdapters();
-                            final CodeElement value = applyAdaptersConvertFrom(typeAdapters, getterMethod.callOnTarget(entity));
-                            block.newLine().append(METHOD_PUT.callOnTarget(values, Values.of(columnInfo.getColumnName()), value)).append(";");
                         }
 
+                        final Variable statement = statements.get(child.getTableName());
+                        final ColumnInfo idColumn = child.getIdColumn();
                         final Variable id = Variables.of(Types.Primitives.LONG, Modifier.FINAL);
-                        block.newLine().set(id, METHOD_INSERT.callOnTarget(mWritableSQLiteWrapper, Values.of(child.getTableName()), values)).append(";");
-                        block.newLine().append(METHOD_VERIFY_ID.call(id, entity)).append(";");
+                        final ConflictPolicy conflictPolicy = child.getConflictPolicy();
+                        if (conflictPolicy == ConflictPolicy.UPDATE) {
+                            final Variable updateStatement = updateStatements.get(child.getTableName());
+                            final CodeElement currentId = Methods.from(idColumn.getGetterElement()).callOnTarget(entity);
+                            final Variable written = Variables.of(Types.Primitives.BOOLEAN, Modifier.FINAL);
+                            block.set(written, mWriteChangesMethods.get(child).call(partialUpdates.get(child.getTableName()), entity)).append(";").newLine();
+                            block.append(new If.Builder()
+                                    .add(Values.invert(written), new BlockWriter() {
+                                        @Override
+                                        protected void write(Block block) {
+                                            appendBindings(block, statement, child, entity);
+                                            final int idIndex = appendBindings(block, updateStatement, child, entity);
+                                            block.newLine().append(METHOD_BIND_LONG_OR_NULL.callOnTarget(updateStatement, Values.of(idIndex), currentId)).append(";");
+                                        }
+                                    })
+                                    .build());
+                            block.newLine().set(id, new TernaryIf.Builder()
+                                    .setComparison(written)
+                                    .setTrueBlock(currentId)
+                                    .setFalseBlock(METHOD_EXECUTE_UPSERT.call(updateStatement, statement, currentId))
+                                    .build()).append(";");
+                        } else if (conflictPolicy == ConflictPolicy.IGNORE) {
+                            appendBindings(block, statement, child, entity);
+                            final CodeElement currentId = Methods.from(idColumn.getGetterElement()).callOnTarget(entity);
+                            block.newLine().set(id, METHOD_EXECUTE_INSERT_OR_IGNORE.call(statement, currentId)).append(";");
+                        } else {
+                            appendBindings(block, statement, child, entity);
+                            block.newLine().set(id, METHOD_EXECUTE_INSERT.callOnTarget(statement)).append(";");
+                        }
+                        if (conflictPolicy == ConflictPolicy.IGNORE) {
+                            // A new entity that conflicts is skipped together with its children
+                            block.newLine().append(new If.Builder()
+                                    .add(Operators.operate(id, ">=", Values.of(0)), new BlockWriter() {
+                                        @Override
+                                        protected void write(Block block) {
+                                            appendSaved(block, parent, parentColumn, parentId, removeMappingSelection, child, entity, id, entityColumns);
+                                        }
+                                    })
+                                    .build());
+                        } else {
+                            block.newLine().append(METHOD_VERIFY_ID.call(id, entity)).append(";");
+                            appendSaved(block, parent, parentColumn, parentId, removeMappingSelection, child, entity, id, entityColumns);
+                        }
+                    }
+
+                    private void appendSaved(Block block, EntityInfo parent, ColumnInfo parentColumn, Variable parentId, Variable removeMappingSelection, final EntityInfo child, final Variable entity, final Variable id, List<ColumnInfo> entityColumns) {
                         final ColumnInfo idColumn = child.getIdColumn();
                         if (idColumn != null) {
                             block.newLine().append(Methods.from(idColumn.getSetterElement()).callOnTarget(entity, id)).append(";");
                         }
-
-                        if (removeMappingparentId != null) {
-                            block.newLine().append(METHOD_EXEC_SQL.callOnTarget(mWritableSQLiteWrapper,
-                                    Values.of("DELETE FROM " + MappingTables.getTableName(parent, parentColumn) + " WHERE " + MappingTables.COLUMN_PARENT_ID + "=? AND " + MappingTables.COLUMN_CHILD_ID + "=?"),
-                                    ArrayUtils.of(Types.STRING,
-                                            METHOD_VALUE_OF.callOnTarget(Types.STRING, parentId),
-                                            METHOD_VALUE_OF.callOnTarget(Types.STRING, id)
-                                    )
-                            )).append(";");
-                        }
+                        block.newLine().append(METHOD_TRACK_SAVED.call(mTrackedEntities, entity)).append(";");
 
                         if (removeMappingSelection != null) {
-                            block.newLine().append(METHOD_STATEMENT.callOnTarget(removeMappingSelection, Values.of(MappingTables.COLUMN_CHILD_ID), Values.of("<>"), METHOD_VALUE_OF.callOnTarget(Types.STRING, id))).append(";");
+                            block.newLine().append(METHOD_STATEMENT.callOnTarget(removeMappingSelection, Values.of(MappingTables.COLUMN_CHILD_ID), Values.of("<>"), id)).append(";");
                         }
 
                         if (parent != null) {
                             block.newLine().newLine();
-                            final Variable mappingValues = MappingTables.appendContentValuesForMapping(block, parentId, id);
+                            final Variable mappingStatement = statements.get(MappingTables.getTableName(parent, parentColumn));
+                            MappingTables.appendBindingsForMapping(block, mappingStatement, parentId, id);
                             final Variable mappingId = Variables.of(Types.Primitives.LONG, Modifier.FINAL);
-                            final String mappingTableName = MappingTables.getTableName(parent, parentColumn);
-                            block.set(mappingId, METHOD_INSERT.callOnTarget(mWritableSQLiteWrapper, Values.of(mappingTableName), mappingValues)).append(";").newLine();
+                            block.set(mappingId, METHOD_EXECUTE_INSERT.callOnTarget(mappingStatement)).append(";").newLine();
                             block.append(METHOD_VERIFY_ID.call(mappingId, entity)).append(";");
                         }
 
                         for (final ColumnInfo entityColumn : entityColumns) {
                             block.newLine().newLine();
 
-                            final EntityInfo childEntityInfo = entityColumn.getChildEntityInfo();
-                            final Type childEntityType = Types.of(childEntityInfo.getEntityElement());
+                            final BlockWriter relationshipWriter = new BlockWriter() {
+                                @Override
+                                protected void write(Block block) {
+                                    appendSaveRelationship(block, child, entityColumn, entity, id);
+                                }
+                            };
 
-                            final ColumnInfo.CollectionType collectionType = entityColumn.getCollectionType();
-                            if (collectionType == ColumnInfo.CollectionType.NONE) {
-                                final Variable childEntity = Variables.of(childEntityType, Modifier.FINAL);
-                                block.set(childEntity, Methods.from(entityColumn.getGetterElement()).callOnTarget(entity)).append(";").newLine();
+                            if (entityColumn.isLazy()) {
+                                final int columnIndex = child.getColumns().indexOf(entityColumn);
                                 block.append(new If.Builder()
-                                        .add(Operators.operate(childEntity, "!=", Values.ofNull()), new BlockWriter() {
-                                            @Override
-                                            protected void write(Block block) {
-                                                appendSave(block, child, entityColumn, id, null, id, childEntityInfo, childEntity);
-                                            }
-                                        })
+                                        .add(METHOD_IS_LOADED.callOnTarget(SimpleOrmTypes.CHANGE_TRACKING, entity, Values.of(columnIndex)), relationshipWriter)
                                         .build());
-                            } else if (collectionType == ColumnInfo.CollectionType.LIST) {
-                                final Variable childEntityList = Variables.of(Types.generic(Types.LIST, childEntityType), Modifier.FINAL);
-                                block.set(childEntityList, Methods.from(entityColumn.getGetterElement()).callOnTarget(entity)).append(";").newLine();
-                                block.append(new If.Builder()
-                                        .add(Operators.operate(childEntityList, "==", Values.ofNull()), new BlockWriter() {
-                                            @Override
-                                            protected void write(Block block) {
-                                                block.append("continue;");
-                                            }
-                                        })
-                                        .build()).newLine();
-                                final Variable selectionBuilder = Variables.of(SimpleOrmTypes.SELECTION_BUILDER, Modifier.FINAL);
-                                block.set(selectionBuilder, SimpleOrmTypes.SELECTION_BUILDER.newInstance()).append(";").newLine();
-                                block.append(METHOD_STATEMENT.callOnTarget(selectionBuilder, Values.of(MappingTables.COLUMN_PARENT_ID), Values.of("="), METHOD_VALUE_OF.callOnTarget(Types.STRING, id))).append(";").newLine();
-                                block.append(new Foreach.Builder()
-                                        .setItemType(childEntityType)
-                                        .setCollection(childEntityList)
-                                        .setIteration(new Foreach.Iteration() {
-                                            @Override
-                                            public void onIteration(Block block, Variable childEntity) {
-                                                appendSave(block, child, entityColumn, id, selectionBuilder, null, childEntityInfo, childEntity);
-                                            }
-                                        })
-                                        .build());
-                                block.newLine();
-                                final Variable selection = Variables.of(SimpleOrmTypes.SELECTION, Modifier.FINAL);
-                                block.set(selection, METHOD_BUILD.callOnTarget(selectionBuilder)).append(";").newLine();
-                                block.append(METHOD_EXEC_SQL.callOnTarget(mWritableSQLiteWrapper,
-                                        mCreateRemoveQuery.call(
-                                                Values.of("DELETE FROM " + MappingTables.getTableName(child, entityColumn)),
-                                                METHOD_GET_SELECTION.callOnTarget(selection, Values.ofNull())
-                                        ),
-                                        METHOD_GET_SELECTION_ARGS.callOnTarget(selection)
-                                )).append(";");
                             } else {
-                                throw new IllegalStateException("Encountered unknown collection type: " + collectionType);
+                                block.append(relationshipWriter);
                             }
                         }
                     }
 
-                    private CodeElement applyAdaptersConvertFrom(List<TypeAdapterInfo> typeAdapters, CodeElement codeElement) {
-                        if (typeAdapters.isEmpty()) {
-                            return codeElement;
-                        }
+                    private void appendSaveRelationship(Block block, final EntityInfo child, final ColumnInfo entityColumn, Variable entity, final Variable id) {
+                        final EntityInfo childEntityInfo = entityColumn.getChildEntityInfo();
+                        final Type childEntityType = Types.of(childEntityInfo.getEntityElement());
 
-                        final int lastIndex = typeAdapters.size() - 1;
-                        final TypeAdapterInfo info = typeAdapters.get(lastIndex);
-                        final Field field = mAdapterFieldMap.get(info);
-                        return METHOD_CONVERT_FROM.callOnTarget(field, applyAdaptersConvertFrom(typeAdapters.subList(0, lastIndex), codeElement));
+                        final ColumnInfo.CollectionType collectionType = entityColumn.getCollectionType();
+                        if (collectionType == ColumnInfo.CollectionType.NONE) {
+                            final Variable childEntity = Variables.of(childEntityType, Modifier.FINAL);
+                            block.set(childEntity, Methods.from(entityColumn.getGetterElement()).callOnTarget(entity)).append(";").newLine();
+                            block.append(METHOD_EXEC_SQL.callOnTarget(mWritableSQLiteWrapper,
+                                    Values.of("DELETE FROM " + MappingTables.getTableName(child, entityColumn) + " WHERE " + MappingTables.COLUMN_PARENT_ID + "=?"),
+                                    METHOD_ADD_LONG.callOnTarget(SimpleOrmTypes.SELECTION_ARGS.newInstance(Values.of(1)), id)
+                            )).append(";").newLine();
+                            block.append(new If.Builder()
+                                    .add(Operators.operate(childEntity, "!=", Values.ofNull()), new BlockWriter() {
+                                        @Override
+                                        protected void write(Block block) {
+                                            appendSave(block, child, entityColumn, id, null, childEntityInfo, childEntity);
+                                        }
+                                    })
+                                    .build());
+                        } else if (collectionType == ColumnInfo.CollectionType.LIST) {
+                            final Variable childEntityList = Variables.of(Types.generic(Types.LIST, childEntityType), Modifier.FINAL);
+                            block.set(childEntityList, Methods.from(entityColumn.getGetterElement()).callOnTarget(entity)).append(";").newLine();
+                            block.append(new If.Builder()
+                                    .add(Operators.operate(childEntityList, "!=", Values.ofNull()), new BlockWriter() {
+                                        @Override
+                                        protected void write(Block block) {
+                                            final Variable selectionBuilder = Variables.of(SimpleOrmTypes.SELECTION_BUILDER, Modifier.FINAL);
+                                            block.set(selectionBuilder, SimpleOrmTypes.SELECTION_BUILDER.newInstance()).append(";").newLine();
+                                            block.append(METHOD_STATEMENT.callOnTarget(selectionBuilder, Values.of(MappingTables.COLUMN_PARENT_ID), Values.of("="), id)).append(";").newLine();
+                                            block.append(new Foreach.Builder()
+                                                    .setItemType(childEntityType)
+                                                    .setCollection(childEntityList)
+                                                    .setIteration(new Foreach.Iteration() {
+                                                        @Override
+                                                        public void onIteration(Block block, Variable childEntity) {
+                                                            appendSave(block, child, entityColumn, id, selectionBuilder, childEntityInfo, childEntity);
+                                                        }
+                                                    })
+                                                    .build());
+                                            block.newLine();
+                                            final Variable selection = Variables.of(SimpleOrmTypes.SELECTION, Modifier.FINAL);
+                                            block.set(selection, METHOD_BUILD.callOnTarget(selectionBuilder)).append(";").newLine();
+                                            block.append(METHOD_EXEC_SQL.callOnTarget(mWritableSQLiteWrapper,
+                                                    mCreateRemoveQuery.call(
+                                                            Values.of("DELETE FROM " + MappingTables.getTableName(child, entityColumn)),
+                                                            METHOD_GET_SELECTION.callOnTarget(selection, Values.ofNull())
+                                                    ),
+                                                    METHOD_GET_SELECTION_ARGS.callOnTarget(selection)
+                                            )).append(";");
+                                        }
+                                    })
+                                    .build());
+                        } else {
+                            throw new IllegalStateException("Encountered unknown collection type: " + collectionType);
+                        }
                     }
                 })
                 .build());
+        block.newLine().append("} finally {").newLine();
+        for (Variable statement : statements.values()) {
+            block.append(METHOD_CLOSE.callOnTarget(statement)).append(";").newLine();
+        }
+        for (Variable statement : updateStatements.values()) {
+            block.append(METHOD_CLOSE.callOnTarget(statement)).append(";").newLine();
+        }
+        for (Variable partialUpdate : partialUpdates.values()) {
+            block.append(METHOD_CLOSE.callOnTarget(partialUpdate)).append(";").newLine();
+        }
+        block.append("}");
+    }
+
+    private int appendBindings(Block block, Variable statement, EntityInfo entityInfo, Variable entity) {
+        int index = 1;
+        for (ColumnInfo columnInfo : entityInfo.getColumns()) {
+            final ColumnType columnType = columnInfo.getColumnType();
+            if (columnType == ColumnType.ENTITY) {
+                continue;
+            }
+
+            final Method getterMethod = Methods.from(columnInfo.getGetterElement());
+            final List<TypeAdapterInfo> typeAdapters = columnInfo.getTypeAdapters();
+            final CodeElement value = EntityManagerBuilder.applyAdaptersConvertFrom(mAdapterFieldMap, typeAdapters, getterMethod.callOnTarget(entity));
+            final Method bindMethod = BIND_METHOD_MAP.get(columnType);
+            block.newLine().append(bindMethod.callOnTarget(statement, Values.of(index++), value)).append(";");
+        }
+        return index;
+    }
+
+    private void appendCompileStatements(Block block, EntityInfo entityInfo, Map<String, Variable> statements, Map<String, Variable> updateStatements, Map<String, Variable> partialUpdates, Set<EntityInfo> handledEntities) {
+        if (!handledEntities.add(entityInfo)) {
+            return;
+        }
+
+        final String tableName = entityInfo.getTableName();
+        if (!statements.containsKey(tableName)) {
+            final Variable statement = Variables.of(SimpleOrmTypes.SQLITE_STATEMENT_WRAPPER, Modifier.FINAL);
+            block.set(statement, METHOD_COMPILE_STATEMENT.callOnTarget(mWritableSQLiteWrapper, Values.of(createInsertStatement(entityInfo)))).append(";").newLine();
+            statements.put(tableName, statement);
+        }
+
+        if (entityInfo.getConflictPolicy() == ConflictPolicy.UPDATE && !updateStatements.containsKey(tableName)) {
+            final Variable statement = Variables.of(SimpleOrmTypes.SQLITE_STATEMENT_WRAPPER, Modifier.FINAL);
+            block.set(statement, METHOD_COMPILE_STATEMENT.callOnTarget(mWritableSQLiteWrapper, Values.of(createUpdateStatement(entityInfo)))).append(";").newLine();
+            updateStatements.put(tableName, statement);
+
+            final Variable partialUpdate = Variables.of(SimpleOrmTypes.PARTIAL_UPDATE, Modifier.FINAL);
+            block.set(partialUpdate, SimpleOrmTypes.PARTIAL_UPDATE.newInstance(createPartialUpdateArguments(entityInfo))).append(";").newLine();
+            partialUpdates.put(tableName, partialUpdate);
+        }
+
+        for (ColumnInfo columnInfo : entityInfo.getColumns()) {
+            if (columnInfo.getColumnType() != ColumnType.ENTITY) {
+                continue;
+            }
+
+            final String mappingTableName = MappingTables.getTableName(entityInfo, columnInfo);
+            if (!statements.containsKey(mappingTableName)) {
+                final Variable statement = Variables.of(SimpleOrmTypes.SQLITE_STATEMENT_WRAPPER, Modifier.FINAL);
+                block.set(statement, METHOD_COMPILE_STATEMENT.callOnTarget(mWritableSQLiteWrapper, Values.of(MappingTables.createMappingInsertStatement(entityInfo, columnInfo)))).append(";").newLine();
+                statements.put(mappingTableName, statement);
+            }
+
+            appendCompileStatements(block, columnInfo.getChildEntityInfo(), statements, updateStatements, partialUpdates, handledEntities);
+        }
+    }
+
+    private CodeElement[] createPartialUpdateArguments(EntityInfo entityInfo) {
+        final List<ColumnInfo> columns = entityInfo.getColumns();
+        final CodeElement[] arguments = new CodeElement[columns.size() + 3];
+        arguments[0] = mWritableSQLiteWrapper;
+        arguments[1] = Values.of(entityInfo.getTableName());
+        arguments[2] = Values.of(entityInfo.getIdColumn().getColumnName());
+        for (int i = 0, count = columns.size(); i < count; i++) {
+            arguments[i + 3] = Values.of(columns.get(i).getColumnName());
+        }
+        return arguments;
+    }
+
+    private static String createInsertStatement(EntityInfo entityInfo) {
+        final StringBuilder columns = new StringBuilder();
+        final StringBuilder placeholders = new StringBuilder();
+        for (ColumnInfo columnInfo : entityInfo.getColumns()) {
+            if (columnInfo.getColumnType() == ColumnType.ENTITY) {
+                continue;
+            }
+
+            if (columns.length() > 0) {
+                columns.append(", ");
+                placeholders.append(", ");
+            }
+            columns.append(columnInfo.getColumnName());
+            placeholders.append("?");
+        }
+        return getInsertClause(entityInfo.getConflictPolicy()) + " INTO " + entityInfo.getTableName() + " (" + columns + ") VALUES (" + placeholders + ")";
+    }
+
+    private static String getInsertClause(ConflictPolicy conflictPolicy) {
+        switch (conflictPolicy) {
+
+            case REPLACE:
+                return "INSERT OR REPLACE";
+
+            case IGNORE:
+                return "INSERT OR IGNORE";
+
+            case UPDATE:
+                return "INSERT";
+
+            case ABORT:
+                return "INSERT OR ABORT";
+
+            default:
+                throw new IllegalStateException("Encountered unknown conflict policy: " + conflictPolicy);
+        }
+    }
+
+    private static String createUpdateStatement(EntityInfo entityInfo) {
+        final StringBuilder assignments = new StringBuilder();
+        for (ColumnInfo columnInfo : entityInfo.getColumns()) {
+            if (columnInfo.getColumnType() == ColumnType.ENTITY) {
+                continue;
+            }
+
+            if (assignments.length() > 0) {
+                assignments.append(", ");
+            }
+            assignments.append(columnInfo.getColumnName()).append(" = ?");
+        }
+        return "UPDATE " + entityInfo.getTableName() + " SET " + assignments + " WHERE " + entityInfo.getIdColumn().getColumnName() + " = ?";
     }
 }
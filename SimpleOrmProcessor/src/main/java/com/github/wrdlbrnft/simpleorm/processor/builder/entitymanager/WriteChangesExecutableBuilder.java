@@ -0,0 +1,124 @@
+package com.github.wrdlbrnft.simpleorm.processor.builder.entitymanager;
+
+import com.github.wrdlbrnft.codebuilder.code.Block;
+import com.github.wrdlbrnft.codebuilder.code.BlockWriter;
+import com.github.wrdlbrnft.codebuilder.code.CodeElement;
+import com.github.wrdlbrnft.codebuilder.elements.ifs.If;
+import com.github.wrdlbrnft.codebuilder.elements.values.Values;
+import com.github.wrdlbrnft.codebuilder.executables.ExecutableBuilder;
+import com.github.wrdlbrnft.codebuilder.executables.Method;
+import com.github.wrdlbrnft.codebuilder.executables.Methods;
+import com.github.wrdlbrnft.codebuilder.types.Types;
+import com.github.wrdlbrnft.codebuilder.util.Operators;
+import com.github.wrdlbrnft.codebuilder.variables.Field;
+import com.github.wrdlbrnft.codebuilder.variables.Variable;
+import com.github.wrdlbrnft.codebuilder.variables.Variables;
+import com.github.wrdlbrnft.simpleorm.processor.SimpleOrmTypes;
+import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.ColumnInfo;
+import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.ColumnType;
+import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.EntityInfo;
+import com.github.wrdlbrnft.simpleorm.processor.analyzer.typeadapter.TypeAdapterInfo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.lang.model.element.Modifier;
+
+class WriteChangesExecutableBuilder extends ExecutableBuilder {
+
+    private static final Method METHOD_GET_PERSISTED = Methods.stub("getPersisted");
+    private static final Method METHOD_HAS_CHANGES = Methods.stub("hasChanges");
+    private static final Method METHOD_IS_DIRTY = Methods.stub("isDirty");
+    private static final Method METHOD_SET = Methods.stub("set");
+    private static final Method METHOD_IS_EMPTY = Methods.stub("isEmpty");
+    private static final Method METHOD_EXECUTE = Methods.stub("execute");
+
+    private final EntityInfo mEntityInfo;
+    private final Map<TypeAdapterInfo, Field> mAdapterFieldMap;
+
+    private Variable mPartialUpdate;
+    private Variable mEntity;
+
+    WriteChangesExecutableBuilder(EntityInfo entityInfo, Map<TypeAdapterInfo, Field> adapterFieldMap) {
+        mEntityInfo = entityInfo;
+        mAdapterFieldMap = adapterFieldMap;
+    }
+
+    @Override
+    protected List<Variable> createParameters() {
+        final List<Variable> parameters = new ArrayList<>();
+        parameters.add(mPartialUpdate = Variables.of(SimpleOrmTypes.PARTIAL_UPDATE));
+        parameters.add(mEntity = Variables.of(Types.of(mEntityInfo.getEntityElement())));
+        return parameters;
+    }
+
+    @Override
+    protected void write(Block block) {
+        final ColumnInfo idColumn = mEntityInfo.getIdColumn();
+
+        final Variable trackedEntity = Variables.of(SimpleOrmTypes.TRACKED_ENTITY, Modifier.FINAL);
+        block.set(trackedEntity, METHOD_GET_PERSISTED.callOnTarget(SimpleOrmTypes.CHANGE_TRACKING, mEntity)).append(";").newLine();
+        final Variable id = Variables.of(Types.Boxed.LONG, Modifier.FINAL);
+        block.set(id, Methods.from(idColumn.getGetterElement()).callOnTarget(mEntity)).append(";").newLine();
+
+        block.append(new If.Builder()
+                .add(Operators.operate(
+                        Operators.operate(trackedEntity, "==", Values.ofNull()),
+                        "||",
+                        Operators.operate(id, "==", Values.ofNull())
+                ), new BlockWriter() {
+                    @Override
+                    protected void write(Block block) {
+                        block.append("return ").append(Values.of(false)).append(";");
+                    }
+                })
+                .build()).newLine();
+
+        // A save without changes leaves the row as it is, even if it was changed by bulk updates in the meantime
+        block.append(new If.Builder()
+                .add(Values.invert(METHOD_HAS_CHANGES.callOnTarget(trackedEntity)), new BlockWriter() {
+                    @Override
+                    protected void write(Block block) {
+                        block.append("return ").append(Values.of(true)).append(";");
+                    }
+                })
+                .build()).newLine();
+
+        final List<ColumnInfo> columns = mEntityInfo.getColumns();
+        for (int i = 0, count = columns.size(); i < count; i++) {
+            final ColumnInfo columnInfo = columns.get(i);
+            if (columnInfo.getColumnType() == ColumnType.ENTITY || columnInfo == idColumn) {
+                continue;
+            }
+
+            final int columnIndex = i;
+            final CodeElement value = EntityManagerBuilder.applyAdaptersConvertFrom(
+                    mAdapterFieldMap,
+                    columnInfo.getTypeAdapters(),
+                    Methods.from(columnInfo.getGetterElement()).callOnTarget(mEntity)
+            );
+            block.append(new If.Builder()
+                    .add(METHOD_IS_DIRTY.callOnTarget(trackedEntity, Values.of(columnIndex)), new BlockWriter() {
+                        @Override
+                        protected void write(Block block) {
+                            block.append(METHOD_SET.callOnTarget(mPartialUpdate, Values.of(columnIndex), value)).append(";");
+                        }
+                    })
+                    .build()).newLine();
+        }
+
+        // Only relationships changed, they are saved separately
+        block.append(new If.Builder()
+                .add(METHOD_IS_EMPTY.callOnTarget(mPartialUpdate), new BlockWriter() {
+                    @Override
+                    protected void write(Block block) {
+                        block.append("return ").append(Values.of(true)).append(";");
+                    }
+                })
+                .build()).newLine();
+        block.append("return ")
+                .append(Operators.operate(METHOD_EXECUTE.callOnTarget(mPartialUpdate, id), ">", Values.of(0)))
+                .append(";");
+    }
+}
@@ -10,4 +10,7 @@ import java.util.List;
 interface CreateQueries {
     List<Query> getTableQueries();
     List<Query> getTriggerQueries();
+    List<Query> getIndexQueries();
+    List<Query> getDropIndexQueries();
+    List<Query> getMigrationQueries();
 }
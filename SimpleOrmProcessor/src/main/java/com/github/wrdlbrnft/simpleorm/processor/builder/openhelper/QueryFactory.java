@@ -1,6 +1,9 @@
 package com.github.wrdlbrnft.simpleorm.processor.builder.openhelper;
 
+import com.github.wrdlbrnft.codebuilder.code.Block;
+import com.github.wrdlbrnft.codebuilder.code.BlockWriter;
 import com.github.wrdlbrnft.codebuilder.code.CodeElement;
+import com.github.wrdlbrnft.codebuilder.elements.ifs.If;
 import com.github.wrdlbrnft.codebuilder.elements.values.Values;
 import com.github.wrdlbrnft.codebuilder.executables.Method;
 import com.github.wrdlbrnft.codebuilder.executables.Methods;
@@ -10,6 +13,7 @@ import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.ColumnInfo;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.ColumnType;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.Constraint;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.EntityInfo;
+import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.IndexInfo;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.VersionInfo;
 import com.github.wrdlbrnft.simpleorm.processor.utils.MappingTables;
 
@@ -26,6 +30,7 @@ import java.util.Map;
 class QueryFactory {
 
     private static final Method METHOD_EXEC_SQL = Methods.stub("execSql");
+    private static final Method METHOD_HAS_COLUMN = Methods.stub("hasColumn");
 
     private static final Map<ColumnType, String> SQL_TYPE_MAP = new MapBuilder<ColumnType, String>()
             .put(ColumnType.PRIMITIVE_BOOLEAN, "INTEGER")
@@ -46,6 +51,9 @@ class QueryFactory {
     public static CreateQueries createQueriesFor(EntityInfo entityInfo) {
         final List<Query> tableQueries = new ArrayList<>();
         final List<Query> triggerQueries = new ArrayList<>();
+        final List<Query> indexQueries = new ArrayList<>();
+        final List<Query> dropIndexQueries = new ArrayList<>();
+        final List<Query> migrationQueries = new ArrayList<>();
         final StringBuilder builder = new StringBuilder();
 
         builder.append("CREATE TABLE ").append(entityInfo.getTableName()).append(" (");
@@ -56,6 +64,12 @@ class QueryFactory {
                 final VersionInfo columnVersionInfo = column.getVersionInfo();
                 tableQueries.add(new QueryImpl(MappingTables.createMappingTableStatement(entityInfo, column), columnVersionInfo));
                 triggerQueries.add(new QueryImpl(MappingTables.createMappingTableTriggerStatement(entityInfo, column), columnVersionInfo));
+                indexQueries.add(new QueryImpl(MappingTables.createMappingTableIndexStatement(entityInfo, column), columnVersionInfo));
+                migrationQueries.add(new LegacyMappingTableMigrationImpl(
+                        MappingTables.getTableName(entityInfo, column),
+                        MappingTables.createLegacyMappingTableMigrationStatements(entityInfo, column),
+                        columnVersionInfo
+                ));
                 continue;
             }
 
@@ -69,7 +83,40 @@ class QueryFactory {
 
         builder.append(");");
         tableQueries.add(new QueryImpl(builder.toString(), entityInfo.getVersionInfo()));
-        return new CreateQueriesImpl(tableQueries, triggerQueries);
+
+        for (IndexInfo indexInfo : entityInfo.getIndices()) {
+            final VersionInfo indexVersionInfo = indexInfo.getVersionInfo();
+            indexQueries.add(new QueryImpl(createIndexStatement(entityInfo, indexInfo), indexVersionInfo));
+            if (indexVersionInfo.getRemovedInVersion() != VersionInfo.NO_VERSION) {
+                dropIndexQueries.add(new QueryImpl("DROP INDEX IF EXISTS " + indexInfo.getIndexName() + ";", indexVersionInfo));
+            }
+        }
+
+        return new CreateQueriesImpl(tableQueries, triggerQueries, indexQueries, dropIndexQueries, migrationQueries);
+    }
+
+    private static String createIndexStatement(EntityInfo entityInfo, IndexInfo indexInfo) {
+        final StringBuilder builder = new StringBuilder();
+        builder.append(indexInfo.isUnique() ? "CREATE UNIQUE INDEX IF NOT EXISTS " : "CREATE INDEX IF NOT EXISTS ");
+        builder.append(indexInfo.getIndexName()).append(" ON ").append(entityInfo.getTableName()).append(" (");
+
+        boolean appendSeparator = false;
+        for (ColumnInfo column : indexInfo.getColumns()) {
+            if (appendSeparator) {
+                builder.append(", ");
+            } else {
+                appendSeparator = true;
+            }
+            builder.append(column.getColumnName());
+        }
+        builder.append(")");
+
+        final String whereClause = indexInfo.getWhereClause();
+        if (!whereClause.isEmpty()) {
+            builder.append(" WHERE ").append(whereClause);
+        }
+
+        return builder.append(";").toString();
     }
 
     private static void appendColumn(StringBuilder builder, ColumnInfo column) {
@@ -101,14 +148,55 @@ class QueryFactory {
         }
     }
 
+    private static class LegacyMappingTableMigrationImpl implements Query {
+
+        private final String mTableName;
+        private final List<String> mStatements;
+        private final VersionInfo mVersionInfo;
+
+        private LegacyMappingTableMigrationImpl(String tableName, List<String> statements, VersionInfo versionInfo) {
+            mTableName = tableName;
+            mStatements = statements;
+            mVersionInfo = versionInfo;
+        }
+
+        @Override
+        public CodeElement execute(final Variable manager) {
+            return new If.Builder()
+                    .add(METHOD_HAS_COLUMN.callOnTarget(manager, Values.of(mTableName), Values.of(MappingTables.LEGACY_COLUMN_NONCE)), new BlockWriter() {
+                        @Override
+                        protected void write(Block block) {
+                            for (int i = 0, count = mStatements.size(); i < count; i++) {
+                                if (i > 0) {
+                                    block.newLine();
+                                }
+                                block.append(METHOD_EXEC_SQL.callOnTarget(manager, Values.of(mStatements.get(i)))).append(";");
+                            }
+                        }
+                    })
+                    .build();
+        }
+
+        @Override
+        public VersionInfo getVersionInfo() {
+            return mVersionInfo;
+        }
+    }
+
     private static class CreateQueriesImpl implements CreateQueries {
 
         private final List<Query> mTableQueries;
         private final List<Query> mTriggerQueries;
+        private final List<Query> mIndexQueries;
+        private final List<Query> mDropIndexQueries;
+        private final List<Query> mMigrationQueries;
 
-        private CreateQueriesImpl(List<Query> tableQueries, List<Query> triggerQueries) {
+        private CreateQueriesImpl(List<Query> tableQueries, List<Query> triggerQueries, List<Query> indexQueries, List<Query> dropIndexQueries, List<Query> migrationQueries) {
             mTableQueries = tableQueries;
             mTriggerQueries = triggerQueries;
+            mIndexQueries = indexQueries;
+            mDropIndexQueries = dropIndexQueries;
+            mMigrationQueries = migrationQueries;
         }
 
         @Override
@@ -120,5 +208,20 @@ class QueryFactory {
         public List<Query> getTriggerQueries() {
             return mTriggerQueries;
         }
+
+        @Override
+        public List<Query> getIndexQueries() {
+            return mIndexQueries;
+        }
+
+        @Override
+        public List<Query> getDropIndexQueries() {
+            return mDropIndexQueries;
+        }
+
+        @Override
+        public List<Query> getMigrationQueries() {
+            return mMigrationQueries;
+        }
     }
 }
@@ -16,7 +16,10 @@ import com.github.wrdlbrnft.codebuilder.types.Types;
 import com.github.wrdlbrnft.codebuilder.util.Operators;
 import com.github.wrdlbrnft.codebuilder.variables.Variable;
 import com.github.wrdlbrnft.codebuilder.variables.Variables;
+import com.github.wrdlbrnft.simpleorm.annotations.Synchronous;
+import com.github.wrdlbrnft.simpleorm.annotations.TempStore;
 import com.github.wrdlbrnft.simpleorm.processor.SimpleOrmTypes;
+import com.github.wrdlbrnft.simpleorm.processor.analyzer.databases.ConfigurationInfo;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.databases.DatabaseInfo;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.EntityInfo;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.VersionInfo;
@@ -39,13 +42,105 @@ import javax.lang.model.element.Modifier;
 
 public class SQLiteProviderBuilder {
 
+    private static final Method METHOD_SET_WRITE_AHEAD_LOGGING_ENABLED = Methods.stub("setWriteAheadLoggingEnabled");
+    private static final Method METHOD_SET_SYNCHRONOUS = Methods.stub("setSynchronous");
+    private static final Method METHOD_SET_CACHE_SIZE = Methods.stub("setCacheSize");
+    private static final Method METHOD_SET_MMAP_SIZE = Methods.stub("setMmapSize");
+    private static final Method METHOD_SET_TEMP_STORE = Methods.stub("setTempStore");
+    private static final Method METHOD_SET_PAGE_SIZE = Methods.stub("setPageSize");
+    private static final Method METHOD_SET_BUSY_TIMEOUT = Methods.stub("setBusyTimeout");
+    private static final Method METHOD_BUILD = Methods.stub("build");
+
     private final ProcessingEnvironment mProcessingEnvironment;
 
     public SQLiteProviderBuilder(ProcessingEnvironment processingEnvironment) {
         mProcessingEnvironment = processingEnvironment;
     }
 
-    public Implementation build(final DatabaseInfo databaseInfo) {
+    public Method buildCreateSchemaMethod(DatabaseInfo databaseInfo) {
+        final int currentVersion = databaseInfo.getDatabaseVersion();
+
+        final List<Query> tableQueries = new ArrayList<>();
+        final List<Query> triggerQueries = new ArrayList<>();
+        final List<Query> indexQueries = new ArrayList<>();
+        for (EntityInfo entityInfo : databaseInfo.getEntityInfos()) {
+            final CreateQueries createQueries = QueryFactory.createQueriesFor(entityInfo);
+            tableQueries.addAll(createQueries.getTableQueries());
+            triggerQueries.addAll(createQueries.getTriggerQueries());
+            indexQueries.addAll(createQueries.getIndexQueries());
+        }
+
+        return new Method.Builder()
+                .setName("createSchema")
+                .setModifiers(EnumSet.of(Modifier.STATIC))
+                .setCode(new ExecutableBuilder() {
+
+                    private Variable mManager;
+
+                    @Override
+                    protected List<Variable> createParameters() {
+                        final List<Variable> parameters = new ArrayList<>();
+                        parameters.add(mManager = Variables.of(SimpleOrmTypes.SQLITE_DATABASE_MANAGER));
+                        return parameters;
+                    }
+
+                    @Override
+                    protected void write(Block block) {
+                        boolean appendNewLine = false;
+                        for (Query query : tableQueries) {
+                            final VersionInfo versionInfo = query.getVersionInfo();
+                            if (!shouldWriteCreateQuery(versionInfo)) {
+                                continue;
+                            }
+
+                            if (appendNewLine) {
+                                block.newLine();
+                            } else {
+                                appendNewLine = true;
+                            }
+                            block.append(query.execute(mManager)).append(";");
+                        }
+                        for (Query query : triggerQueries) {
+                            final VersionInfo versionInfo = query.getVersionInfo();
+                            if (!shouldWriteCreateQuery(versionInfo)) {
+                                continue;
+                            }
+
+                            if (appendNewLine) {
+                                block.newLine();
+                            } else {
+                                appendNewLine = true;
+                            }
+                            block.append(query.execute(mManager)).append(";");
+                        }
+                        for (Query query : indexQueries) {
+                            final VersionInfo versionInfo = query.getVersionInfo();
+                            if (!shouldWriteCreateQuery(versionInfo)) {
+                                continue;
+                            }
+
+                            if (appendNewLine) {
+                                block.newLine();
+                            } else {
+                                appendNewLine = true;
+                            }
+                            block.append(query.execute(mManager)).append(";");
+                        }
+                    }
+
+                    private boolean shouldWriteCreateQuery(VersionInfo versionInfo) {
+                        final int addedInVersion = versionInfo.getAddedInVersion();
+                        if (addedInVersion != VersionInfo.NO_VERSION && addedInVersion > currentVersion) {
+                            return false;
+                        }
+                        final int removedInVersion = versionInfo.getRemovedInVersion();
+                        return !(removedInVersion != VersionInfo.NO_VERSION && removedInVersion < currentVersion);
+                    }
+                })
+                .build();
+    }
+
+    public Implementation build(final DatabaseInfo databaseInfo, final Method createSchemaMethod) {
         final Implementation.Builder builder = new Implementation.Builder();
         final Type providerType = databaseInfo.isEncrypted()
                 ? SimpleOrmTypes.BASE_ENCRYPTED_SQLITE_PROVIDER
@@ -53,15 +148,19 @@ public class SQLiteProviderBuilder {
         builder.setExtendedType(providerType);
         builder.setModifiers(EnumSet.of(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL));
 
-        final int currentVersion = databaseInfo.getDatabaseVersion();
-
         final Set<EntityInfo> entityInfos = databaseInfo.getEntityInfos();
         final List<Query> tableQueries = new ArrayList<>();
         final List<Query> triggerQueries = new ArrayList<>();
+        final List<Query> indexQueries = new ArrayList<>();
+        final List<Query> dropIndexQueries = new ArrayList<>();
+        final List<Query> migrationQueries = new ArrayList<>();
         for (EntityInfo entityInfo : entityInfos) {
             final CreateQueries createQueries = QueryFactory.createQueriesFor(entityInfo);
             tableQueries.addAll(createQueries.getTableQueries());
             triggerQueries.addAll(createQueries.getTriggerQueries());
+            indexQueries.addAll(createQueries.getIndexQueries());
+            dropIndexQueries.addAll(createQueries.getDropIndexQueries());
+            migrationQueries.addAll(createQueries.getMigrationQueries());
         }
 
         builder.addConstructor(new Constructor.Builder()
@@ -85,18 +184,21 @@ public class SQLiteProviderBuilder {
 
                     @Override
                     protected void write(Block block) {
+                        final CodeElement configuration = createConfiguration(databaseInfo.getConfigurationInfo());
                         if (databaseInfo.isEncrypted()) {
                             block.append(Methods.SUPER.call(
                                     mParamContext,
                                     Values.of(databaseInfo.getDatabaseName()),
                                     Values.of(databaseInfo.getDatabaseVersion()),
-                                    mParamPassword
+                                    mParamPassword,
+                                    configuration
                             )).append(";");
                         } else {
                             block.append(Methods.SUPER.call(
                                     mParamContext,
                                     Values.of(databaseInfo.getDatabaseName()),
-                                    Values.of(databaseInfo.getDatabaseVersion())
+                                    Values.of(databaseInfo.getDatabaseVersion()),
+                                    configuration
                             )).append(";");
                         }
                     }
@@ -119,42 +221,7 @@ public class SQLiteProviderBuilder {
 
                     @Override
                     protected void write(Block block) {
-                        boolean appendNewLine = false;
-                        for (Query query : tableQueries) {
-                            final VersionInfo versionInfo = query.getVersionInfo();
-                            if (!shouldWriteCreateQuery(versionInfo)) {
-                                continue;
-                            }
-
-                            if (appendNewLine) {
-                                block.newLine();
-                            } else {
-                                appendNewLine = true;
-                            }
-                            block.append(query.execute(mManager)).append(";");
-                        }
-                        for (Query query : triggerQueries) {
-                            final VersionInfo versionInfo = query.getVersionInfo();
-                            if (!shouldWriteCreateQuery(versionInfo)) {
-                                continue;
-                            }
-
-                            if (appendNewLine) {
-                                block.newLine();
-                            } else {
-                                appendNewLine = true;
-                            }
-                            block.append(query.execute(mManager)).append(";");
-                        }
-                    }
-
-                    private boolean shouldWriteCreateQuery(VersionInfo versionInfo) {
-                        final int addedInVersion = versionInfo.getAddedInVersion();
-                        if (addedInVersion != VersionInfo.NO_VERSION && addedInVersion > currentVersion) {
-                            return false;
-                        }
-                        final int removedInVersion = versionInfo.getRemovedInVersion();
-                        return !(removedInVersion != VersionInfo.NO_VERSION && removedInVersion < currentVersion);
+                        block.append(createSchemaMethod.call(mManager)).append(";");
                     }
                 })
                 .build());
@@ -182,6 +249,25 @@ public class SQLiteProviderBuilder {
             }
             upgradeMap.get(addedInVersion).add(query);
         }
+        for (Query query : indexQueries) {
+            final VersionInfo versionInfo = query.getVersionInfo();
+            final int addedInVersion = versionInfo.getAddedInVersion();
+            if (addedInVersion == VersionInfo.NO_VERSION) {
+                continue;
+            }
+            if (!upgradeMap.containsKey(addedInVersion)) {
+                upgradeMap.put(addedInVersion, new ArrayList<Query>());
+            }
+            upgradeMap.get(addedInVersion).add(query);
+        }
+        for (Query query : dropIndexQueries) {
+            final VersionInfo versionInfo = query.getVersionInfo();
+            final int removedInVersion = versionInfo.getRemovedInVersion();
+            if (!upgradeMap.containsKey(removedInVersion)) {
+                upgradeMap.put(removedInVersion, new ArrayList<Query>());
+            }
+            upgradeMap.get(removedInVersion).add(query);
+        }
 
         builder.addMethod(new Method.Builder()
                 .setName("onUpgrade")
@@ -203,6 +289,11 @@ public class SQLiteProviderBuilder {
 
                     @Override
                     protected void write(Block block) {
+                        // Mapping tables are rebuilt by the first upgrade after the Nonce column was dropped
+                        for (Query query : migrationQueries) {
+                            block.append(query.execute(mParamManager)).newLine();
+                        }
+
                         if (upgradeMap.isEmpty()) {
                             return;
                         }
@@ -243,4 +334,30 @@ public class SQLiteProviderBuilder {
 
         return builder.build();
     }
+
+    private static CodeElement createConfiguration(ConfigurationInfo info) {
+        CodeElement builder = SimpleOrmTypes.DATABASE_CONFIGURATION_BUILDER.newInstance();
+        if (info.isWriteAheadLoggingEnabled()) {
+            builder = METHOD_SET_WRITE_AHEAD_LOGGING_ENABLED.callOnTarget(builder, Values.of(true));
+        }
+        if (info.getSynchronous() != Synchronous.DEFAULT) {
+            builder = METHOD_SET_SYNCHRONOUS.callOnTarget(builder, new Block().append(SimpleOrmTypes.SYNCHRONOUS).append(".").append(info.getSynchronous().name()));
+        }
+        if (info.getCacheSize() != 0) {
+            builder = METHOD_SET_CACHE_SIZE.callOnTarget(builder, Values.of(info.getCacheSize()));
+        }
+        if (info.getMmapSize() >= 0L) {
+            builder = METHOD_SET_MMAP_SIZE.callOnTarget(builder, new Block().append(info.getMmapSize() + "L"));
+        }
+        if (info.getTempStore() != TempStore.DEFAULT) {
+            builder = METHOD_SET_TEMP_STORE.callOnTarget(builder, new Block().append(SimpleOrmTypes.TEMP_STORE).append(".").append(info.getTempStore().name()));
+        }
+        if (info.getPageSize() != 0) {
+            builder = METHOD_SET_PAGE_SIZE.callOnTarget(builder, Values.of(info.getPageSize()));
+        }
+        if (info.getBusyTimeout() != 0) {
+            builder = METHOD_SET_BUSY_TIMEOUT.callOnTarget(builder, Values.of(info.getBusyTimeout()));
+        }
+        return METHOD_BUILD.callOnTarget(builder);
+    }
 }
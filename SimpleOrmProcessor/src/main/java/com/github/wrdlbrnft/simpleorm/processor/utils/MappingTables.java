@@ -1,18 +1,15 @@
 package com.github.wrdlbrnft.simpleorm.processor.utils;
 
 import com.github.wrdlbrnft.codebuilder.code.Block;
-import com.github.wrdlbrnft.codebuilder.code.CodeElement;
 import com.github.wrdlbrnft.codebuilder.elements.values.Values;
 import com.github.wrdlbrnft.codebuilder.executables.Method;
 import com.github.wrdlbrnft.codebuilder.executables.Methods;
-import com.github.wrdlbrnft.codebuilder.types.Types;
 import com.github.wrdlbrnft.codebuilder.variables.Variable;
-import com.github.wrdlbrnft.codebuilder.variables.Variables;
-import com.github.wrdlbrnft.simpleorm.processor.SimpleOrmTypes;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.ColumnInfo;
 import com.github.wrdlbrnft.simpleorm.processor.analyzer.entity.EntityInfo;
 
-import javax.lang.model.element.Modifier;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Created with Android Studio
@@ -24,10 +21,9 @@ public class MappingTables {
 
     public static final String COLUMN_PARENT_ID = "ParentId";
     public static final String COLUMN_CHILD_ID = "ChildId";
-    public static final String COLUMN_NONCE = "Nonce";
+    public static final String LEGACY_COLUMN_NONCE = "Nonce";
 
-    private static final Method METHOD_PUT = Methods.stub("put");
-    private static final Method METHOD_VALUE_OF = Methods.stub("valueOf");
+    private static final Method METHOD_BIND_LONG = Methods.stub("bindLong");
 
     public static String getTableName(EntityInfo entity, ColumnInfo column) {
         return "_" + entity.getTableName() + "_" + column.getColumnName() + "_Mapping";
@@ -37,14 +33,43 @@ public class MappingTables {
         return "_Trigger" + getTableName(entity, column);
     }
 
+    public static String getChildIdIndexName(EntityInfo entity, ColumnInfo column) {
+        return "_Index" + getTableName(entity, column) + "_" + COLUMN_CHILD_ID;
+    }
+
     public static String createMappingTableStatement(EntityInfo entity, ColumnInfo column) {
-        return "CREATE TABLE " + getTableName(entity, column) + " (" +
-                COLUMN_PARENT_ID + " INTEGER, " +
-                COLUMN_CHILD_ID + " INTEGER, " +
-                COLUMN_NONCE + " TEXT UNIQUE" +
+        return createMappingTableStatement(getTableName(entity, column));
+    }
+
+    private static String createMappingTableStatement(String tableName) {
+        return "CREATE TABLE " + tableName + " (" +
+                COLUMN_PARENT_ID + " INTEGER NOT NULL, " +
+                COLUMN_CHILD_ID + " INTEGER NOT NULL, " +
+                "PRIMARY KEY (" + COLUMN_PARENT_ID + ", " + COLUMN_CHILD_ID + ")" +
                 ");";
     }
 
+    public static String createMappingTableIndexStatement(EntityInfo entity, ColumnInfo column) {
+        return "CREATE INDEX IF NOT EXISTS " + getChildIdIndexName(entity, column) + " ON " + getTableName(entity, column) + " (" + COLUMN_CHILD_ID + ");";
+    }
+
+    public static List<String> createLegacyMappingTableMigrationStatements(EntityInfo entity, ColumnInfo column) {
+        final String tableName = getTableName(entity, column);
+        final String migrationTableName = tableName + "_Migration";
+        final List<String> statements = new ArrayList<>();
+        statements.add("DROP TRIGGER IF EXISTS " + getTriggerName(entity, column) + ";");
+        statements.add("DROP TABLE IF EXISTS " + migrationTableName + ";");
+        statements.add(createMappingTableStatement(migrationTableName));
+        statements.add("INSERT OR IGNORE INTO " + migrationTableName + " (" + COLUMN_PARENT_ID + ", " + COLUMN_CHILD_ID + ") " +
+                "SELECT " + COLUMN_PARENT_ID + ", " + COLUMN_CHILD_ID + " FROM " + tableName + " " +
+                "WHERE " + COLUMN_PARENT_ID + " IS NOT NULL AND " + COLUMN_CHILD_ID + " IS NOT NULL;");
+        statements.add("DROP TABLE " + tableName + ";");
+        statements.add("ALTER TABLE " + migrationTableName + " RENAME TO " + tableName + ";");
+        statements.add(createMappingTableIndexStatement(entity, column));
+        statements.add(createMappingTableTriggerStatement(entity, column));
+        return statements;
+    }
+
     public static String createMappingTableTriggerStatement(EntityInfo entity, ColumnInfo column) {
         final EntityInfo childEntityInfo = column.getChildEntityInfo();
         final String childTableName = childEntityInfo.getTableName();
@@ -55,20 +80,15 @@ public class MappingTables {
                 + "END";
     }
 
-    public static Variable appendContentValuesForMapping(Block block, Variable parentId, Variable childId) {
-        final Variable values = Variables.of(SimpleOrmTypes.CONTENT_VALUES, Modifier.FINAL);
-        block.set(values, SimpleOrmTypes.CONTENT_VALUES.newInstance()).append(";").newLine();
-        block.append(METHOD_PUT.callOnTarget(values, Values.of(MappingTables.COLUMN_PARENT_ID), parentId)).append(";").newLine();
-        block.append(METHOD_PUT.callOnTarget(values, Values.of(MappingTables.COLUMN_CHILD_ID), childId)).append(";").newLine();
-        block.append(METHOD_PUT.callOnTarget(values, Values.of(MappingTables.COLUMN_NONCE), createNonce(parentId, childId))).append(";").newLine();
-        return values;
+    public static String createMappingInsertStatement(EntityInfo entity, ColumnInfo column) {
+        return "INSERT OR REPLACE INTO " + getTableName(entity, column) + " (" +
+                COLUMN_PARENT_ID + ", " +
+                COLUMN_CHILD_ID +
+                ") VALUES (?, ?)";
     }
 
-    private static CodeElement createNonce(Variable parentId, Variable childId) {
-        final Block block = new Block();
-        block.append(METHOD_VALUE_OF.callOnTarget(Types.STRING, parentId));
-        block.append(" + ").append(Values.of("|")).append(" + ");
-        block.append(METHOD_VALUE_OF.callOnTarget(Types.STRING, childId));
-        return block;
+    public static void appendBindingsForMapping(Block block, Variable statement, Variable parentId, Variable childId) {
+        block.append(METHOD_BIND_LONG.callOnTarget(statement, Values.of(1), parentId)).append(";").newLine();
+        block.append(METHOD_BIND_LONG.callOnTarget(statement, Values.of(2), childId)).append(";").newLine();
     }
 }